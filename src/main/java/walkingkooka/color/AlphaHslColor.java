@@ -19,6 +19,8 @@ package walkingkooka.color;
 
 import walkingkooka.ToStringBuilder;
 
+import java.io.IOException;
+
 /**
  * A {@link Color} that includes an alpha property.
  */
@@ -28,13 +30,25 @@ final class AlphaHslColor extends HslColor {
                                    final SaturationHslColorComponent saturation,
                                    final LightnessHslColorComponent lightness,
                                    final AlphaHslColorComponent alpha) {
+        return withAlpha(
+            hue.value,
+            saturation.value,
+            lightness.value,
+            alpha.value
+        );
+    }
+
+    static AlphaHslColor withAlpha(final float hue,
+                                   final float saturation,
+                                   final float lightness,
+                                   final float alpha) {
         return new AlphaHslColor(hue, saturation, lightness, alpha);
     }
 
-    private AlphaHslColor(final HueHslColorComponent hue,
-                          final SaturationHslColorComponent saturation,
-                          final LightnessHslColorComponent lightness,
-                          final AlphaHslColorComponent alpha) {
+    private AlphaHslColor(final float hue,
+                          final float saturation,
+                          final float lightness,
+                          final float alpha) {
         super(hue, saturation, lightness);
 
         this.alpha = alpha;
@@ -42,33 +56,42 @@ final class AlphaHslColor extends HslColor {
 
     @Override
     public AlphaHslColorComponent alpha() {
+        return AlphaHslColorComponent.with(this.alpha);
+    }
+
+    @Override
+    float alphaValue() {
         return this.alpha;
     }
 
-    private final AlphaHslColorComponent alpha;
+    private final float alpha;
 
     @Override
-    HslColor replace(final HueHslColorComponent hue,
-                     final SaturationHslColorComponent saturation,
-                     final LightnessHslColorComponent lightness) {
+    HslColor replace(final float hue,
+                     final float saturation,
+                     final float lightness) {
         return new AlphaHslColor(hue, saturation, lightness, this.alpha);
     }
 
     @Override
     RgbColor rgbColor(final RgbColor color) {
-        return color.set(this.alpha.toAlphaColorComponent());
+        return color.set(
+            AlphaRgbColorComponent.with(
+                RgbColorComponent.toByte(this.alpha)
+            )
+        );
     }
 
     // Object..........................................................................................................
 
     @Override
     int hashCodeAlpha() {
-        return this.alpha.hashCode();
+        return Float.hashCode(this.alpha);
     }
 
     @Override
     boolean equalsAlpha(final HslColor other) {
-        return this.alpha.equals(other.alpha());
+        return this.alpha == other.alphaValue();
     }
 
     // UsesToStringBuilder..............................................................................................
@@ -80,6 +103,17 @@ final class AlphaHslColor extends HslColor {
 
     @Override
     void buildToStringAlpha(final ToStringBuilder builder) {
-        builder.value(this.alpha);
+        builder.value(this.alpha());
+    }
+
+    // appendTo.........................................................................................................
+
+    @Override
+    void appendAlpha(final Appendable text) throws IOException {
+        text.append(',');
+        HslOrHsvColorComponent.appendPercentage(
+            this.alpha,
+            text
+        );
     }
 }
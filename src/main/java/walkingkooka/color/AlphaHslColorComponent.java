@@ -22,6 +22,15 @@ package walkingkooka.color;
  */
 final public class AlphaHslColorComponent extends AlphaLightnessOrSaturationHslColorComponent {
 
+    /**
+     * Shares components whose value is a whole tenth of a percent.
+     */
+    private final static HslOrHsvColorComponentCache<AlphaHslColorComponent> CACHE = HslOrHsvColorComponentCache.with(
+        MAX_VALUE,
+        1000,
+        AlphaHslColorComponent::new
+    );
+
     /**
      * An opaque alpha component returned by {@link OpaqueHslColor#alpha()}.
      */
@@ -31,7 +40,14 @@ final public class AlphaHslColorComponent extends AlphaLightnessOrSaturationHslC
      * Factory that creates a new {@link AlphaHslColorComponent}
      */
     static AlphaHslColorComponent with(final float value) {
-        return new AlphaHslColorComponent(value);
+        return CACHE.get(value);
+    }
+
+    /**
+     * Rounds the value to the nearest tenth of a percent, components with such values are shared.
+     */
+    static float quantize(final float value) {
+        return CACHE.quantize(value);
     }
 
     /**
@@ -43,7 +59,7 @@ final public class AlphaHslColorComponent extends AlphaLightnessOrSaturationHslC
 
     @Override
     public AlphaHslColorComponent add(final float value) {
-        return 0 == value ? this : new AlphaHslColorComponent(HslColorComponent.add(value, AlphaHslColorComponent.MIN_VALUE, AlphaHslColorComponent.MAX_VALUE));
+        return 0 == value ? this : with(HslColorComponent.add(value, AlphaHslColorComponent.MIN_VALUE, AlphaHslColorComponent.MAX_VALUE));
     }
 
     @Override
@@ -58,11 +74,7 @@ final public class AlphaHslColorComponent extends AlphaLightnessOrSaturationHslC
      */
     @Override
     AlphaHslColorComponent replace(final float value) {
-        return new AlphaHslColorComponent(value);
-    }
-
-    AlphaRgbColorComponent toAlphaColorComponent() {
-        return AlphaRgbColorComponent.with(RgbColorComponent.toByte(this.value));
+        return with(value);
     }
 
     @Override
@@ -19,6 +19,8 @@ package walkingkooka.color;
 
 import walkingkooka.ToStringBuilder;
 
+import java.io.IOException;
+
 /**
  * A {@link Color} that includes an alpha property.
  */
@@ -28,13 +30,25 @@ final class AlphaHsvColor extends HsvColor {
                                    final SaturationHsvColorComponent saturation,
                                    final ValueHsvColorComponent value,
                                    final AlphaHsvColorComponent alpha) {
+        return withAlpha(
+            hue.value,
+            saturation.value,
+            value.value,
+            alpha.value
+        );
+    }
+
+    static AlphaHsvColor withAlpha(final float hue,
+                                   final float saturation,
+                                   final float value,
+                                   final float alpha) {
         return new AlphaHsvColor(hue, saturation, value, alpha);
     }
 
-    private AlphaHsvColor(final HueHsvColorComponent hue,
-                          final SaturationHsvColorComponent saturation,
-                          final ValueHsvColorComponent value,
-                          final AlphaHsvColorComponent alpha) {
+    private AlphaHsvColor(final float hue,
+                          final float saturation,
+                          final float value,
+                          final float alpha) {
         super(hue, saturation, value);
 
         this.alpha = alpha;
@@ -42,33 +56,42 @@ final class AlphaHsvColor extends HsvColor {
 
     @Override
     public AlphaHsvColorComponent alpha() {
+        return AlphaHsvColorComponent.with(this.alpha);
+    }
+
+    @Override
+    float alphaValue() {
         return this.alpha;
     }
 
-    private final AlphaHsvColorComponent alpha;
+    private final float alpha;
 
     @Override
-    HsvColor replace(final HueHsvColorComponent hue,
-                     final SaturationHsvColorComponent saturation,
-                     final ValueHsvColorComponent value) {
+    HsvColor replace(final float hue,
+                     final float saturation,
+                     final float value) {
         return new AlphaHsvColor(hue, saturation, value, this.alpha);
     }
 
     @Override
     RgbColor toRgb0(final RgbColor color) {
-        return color.set(this.alpha.toAlphaColorComponent());
+        return color.set(
+            AlphaRgbColorComponent.with(
+                RgbColorComponent.toByte(this.alpha)
+            )
+        );
     }
 
     // Object..........................................................................................................
 
     @Override
     int hashCodeAlpha() {
-        return this.alpha.hashCode();
+        return Float.hashCode(this.alpha);
     }
 
     @Override
     boolean equalsAlpha(final HsvColor other) {
-        return this.alpha.equals(other.alpha());
+        return this.alpha == other.alphaValue();
     }
 
     // UsesToStringBuilder..............................................................................................
@@ -80,6 +103,17 @@ final class AlphaHsvColor extends HsvColor {
 
     @Override
     void buildToStringAlpha(final ToStringBuilder builder) {
-        builder.value(this.alpha);
+        builder.value(this.alpha());
+    }
+
+    // appendTo.........................................................................................................
+
+    @Override
+    void appendAlpha(final Appendable text) throws IOException {
+        text.append(',');
+        HslOrHsvColorComponent.appendPercentage(
+            this.alpha,
+            text
+        );
     }
 }
@@ -22,6 +22,15 @@ package walkingkooka.color;
  */
 final public class AlphaHsvColorComponent extends AlphaSaturationOrValueHsvColorComponent {
 
+    /**
+     * Shares components whose value is a whole tenth of a percent.
+     */
+    private final static HslOrHsvColorComponentCache<AlphaHsvColorComponent> CACHE = HslOrHsvColorComponentCache.with(
+        MAX_VALUE,
+        1000,
+        AlphaHsvColorComponent::new
+    );
+
     /**
      * An opaque alpha component returned by {@link OpaqueHsvColor#alpha()}.
      */
@@ -31,7 +40,14 @@ final public class AlphaHsvColorComponent extends AlphaSaturationOrValueHsvColor
      * Factory that creates a new {@link AlphaHsvColorComponent}
      */
     static AlphaHsvColorComponent with(final float value) {
-        return new AlphaHsvColorComponent(value);
+        return CACHE.get(value);
+    }
+
+    /**
+     * Rounds the value to the nearest tenth of a percent, components with such values are shared.
+     */
+    static float quantize(final float value) {
+        return CACHE.quantize(value);
     }
 
     /**
@@ -44,7 +60,7 @@ final public class AlphaHsvColorComponent extends AlphaSaturationOrValueHsvColor
     @Override
     public AlphaHsvColorComponent add(final float value) {
         return 0 == value ? this
-            : new AlphaHsvColorComponent(HsvColorComponent.add(value, AlphaHsvColorComponent.MIN_VALUE, AlphaHsvColorComponent.MAX_VALUE));
+            : with(HsvColorComponent.add(value, AlphaHsvColorComponent.MIN_VALUE, AlphaHsvColorComponent.MAX_VALUE));
     }
 
     @Override
@@ -59,11 +75,7 @@ final public class AlphaHsvColorComponent extends AlphaSaturationOrValueHsvColor
      */
     @Override
     AlphaHsvColorComponent replace(final float value) {
-        return new AlphaHsvColorComponent(value);
-    }
-
-    AlphaRgbColorComponent toAlphaColorComponent() {
-        return AlphaRgbColorComponent.with(RgbColorComponent.toByte(this.value));
+        return with(value);
     }
 
     @Override
@@ -17,6 +17,8 @@
 
 package walkingkooka.color;
 
+import java.io.IOException;
+
 /**
  * A {@link HslColorComponent} holding the hue component which is a value between 0 and 360 degrees.
  */
@@ -56,4 +58,9 @@ abstract class AlphaLightnessOrSaturationHslColorComponent extends HslColorCompo
     public final String toString() {
         return this.toStringPercentage();
     }
+
+    @Override
+    final void appendTo(final Appendable text) throws IOException {
+        this.appendPercentage(text);
+    }
 }
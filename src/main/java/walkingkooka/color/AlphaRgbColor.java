@@ -18,8 +18,11 @@
 package walkingkooka.color;
 
 import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.Cast;
 import walkingkooka.ToStringBuilder;
 
+import java.io.IOException;
+
 /**
  * A {@link RgbColor} that includes an alpha property.
  */
@@ -29,18 +32,7 @@ final class AlphaRgbColor extends RgbColor {
      * Factory that creates a {@link AlphaRgbColor} with the given argb value.
      */
     static AlphaRgbColor createAlphaColorFromArgb(final int argb) {
-        return new AlphaRgbColor(argb);
-    }
-
-    /**
-     * Private constructor use factory.
-     */
-    private AlphaRgbColor(final int argb) {
-        super(RedRgbColorComponent.with(RgbColor.shiftRight(argb, RgbColor.RED_SHIFT)), //
-            GreenRgbColorComponent.with(RgbColor.shiftRight(argb, RgbColor.GREEN_SHIFT)), //
-            BlueRgbColorComponent.with(RgbColor.shiftRight(argb, RgbColor.BLUE_SHIFT)));
-        this.alpha = AlphaRgbColorComponent.with(RgbColor.shiftRight(argb, RgbColor.ALPHA_SHIFT));
-        this.argb = argb;
+        return withArgb(argb);
     }
 
     /**
@@ -50,22 +42,42 @@ final class AlphaRgbColor extends RgbColor {
                               final GreenRgbColorComponent green,
                               final BlueRgbColorComponent blue,
                               final AlphaRgbColorComponent alpha) {
-        return new AlphaRgbColor(red, green, blue, alpha);
+        return withArgb(
+            (alpha.unsignedIntValue << RgbColor.ALPHA_SHIFT) | //
+                (red.unsignedIntValue << RgbColor.RED_SHIFT) | //
+                (green.unsignedIntValue << RgbColor.GREEN_SHIFT) | //
+                (blue.unsignedIntValue << RgbColor.BLUE_SHIFT)
+        );
     }
 
     /**
-     * Private constructor use factory. Note the argb is calculated and cached.
+     * Factory that returns a cached instance if a {@link RgbColorCache} is present, otherwise creates a new {@link AlphaRgbColor}.
      */
-    private AlphaRgbColor(final RedRgbColorComponent red,
-                          final GreenRgbColorComponent green,
-                          final BlueRgbColorComponent blue,
-                          final AlphaRgbColorComponent alpha) {
-        super(red, green, blue);
-        this.alpha = alpha;
-        this.argb = (alpha.unsignedIntValue << RgbColor.ALPHA_SHIFT) | //
-            (red.unsignedIntValue << RgbColor.RED_SHIFT) | //
-            (green.unsignedIntValue << RgbColor.GREEN_SHIFT) | //
-            (blue.unsignedIntValue << RgbColor.BLUE_SHIFT);
+    private static AlphaRgbColor withArgb(final int argb) {
+        final RgbColorCache cache = RgbColor.cache;
+
+        AlphaRgbColor color = null;
+        if (null != cache) {
+            color = Cast.to(
+                cache.get(argb)
+            );
+        }
+
+        if (null == color) {
+            color = new AlphaRgbColor(argb);
+            if (null != cache) {
+                cache.put(color);
+            }
+        }
+
+        return color;
+    }
+
+    /**
+     * Private constructor use factory.
+     */
+    private AlphaRgbColor(final int argb) {
+        super(argb);
     }
 
     /**
@@ -77,13 +89,13 @@ final class AlphaRgbColor extends RgbColor {
     }
 
     /**
-     * Unconditionally creates a new a {@link AlphaRgbColor}
+     * Creates or fetches a cached {@link AlphaRgbColor} with the given components and the same alpha.
      */
     @Override
     RgbColor replace(final RedRgbColorComponent red,
                      final GreenRgbColorComponent green,
                      final BlueRgbColorComponent blue) {
-        return new AlphaRgbColor(red, green, blue, this.alpha);
+        return AlphaRgbColor.with(red, green, blue, this.alpha());
     }
 
     /**
@@ -91,10 +103,10 @@ final class AlphaRgbColor extends RgbColor {
      */
     @Override
     RgbColor setAlpha(final AlphaRgbColorComponent alpha) {
-        return this.alpha.equals(alpha) ? this//
+        return this.alpha().equals(alpha) ? this//
             : alpha == AlphaRgbColorComponent.OPAQUE ? //
-            OpaqueRgbColor.computeRgbAndCreate(this.red, this.green, this.blue) : //
-            new AlphaRgbColor(this.red, this.green, this.blue, alpha);
+            OpaqueRgbColor.with(this.rgb()) : //
+            AlphaRgbColor.with(this.red(), this.green(), this.blue(), alpha);
     }
 
     /**
@@ -102,11 +114,11 @@ final class AlphaRgbColor extends RgbColor {
      */
     @Override
     public AlphaRgbColorComponent alpha() {
-        return this.alpha;
+        return AlphaRgbColorComponent.with(
+            shiftRight(this.argb, ALPHA_SHIFT)
+        );
     }
 
-    private final AlphaRgbColorComponent alpha;
-
     /**
      * Returns the ARGB less the alpha component.
      */
@@ -125,8 +137,6 @@ final class AlphaRgbColor extends RgbColor {
         return this.argb;
     }
 
-    private final int argb;
-
     /**
      * Returns the ARGB
      */
@@ -135,32 +145,41 @@ final class AlphaRgbColor extends RgbColor {
         return this.argb();
     }
 
+    /**
+     * Returns the ARGB
+     */
+    @Override
+    public int intValue() {
+        return this.argb;
+    }
+
     // AWT..............................................................................................................
 
     @GwtIncompatible
     @Override
     public java.awt.Color toAwtColor() {
-        return new java.awt.Color(this.red.unsignedIntValue,
-            this.green.unsignedIntValue,
-            this.blue.unsignedIntValue,
-            this.alpha.unsignedIntValue);
+        return new java.awt.Color(this.red().unsignedIntValue,
+            this.green().unsignedIntValue,
+            this.blue().unsignedIntValue,
+            this.alpha().unsignedIntValue);
     }
 
     // toHexString......................................................................................................
 
     @Override
-    int hexStringDigitLength() {
-        return 8;
+    void appendHexDigits(final Appendable text) throws IOException {
+        this.alpha().appendHex(text);
+        this.appendRedGreenBlueComponents(text);
     }
 
     // UsesToStringBuilder..............................................................................................
 
     @Override
     void buildColorComponentsToString(final ToStringBuilder builder) {
-        final RedRgbColorComponent red = this.red;
-        final GreenRgbColorComponent green = this.green;
-        final BlueRgbColorComponent blue = this.blue;
-        final AlphaRgbColorComponent alpha = this.alpha;
+        final RedRgbColorComponent red = this.red();
+        final GreenRgbColorComponent green = this.green();
+        final BlueRgbColorComponent blue = this.blue();
+        final AlphaRgbColorComponent alpha = this.alpha();
 
         if (canBeOneHexDigit(red) && canBeOneHexDigit(green) && canBeOneHexDigit(blue) && canBeOneHexDigit(alpha)) {
             addHexDigit(red, builder);
@@ -169,7 +188,27 @@ final class AlphaRgbColor extends RgbColor {
             addHexDigit(alpha, builder);
         } else {
             this.addRedGreenBlueComponents(builder);
-            builder.value(this.alpha);
+            builder.value(this.alpha());
+        }
+    }
+
+    // appendTo.........................................................................................................
+
+    @Override
+    void appendColorComponents(final Appendable text) throws IOException {
+        final RedRgbColorComponent red = this.red();
+        final GreenRgbColorComponent green = this.green();
+        final BlueRgbColorComponent blue = this.blue();
+        final AlphaRgbColorComponent alpha = this.alpha();
+
+        if (canBeOneHexDigit(red) && canBeOneHexDigit(green) && canBeOneHexDigit(blue) && canBeOneHexDigit(alpha)) {
+            appendHexDigit(red, text);
+            appendHexDigit(green, text);
+            appendHexDigit(blue, text);
+            appendHexDigit(alpha, text);
+        } else {
+            this.appendRedGreenBlueComponents(text);
+            alpha.appendHex(text);
         }
     }
 
@@ -184,9 +223,9 @@ final class AlphaRgbColor extends RgbColor {
     }
 
     @Override
-    void alphaComponentToString(final StringBuilder b,
-                                final RgbColorString format) {
-        b.append(RgbColorComponent.SEPARATOR);
-        b.append(format.componentToString(this.alpha));
+    void alphaComponentToString(final Appendable text,
+                                final RgbColorString format) throws IOException {
+        text.append(RgbColorComponent.SEPARATOR);
+        text.append(format.componentToString(this.alpha()));
     }
 }
@@ -63,6 +63,12 @@ final public class AlphaRgbColorComponent extends RgbColorComponent {
         return color.alpha().unsignedIntValue;
     }
 
+    @Override
+    int replaceArgb(final int argb) {
+        return (argb & ~(0xFF << RgbColor.ALPHA_SHIFT)) |
+            (this.unsignedIntValue << RgbColor.ALPHA_SHIFT);
+    }
+
     @Override
     RgbColor setComponent(final RgbColor color, final int value) {
         return color.setAlpha(AlphaRgbColorComponent.CONSTANTS[value]);
@@ -17,6 +17,8 @@
 
 package walkingkooka.color;
 
+import java.io.IOException;
+
 /**
  * A {@link HsvColorComponent} base class for saturation and value.
  */
@@ -54,4 +56,9 @@ abstract class AlphaSaturationOrValueHsvColorComponent extends HsvColorComponent
     public final String toString() {
         return this.toStringPercentage();
     }
+
+    @Override
+    final void appendTo(final Appendable text) throws IOException {
+        this.appendPercentage(text);
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import java.util.Objects;
+
+/**
+ * A read only {@link CharSequence} view of a range of ASCII bytes, that allows parsing directly from a byte buffer
+ * without decoding the bytes into a {@link String}. Bytes outside the ASCII range become characters that are never
+ * accepted by any parser.
+ */
+final class AsciiCharSequence implements CharSequence {
+
+    static AsciiCharSequence with(final byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+
+        return new AsciiCharSequence(
+            bytes,
+            0,
+            bytes.length
+        );
+    }
+
+    private AsciiCharSequence(final byte[] bytes,
+                              final int offset,
+                              final int length) {
+        super();
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.length) {
+            throw new StringIndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + this.length);
+        }
+        return (char) (this.bytes[this.offset + index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new StringIndexOutOfBoundsException("Invalid start " + start + " end " + end + " length " + this.length);
+        }
+        return new AsciiCharSequence(
+            this.bytes,
+            this.offset + start,
+            end - start
+        );
+    }
+
+    private final byte[] bytes;
+
+    private final int offset;
+
+    private final int length;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final int length = this.length;
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = this.charAt(i);
+        }
+        return new String(chars);
+    }
+}
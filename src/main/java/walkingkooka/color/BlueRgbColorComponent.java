@@ -61,6 +61,12 @@ final public class BlueRgbColorComponent extends RgbColorComponent {
         return color.blue().unsignedIntValue;
     }
 
+    @Override
+    int replaceArgb(final int argb) {
+        return (argb & ~(0xFF << RgbColor.BLUE_SHIFT)) |
+            (this.unsignedIntValue << RgbColor.BLUE_SHIFT);
+    }
+
     @Override
     RgbColor setComponent(final RgbColor color, final int value) {
         return color.setBlue(BlueRgbColorComponent.CONSTANTS[RgbColorComponent.mask(value)]);
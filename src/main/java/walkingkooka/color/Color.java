@@ -18,9 +18,9 @@
 package walkingkooka.color;
 
 import walkingkooka.Cast;
+import walkingkooka.EmptyTextException;
 import walkingkooka.ToStringBuilder;
 import walkingkooka.UsesToStringBuilder;
-import walkingkooka.color.parser.ColorParsers;
 import walkingkooka.color.parser.FunctionColorFunctionParserToken;
 import walkingkooka.datetime.DateTimeContexts;
 import walkingkooka.math.DecimalNumberContexts;
@@ -30,7 +30,6 @@ import walkingkooka.text.cursor.parser.InvalidCharacterExceptionFactory;
 import walkingkooka.text.cursor.parser.Parser;
 import walkingkooka.text.cursor.parser.ParserContext;
 import walkingkooka.text.cursor.parser.ParserContexts;
-import walkingkooka.text.cursor.parser.ParserReporters;
 import walkingkooka.text.printer.IndentingPrinter;
 import walkingkooka.text.printer.TreePrintable;
 import walkingkooka.tree.json.JsonNode;
@@ -39,11 +38,13 @@ import walkingkooka.tree.json.marshall.JsonNodeMarshallContext;
 import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
 import walkingkooka.tree.json.marshall.JsonNodeUnmarshallException;
 
+import java.io.IOException;
 import java.math.MathContext;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Base class for all rgb like value classes.
@@ -163,28 +164,185 @@ public abstract class Color implements HasText,
     public static Color parse(final String text) {
         CharSequences.failIfNullOrEmpty(text, "text");
 
+        return parseCached(
+            text,
+            ANY_COLOR,
+            Color::parse0
+        );
+    }
+
+    private final static Predicate<Color> ANY_COLOR = (c) -> true;
+
+    private static Color parse0(final String text) {
+        return parseRegion(
+            text,
+            0,
+            text.length()
+        );
+    }
+
+    /**
+     * Parses the color in the region of the given {@link CharSequence}, the hex and web color name forms are decoded
+     * in place, avoiding the need to copy the region into a {@link String} first. The {@link ColorParseCache} is not
+     * used as it requires a {@link String} key.
+     */
+    public static Color parse(final CharSequence text,
+                              final int offset,
+                              final int length) {
+        checkRegion(text, offset, length);
+
+        return parseRegion(
+            text,
+            offset,
+            offset + length
+        );
+    }
+
+    /**
+     * Parses the color in the given range of ASCII bytes, such as a range in an I/O buffer.
+     */
+    public static Color parse(final byte[] text,
+                              final int offset,
+                              final int length) {
+        return parse(
+            AsciiCharSequence.with(text),
+            offset,
+            length
+        );
+    }
+
+    /**
+     * Parses the region accepting the same forms as {@link #parse(String)} returning the ARGB value of the color. The
+     * hash form is decoded without creating any {@link Color}.
+     */
+    static int parseArgb(final CharSequence text,
+                         final int start,
+                         final int end) {
+        return '#' == text.charAt(start) ?
+            RgbColor.parseHashArgb(
+                text,
+                start,
+                end
+            ) :
+            parseRegion(
+                text,
+                start,
+                end
+            ).toRgb()
+                .argb();
+    }
+
+    private static Color parseRegion(final CharSequence text,
+                                     final int start,
+                                     final int end) {
         final Color color;
 
-        if (text.startsWith("hsl")) {
-            color = parseHsl(text);
+        if (ColorFunctionScanner.startsWith(text, start, end, "hsl")) {
+            color = parseHslRegion(text, start, end);
         } else {
-            if (text.startsWith("hsv")) {
-                color = parseHsv(text);
+            if (ColorFunctionScanner.startsWith(text, start, end, "hsv")) {
+                color = parseHsvRegion(text, start, end);
             } else {
-                color = RgbColor.parseRgbOrHash(text);
+                color = RgbColor.parseRgbOrHash(text, start, end);
             }
         }
 
         return color;
     }
 
+    /**
+     * Verifies the region is within the text and not empty.
+     */
+    private static void checkRegion(final CharSequence text,
+                                    final int offset,
+                                    final int length) {
+        Objects.requireNonNull(text, "text");
+
+        final int textLength = text.length();
+        if (offset < 0 || length < 0 || offset > textLength - length) {
+            throw new IndexOutOfBoundsException("Invalid offset " + offset + " length " + length + " for text length " + textLength);
+        }
+        if (0 == length) {
+            throw new EmptyTextException("text");
+        }
+    }
+
     /**
      * Parses a {@link RgbColor}, currently only #RGB, #RRGGBB, rgb(), rgba() and web rgb names formats are supported<br>
      * <a href="https://en.wikipedia.org/wiki/Web_colors#CSS_colors"></a>
      */
     public static RgbColor parseRgb(final String text) {
         CharSequences.failIfNullOrEmpty(text, "text");
-        return RgbColor.parseRgbOrHash(text);
+        return parseCached(
+            text,
+            Color::isRgb,
+            RgbColor::parseRgbOrHash
+        );
+    }
+
+    /**
+     * Parses a {@link RgbColor} in the region of the given {@link CharSequence}, see {@link #parse(CharSequence, int, int)}.
+     */
+    public static RgbColor parseRgb(final CharSequence text,
+                                    final int offset,
+                                    final int length) {
+        checkRegion(text, offset, length);
+
+        return RgbColor.parseRgbOrHash(
+            text,
+            offset,
+            offset + length
+        );
+    }
+
+    /**
+     * Parses a {@link RgbColor} in the given range of ASCII bytes.
+     */
+    public static RgbColor parseRgb(final byte[] text,
+                                    final int offset,
+                                    final int length) {
+        return parseRgb(
+            AsciiCharSequence.with(text),
+            offset,
+            length
+        );
+    }
+
+    /**
+     * Installs or removes with {@link Optional#empty()} the {@link ColorParseCache} used by all parse methods.
+     */
+    public static void setParseCache(final Optional<ColorParseCache> cache) {
+        Objects.requireNonNull(cache, "cache");
+
+        Color.parseCache = cache.orElse(null);
+    }
+
+    /**
+     * Getter that returns the {@link ColorParseCache} if one is installed.
+     */
+    public static Optional<ColorParseCache> parseCache() {
+        return Optional.ofNullable(Color.parseCache);
+    }
+
+    /**
+     * The {@link ColorParseCache} or null when caching is disabled, which is the default.
+     */
+    private static volatile ColorParseCache parseCache;
+
+    /**
+     * Uses the {@link ColorParseCache} if one is installed otherwise parses the text.
+     */
+    private static <C extends Color> C parseCached(final String text,
+                                                   final Predicate<Color> type,
+                                                   final Function<String, C> parser) {
+        final ColorParseCache cache = Color.parseCache;
+        return null != cache ?
+            cache.parse(
+                text,
+                type,
+                parser
+            ) :
+            parser.apply(text);
     }
 
     static Color parseColorParserToken(final String text,
@@ -207,22 +365,62 @@ public abstract class Color implements HasText,
     // parseRgb hsl(359,100%,100%) / hsla(359,100%,100%)..............................................................
 
     public static HslColor parseHsl(final String text) {
-        return parseColorParserToken(text, HSL_FUNCTION_PARSER)
-            .toHsl();
+        return parseCached(
+            text,
+            Color::isHsl,
+            Color::parseHsl0
+        );
     }
 
-    private final static Parser<ParserContext> HSL_FUNCTION_PARSER = ColorParsers.hsl()
-        .orReport(ParserReporters.basic());
+    private static HslColor parseHsl0(final String text) {
+        return parseHslRegion(
+            text,
+            0,
+            text.length()
+        );
+    }
+
+    private static HslColor parseHslRegion(final CharSequence text,
+                                           final int start,
+                                           final int end) {
+        final HslColor color = ColorFunctionScanner.hsl(text, start, end);
+        return null != color ?
+            color :
+            parseColorParserToken(
+                text.subSequence(start, end).toString(),
+                ColorFunctionParsers.HSL
+            ).toHsl();
+    }
 
     // parse hsv(359,100%,100%)..............................................................................................
 
     public static HsvColor parseHsv(final String text) {
-        return parseColorParserToken(text, HSV_FUNCTION_PARSER)
-            .toHsv();
+        return parseCached(
+            text,
+            Color::isHsv,
+            Color::parseHsv0
+        );
     }
 
-    private final static Parser<ParserContext> HSV_FUNCTION_PARSER = ColorParsers.hsv()
-        .orReport(ParserReporters.basic());
+    private static HsvColor parseHsv0(final String text) {
+        return parseHsvRegion(
+            text,
+            0,
+            text.length()
+        );
+    }
+
+    private static HsvColor parseHsvRegion(final CharSequence text,
+                                           final int start,
+                                           final int end) {
+        final HsvColor color = ColorFunctionScanner.hsv(text, start, end);
+        return null != color ?
+            color :
+            parseColorParserToken(
+                text.subSequence(start, end).toString(),
+                ColorFunctionParsers.HSV
+            ).toHsv();
+    }
 
 
     Color() {
@@ -287,20 +485,6 @@ public abstract class Color implements HasText,
      */
     private final static float MIX_LARGE_AMOUNT = 1.0f - MIX_SMALL_AMOUNT;
 
-    /**
-     * Adds both int values and returns the average
-     */
-    static byte mixIntValue(final int value,
-                            final int otherValue,
-                            final float amount) {
-        final int difference = RgbColorComponent.mask(value) - RgbColorComponent.mask(otherValue);
-
-        return (byte)
-            RgbColorComponent.mask(
-                Math.round(value - difference * amount)
-            );
-    }
-
     /**
      * Adds both float values and returns the average
      */
@@ -321,6 +505,44 @@ public abstract class Color implements HasText,
         return this.toString();
     }
 
+    // appendTo.........................................................................................................
+
+    /**
+     * Appends the same text as {@link #toString()} to the given {@link StringBuilder}, without creating any
+     * intermediate {@link String}.
+     */
+    public final StringBuilder appendTo(final StringBuilder text) {
+        try {
+            this.appendTo((Appendable) text);
+        } catch (final IOException never) {
+            throw new IllegalStateException(never);
+        }
+        return text;
+    }
+
+    /**
+     * Appends the same text as {@link #toString()} to the given {@link Appendable}, without creating any
+     * intermediate {@link String}.
+     */
+    public final void appendTo(final Appendable text) throws IOException {
+        Objects.requireNonNull(text, "text");
+
+        this.appendTo0(text);
+    }
+
+    abstract void appendTo0(final Appendable text) throws IOException;
+
+    /**
+     * Appends the decimal digits of a non negative value.
+     */
+    static void appendDecimal(final Appendable text,
+                              final int value) throws IOException {
+        if (value >= 10) {
+            appendDecimal(text, value / 10);
+        }
+        text.append((char) ('0' + value % 10));
+    }
+
     // invert...........................................................................................................
 
     /**
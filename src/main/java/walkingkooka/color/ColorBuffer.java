@@ -0,0 +1,379 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import walkingkooka.Cast;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A mutable buffer of colors held as packed ARGB values in an <code>int[]</code>, with bulk versions of the
+ * {@link RgbColor} operations which update the buffer in place. {@link RgbColor} are only created when requested by
+ * {@link #get(int)} or {@link #asList()}.
+ */
+public final class ColorBuffer {
+
+    /**
+     * Creates a new {@link ColorBuffer} filled with transparent black.
+     */
+    public static ColorBuffer with(final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid length " + length + " < 0");
+        }
+        return new ColorBuffer(new int[length]);
+    }
+
+    /**
+     * Creates a {@link ColorBuffer} that uses the given ARGB array, changes to either will be visible to the other.
+     */
+    public static ColorBuffer wrap(final int[] argb) {
+        Objects.requireNonNull(argb, "argb");
+
+        return new ColorBuffer(argb);
+    }
+
+    /**
+     * Creates a {@link ColorBuffer} holding each {@link Color} converted to a {@link RgbColor}.
+     */
+    public static ColorBuffer copyOf(final List<? extends Color> colors) {
+        Objects.requireNonNull(colors, "colors");
+
+        final int[] argb = new int[colors.size()];
+        int i = 0;
+        for (final Color color : colors) {
+            argb[i++] = color.toRgb()
+                .argb();
+        }
+        return new ColorBuffer(argb);
+    }
+
+    private ColorBuffer(final int[] argb) {
+        super();
+        this.argb = argb;
+    }
+
+    /**
+     * The number of colors in this buffer.
+     */
+    public int length() {
+        return this.argb.length;
+    }
+
+    /**
+     * Returns the ARGB value at the given index.
+     */
+    public int argb(final int index) {
+        return this.argb[index];
+    }
+
+    /**
+     * Replaces the ARGB value at the given index.
+     */
+    public ColorBuffer setArgb(final int index,
+                               final int argb) {
+        this.argb[index] = argb;
+        return this;
+    }
+
+    /**
+     * Creates a {@link RgbColor} for the ARGB value at the given index.
+     */
+    public RgbColor get(final int index) {
+        return RgbColor.fromArgb0(this.argb[index]);
+    }
+
+    /**
+     * Replaces the color at the given index.
+     */
+    public ColorBuffer set(final int index,
+                           final Color color) {
+        Objects.requireNonNull(color, "color");
+
+        this.argb[index] = color.toRgb()
+            .argb();
+        return this;
+    }
+
+    /**
+     * Returns a read only {@link List} view of this buffer, each {@link RgbColor} is created when the element is fetched.
+     */
+    public List<RgbColor> asList() {
+        return new AbstractList<RgbColor>() {
+            @Override
+            public RgbColor get(final int index) {
+                return ColorBuffer.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return ColorBuffer.this.length();
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of the ARGB values.
+     */
+    public int[] toArgbArray() {
+        return this.argb.clone();
+    }
+
+    /**
+     * Returns a new {@link ColorBuffer} with a copy of the ARGB values.
+     */
+    public ColorBuffer copy() {
+        return new ColorBuffer(this.toArgbArray());
+    }
+
+    // operations.......................................................................................................
+
+    /**
+     * Inverts every color in place, {@link RgbColor#invert()}.
+     */
+    public ColorBuffer invert() {
+        final int[] argb = this.argb;
+        final int length = argb.length;
+
+        for (int i = 0; i < length; i++) {
+            argb[i] = argb[i] ^ RGB_MASK;
+        }
+        return this;
+    }
+
+    private final static int RGB_MASK = 0xFFFFFF;
+
+    /**
+     * Converts every color to gray in place, {@link RgbColor#toGray()}.
+     */
+    public ColorBuffer toGray() {
+        final int[] argb = this.argb;
+        final int length = argb.length;
+
+        for (int i = 0; i < length; i++) {
+            final int value = argb[i];
+
+            final float red = red(value).floatValue;
+            final float green = green(value).floatValue;
+            final float blue = blue(value).floatValue;
+
+            if (RgbColor.isNotBlack(red, green, blue)) {
+                final int gray = RgbColorComponent.mask(
+                    RgbColor.toGrayByte(
+                        red,
+                        green,
+                        blue
+                    )
+                );
+                argb[i] = (value & ~RGB_MASK) |
+                    (gray << RgbColor.RED_SHIFT) |
+                    (gray << RgbColor.GREEN_SHIFT) |
+                    (gray << RgbColor.BLUE_SHIFT);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Replaces the given component of every color in place, {@link RgbColor#set(RgbColorComponent)}.
+     */
+    public ColorBuffer set(final RgbColorComponent component) {
+        Objects.requireNonNull(component, "component");
+
+        final int[] argb = this.argb;
+        final int length = argb.length;
+
+        for (int i = 0; i < length; i++) {
+            argb[i] = component.replaceArgb(argb[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Mixes every color with the given {@link Color} in place, {@link RgbColor#mix(Color, float)}.
+     */
+    public ColorBuffer mix(final Color color,
+                           final float amount) {
+        Objects.requireNonNull(color, "color");
+        Color.checkAmount(amount);
+
+        final int other = color.toRgb()
+            .argb();
+        final int[] argb = this.argb;
+        final int length = argb.length;
+
+        if (Color.isMixLarge(amount)) {
+            Arrays.fill(argb, other);
+        } else if (false == Color.isMixSmall(amount)) {
+            final long weight = RgbColor.mixWeight(amount);
+
+            for (int i = 0; i < length; i++) {
+                argb[i] = RgbColor.mixArgb(
+                    argb[i],
+                    other,
+                    weight
+                );
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Mixes every color with the color at the same index of the given {@link ColorBuffer} in place, {@link RgbColor#mix(Color, float)}.
+     */
+    public ColorBuffer mix(final ColorBuffer colors,
+                           final float amount) {
+        Objects.requireNonNull(colors, "colors");
+        Color.checkAmount(amount);
+
+        final int[] argb = this.argb;
+        final int[] other = colors.argb;
+        final int length = argb.length;
+        if (length != other.length) {
+            throw new IllegalArgumentException("Buffer length " + other.length + " different from " + length);
+        }
+
+        if (Color.isMixLarge(amount)) {
+            System.arraycopy(other, 0, argb, 0, length);
+        } else if (false == Color.isMixSmall(amount)) {
+            final long weight = RgbColor.mixWeight(amount);
+
+            for (int i = 0; i < length; i++) {
+                argb[i] = RgbColor.mixArgb(
+                    argb[i],
+                    other[i],
+                    weight
+                );
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Converts every color to HSL writing the components to the given arrays, {@link RgbColor#toHsl()}. Like
+     * {@link RgbColor#toHsl()} a hue outside the valid range throws an {@link IllegalArgumentException}, in which case
+     * the components of all earlier colors will have already been written.
+     */
+    public void toHsl(final float[] hue,
+                      final float[] saturation,
+                      final float[] lightness) {
+        this.checkLength(hue, "hue");
+        this.checkLength(saturation, "saturation");
+        this.checkLength(lightness, "lightness");
+
+        final int[] argb = this.argb;
+        final int length = argb.length;
+
+        for (int i = 0; i < length; i++) {
+            final long hsl = PackedHslHsv.hsl(argb[i]);
+            final float hslHue = PackedHslHsv.hue(hsl);
+            HueHslColorComponent.check(
+                hslHue,
+                HueHslColorComponent.MIN_VALUE,
+                HueHslColorComponent.MAX_VALUE
+            );
+
+            hue[i] = hslHue;
+            saturation[i] = PackedHslHsv.hslSaturation(hsl);
+            lightness[i] = PackedHslHsv.hslLightness(hsl);
+        }
+    }
+
+    /**
+     * Converts every color to HSV writing the components to the given arrays, {@link RgbColor#toHsv()}. Like
+     * {@link RgbColor#toHsv()} a hue outside the valid range throws an {@link IllegalArgumentException}, in which case
+     * the components of all earlier colors will have already been written.
+     */
+    public void toHsv(final float[] hue,
+                      final float[] saturation,
+                      final float[] value) {
+        this.checkLength(hue, "hue");
+        this.checkLength(saturation, "saturation");
+        this.checkLength(value, "value");
+
+        final int[] argb = this.argb;
+        final int length = argb.length;
+
+        for (int i = 0; i < length; i++) {
+            final long hsv = PackedHslHsv.hsv(argb[i]);
+            final float hsvHue = PackedHslHsv.hue(hsv);
+            HueHsvColorComponent.check(
+                hsvHue,
+                HueHsvColorComponent.MIN_VALUE,
+                HueHsvColorComponent.MAX_VALUE
+            );
+
+            hue[i] = hsvHue;
+            saturation[i] = PackedHslHsv.hsvSaturation(hsv);
+            value[i] = PackedHslHsv.hsvValue(hsv);
+        }
+    }
+
+    private void checkLength(final float[] array,
+                             final String label) {
+        Objects.requireNonNull(array, label);
+
+        final int length = this.argb.length;
+        if (array.length < length) {
+            throw new IllegalArgumentException("Invalid " + label + " length " + array.length + " < " + length);
+        }
+    }
+
+    private static RedRgbColorComponent red(final int argb) {
+        return RedRgbColorComponent.with(RgbColor.shiftRight(argb, RgbColor.RED_SHIFT));
+    }
+
+    private static GreenRgbColorComponent green(final int argb) {
+        return GreenRgbColorComponent.with(RgbColor.shiftRight(argb, RgbColor.GREEN_SHIFT));
+    }
+
+    private static BlueRgbColorComponent blue(final int argb) {
+        return BlueRgbColorComponent.with(RgbColor.shiftRight(argb, RgbColor.BLUE_SHIFT));
+    }
+
+    private final int[] argb;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.argb);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ColorBuffer &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ColorBuffer other) {
+        return Arrays.equals(
+            this.argb,
+            other.argb
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.asList()
+            .toString();
+    }
+}
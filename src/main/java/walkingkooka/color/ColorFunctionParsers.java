@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import walkingkooka.color.parser.ColorParsers;
+import walkingkooka.text.cursor.parser.Parser;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserReporters;
+
+/**
+ * Holds the parser combinators for the rgb, hsl and hsv functions, which are only needed for text the
+ * {@link ColorFunctionScanner} does not accept. Keeping them out of {@link Color} and {@link RgbColor} means the
+ * grammar is loaded and compiled by {@link ColorParsers} the first time a fallback parse happens, rather than when
+ * the first {@link Color} is created.
+ */
+final class ColorFunctionParsers {
+
+    final static Parser<ParserContext> RGB = ColorParsers.rgb()
+        .orReport(ParserReporters.basic());
+
+    final static Parser<ParserContext> HSL = ColorParsers.hsl()
+        .orReport(ParserReporters.basic());
+
+    final static Parser<ParserContext> HSV = ColorParsers.hsv()
+        .orReport(ParserReporters.basic());
+
+    /**
+     * Stop creation
+     */
+    private ColorFunctionParsers() {
+        throw new UnsupportedOperationException();
+    }
+}
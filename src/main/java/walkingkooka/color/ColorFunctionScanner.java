@@ -0,0 +1,411 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+/**
+ * A single pass scanner that accepts the rgb/rgba, hsl/hsla and hsv/hsva functions from <code>ColorParsersGrammar.txt</code>
+ * and creates the {@link Color} directly, without creating any parser tokens.
+ * <br>
+ * Numbers are limited to plain digits with an optional fraction, with at most {@link #MAX_DIGITS} digits, which are
+ * converted exactly. Any text that is not accepted, including invalid text and numbers in other forms, returns
+ * <code>null</code> so the caller can use the parser combinator, which also reports any errors.
+ */
+final class ColorFunctionScanner {
+
+    /**
+     * Scans a rgb or rgba function returning null if the text was not accepted.
+     */
+    static RgbColor rgb(final String text) {
+        return rgb(
+            text,
+            0,
+            text.length()
+        );
+    }
+
+    /**
+     * Scans a rgb or rgba function between start and end returning null if the text was not accepted.
+     */
+    static RgbColor rgb(final CharSequence text,
+                        final int start,
+                        final int end) {
+        final ColorFunctionScanner scanner = new ColorFunctionScanner(text, start, end);
+        return scanner.function("rgb", false) ?
+            scanner.rgbColor() :
+            null;
+    }
+
+    /**
+     * Scans a hsl or hsla function returning null if the text was not accepted.
+     */
+    static HslColor hsl(final String text) {
+        return hsl(
+            text,
+            0,
+            text.length()
+        );
+    }
+
+    /**
+     * Scans a hsl or hsla function between start and end returning null if the text was not accepted.
+     */
+    static HslColor hsl(final CharSequence text,
+                        final int start,
+                        final int end) {
+        final ColorFunctionScanner scanner = new ColorFunctionScanner(text, start, end);
+        return scanner.function("hsl", true) ?
+            scanner.hslColor() :
+            null;
+    }
+
+    /**
+     * Scans a hsv or hsva function returning null if the text was not accepted.
+     */
+    static HsvColor hsv(final String text) {
+        return hsv(
+            text,
+            0,
+            text.length()
+        );
+    }
+
+    /**
+     * Scans a hsv or hsva function between start and end returning null if the text was not accepted.
+     */
+    static HsvColor hsv(final CharSequence text,
+                        final int start,
+                        final int end) {
+        final ColorFunctionScanner scanner = new ColorFunctionScanner(text, start, end);
+        return scanner.function("hsv", true) ?
+            scanner.hsvColor() :
+            null;
+    }
+
+    /**
+     * Tests if the characters between start and end begin with the given prefix.
+     */
+    static boolean startsWith(final CharSequence text,
+                              final int start,
+                              final int end,
+                              final String prefix) {
+        final int length = prefix.length();
+
+        boolean startsWith = end - start >= length;
+        for (int i = 0; startsWith && i < length; i++) {
+            startsWith = prefix.charAt(i) == text.charAt(start + i);
+        }
+        return startsWith;
+    }
+
+    private ColorFunctionScanner(final CharSequence text,
+                                 final int start,
+                                 final int end) {
+        super();
+        this.text = text;
+        this.start = start;
+        this.end = end;
+    }
+
+    // scan.............................................................................................................
+
+    /**
+     * Consumes the function name with an optional trailing "a", the parenthesis and the three or four values separated
+     * either by commas or whitespace and slash, returning true if all the text was consumed.
+     */
+    private boolean function(final String name,
+                             final boolean hue) {
+        final int start = this.start;
+        final int end = this.end;
+        if (false == startsWith(this.text, start, end, name)) {
+            return false;
+        }
+        this.position = start + name.length();
+        this.character('a');
+
+        if (false == this.character(PARENTHESIS_OPEN)) {
+            return false;
+        }
+        this.whitespace();
+
+        if (false == this.value(hue)) {
+            return false;
+        }
+        this.first = this.number;
+        final boolean firstPercentage = this.percentage;
+
+        // the separator between the first and second value picks either the comma or whitespace form
+        final boolean whitespace = this.whitespace();
+        final char separator;
+        if (this.character(SEPARATOR)) {
+            separator = SEPARATOR;
+            this.whitespace();
+        } else {
+            if (false == whitespace) {
+                return false;
+            }
+            separator = SLASH;
+        }
+
+        if (false == this.value(false)) {
+            return false;
+        }
+        this.second = this.number;
+        final boolean secondPercentage = this.percentage;
+
+        if (SEPARATOR == separator) {
+            this.whitespace();
+            if (false == this.character(SEPARATOR)) {
+                return false;
+            }
+            this.whitespace();
+        } else {
+            if (false == this.character(WHITESPACE)) {
+                return false;
+            }
+        }
+
+        if (false == this.value(false)) {
+            return false;
+        }
+        this.third = this.number;
+        final boolean thirdPercentage = this.percentage;
+
+        // the three values must all be numbers or percentages, a hue is always a number
+        if (secondPercentage != thirdPercentage || (false == hue && firstPercentage != secondPercentage)) {
+            return false;
+        }
+        this.firstPercentage = firstPercentage;
+        this.percentages = secondPercentage;
+
+        this.whitespace();
+        if (this.character(separator)) {
+            this.whitespace();
+            if (false == this.value(false)) {
+                return false;
+            }
+            this.alpha = true;
+            this.whitespace();
+        }
+
+        return this.character(PARENTHESIS_CLOSE) &&
+            this.position == end;
+    }
+
+    /**
+     * Consumes a number followed by a percent sign, or a degree unit if this is a hue.
+     */
+    private boolean value(final boolean hue) {
+        final CharSequence text = this.text;
+        final int end = this.end;
+
+        int position = this.position;
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+
+        while (position < end) {
+            final char c = text.charAt(position);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (fraction) {
+                    scale++;
+                }
+            } else {
+                if (DECIMAL_POINT != c || fraction || 0 == digits) {
+                    break;
+                }
+                fraction = true;
+            }
+            position++;
+        }
+
+        // numbers ending in a decimal point or too long to convert exactly are left to the parser
+        if (0 == digits || (fraction && 0 == scale) || digits > MAX_DIGITS) {
+            return false;
+        }
+
+        this.position = position;
+        this.number = 0 == scale ?
+            mantissa :
+            mantissa / POWERS_OF_TEN[scale];
+
+        if (hue) {
+            this.percentage = false;
+            if (startsWith(text, position, end, DEGREE_UNIT)) {
+                this.position = position + DEGREE_UNIT.length();
+            }
+        } else {
+            this.percentage = this.character(PERCENT);
+        }
+        return true;
+    }
+
+    /**
+     * If the next character is a single space it is consumed returning true.
+     */
+    private boolean whitespace() {
+        return this.character(WHITESPACE);
+    }
+
+    /**
+     * If the next character matches it is consumed returning true.
+     */
+    private boolean character(final char c) {
+        final int position = this.position;
+
+        final boolean match = position < this.end && c == this.text.charAt(position);
+        if (match) {
+            this.position = position + 1;
+        }
+        return match;
+    }
+
+    private final static char DECIMAL_POINT = '.';
+    private final static char PARENTHESIS_CLOSE = ')';
+    private final static char PARENTHESIS_OPEN = '(';
+    private final static char PERCENT = '%';
+    private final static char SEPARATOR = ',';
+    private final static char SLASH = '/';
+    private final static char WHITESPACE = ' ';
+    private final static String DEGREE_UNIT = "deg";
+
+    /**
+     * Numbers with at most this many digits are converted exactly, both as a double and within the
+     * {@link java.math.MathContext#DECIMAL32} used by the parser.
+     */
+    final static int MAX_DIGITS = 7;
+
+    private final static double[] POWERS_OF_TEN = new double[]{
+        1,
+        10,
+        100,
+        1000,
+        10000,
+        100000,
+        1000000,
+        10000000
+    };
+
+    private final CharSequence text;
+
+    private final int start;
+
+    private final int end;
+
+    private int position;
+
+    /**
+     * The last number consumed by {@link #value(boolean)}.
+     */
+    private double number;
+
+    /**
+     * True when the last number consumed by {@link #value(boolean)} was a percentage.
+     */
+    private boolean percentage;
+
+    private double first;
+    private double second;
+    private double third;
+
+    private boolean firstPercentage;
+
+    /**
+     * Whether the second and third values are percentages.
+     */
+    private boolean percentages;
+
+    /**
+     * When true the alpha is held by {@link #number} and {@link #percentage}.
+     */
+    private boolean alpha;
+
+    // Color............................................................................................................
+
+    private RgbColor rgbColor() {
+        final RgbColor color = Color.rgb(
+            RgbColorComponent.red(byteValue(this.first, this.firstPercentage)),
+            RgbColorComponent.green(byteValue(this.second, this.percentages)),
+            RgbColorComponent.blue(byteValue(this.third, this.percentages))
+        );
+        return this.alpha ?
+            color.set(
+                RgbColorComponent.alpha(byteValue(this.number, this.percentage))
+            ) :
+            color;
+    }
+
+    private HslColor hslColor() {
+        final HslColor color = Color.hsl(
+            HslColorComponent.hue((float) this.first),
+            HslColorComponent.saturation(floatValue(this.second, this.percentages)),
+            HslColorComponent.lightness(floatValue(this.third, this.percentages))
+        );
+        return this.alpha ?
+            color.set(
+                HslColorComponent.alpha(floatValue(this.number, this.percentage))
+            ) :
+            color;
+    }
+
+    private HsvColor hsvColor() {
+        final HsvColor color = Color.hsv(
+            HsvColorComponent.hue((float) this.first),
+            HsvColorComponent.saturation(floatValue(this.second, this.percentages)),
+            HsvColorComponent.value(floatValue(this.third, this.percentages))
+        );
+        return this.alpha ?
+            color.set(
+                HsvColorComponent.alpha(floatValue(this.number, this.percentage))
+            ) :
+            color;
+    }
+
+    /**
+     * Matches the byte values of the number and percentage parser tokens.
+     */
+    private static byte byteValue(final double value,
+                                  final boolean percentage) {
+        return percentage ?
+            (byte) Math.round(value * RgbColorComponent.MAX_VALUE / 100) :
+            (byte) value;
+    }
+
+    /**
+     * Matches the float values of the number and percentage parser tokens.
+     */
+    private static float floatValue(final double value,
+                                    final boolean percentage) {
+        final float floatValue = (float) value;
+        return percentage ?
+            floatValue / 100 :
+            floatValue;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.text.subSequence(
+            this.start,
+            this.end
+        ).toString();
+    }
+}
@@ -0,0 +1,559 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/**
+ * A mutable count of each ARGB value, held in an open addressing hash table of <code>int</code> keys and
+ * <code>long</code> counts, so adding values never allocates. A {@link ColorHistogram} is not thread safe, but
+ * histograms counted separately by each thread may be added together with {@link #addAll(ColorHistogram)}, which is
+ * how {@link #collector()} and {@link #with(int[])} count in parallel.
+ */
+public final class ColorHistogram {
+
+    /**
+     * Creates an empty {@link ColorHistogram}.
+     */
+    public static ColorHistogram empty() {
+        return new ColorHistogram();
+    }
+
+    /**
+     * Counts the ARGB values in parallel.
+     */
+    public static ColorHistogram with(final int[] argb) {
+        Objects.requireNonNull(argb, "argb");
+
+        return IntStream.of(argb)
+            .parallel()
+            .collect(
+                ColorHistogram::new,
+                ColorHistogram::add,
+                ColorHistogram::addAll
+            );
+    }
+
+    /**
+     * A {@link Collector} which counts the {@link RgbColor#argb()} of each {@link Color}, and may be used with
+     * parallel streams.
+     */
+    public static Collector<Color, ?, ColorHistogram> collector() {
+        return Collector.of(
+            ColorHistogram::new,
+            (h, c) -> h.add(
+                c.toRgb()
+                    .argb()
+            ),
+            ColorHistogram::addAll,
+            Collector.Characteristics.UNORDERED,
+            Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    private final static int INITIAL_CAPACITY = 16;
+
+    private ColorHistogram() {
+        super();
+        this.keys = new int[INITIAL_CAPACITY];
+        this.counts = new long[INITIAL_CAPACITY];
+    }
+
+    // add..............................................................................................................
+
+    /**
+     * Adds one to the count of the ARGB value.
+     */
+    public ColorHistogram add(final int argb) {
+        return this.add(
+            argb,
+            1
+        );
+    }
+
+    /**
+     * Adds the count to the count of the ARGB value.
+     */
+    public ColorHistogram add(final int argb,
+                              final long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid count " + count + " < 0");
+        }
+
+        if (count > 0) {
+            final int slot = this.slot(argb);
+            final long[] counts = this.counts;
+
+            if (0 == counts[slot]) {
+                this.keys[slot] = argb;
+                counts[slot] = count;
+                this.size++;
+                if (2 * this.size > this.keys.length) {
+                    this.resize();
+                }
+            } else {
+                counts[slot] += count;
+            }
+            this.total += count;
+        }
+        return this;
+    }
+
+    /**
+     * Adds the {@link RgbColor#argb()} of the {@link Color}.
+     */
+    public ColorHistogram add(final Color color) {
+        Objects.requireNonNull(color, "color");
+
+        return this.add(
+            color.toRgb()
+                .argb()
+        );
+    }
+
+    /**
+     * Adds all the counts of the other {@link ColorHistogram}.
+     */
+    public ColorHistogram addAll(final ColorHistogram other) {
+        Objects.requireNonNull(other, "other");
+
+        final int[] keys = other.keys;
+        final long[] counts = other.counts;
+        final int capacity = keys.length;
+
+        for (int i = 0; i < capacity; i++) {
+            final long count = counts[i];
+            if (count > 0) {
+                this.add(
+                    keys[i],
+                    count
+                );
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the slot holding the ARGB value, or the empty slot where it should be added.
+     */
+    private int slot(final int argb) {
+        final int[] keys = this.keys;
+        final long[] counts = this.counts;
+        final int mask = keys.length - 1;
+
+        int slot = hash(argb) & mask;
+        while (0 != counts[slot] && argb != keys[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Spreads the ARGB value so similar colors do not cluster in the table.
+     */
+    private static int hash(final int argb) {
+        final int hash = argb * 0x9E3779B9;
+        return hash ^ hash >>> 16;
+    }
+
+    private void resize() {
+        final int[] keys = this.keys;
+        final long[] counts = this.counts;
+        final int capacity = keys.length;
+
+        this.keys = new int[capacity * 2];
+        this.counts = new long[capacity * 2];
+
+        for (int i = 0; i < capacity; i++) {
+            final long count = counts[i];
+            if (count > 0) {
+                final int slot = this.slot(keys[i]);
+                this.keys[slot] = keys[i];
+                this.counts[slot] = count;
+            }
+        }
+    }
+
+    private int[] keys;
+
+    /**
+     * The count of each key, where zero marks an empty slot.
+     */
+    private long[] counts;
+
+    // counts...........................................................................................................
+
+    /**
+     * Returns the count of the ARGB value.
+     */
+    public long count(final int argb) {
+        return this.counts[this.slot(argb)];
+    }
+
+    /**
+     * Returns the count of the {@link RgbColor#argb()} of the {@link Color}.
+     */
+    public long count(final Color color) {
+        Objects.requireNonNull(color, "color");
+
+        return this.count(
+            color.toRgb()
+                .argb()
+        );
+    }
+
+    /**
+     * The number of different ARGB values.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private int size;
+
+    /**
+     * The sum of all counts.
+     */
+    public long total() {
+        return this.total;
+    }
+
+    private long total;
+
+    // top..............................................................................................................
+
+    /**
+     * Returns up to k colors most common first, where counts are equal the lower ARGB value, compared
+     * unsigned so translucent colors are before opaque colors, is first.
+     */
+    public List<RgbColor> top(final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Invalid k " + k + " < 0");
+        }
+
+        // min heap of slots, so the root is the least common of the top colors found so far
+        final int limit = Math.min(k, this.size);
+        final int[] heap = new int[limit];
+        int count = 0;
+
+        final long[] counts = this.counts;
+        final int capacity = counts.length;
+        for (int slot = 0; slot < capacity && limit > 0; slot++) {
+            if (counts[slot] > 0) {
+                if (count < limit) {
+                    heap[count] = slot;
+                    this.siftUp(heap, count);
+                    count++;
+                } else {
+                    if (this.isBefore(slot, heap[0])) {
+                        heap[0] = slot;
+                        this.siftDown(heap, 0, limit);
+                    }
+                }
+            }
+        }
+
+        // sort the heap so the least common is last
+        for (int end = count - 1; end > 0; end--) {
+            final int swap = heap[0];
+            heap[0] = heap[end];
+            heap[end] = swap;
+            this.siftDown(heap, 0, end);
+        }
+
+        final List<RgbColor> top = Lists.array();
+        for (int i = 0; i < count; i++) {
+            top.add(
+                Color.fromArgb(this.keys[heap[i]])
+            );
+        }
+        return Lists.immutable(top);
+    }
+
+    private void siftUp(final int[] heap,
+                        final int child) {
+        int i = child;
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (false == this.isBefore(heap[parent], heap[i])) {
+                break;
+            }
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(final int[] heap,
+                          final int parent,
+                          final int end) {
+        int i = parent;
+        for (; ; ) {
+            final int left = 2 * i + 1;
+            if (left >= end) {
+                break;
+            }
+            final int right = left + 1;
+            final int child = right < end && this.isBefore(heap[left], heap[right]) ?
+                right :
+                left;
+            if (false == this.isBefore(heap[i], heap[child])) {
+                break;
+            }
+            swap(heap, i, child);
+            i = child;
+        }
+    }
+
+    private static void swap(final int[] heap,
+                             final int i,
+                             final int j) {
+        final int swap = heap[i];
+        heap[i] = heap[j];
+        heap[j] = swap;
+    }
+
+    /**
+     * Tests if the value in the slot is more common, or equally common with a lower unsigned ARGB value.
+     */
+    private boolean isBefore(final int slot,
+                             final int other) {
+        final long count = this.counts[slot];
+        final long otherCount = this.counts[other];
+
+        return count > otherCount ||
+            (count == otherCount && Integer.compareUnsigned(this.keys[slot], this.keys[other]) < 0);
+    }
+
+    // mean.............................................................................................................
+
+    /**
+     * Returns the mean of each component, rounded to the nearest value.
+     */
+    public RgbColor mean() {
+        this.checkNotEmpty();
+
+        return Color.fromArgb(
+            meanValue(this.distribution(24)) << 24 |
+                meanValue(this.distribution(16)) << 16 |
+                meanValue(this.distribution(8)) << 8 |
+                meanValue(this.distribution(0))
+        );
+    }
+
+    private static int meanValue(final long[] distribution) {
+        return (int) Math.round(
+            mean(distribution)
+        );
+    }
+
+    /**
+     * Returns the mean of the HSL of every value, the hue is the circular mean of the angles weighted by saturation, so
+     * achromatic values do not pull it toward red, or zero when they cancel out, the saturation, lightness and alpha
+     * are the mean of their values.
+     */
+    public HslColor meanHsl() {
+        this.checkNotEmpty();
+
+        final int[] keys = this.keys;
+        final long[] counts = this.counts;
+        final int capacity = keys.length;
+
+        double x = 0;
+        double y = 0;
+        double saturation = 0;
+        double lightness = 0;
+
+        for (int i = 0; i < capacity; i++) {
+            final long count = counts[i];
+            if (count > 0) {
+                final long hsl = PackedHslHsv.hsl(keys[i]);
+                final double hue = Math.toRadians(PackedHslHsv.hue(hsl));
+                final double weight = count * (double) PackedHslHsv.hslSaturation(hsl);
+
+                x += weight * Math.cos(hue);
+                y += weight * Math.sin(hue);
+                saturation += weight;
+                lightness += count * (double) PackedHslHsv.hslLightness(hsl);
+            }
+        }
+
+        final double total = this.total;
+        float hue = (float) Math.toDegrees(Math.atan2(y, x));
+        if (hue < 0) {
+            hue += HueHslColorComponent.MAX_VALUE;
+        }
+        if (hue >= HueHslColorComponent.MAX_VALUE || Math.abs(x) + Math.abs(y) < saturation * CANCELLED) {
+            hue = HueHslColorComponent.MIN_VALUE;
+        }
+
+        final HslColor color = Color.hsl(
+            HslColorComponent.hue(hue),
+            HslColorComponent.saturation((float) (saturation / total)),
+            HslColorComponent.lightness((float) (lightness / total))
+        );
+
+        final double alpha = mean(this.distribution(24)) / RgbColorComponent.MAX_VALUE;
+        return RgbColorComponent.MAX_VALUE == Math.round(alpha * RgbColorComponent.MAX_VALUE) ?
+            color :
+            color.set(
+                HslColorComponent.alpha((float) alpha)
+            );
+    }
+
+    /**
+     * Hue vectors shorter than this fraction of the total saturation weight are treated as cancelled out.
+     */
+    private final static double CANCELLED = 1.0E-9;
+
+    private void checkNotEmpty() {
+        if (0 == this.size) {
+            throw new IllegalStateException("Empty histogram");
+        }
+    }
+
+    // distribution.....................................................................................................
+
+    /**
+     * Returns the count of each alpha value.
+     */
+    public long[] alphaDistribution() {
+        return this.distribution(24);
+    }
+
+    /**
+     * Returns the count of each red value.
+     */
+    public long[] redDistribution() {
+        return this.distribution(16);
+    }
+
+    /**
+     * Returns the count of each green value.
+     */
+    public long[] greenDistribution() {
+        return this.distribution(8);
+    }
+
+    /**
+     * Returns the count of each blue value.
+     */
+    public long[] blueDistribution() {
+        return this.distribution(0);
+    }
+
+    private long[] distribution(final int shift) {
+        final int[] keys = this.keys;
+        final long[] counts = this.counts;
+        final int capacity = keys.length;
+
+        final long[] distribution = new long[RgbColorComponent.MAX_VALUE + 1];
+        for (int i = 0; i < capacity; i++) {
+            final long count = counts[i];
+            if (count > 0) {
+                distribution[keys[i] >> shift & 0xFF] += count;
+            }
+        }
+        return distribution;
+    }
+
+    /**
+     * Returns the mean value of a distribution, where each index is a value and each element its count.
+     */
+    public static double mean(final long[] distribution) {
+        Objects.requireNonNull(distribution, "distribution");
+
+        double sum = 0;
+        double total = 0;
+        for (int i = 0; i < distribution.length; i++) {
+            final long count = distribution[i];
+            sum += (double) count * i;
+            total += count;
+        }
+        return sum / total;
+    }
+
+    /**
+     * Returns the population variance of a distribution, where each index is a value and each element its count.
+     */
+    public static double variance(final long[] distribution) {
+        final double mean = mean(distribution);
+
+        double sum = 0;
+        double total = 0;
+        for (int i = 0; i < distribution.length; i++) {
+            final long count = distribution[i];
+            final double difference = i - mean;
+            sum += count * difference * difference;
+            total += count;
+        }
+        return sum / total;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        final int[] keys = this.keys;
+        final long[] counts = this.counts;
+        final int capacity = keys.length;
+
+        // the sum of each entry hash does not depend on the order of the table
+        int hash = 0;
+        for (int i = 0; i < capacity; i++) {
+            final long count = counts[i];
+            if (count > 0) {
+                hash += keys[i] * 31 + Long.hashCode(count);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ColorHistogram &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ColorHistogram other) {
+        boolean equals = this.size == other.size && this.total == other.total;
+
+        final int[] keys = this.keys;
+        final long[] counts = this.counts;
+        final int capacity = keys.length;
+
+        for (int i = 0; equals && i < capacity; i++) {
+            final long count = counts[i];
+            if (count > 0) {
+                equals = count == other.count(keys[i]);
+            }
+        }
+        return equals;
+    }
+
+    @Override
+    public String toString() {
+        return this.size + " colors " + this.total + " total";
+    }
+}
@@ -0,0 +1,559 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A static k-d tree holding ARGB values converted to the three coordinates of a {@link ColorMetric}, used to find the
+ * nearest, k nearest or values within a distance without comparing every value. The tree is never modified after it
+ * is built, each search keeps its state in its own objects, so a tree may be shared by threads.
+ * <br>
+ * The tree is implicit, each range of {@link #nodes} has its median on the splitting axis at its middle, with values
+ * less than or equal on that axis before and values greater than or equal after, the axis cycles with depth.
+ */
+final class ColorKdTree {
+
+    /**
+     * Creates a new {@link ColorKdTree} holding the ARGB values, which must not be empty.
+     */
+    static ColorKdTree with(final int[] argb,
+                            final ColorMetric metric) {
+        Objects.requireNonNull(argb, "argb");
+        Objects.requireNonNull(metric, "metric");
+
+        final int length = argb.length;
+        if (0 == length) {
+            throw new IllegalArgumentException("Empty argb");
+        }
+
+        final double[] coordinates = new double[length * DIMENSIONS];
+        for (int i = 0; i < length; i++) {
+            metric.coordinates(
+                argb[i],
+                coordinates,
+                i * DIMENSIONS
+            );
+        }
+
+        final int[] nodes = new int[length];
+        for (int i = 0; i < length; i++) {
+            nodes[i] = i;
+        }
+        build(
+            nodes,
+            coordinates,
+            0,
+            length,
+            0
+        );
+
+        // copy the coordinates into node order so searches read them sequentially
+        final double[] nodeCoordinates = new double[coordinates.length];
+        for (int i = 0; i < length; i++) {
+            System.arraycopy(
+                coordinates,
+                nodes[i] * DIMENSIONS,
+                nodeCoordinates,
+                i * DIMENSIONS,
+                DIMENSIONS
+            );
+        }
+
+        return new ColorKdTree(
+            metric,
+            nodes,
+            nodeCoordinates
+        );
+    }
+
+    private final static int DIMENSIONS = 3;
+
+    private static void build(final int[] nodes,
+                              final double[] coordinates,
+                              final int start,
+                              final int end,
+                              final int axis) {
+        if (end - start > 1) {
+            final int middle = (start + end) >>> 1;
+            select(
+                nodes,
+                coordinates,
+                start,
+                end,
+                middle,
+                axis
+            );
+
+            final int next = (axis + 1) % DIMENSIONS;
+            build(nodes, coordinates, start, middle, next);
+            build(nodes, coordinates, middle + 1, end, next);
+        }
+    }
+
+    /**
+     * Partially sorts the nodes from start to end so the node at k has its final position along the axis, with all
+     * nodes before less than or equal and all nodes after greater than or equal.
+     */
+    private static void select(final int[] nodes,
+                               final double[] coordinates,
+                               final int start,
+                               final int end,
+                               final int k,
+                               final int axis) {
+        int left = start;
+        int right = end - 1;
+
+        while (left < right) {
+            final double pivot = coordinates[nodes[(left + right) >>> 1] * DIMENSIONS + axis];
+
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinates[nodes[i] * DIMENSIONS + axis] < pivot) {
+                    i++;
+                }
+                while (coordinates[nodes[j] * DIMENSIONS + axis] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    final int swap = nodes[i];
+                    nodes[i] = nodes[j];
+                    nodes[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                break;
+            }
+        }
+    }
+
+    private ColorKdTree(final ColorMetric metric,
+                        final int[] nodes,
+                        final double[] coordinates) {
+        super();
+        this.metric = metric;
+        this.nodes = nodes;
+        this.coordinates = coordinates;
+    }
+
+    /**
+     * Returns the index of the nearest ARGB value, where several are equally near the lowest index is returned.
+     */
+    int nearest(final int argb) {
+        final double[] query = new double[DIMENSIONS];
+        this.metric.coordinates(
+            argb,
+            query,
+            0
+        );
+
+        final Nearest nearest = new Nearest(query);
+        this.nearest(
+            nearest,
+            0,
+            this.nodes.length,
+            0
+        );
+        return nearest.index;
+    }
+
+    /**
+     * Finds the nearest value for every ARGB value, reusing the query for each.
+     */
+    void nearest(final int[] argb,
+                 final int[] indices) {
+        final double[] query = new double[DIMENSIONS];
+        final Nearest nearest = new Nearest(query);
+        final int length = argb.length;
+
+        for (int i = 0; i < length; i++) {
+            this.metric.coordinates(
+                argb[i],
+                query,
+                0
+            );
+            nearest.index = -1;
+            nearest.distance = Double.POSITIVE_INFINITY;
+
+            this.nearest(
+                nearest,
+                0,
+                this.nodes.length,
+                0
+            );
+            indices[i] = nearest.index;
+        }
+    }
+
+    /**
+     * Visits the median of the range, then the side containing the query, and the other side only if the splitting
+     * plane is not further than the nearest so far.
+     */
+    private void nearest(final Nearest nearest,
+                         final int start,
+                         final int end,
+                         final int axis) {
+        if (start < end) {
+            final int middle = (start + end) >>> 1;
+            final double[] coordinates = this.coordinates;
+            final double[] query = nearest.query;
+
+            final double distance = ColorMetric.distanceSquared(
+                query,
+                0,
+                coordinates,
+                middle * DIMENSIONS
+            );
+            final int index = this.nodes[middle];
+            if (distance < nearest.distance || (distance == nearest.distance && index < nearest.index)) {
+                nearest.distance = distance;
+                nearest.index = index;
+            }
+
+            final double difference = query[axis] - coordinates[middle * DIMENSIONS + axis];
+            final int next = (axis + 1) % DIMENSIONS;
+
+            if (difference < 0) {
+                this.nearest(nearest, start, middle, next);
+                if (difference * difference <= nearest.distance) {
+                    this.nearest(nearest, middle + 1, end, next);
+                }
+            } else {
+                this.nearest(nearest, middle + 1, end, next);
+                if (difference * difference <= nearest.distance) {
+                    this.nearest(nearest, start, middle, next);
+                }
+            }
+        }
+    }
+
+    /**
+     * The state of a nearest search.
+     */
+    private final static class Nearest {
+
+        Nearest(final double[] query) {
+            super();
+            this.query = query;
+        }
+
+        final double[] query;
+
+        int index = -1;
+
+        double distance = Double.POSITIVE_INFINITY;
+    }
+
+    // k nearest........................................................................................................
+
+    /**
+     * Returns the indices of the k nearest ARGB values, nearest first, where several are equally near the lowest index is
+     * first.
+     */
+    int[] nearest(final int argb,
+                  final int k) {
+        final Candidates candidates = new Candidates(
+            this.query(argb),
+            Math.min(k, this.nodes.length)
+        );
+        this.nearest(
+            candidates,
+            0,
+            this.nodes.length,
+            0
+        );
+        return candidates.sorted();
+    }
+
+    /**
+     * Visits the median of the range, then the side containing the query, and the other side only if there are fewer
+     * than k candidates or the splitting plane is not further than the furthest candidate.
+     */
+    private void nearest(final Candidates candidates,
+                         final int start,
+                         final int end,
+                         final int axis) {
+        if (start < end) {
+            final int middle = (start + end) >>> 1;
+            final double[] coordinates = this.coordinates;
+            final double[] query = candidates.query;
+
+            candidates.add(
+                this.nodes[middle],
+                ColorMetric.distanceSquared(
+                    query,
+                    0,
+                    coordinates,
+                    middle * DIMENSIONS
+                )
+            );
+
+            final double difference = query[axis] - coordinates[middle * DIMENSIONS + axis];
+            final int next = (axis + 1) % DIMENSIONS;
+
+            if (difference < 0) {
+                this.nearest(candidates, start, middle, next);
+                if (candidates.isNotFull() || difference * difference <= candidates.furthest()) {
+                    this.nearest(candidates, middle + 1, end, next);
+                }
+            } else {
+                this.nearest(candidates, middle + 1, end, next);
+                if (candidates.isNotFull() || difference * difference <= candidates.furthest()) {
+                    this.nearest(candidates, start, middle, next);
+                }
+            }
+        }
+    }
+
+    // within...........................................................................................................
+
+    /**
+     * Returns the indices of all ARGB values within the distance, nearest first, where several are equally near the
+     * lowest index is first.
+     */
+    int[] within(final int argb,
+                 final double distance) {
+        final Candidates candidates = new Candidates(
+            this.query(argb),
+            Integer.MAX_VALUE
+        );
+        this.within(
+            candidates,
+            distance * distance,
+            0,
+            this.nodes.length,
+            0
+        );
+        return candidates.sorted();
+    }
+
+    /**
+     * Visits the median of the range, then each side whose splitting plane is within the distance.
+     */
+    private void within(final Candidates candidates,
+                        final double distanceSquared,
+                        final int start,
+                        final int end,
+                        final int axis) {
+        if (start < end) {
+            final int middle = (start + end) >>> 1;
+            final double[] coordinates = this.coordinates;
+            final double[] query = candidates.query;
+
+            final double distance = ColorMetric.distanceSquared(
+                query,
+                0,
+                coordinates,
+                middle * DIMENSIONS
+            );
+            if (distance <= distanceSquared) {
+                candidates.add(
+                    this.nodes[middle],
+                    distance
+                );
+            }
+
+            final double difference = query[axis] - coordinates[middle * DIMENSIONS + axis];
+            final int next = (axis + 1) % DIMENSIONS;
+
+            if (difference <= 0 || difference * difference <= distanceSquared) {
+                this.within(candidates, distanceSquared, start, middle, next);
+            }
+            if (difference >= 0 || difference * difference <= distanceSquared) {
+                this.within(candidates, distanceSquared, middle + 1, end, next);
+            }
+        }
+    }
+
+    private double[] query(final int argb) {
+        final double[] query = new double[DIMENSIONS];
+        this.metric.coordinates(
+            argb,
+            query,
+            0
+        );
+        return query;
+    }
+
+    /**
+     * A max heap of at most limit indices ordered by their distance and then index, so the root is the furthest
+     * candidate.
+     */
+    private final static class Candidates {
+
+        Candidates(final double[] query,
+                   final int limit) {
+            super();
+            this.query = query;
+            this.limit = limit;
+
+            final int capacity = Math.min(limit, 16);
+            this.indices = new int[capacity];
+            this.distances = new double[capacity];
+        }
+
+        boolean isNotFull() {
+            return this.count < this.limit;
+        }
+
+        /**
+         * The distance of the furthest candidate, only valid when full.
+         */
+        double furthest() {
+            return this.distances[0];
+        }
+
+        void add(final int index,
+                 final double distance) {
+            final int count = this.count;
+
+            if (count < this.limit) {
+                if (count == this.indices.length) {
+                    final int capacity = (int) Math.min(count * 2L, this.limit);
+                    this.indices = Arrays.copyOf(this.indices, capacity);
+                    this.distances = Arrays.copyOf(this.distances, capacity);
+                }
+                this.indices[count] = index;
+                this.distances[count] = distance;
+                this.count = count + 1;
+                this.siftUp(count);
+            } else {
+                if (this.isFurther(0, distance, index)) {
+                    this.indices[0] = index;
+                    this.distances[0] = distance;
+                    this.siftDown(0, count);
+                }
+            }
+        }
+
+        /**
+         * Sorts the heap in place returning the indices nearest first.
+         */
+        int[] sorted() {
+            for (int end = this.count - 1; end > 0; end--) {
+                this.swap(0, end);
+                this.siftDown(0, end);
+            }
+            return Arrays.copyOf(
+                this.indices,
+                this.count
+            );
+        }
+
+        private void siftUp(final int child) {
+            int i = child;
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (false == this.isFurther(i, this.distances[parent], this.indices[parent])) {
+                    break;
+                }
+                this.swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(final int parent,
+                              final int end) {
+            int i = parent;
+            for (; ; ) {
+                final int left = 2 * i + 1;
+                if (left >= end) {
+                    break;
+                }
+                final int right = left + 1;
+                final int child = right < end && this.isFurther(right, this.distances[left], this.indices[left]) ?
+                    right :
+                    left;
+                if (false == this.isFurther(child, this.distances[i], this.indices[i])) {
+                    break;
+                }
+                this.swap(i, child);
+                i = child;
+            }
+        }
+
+        /**
+         * Tests if the candidate at i is further than the given distance and index.
+         */
+        private boolean isFurther(final int i,
+                                  final double distance,
+                                  final int index) {
+            final double d = this.distances[i];
+            return d > distance || (d == distance && this.indices[i] > index);
+        }
+
+        private void swap(final int i,
+                          final int j) {
+            final int index = this.indices[i];
+            this.indices[i] = this.indices[j];
+            this.indices[j] = index;
+
+            final double distance = this.distances[i];
+            this.distances[i] = this.distances[j];
+            this.distances[j] = distance;
+        }
+
+        final double[] query;
+
+        private final int limit;
+
+        private int[] indices;
+
+        private double[] distances;
+
+        private int count;
+    }
+
+    // properties.......................................................................................................
+
+    int size() {
+        return this.nodes.length;
+    }
+
+    ColorMetric metric() {
+        return this.metric;
+    }
+
+    private final ColorMetric metric;
+
+    /**
+     * The index of the ARGB value at each node.
+     */
+    private final int[] nodes;
+
+    /**
+     * The coordinates of each node.
+     */
+    private final double[] coordinates;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.metric + " " + this.nodes.length;
+    }
+}
@@ -20,10 +20,16 @@ package walkingkooka.color;
 import walkingkooka.HasValue;
 
 /**
- * An interface that tags {@link RgbColor} and {@link RgbColorComponent}.
+ * An interface that tags {@link RgbColor} and {@link RgbColorComponent}, with a primitive getter for hot paths such as
+ * hashing and comparing which should not box.
  */
 public interface ColorLike<T extends Number> extends HasValue<T> {
 
+    /**
+     * Returns the same value as {@link #value()} as an <code>int</code> without boxing.
+     */
+    int intValue();
+
     static boolean isColorLikeClass(final Class<?> clazz) {
         return Color.isRgbColorClass(clazz) ||
             RgbColorComponent.isRgbColorComponentClass(clazz);
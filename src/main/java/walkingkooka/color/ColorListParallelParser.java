@@ -0,0 +1,449 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.collect.list.Lists;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parses a file of colors by memory mapping chunks of the file, which are scanned in parallel by a {@link ForkJoinPool}
+ * each into their own ARGB array, which are then concatenated in file order.
+ * <br>
+ * Chunks are split at the first new line after the target chunk size, so records are identical to those of
+ * {@link ColorListParser#parse(java.io.InputStream, ColorListParserHandler)}. Files without new lines are split at a
+ * comma that is not followed by a closing parenthesis within {@link ColorListScanner#MAX_RECORD_LENGTH} bytes, which is
+ * always between records for valid input. Errors are held by each chunk and reported in file order, with line and
+ * column relative to the file, once all chunks have been parsed.
+ */
+@GwtIncompatible
+final class ColorListParallelParser {
+
+    /**
+     * Files smaller than this are parsed as a single chunk.
+     */
+    // @VisibleForTesting
+    final static int MIN_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * The largest target chunk size, comfortably within the size of a single mapped region.
+     */
+    private final static int MAX_CHUNK_SIZE = 1 << 30;
+
+    /**
+     * More chunks than threads allows idle threads to steal work when chunks parse at different speeds.
+     */
+    private final static int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * How far past the target size to search for a new line before a comma is accepted.
+     */
+    private final static int NEW_LINE_SEARCH = 64 * 1024;
+
+    private final static int READ_SIZE = 8 * 1024;
+
+    static int[] parse(final Path file,
+                       final ForkJoinPool pool,
+                       final ColorListParserErrorHandler errors) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return parse(
+                channel,
+                chunkSize(
+                    channel.size(),
+                    pool.getParallelism()
+                ),
+                pool,
+                errors
+            );
+        }
+    }
+
+    // @VisibleForTesting
+    static int[] parse(final FileChannel channel,
+                       final long chunkSize,
+                       final ForkJoinPool pool,
+                       final ColorListParserErrorHandler errors) throws IOException {
+        final long[] boundaries = boundaries(
+            channel,
+            chunkSize
+        );
+        final Chunk[] chunks = new Chunk[boundaries.length - 1];
+
+        try {
+            pool.invoke(
+                new ChunkTask(
+                    channel,
+                    boundaries,
+                    chunks,
+                    0,
+                    chunks.length
+                )
+            );
+        } catch (final UncheckedIOException cause) {
+            throw cause.getCause();
+        }
+
+        reportErrors(
+            chunks,
+            errors
+        );
+        return concat(chunks);
+    }
+
+    /**
+     * Divides the file into a few chunks per thread, within {@link #MIN_CHUNK_SIZE} and {@link #MAX_CHUNK_SIZE}.
+     */
+    private static long chunkSize(final long size,
+                                  final int parallelism) {
+        return Math.min(
+            MAX_CHUNK_SIZE,
+            Math.max(
+                MIN_CHUNK_SIZE,
+                size / ((long) parallelism * CHUNKS_PER_THREAD) + 1
+            )
+        );
+    }
+
+    /**
+     * Returns the start of every chunk followed by the size of the file.
+     */
+    // @VisibleForTesting
+    static long[] boundaries(final FileChannel channel,
+                             final long chunkSize) throws IOException {
+        final long size = channel.size();
+        final long[] boundaries = new long[(int) (size / chunkSize) + 2];
+
+        int count = 1; // first chunk starts at 0
+        long start = 0;
+        while (size - start > chunkSize) {
+            final long boundary = boundary(
+                channel,
+                start + chunkSize,
+                size
+            );
+            if (boundary >= size) {
+                break;
+            }
+            boundaries[count] = boundary;
+            count++;
+            start = boundary;
+        }
+        boundaries[count] = size;
+
+        return Arrays.copyOf(
+            boundaries,
+            count + 1
+        );
+    }
+
+    /**
+     * Returns the position after the first new line from position, or after a comma between records if no new line
+     * is found within {@link #NEW_LINE_SEARCH} bytes. Returns size if neither is found before the end of the file, or
+     * position if the search exceeds {@link #MAX_CHUNK_SIZE} bytes, which only happens with invalid input.
+     */
+    private static long boundary(final FileChannel channel,
+                                 final long position,
+                                 final long size) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(READ_SIZE);
+
+        long comma = -1; // position after a comma known to be between records
+        long pending = -1; // position after a comma which may be inside parentheses
+
+        long i = position;
+        while (i < size) {
+            buffer.clear();
+            final int read = channel.read(buffer, i);
+            if (read <= 0) {
+                break;
+            }
+
+            for (int j = 0; j < read; j++, i++) {
+                switch (buffer.get(j)) {
+                    case '\n':
+                        return i + 1;
+                    case ',':
+                        if (-1 == pending) {
+                            pending = i + 1;
+                        }
+                        break;
+                    case '(':
+                        if (-1 == comma) {
+                            comma = pending;
+                        }
+                        pending = -1;
+                        break;
+                    case ')':
+                        pending = -1;
+                        break;
+                    default:
+                        break;
+                }
+
+                if (-1 != pending && -1 == comma && i - pending > ColorListScanner.MAX_RECORD_LENGTH) {
+                    comma = pending;
+                }
+
+                final long searched = i - position;
+                if (-1 != comma && searched >= NEW_LINE_SEARCH) {
+                    return comma;
+                }
+                if (searched >= MAX_CHUNK_SIZE) {
+                    return position;
+                }
+            }
+        }
+
+        // a comma not followed by a closing parenthesis before the end of the file is between records
+        return -1 != comma ?
+            comma :
+            -1 != pending ?
+                pending :
+                size;
+    }
+
+    /**
+     * Reports the errors of all chunks in file order, converting chunk relative lines and columns to the file.
+     */
+    private static void reportErrors(final Chunk[] chunks,
+                                     final ColorListParserErrorHandler handler) {
+        long lineBase = 0;
+        long columnBase = 0;
+
+        for (final Chunk chunk : chunks) {
+            for (final ChunkError error : chunk.errors) {
+                final long line = error.line;
+
+                handler.error(
+                    lineBase + line,
+                    1 == line ?
+                        columnBase + error.column :
+                        error.column,
+                    error.text,
+                    error.cause
+                );
+            }
+
+            columnBase = 1 == chunk.lines ?
+                columnBase + chunk.column :
+                chunk.column;
+            lineBase += chunk.lines - 1;
+        }
+    }
+
+    /**
+     * Concatenates the colors of all chunks in file order.
+     */
+    private static int[] concat(final Chunk[] chunks) {
+        long total = 0;
+        for (final Chunk chunk : chunks) {
+            total += chunk.count;
+        }
+        if (total > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("Too many colors " + total + " > " + MAX_ARRAY_LENGTH);
+        }
+
+        final int[] argb = new int[(int) total];
+        int offset = 0;
+        for (final Chunk chunk : chunks) {
+            final int count = chunk.count;
+            System.arraycopy(
+                chunk.argb,
+                0,
+                argb,
+                offset,
+                count
+            );
+            offset += count;
+        }
+        return argb;
+    }
+
+    /**
+     * The largest array most JVMs allow.
+     */
+    private final static int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Splits the chunks in half until a single chunk remains, which is mapped and scanned.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        ChunkTask(final FileChannel channel,
+                  final long[] boundaries,
+                  final Chunk[] chunks,
+                  final int start,
+                  final int end) {
+            super();
+            this.channel = channel;
+            this.boundaries = boundaries;
+            this.chunks = chunks;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            final int start = this.start;
+            final int end = this.end;
+
+            if (end - start == 1) {
+                this.chunks[start] = this.scan(start);
+            } else {
+                final int middle = (start + end) >>> 1;
+                invokeAll(
+                    new ChunkTask(this.channel, this.boundaries, this.chunks, start, middle),
+                    new ChunkTask(this.channel, this.boundaries, this.chunks, middle, end)
+                );
+            }
+        }
+
+        private Chunk scan(final int index) {
+            final long from = this.boundaries[index];
+            final int length = (int) (this.boundaries[index + 1] - from);
+
+            final ByteBuffer bytes;
+            try {
+                bytes = this.channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    from,
+                    length
+                );
+            } catch (final IOException cause) {
+                throw new UncheckedIOException(cause);
+            }
+
+            final Chunk chunk = new Chunk(length);
+            final ColorListScanner scanner = ColorListScanner.with(chunk);
+            scanner.bytes(bytes);
+            scanner.end();
+
+            chunk.lines = scanner.line();
+            chunk.column = scanner.column();
+            return chunk;
+        }
+
+        private final FileChannel channel;
+        private final long[] boundaries;
+        private final Chunk[] chunks;
+        private final int start;
+        private final int end;
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * Accumulates the colors and errors of a single chunk.
+     */
+    private static final class Chunk implements ColorListParserHandler {
+
+        /**
+         * The initial capacity assumes a typical hash color and new line.
+         */
+        Chunk(final int length) {
+            super();
+            this.argb = new int[length / 8 + 16];
+        }
+
+        @Override
+        public void colors(final int[] argb,
+                           final int count) {
+            final int total = this.count + count;
+            if (total > this.argb.length) {
+                this.argb = Arrays.copyOf(
+                    this.argb,
+                    Math.max(
+                        total,
+                        this.argb.length + (this.argb.length >> 1)
+                    )
+                );
+            }
+            System.arraycopy(
+                argb,
+                0,
+                this.argb,
+                this.count,
+                count
+            );
+            this.count = total;
+        }
+
+        @Override
+        public void error(final long line,
+                          final long column,
+                          final String text,
+                          final IllegalArgumentException cause) {
+            this.errors.add(
+                new ChunkError(
+                    line,
+                    column,
+                    text,
+                    cause
+                )
+            );
+        }
+
+        int[] argb;
+        int count;
+
+        final List<ChunkError> errors = Lists.array();
+
+        /**
+         * The line and column at the end of the chunk, used to convert the positions of errors in following chunks.
+         */
+        long lines;
+        long column;
+    }
+
+    /**
+     * An error with a line and column relative to the start of its chunk.
+     */
+    private static final class ChunkError {
+
+        ChunkError(final long line,
+                   final long column,
+                   final String text,
+                   final IllegalArgumentException cause) {
+            super();
+            this.line = line;
+            this.column = column;
+            this.text = text;
+            this.cause = cause;
+        }
+
+        final long line;
+        final long column;
+        final String text;
+        final IllegalArgumentException cause;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ColorListParallelParser() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Streaming parsers for lists of colors, one per line or separated by commas, accepting the same forms as
+ * {@link Color#parse(String)} which may be mixed. The input is read in large chunks and colors are passed as ARGB
+ * values to a {@link ColorListParserHandler}, without creating a {@link String} per record or a {@link Color} for
+ * hash forms, so memory is constant regardless of the input length.
+ * <br>
+ * Records that fail to parse are reported to the handler with their line and column, and parsing continues. Commas
+ * inside parentheses do not separate records, whitespace around records and empty records such as blank lines are
+ * ignored. Byte inputs are treated as ASCII, which is compatible with UTF-8 for all accepted forms. The input is not
+ * closed.
+ */
+@GwtIncompatible
+public final class ColorListParser implements PublicStaticHelper {
+
+    /**
+     * The number of characters or bytes read at a time.
+     */
+    final static int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Parses all the colors from the {@link Reader} returning the number of colors.
+     */
+    public static long parse(final Reader reader,
+                             final ColorListParserHandler handler) throws IOException {
+        Objects.requireNonNull(reader, "reader");
+        Objects.requireNonNull(handler, "handler");
+
+        final ColorListScanner scanner = ColorListScanner.with(handler);
+        final char[] buffer = new char[BUFFER_SIZE];
+
+        for (; ; ) {
+            final int count = reader.read(buffer);
+            if (-1 == count) {
+                break;
+            }
+            scanner.chars(
+                buffer,
+                0,
+                count
+            );
+        }
+
+        return scanner.end();
+    }
+
+    /**
+     * Parses all the colors from the ASCII {@link InputStream} returning the number of colors.
+     */
+    public static long parse(final InputStream input,
+                             final ColorListParserHandler handler) throws IOException {
+        Objects.requireNonNull(input, "input");
+        Objects.requireNonNull(handler, "handler");
+
+        final ColorListScanner scanner = ColorListScanner.with(handler);
+        final byte[] buffer = new byte[BUFFER_SIZE];
+
+        for (; ; ) {
+            final int count = input.read(buffer);
+            if (-1 == count) {
+                break;
+            }
+            scanner.bytes(
+                buffer,
+                0,
+                count
+            );
+        }
+
+        return scanner.end();
+    }
+
+    /**
+     * Parses all the colors from the ASCII {@link ReadableByteChannel} returning the number of colors.
+     */
+    public static long parse(final ReadableByteChannel channel,
+                             final ColorListParserHandler handler) throws IOException {
+        Objects.requireNonNull(channel, "channel");
+        Objects.requireNonNull(handler, "handler");
+
+        final ColorListScanner scanner = ColorListScanner.with(handler);
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        while (-1 != channel.read(buffer)) {
+            buffer.flip();
+            scanner.bytes(
+                buffer.array(),
+                buffer.arrayOffset() + buffer.position(),
+                buffer.remaining()
+            );
+            buffer.clear();
+        }
+
+        return scanner.end();
+    }
+
+    /**
+     * Memory maps the ASCII file and parses chunks in parallel using the common {@link ForkJoinPool}, returning the
+     * ARGB of all colors in file order.
+     */
+    public static int[] parseMapped(final Path file,
+                                    final ColorListParserErrorHandler errors) throws IOException {
+        return parseMapped(
+            file,
+            ForkJoinPool.commonPool(),
+            errors
+        );
+    }
+
+    /**
+     * Memory maps the ASCII file and parses chunks split between records in parallel using the given
+     * {@link ForkJoinPool}, returning the ARGB of all colors in file order. Errors are reported in file order with
+     * their line and column in the file, after all chunks have been parsed.
+     */
+    public static int[] parseMapped(final Path file,
+                                    final ForkJoinPool pool,
+                                    final ColorListParserErrorHandler errors) throws IOException {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(pool, "pool");
+        Objects.requireNonNull(errors, "errors");
+
+        return ColorListParallelParser.parse(
+            file,
+            pool,
+            errors
+        );
+    }
+
+    /**
+     * Stop creation
+     */
+    private ColorListParser() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+/**
+ * Receives the records from a {@link ColorListParser} that could not be parsed, in the order they appear in the input.
+ */
+@FunctionalInterface
+public interface ColorListParserErrorHandler {
+
+    /**
+     * Receives a record that could not be parsed along with the 1 based line and column of its first character.
+     */
+    void error(final long line,
+               final long column,
+               final String text,
+               final IllegalArgumentException cause);
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+/**
+ * Receives the colors and errors from a {@link ColorListParser} in the order they appear in the input. Any pending
+ * colors are always passed to {@link #colors(int[], int)} before an error is reported to
+ * {@link #error(long, long, String, IllegalArgumentException)}.
+ */
+public interface ColorListParserHandler extends ColorListParserErrorHandler {
+
+    /**
+     * Receives the next colors as ARGB values in the first count elements of the array. The array is reused for the
+     * following colors once this returns, so values must be copied if they are to be kept.
+     */
+    void colors(final int[] argb,
+                final int count);
+}
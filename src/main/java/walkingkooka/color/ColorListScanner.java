@@ -0,0 +1,293 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Splits characters into records and parses each, passing the ARGB values to a {@link ColorListParserHandler} in
+ * batches. Records are separated by new lines or commas outside parentheses, so <code>rgb(1,2,3)</code> is a single
+ * record. Whitespace around a record is ignored as are empty records, such as blank lines.
+ * <br>
+ * Memory is constant, records longer than {@link #MAX_RECORD_LENGTH} are reported as an error rather than being
+ * buffered. Bytes are treated as ASCII, which includes the UTF-8 encoding of every accepted form, other bytes are never
+ * accepted and columns count bytes rather than characters.
+ */
+@GwtIncompatible
+final class ColorListScanner {
+
+    /**
+     * The longest record in characters, which is far longer than any accepted color.
+     */
+    final static int MAX_RECORD_LENGTH = 256;
+
+    /**
+     * The number of colors passed to {@link ColorListParserHandler#colors(int[], int)} at a time.
+     */
+    final static int BATCH_SIZE = 4096;
+
+    static ColorListScanner with(final ColorListParserHandler handler) {
+        return new ColorListScanner(handler);
+    }
+
+    private ColorListScanner(final ColorListParserHandler handler) {
+        super();
+        this.handler = handler;
+    }
+
+    /**
+     * Scans the given characters, which continue any previous characters.
+     */
+    void chars(final char[] chars,
+               final int offset,
+               final int length) {
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            this.accept(chars[i]);
+        }
+    }
+
+    /**
+     * Scans the given ASCII bytes, which continue any previous bytes.
+     */
+    void bytes(final byte[] bytes,
+               final int offset,
+               final int length) {
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            this.accept((char) (bytes[i] & 0xFF));
+        }
+    }
+
+    /**
+     * Scans the ASCII bytes between the position and limit of the {@link ByteBuffer}, such as a memory mapped region
+     * of a file, without changing its position.
+     */
+    void bytes(final ByteBuffer bytes) {
+        final int end = bytes.limit();
+        for (int i = bytes.position(); i < end; i++) {
+            this.accept((char) (bytes.get(i) & 0xFF));
+        }
+    }
+
+    private void accept(final char c) {
+        this.column++;
+
+        switch (c) {
+            case NEW_LINE:
+                this.record();
+                this.line++;
+                this.column = 0;
+                this.depth = 0;
+                break;
+            case SEPARATOR:
+                if (0 == this.depth) {
+                    this.record();
+                } else {
+                    this.append(c);
+                }
+                break;
+            case PARENTHESIS_OPEN:
+                this.depth++;
+                this.append(c);
+                break;
+            case PARENTHESIS_CLOSE:
+                if (this.depth > 0) {
+                    this.depth--;
+                }
+                this.append(c);
+                break;
+            case ' ':
+            case '\t':
+            case '\r':
+                if (this.length > 0) {
+                    this.append(c);
+                }
+                break;
+            default:
+                this.append(c);
+                break;
+        }
+    }
+
+    private void append(final char c) {
+        final int length = this.length;
+        if (0 == length) {
+            this.recordLine = this.line;
+            this.recordColumn = this.column;
+        }
+
+        if (length < MAX_RECORD_LENGTH) {
+            this.record[length] = c;
+            this.length = length + 1;
+        } else {
+            this.overflow = true;
+        }
+    }
+
+    /**
+     * The current 1 based line, which is one more than the number of new lines so far.
+     */
+    long line() {
+        return this.line;
+    }
+
+    /**
+     * The number of characters since the last new line.
+     */
+    long column() {
+        return this.column;
+    }
+
+    /**
+     * Completes the last record and passes any remaining colors to the handler, returning the number of colors.
+     */
+    long end() {
+        this.record();
+        this.flush();
+        return this.count;
+    }
+
+    /**
+     * Parses the current record ignoring any trailing whitespace, empty records are ignored.
+     */
+    private void record() {
+        final char[] record = this.record;
+
+        int length = this.length;
+        while (length > 0 && record[length - 1] <= ' ') {
+            length--;
+        }
+
+        if (this.overflow) {
+            this.error(
+                length,
+                new IllegalArgumentException("Record longer than " + MAX_RECORD_LENGTH + " characters")
+            );
+        } else {
+            if (length > 0) {
+                try {
+                    this.add(
+                        Color.parseArgb(
+                            this.text,
+                            0,
+                            length
+                        )
+                    );
+                } catch (final IllegalArgumentException cause) {
+                    this.error(
+                        length,
+                        cause
+                    );
+                }
+            }
+        }
+
+        this.length = 0;
+        this.overflow = false;
+    }
+
+    private void add(final int argb) {
+        final int[] batch = this.batch;
+        int count = this.batchCount;
+        batch[count] = argb;
+        count++;
+
+        this.batchCount = count;
+        if (BATCH_SIZE == count) {
+            this.flush();
+        }
+    }
+
+    private void flush() {
+        final int count = this.batchCount;
+        if (count > 0) {
+            this.handler.colors(
+                this.batch,
+                count
+            );
+            this.count += count;
+            this.batchCount = 0;
+        }
+    }
+
+    /**
+     * Passes any colors so far to the handler so the error is reported in order.
+     */
+    private void error(final int length,
+                       final IllegalArgumentException cause) {
+        this.flush();
+        this.handler.error(
+            this.recordLine,
+            this.recordColumn,
+            new String(
+                this.record,
+                0,
+                length
+            ),
+            cause
+        );
+    }
+
+    private final ColorListParserHandler handler;
+
+    /**
+     * The characters of the current record, with a {@link CharSequence} view used when parsing.
+     */
+    private final char[] record = new char[MAX_RECORD_LENGTH];
+
+    private final CharSequence text = CharBuffer.wrap(this.record);
+
+    private int length;
+
+    /**
+     * Set when the current record is longer than {@link #MAX_RECORD_LENGTH}.
+     */
+    private boolean overflow;
+
+    /**
+     * Open parentheses in the current record, commas within are not separators.
+     */
+    private int depth;
+
+    private long line = 1;
+
+    private long column;
+
+    private long recordLine;
+
+    private long recordColumn;
+
+    private final int[] batch = new int[BATCH_SIZE];
+
+    private int batchCount;
+
+    private long count;
+
+    private final static char NEW_LINE = '\n';
+    private final static char PARENTHESIS_CLOSE = ')';
+    private final static char PARENTHESIS_OPEN = '(';
+    private final static char SEPARATOR = ',';
+
+    @Override
+    public String toString() {
+        return this.count + " colors line " + this.line;
+    }
+}
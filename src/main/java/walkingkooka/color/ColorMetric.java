@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import java.util.Objects;
+
+/**
+ * The distance between two colors, each metric is the euclidean distance between the colors converted to three
+ * coordinates, which allows a {@link ColorKdTree} to find the nearest color. Alpha is ignored.
+ */
+public enum ColorMetric {
+
+    /**
+     * The euclidean distance between the red, green and blue components, each between 0 and 255.
+     */
+    RGB {
+        @Override
+        void coordinates(final int argb,
+                         final double[] coordinates,
+                         final int offset) {
+            coordinates[offset] = (argb >> 16) & 0xFF;
+            coordinates[offset + 1] = (argb >> 8) & 0xFF;
+            coordinates[offset + 2] = argb & 0xFF;
+        }
+    },
+
+    /**
+     * The CIE76 delta E, which is the euclidean distance between the colors converted from sRGB to CIELAB using the
+     * D65 white point, which is closer to the perceived difference.
+     * <br>
+     * <a>https://en.wikipedia.org/wiki/Color_difference#CIE76</a>
+     */
+    CIELAB {
+        @Override
+        void coordinates(final int argb,
+                         final double[] coordinates,
+                         final int offset) {
+            final double[] linear = LINEAR;
+            final double r = linear[(argb >> 16) & 0xFF];
+            final double g = linear[(argb >> 8) & 0xFF];
+            final double b = linear[argb & 0xFF];
+
+            final double fx = labF((0.4124564 * r + 0.3575761 * g + 0.1804375 * b) / WHITE_X);
+            final double fy = labF(0.2126729 * r + 0.7151522 * g + 0.0721750 * b);
+            final double fz = labF((0.0193339 * r + 0.1191920 * g + 0.9503041 * b) / WHITE_Z);
+
+            coordinates[offset] = 116 * fy - 16;
+            coordinates[offset + 1] = 500 * (fx - fy);
+            coordinates[offset + 2] = 200 * (fy - fz);
+        }
+    };
+
+    /**
+     * Returns the distance between the two colors.
+     */
+    public final double distance(final Color left,
+                                 final Color right) {
+        Objects.requireNonNull(left, "left");
+        Objects.requireNonNull(right, "right");
+
+        return Math.sqrt(
+            this.distanceSquared(
+                left.toRgb().argb(),
+                right.toRgb().argb()
+            )
+        );
+    }
+
+    /**
+     * Returns the square of the distance between the two ARGB values.
+     */
+    final double distanceSquared(final int left,
+                                 final int right) {
+        final double[] coordinates = new double[6];
+        this.coordinates(left, coordinates, 0);
+        this.coordinates(right, coordinates, 3);
+
+        return distanceSquared(
+            coordinates,
+            0,
+            coordinates,
+            3
+        );
+    }
+
+    /**
+     * Returns the square of the euclidean distance between two sets of three coordinates.
+     */
+    static double distanceSquared(final double[] left,
+                                  final int leftOffset,
+                                  final double[] right,
+                                  final int rightOffset) {
+        final double x = left[leftOffset] - right[rightOffset];
+        final double y = left[leftOffset + 1] - right[rightOffset + 1];
+        final double z = left[leftOffset + 2] - right[rightOffset + 2];
+
+        return x * x + y * y + z * z;
+    }
+
+    /**
+     * Converts the RGB components of the ARGB value into the three coordinates of this metric.
+     */
+    abstract void coordinates(final int argb,
+                              final double[] coordinates,
+                              final int offset);
+
+    // CIELAB...........................................................................................................
+
+    /**
+     * The linear value of each sRGB component value.
+     */
+    private final static double[] LINEAR = linear();
+
+    private static double[] linear() {
+        final double[] linear = new double[256];
+
+        for (int i = 0; i < 256; i++) {
+            final double c = i / 255.0;
+            linear[i] = c <= 0.04045 ?
+                c / 12.92 :
+                Math.pow((c + 0.055) / 1.055, 2.4);
+        }
+        return linear;
+    }
+
+    private final static double WHITE_X = 0.95047;
+
+    private final static double WHITE_Z = 1.08883;
+
+    private final static double EPSILON = 216.0 / 24389;
+
+    private final static double KAPPA = 24389.0 / 27;
+
+    private static double labF(final double t) {
+        return t > EPSILON ?
+            Math.cbrt(t) :
+            (KAPPA * t + 16) / 116;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.collect.list.Lists;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable index of {@link Color colors} which answers nearest, k nearest and within a distance queries using a
+ * {@link ColorMetric} without comparing every color. Instances hold no mutable state and may be shared by threads.
+ * <br>
+ * Colors are compared by their RGB components, alpha is ignored. Where several colors are equally near the color
+ * earliest in {@link #colors()} is returned first.
+ */
+public final class ColorPalette {
+
+    /**
+     * Creates a new {@link ColorPalette} holding the colors, which must not be empty.
+     */
+    public static ColorPalette with(final List<? extends Color> colors,
+                                    final ColorMetric metric) {
+        Objects.requireNonNull(colors, "colors");
+        Objects.requireNonNull(metric, "metric");
+
+        final List<Color> copy = new ArrayList<>(colors);
+        final int size = copy.size();
+        if (0 == size) {
+            throw new IllegalArgumentException("Empty colors");
+        }
+
+        final int[] argb = new int[size];
+        for (int i = 0; i < size; i++) {
+            argb[i] = Objects.requireNonNull(copy.get(i), "color")
+                .toRgb()
+                .argb();
+        }
+
+        return new ColorPalette(
+            Lists.immutable(copy),
+            metric,
+            argb,
+            ColorKdTree.with(
+                argb,
+                metric
+            )
+        );
+    }
+
+    private ColorPalette(final List<Color> colors,
+                         final ColorMetric metric,
+                         final int[] argb,
+                         final ColorKdTree tree) {
+        super();
+        this.colors = colors;
+        this.metric = metric;
+        this.argb = argb;
+        this.tree = tree;
+    }
+
+    // properties.......................................................................................................
+
+    public List<Color> colors() {
+        return this.colors;
+    }
+
+    private final List<Color> colors;
+
+    public ColorMetric metric() {
+        return this.metric;
+    }
+
+    private final ColorMetric metric;
+
+    public int size() {
+        return this.colors.size();
+    }
+
+    /**
+     * Returns a copy of the ARGB value of each color.
+     */
+    int[] argb() {
+        return this.argb.clone();
+    }
+
+    private final int[] argb;
+
+    ColorKdTree tree() {
+        return this.tree;
+    }
+
+    private final ColorKdTree tree;
+
+    // nearest..........................................................................................................
+
+    /**
+     * Returns the index of the nearest color.
+     */
+    public int nearestIndex(final Color color) {
+        return this.tree.nearest(argb(color));
+    }
+
+    /**
+     * Returns the nearest color.
+     */
+    public Color nearest(final Color color) {
+        return this.colors.get(
+            this.nearestIndex(color)
+        );
+    }
+
+    /**
+     * Returns up to k colors nearest first.
+     */
+    public List<Color> nearest(final Color color,
+                               final int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Invalid k " + k + " <= 0");
+        }
+
+        return this.colors(
+            this.tree.nearest(
+                argb(color),
+                k
+            )
+        );
+    }
+
+    /**
+     * Returns all colors within the distance nearest first.
+     */
+    public List<Color> within(final Color color,
+                              final double distance) {
+        if (false == distance >= 0) {
+            throw new IllegalArgumentException("Invalid distance " + distance + " < 0");
+        }
+
+        return this.colors(
+            this.tree.within(
+                argb(color),
+                distance
+            )
+        );
+    }
+
+    /**
+     * Returns the index of the nearest color for every ARGB value.
+     */
+    public int[] nearestIndices(final int[] argb) {
+        Objects.requireNonNull(argb, "argb");
+
+        final int[] indices = new int[argb.length];
+        this.tree.nearest(
+            argb,
+            indices
+        );
+        return indices;
+    }
+
+    private static int argb(final Color color) {
+        Objects.requireNonNull(color, "color");
+
+        return color.toRgb()
+            .argb();
+    }
+
+    private List<Color> colors(final int[] indices) {
+        final List<Color> colors = this.colors;
+        final List<Color> selected = Lists.array();
+
+        for (final int index : indices) {
+            selected.add(colors.get(index));
+        }
+        return Lists.immutable(selected);
+    }
+
+    // lookup table.....................................................................................................
+
+    /**
+     * Builds a {@link ColorPaletteLookupTable} which maps any color to the index of its nearest color in this palette
+     * using the given bits of each component, between {@link ColorPaletteLookupTable#MIN_BITS} and
+     * {@link ColorPaletteLookupTable#MAX_BITS}.
+     */
+    @GwtIncompatible
+    public ColorPaletteLookupTable lookupTable(final int bits) {
+        return ColorPaletteLookupTable.with(
+            this,
+            bits
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.metric + " " + this.colors;
+    }
+}
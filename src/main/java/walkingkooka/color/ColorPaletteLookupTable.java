@@ -0,0 +1,276 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.Cast;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * A precomputed inverse colormap which maps any ARGB value to the index of its nearest {@link ColorPalette} color with
+ * a single array read.
+ * <br>
+ * The RGB cube is divided into cells using the high {@link #bits()} of each component, and each cell holds the index of
+ * the palette color nearest its centre, which is found by the {@link ColorKdTree} of the palette. Each red slice of
+ * the table is filled by a separate task in parallel. Alpha is ignored.
+ * <br>
+ * The table holds the ARGB values of the palette rather than its colors, so it may be serialized and reused without
+ * building it again.
+ */
+@GwtIncompatible
+public final class ColorPaletteLookupTable implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The fewest bits of each component used to select a cell.
+     */
+    public final static int MIN_BITS = 1;
+
+    /**
+     * The most bits of each component, where every RGB value has its own cell.
+     */
+    public final static int MAX_BITS = 8;
+
+    /**
+     * Creates a new {@link ColorPaletteLookupTable} for the palette using the given bits of each component.
+     */
+    static ColorPaletteLookupTable with(final ColorPalette palette,
+                                        final int bits) {
+        Objects.requireNonNull(palette, "palette");
+        if (bits < MIN_BITS || bits > MAX_BITS) {
+            throw new IllegalArgumentException("Invalid bits " + bits + " not between " + MIN_BITS + " and " + MAX_BITS);
+        }
+
+        final ColorKdTree tree = palette.tree();
+        final int cells = 1 << bits;
+        final int shift = COMPONENT_BITS - bits;
+        final int[] table = new int[cells * cells * cells];
+
+        IntStream.range(0, cells)
+            .parallel()
+            .forEach(red -> {
+                final int slice = cells * cells;
+                final int[] argb = new int[slice];
+                final int[] indices = new int[slice];
+
+                final int redArgb = OPAQUE | (centre(red, shift) << 16);
+                for (int green = 0; green < cells; green++) {
+                    final int greenArgb = redArgb | (centre(green, shift) << 8);
+                    for (int blue = 0; blue < cells; blue++) {
+                        argb[green * cells + blue] = greenArgb | centre(blue, shift);
+                    }
+                }
+
+                tree.nearest(
+                    argb,
+                    indices
+                );
+                System.arraycopy(
+                    indices,
+                    0,
+                    table,
+                    red * slice,
+                    slice
+                );
+            });
+
+        return new ColorPaletteLookupTable(
+            bits,
+            palette.metric(),
+            palette.argb(),
+            table
+        );
+    }
+
+    private final static int COMPONENT_BITS = 8;
+
+    private final static int OPAQUE = 0xFF000000;
+
+    /**
+     * Returns the component value at the centre of the cell.
+     */
+    private static int centre(final int cell,
+                              final int shift) {
+        return (cell << shift) | ((1 << shift) >> 1);
+    }
+
+    private ColorPaletteLookupTable(final int bits,
+                                    final ColorMetric metric,
+                                    final int[] colors,
+                                    final int[] table) {
+        super();
+        this.bits = bits;
+        this.metric = metric;
+        this.colors = colors;
+        this.table = table;
+    }
+
+    // lookup...........................................................................................................
+
+    /**
+     * Returns the index of the palette color for the ARGB value.
+     */
+    public int index(final int argb) {
+        final int bits = this.bits;
+        final int shift = COMPONENT_BITS - bits;
+        final int mask = (1 << bits) - 1;
+
+        return this.table[
+            (((argb >> (16 + shift)) & mask) << (2 * bits)) |
+                (((argb >> (8 + shift)) & mask) << bits) |
+                ((argb >> shift) & mask)
+            ];
+    }
+
+    /**
+     * Returns the index of the palette color for the {@link Color}.
+     */
+    public int index(final Color color) {
+        Objects.requireNonNull(color, "color");
+
+        return this.index(
+            color.toRgb()
+                .argb()
+        );
+    }
+
+    /**
+     * Returns the palette color for the {@link Color}.
+     */
+    public RgbColor color(final Color color) {
+        return Color.fromArgb(
+            this.colors[this.index(color)]
+        );
+    }
+
+    /**
+     * Replaces every ARGB value with the index of its palette color, the indices may be the same array.
+     */
+    public void indices(final int[] argb,
+                        final int[] indices) {
+        Objects.requireNonNull(argb, "argb");
+        Objects.requireNonNull(indices, "indices");
+
+        final int length = argb.length;
+        if (indices.length < length) {
+            throw new IllegalArgumentException("Invalid indices length " + indices.length + " < " + length);
+        }
+
+        for (int i = 0; i < length; i++) {
+            indices[i] = this.index(argb[i]);
+        }
+    }
+
+    /**
+     * Replaces every ARGB value in place with the ARGB value of its palette color.
+     */
+    public void remap(final int[] argb) {
+        Objects.requireNonNull(argb, "argb");
+
+        final int[] colors = this.colors;
+        final int length = argb.length;
+        for (int i = 0; i < length; i++) {
+            argb[i] = colors[this.index(argb[i])];
+        }
+    }
+
+    // properties.......................................................................................................
+
+    public int bits() {
+        return this.bits;
+    }
+
+    private final int bits;
+
+    public ColorMetric metric() {
+        return this.metric;
+    }
+
+    private final ColorMetric metric;
+
+    /**
+     * The ARGB value of each palette color.
+     */
+    private final int[] colors;
+
+    /**
+     * The palette index of each cell, indexed by the red, green and blue cell.
+     */
+    private final int[] table;
+
+    // Serializable.....................................................................................................
+
+    private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+        input.defaultReadObject();
+
+        final int bits = this.bits;
+        if (bits < MIN_BITS || bits > MAX_BITS) {
+            throw new InvalidObjectException("Invalid bits " + bits);
+        }
+        if (null == this.metric || null == this.colors || null == this.table) {
+            throw new InvalidObjectException("Missing metric, colors or table");
+        }
+        if (this.table.length != 1 << (3 * bits)) {
+            throw new InvalidObjectException("Invalid table length " + this.table.length);
+        }
+
+        final int colors = this.colors.length;
+        for (final int index : this.table) {
+            if (index < 0 || index >= colors) {
+                throw new InvalidObjectException("Invalid index " + index);
+            }
+        }
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.bits,
+            this.metric,
+            Arrays.hashCode(this.colors)
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ColorPaletteLookupTable && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ColorPaletteLookupTable other) {
+        return this.bits == other.bits &&
+            this.metric == other.metric &&
+            Arrays.equals(this.colors, other.colors) &&
+            Arrays.equals(this.table, other.table);
+    }
+
+    @Override
+    public String toString() {
+        return this.metric + " " + this.bits + " bits " + this.colors.length + " colors";
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import walkingkooka.Cast;
+import walkingkooka.ToStringBuilder;
+import walkingkooka.UsesToStringBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A bounded least recently used cache of parsed text to {@link Color}, which is consulted by all the
+ * <code>Color.parse*</code> methods and therefore also the JSON unmarshallers and converters that use them. Only
+ * successfully parsed text is cached, failures are always parsed again and reported by the parser.
+ * <br>
+ * All access is synchronized on the underlying access ordered map, parsing happens outside the lock so two threads
+ * missing on the same text may both parse it, the last to finish replaces the first.
+ * <br>
+ * Caching is opt-in, install with {@link Color#setParseCache(java.util.Optional)}.
+ */
+public final class ColorParseCache implements UsesToStringBuilder {
+
+    /**
+     * The largest supported capacity.
+     */
+    public final static int MAX_CAPACITY = 1 << 20;
+
+    /**
+     * Creates a new empty {@link ColorParseCache} holding at most capacity texts.
+     */
+    public static ColorParseCache with(final int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity + " < 1 or > " + MAX_CAPACITY);
+        }
+
+        return new ColorParseCache(capacity);
+    }
+
+    private ColorParseCache(final int capacity) {
+        super();
+        this.capacity = capacity;
+        this.colors = new LinkedHashMap<String, Color>(
+            16,
+            0.75f,
+            true // accessOrder
+        ) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Color> eldest) {
+                final boolean remove = this.size() > capacity;
+                if (remove) {
+                    ColorParseCache.this.evictions.incrementAndGet();
+                }
+                return remove;
+            }
+
+            private static final long serialVersionUID = 1L;
+        };
+    }
+
+    /**
+     * Returns the cached {@link Color} if it is the required type, otherwise parses and caches the text.
+     */
+    <C extends Color> C parse(final String text,
+                              final Predicate<Color> type,
+                              final Function<String, C> parser) {
+        final Map<String, Color> colors = this.colors;
+
+        final Color cached;
+        synchronized (colors) {
+            cached = colors.get(text);
+        }
+
+        final C color;
+        if (null != cached && type.test(cached)) {
+            this.hits.incrementAndGet();
+            color = Cast.to(cached);
+        } else {
+            this.misses.incrementAndGet();
+            color = parser.apply(text);
+
+            synchronized (colors) {
+                colors.put(text, color);
+            }
+        }
+        return color;
+    }
+
+    /**
+     * The texts and colors in least to most recently used order.
+     */
+    private final Map<String, Color> colors;
+
+    /**
+     * Removes all cached colors and resets all counters.
+     */
+    public void clear() {
+        final Map<String, Color> colors = this.colors;
+        synchronized (colors) {
+            colors.clear();
+        }
+
+        this.hits.set(0);
+        this.misses.set(0);
+        this.evictions.set(0);
+    }
+
+    /**
+     * The maximum number of texts that may be cached.
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    private final int capacity;
+
+    /**
+     * The number of cached texts.
+     */
+    public int size() {
+        final Map<String, Color> colors = this.colors;
+        synchronized (colors) {
+            return colors.size();
+        }
+    }
+
+    /**
+     * The number of parses that returned a cached color.
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The number of parses that had to parse the text.
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * The number of least recently used texts that were removed to make room for another text.
+     */
+    public long evictions() {
+        return this.evictions.get();
+    }
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    // UsesToStringBuilder..............................................................................................
+
+    @Override
+    public void buildToString(final ToStringBuilder builder) {
+        builder.label("capacity")
+            .value(this.capacity())
+            .label("hits")
+            .value(this.hits())
+            .label("misses")
+            .value(this.misses())
+            .label("evictions")
+            .value(this.evictions());
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.buildFrom(this);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Strategies that reduce the colors of an ARGB buffer or image to a palette of at most a given number of opaque
+ * {@link RgbColor colors}, most common first.
+ * <br>
+ * Values are first counted in parallel into a {@link ColorQuantizerHistogram}, which uses a fixed amount of memory
+ * regardless of the number of values, and the strategy is then applied to the mean color of each bin. Values with zero
+ * alpha are ignored. The same values, colors and seed always give the same palette.
+ */
+public enum ColorQuantizer {
+
+    /**
+     * Repeatedly splits the box of colors with the most values and widest range at its median.
+     */
+    MEDIAN_CUT {
+        @Override
+        ColorQuantizerSamples quantize(final ColorQuantizerSamples samples,
+                                       final int colors,
+                                       final long seed) {
+            return ColorQuantizerMedianCut.quantize(
+                samples,
+                colors
+            );
+        }
+    },
+
+    /**
+     * Merges the least common leaves of an octree of the colors.
+     */
+    OCTREE {
+        @Override
+        ColorQuantizerSamples quantize(final ColorQuantizerSamples samples,
+                                       final int colors,
+                                       final long seed) {
+            return ColorQuantizerOctree.quantize(
+                samples,
+                colors
+            );
+        }
+    },
+
+    /**
+     * K-means clustering with k-means++ initial centres chosen using the seed.
+     */
+    K_MEANS {
+        @Override
+        ColorQuantizerSamples quantize(final ColorQuantizerSamples samples,
+                                       final int colors,
+                                       final long seed) {
+            return ColorQuantizerKMeans.quantize(
+                samples,
+                colors,
+                seed
+            );
+        }
+    };
+
+    /**
+     * Returns a palette of at most the given number of colors for the ARGB values.
+     */
+    public final List<RgbColor> quantize(final int[] argb,
+                                         final int colors,
+                                         final long seed) {
+        Objects.requireNonNull(argb, "argb");
+        checkColors(colors);
+
+        return this.quantize(
+            ColorQuantizerHistogram.with(
+                argb,
+                0,
+                argb.length
+            ),
+            colors,
+            seed
+        );
+    }
+
+    /**
+     * Returns a palette of at most the given number of colors for the pixels of the
+     * {@link java.awt.image.BufferedImage}, which are read a strip of rows at a time and counted into a single
+     * histogram.
+     */
+    @GwtIncompatible
+    public final List<RgbColor> quantize(final java.awt.image.BufferedImage image,
+                                         final int colors,
+                                         final long seed) {
+        Objects.requireNonNull(image, "image");
+        checkColors(colors);
+
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final int rows = Math.max(1, STRIP_PIXELS / width);
+        final int[] strip = new int[rows * width];
+
+        final ColorQuantizerHistogram histogram = new ColorQuantizerHistogram();
+        for (int y = 0; y < height; y += rows) {
+            final int stripRows = Math.min(rows, height - y);
+            image.getRGB(
+                0,
+                y,
+                width,
+                stripRows,
+                strip,
+                0,
+                width
+            );
+            histogram.addAll(
+                strip,
+                0,
+                stripRows * width
+            );
+        }
+
+        return this.quantize(
+            histogram,
+            colors,
+            seed
+        );
+    }
+
+    /**
+     * The most pixels read from an image at once.
+     */
+    private final static int STRIP_PIXELS = 1 << 20;
+
+    private static void checkColors(final int colors) {
+        if (colors <= 0) {
+            throw new IllegalArgumentException("Invalid colors " + colors + " <= 0");
+        }
+    }
+
+    private List<RgbColor> quantize(final ColorQuantizerHistogram histogram,
+                                    final int colors,
+                                    final long seed) {
+        return this.quantize(
+            histogram.samples(),
+            colors,
+            seed
+        ).palette();
+    }
+
+    abstract ColorQuantizerSamples quantize(final ColorQuantizerSamples samples,
+                                            final int colors,
+                                            final long seed);
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import java.util.stream.IntStream;
+
+/**
+ * Counts ARGB values in bins using the high {@link #BITS} of each RGB component, which caps the memory used regardless
+ * of the number of values, and sums the components of each bin so its mean color may be recovered.
+ * <br>
+ * Values with zero alpha are ignored, other alpha values are ignored.
+ */
+final class ColorQuantizerHistogram {
+
+    /**
+     * The bits of each component used to select a bin.
+     */
+    final static int BITS = 5;
+
+    private final static int BINS = 1 << (3 * BITS);
+
+    private final static int SHIFT = 8 - BITS;
+
+    /**
+     * Ranges with fewer values are counted by a single {@link ColorQuantizerHistogram}, larger ranges are split into
+     * chunks of at least this many values.
+     */
+    // @VisibleForTesting
+    final static int THRESHOLD = 256 * 1024;
+
+    /**
+     * The most chunks counted in parallel, each needs its own {@link ColorQuantizerHistogram} of about 900KB. The
+     * parallelism of the pool is not available in GWT compiled code, so this is fixed at a typical core count.
+     */
+    // @VisibleForTesting
+    final static int CHUNKS = 8;
+
+    /**
+     * Counts the ARGB values between start and end, ranges larger than {@link #THRESHOLD} are split into at most
+     * {@link #CHUNKS} chunks counted in parallel, each into its own {@link ColorQuantizerHistogram} which are then
+     * added together.
+     */
+    static ColorQuantizerHistogram with(final int[] argb,
+                                        final int start,
+                                        final int end) {
+        final int length = end - start;
+        final int chunks = Math.min(
+            CHUNKS,
+            length / THRESHOLD
+        );
+
+        final ColorQuantizerHistogram histogram;
+        if (chunks <= 1) {
+            histogram = new ColorQuantizerHistogram();
+            histogram.addAll(
+                argb,
+                start,
+                end
+            );
+        } else {
+            histogram = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(
+                    (chunk) -> {
+                        final ColorQuantizerHistogram h = new ColorQuantizerHistogram();
+                        h.addAll(
+                            argb,
+                            start + (int) ((long) length * chunk / chunks),
+                            start + (int) ((long) length * (chunk + 1) / chunks)
+                        );
+                        return h;
+                    }
+                ).reduce(
+                    (left, right) -> {
+                        left.addAll(right);
+                        return left;
+                    }
+                ).get();
+        }
+        return histogram;
+    }
+
+    ColorQuantizerHistogram() {
+        super();
+        this.counts = new int[BINS];
+        this.red = new long[BINS];
+        this.green = new long[BINS];
+        this.blue = new long[BINS];
+    }
+
+    void add(final int argb) {
+        if (0 != (argb & 0xFF000000)) {
+            final int red = (argb >> 16) & 0xFF;
+            final int green = (argb >> 8) & 0xFF;
+            final int blue = argb & 0xFF;
+
+            final int bin = ((red >> SHIFT) << (2 * BITS)) |
+                ((green >> SHIFT) << BITS) |
+                (blue >> SHIFT);
+            this.counts[bin]++;
+            this.red[bin] += red;
+            this.green[bin] += green;
+            this.blue[bin] += blue;
+        }
+    }
+
+    /**
+     * Counts the ARGB values between start and end into this histogram.
+     */
+    void addAll(final int[] argb,
+                final int start,
+                final int end) {
+        for (int i = start; i < end; i++) {
+            this.add(argb[i]);
+        }
+    }
+
+    void addAll(final ColorQuantizerHistogram other) {
+        final int[] counts = this.counts;
+        final long[] red = this.red;
+        final long[] green = this.green;
+        final long[] blue = this.blue;
+
+        for (int i = 0; i < BINS; i++) {
+            counts[i] += other.counts[i];
+            red[i] += other.red[i];
+            green[i] += other.green[i];
+            blue[i] += other.blue[i];
+        }
+    }
+
+    /**
+     * Returns the mean color and count of each bin that is not empty, in bin order.
+     */
+    ColorQuantizerSamples samples() {
+        final int[] counts = this.counts;
+
+        int size = 0;
+        for (final int count : counts) {
+            if (count > 0) {
+                size++;
+            }
+        }
+
+        final ColorQuantizerSamples samples = new ColorQuantizerSamples(size);
+        int j = 0;
+        for (int i = 0; i < BINS; i++) {
+            final int count = counts[i];
+            if (count > 0) {
+                samples.set(
+                    j,
+                    count,
+                    mean(this.red[i], count),
+                    mean(this.green[i], count),
+                    mean(this.blue[i], count)
+                );
+                j++;
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * Returns the rounded mean of the sum.
+     */
+    static int mean(final long sum,
+                    final long count) {
+        return (int) ((sum + count / 2) / count);
+    }
+
+    private final int[] counts;
+
+    private final long[] red;
+
+    private final long[] green;
+
+    private final long[] blue;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        long total = 0;
+        int bins = 0;
+        for (final int count : this.counts) {
+            total += count;
+            if (count > 0) {
+                bins++;
+            }
+        }
+        return total + " values " + bins + " bins";
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * K-means quantization, with the initial centres chosen by k-means++ from a {@link Random} with the given seed, so the
+ * same samples and seed always give the same colors. Each sample is weighted by its count, and iteration stops when no
+ * sample moves to another centre or after {@link #MAX_ITERATIONS}.
+ * <br>
+ * <a>https://en.wikipedia.org/wiki/K-means%2B%2B</a>
+ */
+final class ColorQuantizerKMeans {
+
+    // @VisibleForTesting
+    final static int MAX_ITERATIONS = 32;
+
+    static ColorQuantizerSamples quantize(final ColorQuantizerSamples samples,
+                                          final int colors,
+                                          final long seed) {
+        final int size = samples.size;
+        final double[] centres = new double[Math.min(colors, size) * 3];
+        final int k = initialCentres(
+            samples,
+            centres,
+            new Random(seed)
+        );
+
+        final int[] assignments = new int[size];
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            if (false == assign(samples, centres, k, assignments, 0 == iteration)) {
+                break;
+            }
+            update(samples, centres, k, assignments);
+        }
+
+        return clusters(
+            samples,
+            k,
+            assignments
+        );
+    }
+
+    /**
+     * Picks the first centre weighted by count, and each following centre weighted by count times the square of the
+     * distance to the nearest centre already picked, returning the number of centres, which is fewer than requested
+     * when there are fewer different samples.
+     */
+    private static int initialCentres(final ColorQuantizerSamples samples,
+                                      final double[] centres,
+                                      final Random random) {
+        final int size = samples.size;
+        final int max = centres.length / 3;
+        final double[] distances = new double[size];
+        Arrays.fill(distances, 1);
+
+        int k = 0;
+        while (k < max) {
+            double total = 0;
+            for (int i = 0; i < size; i++) {
+                total += samples.counts[i] * distances[i];
+            }
+            if (0 == total) {
+                break;
+            }
+
+            final double target = random.nextDouble() * total;
+            int picked = size - 1;
+            double sum = 0;
+            for (int i = 0; i < size; i++) {
+                final double weight = samples.counts[i] * distances[i];
+                sum += weight;
+                if (weight > 0 && sum > target) {
+                    picked = i;
+                    break;
+                }
+            }
+            while (0 == samples.counts[picked] * distances[picked]) {
+                picked--;
+            }
+
+            centres[k * 3] = samples.red[picked];
+            centres[k * 3 + 1] = samples.green[picked];
+            centres[k * 3 + 2] = samples.blue[picked];
+
+            for (int i = 0; i < size; i++) {
+                final double distance = distance(samples, i, centres, k);
+                if (0 == k || distance < distances[i]) {
+                    distances[i] = distance;
+                }
+            }
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Assigns every sample to its nearest centre, returning true if any sample moved.
+     */
+    private static boolean assign(final ColorQuantizerSamples samples,
+                                  final double[] centres,
+                                  final int k,
+                                  final int[] assignments,
+                                  final boolean first) {
+        boolean moved = first;
+
+        final int size = samples.size;
+        for (int i = 0; i < size; i++) {
+            int nearest = 0;
+            double nearestDistance = Double.MAX_VALUE;
+
+            for (int c = 0; c < k; c++) {
+                final double distance = distance(samples, i, centres, c);
+                if (distance < nearestDistance) {
+                    nearest = c;
+                    nearestDistance = distance;
+                }
+            }
+
+            if (assignments[i] != nearest) {
+                assignments[i] = nearest;
+                moved = true;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Moves every centre to the weighted mean of its samples, centres without samples are not moved.
+     */
+    private static void update(final ColorQuantizerSamples samples,
+                               final double[] centres,
+                               final int k,
+                               final int[] assignments) {
+        final double[] sums = new double[k * 4];
+
+        final int size = samples.size;
+        for (int i = 0; i < size; i++) {
+            final int c = assignments[i] * 4;
+            final double count = samples.counts[i];
+
+            sums[c] += count;
+            sums[c + 1] += count * samples.red[i];
+            sums[c + 2] += count * samples.green[i];
+            sums[c + 3] += count * samples.blue[i];
+        }
+
+        for (int c = 0; c < k; c++) {
+            final double count = sums[c * 4];
+            if (count > 0) {
+                centres[c * 3] = sums[c * 4 + 1] / count;
+                centres[c * 3 + 1] = sums[c * 4 + 2] / count;
+                centres[c * 3 + 2] = sums[c * 4 + 3] / count;
+            }
+        }
+    }
+
+    /**
+     * Returns the weighted mean and count of the samples of each centre that has samples.
+     */
+    private static ColorQuantizerSamples clusters(final ColorQuantizerSamples samples,
+                                                  final int k,
+                                                  final int[] assignments) {
+        final long[] sums = new long[k * 4];
+
+        final int size = samples.size;
+        for (int i = 0; i < size; i++) {
+            final int c = assignments[i] * 4;
+            final long count = samples.counts[i];
+
+            sums[c] += count;
+            sums[c + 1] += count * samples.red[i];
+            sums[c + 2] += count * samples.green[i];
+            sums[c + 3] += count * samples.blue[i];
+        }
+
+        int clusters = 0;
+        for (int c = 0; c < k; c++) {
+            if (sums[c * 4] > 0) {
+                clusters++;
+            }
+        }
+
+        final ColorQuantizerSamples quantized = new ColorQuantizerSamples(clusters);
+        int j = 0;
+        for (int c = 0; c < k; c++) {
+            final long count = sums[c * 4];
+            if (count > 0) {
+                quantized.set(
+                    j,
+                    (int) count,
+                    ColorQuantizerHistogram.mean(sums[c * 4 + 1], count),
+                    ColorQuantizerHistogram.mean(sums[c * 4 + 2], count),
+                    ColorQuantizerHistogram.mean(sums[c * 4 + 3], count)
+                );
+                j++;
+            }
+        }
+        return quantized;
+    }
+
+    private static double distance(final ColorQuantizerSamples samples,
+                                   final int i,
+                                   final double[] centres,
+                                   final int c) {
+        final double red = samples.red[i] - centres[c * 3];
+        final double green = samples.green[i] - centres[c * 3 + 1];
+        final double blue = samples.blue[i] - centres[c * 3 + 2];
+
+        return red * red + green * green + blue * blue;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ColorQuantizerKMeans() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+/**
+ * Median cut quantization, which repeatedly splits the box of samples with the largest product of count and longest
+ * side at the weighted median of that side, until there are enough boxes or no box holds more than one color. Each box
+ * becomes the weighted mean of its samples.
+ * <br>
+ * <a>https://en.wikipedia.org/wiki/Median_cut</a>
+ */
+final class ColorQuantizerMedianCut {
+
+    static ColorQuantizerSamples quantize(final ColorQuantizerSamples samples,
+                                          final int colors) {
+        final int size = samples.size;
+        final int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        final int[] temp = new int[size];
+
+        final int maxBoxes = Math.min(colors, size);
+        final int[] starts = new int[maxBoxes];
+        final int[] ends = new int[maxBoxes];
+        int boxes = 0;
+        if (size > 0) {
+            ends[0] = size;
+            boxes = 1;
+        }
+
+        while (boxes < maxBoxes) {
+            int split = -1;
+            int splitAxis = 0;
+            long splitScore = 0;
+
+            for (int box = 0; box < boxes; box++) {
+                final int start = starts[box];
+                final int end = ends[box];
+
+                long count = 0;
+                for (int i = start; i < end; i++) {
+                    count += samples.counts[order[i]];
+                }
+
+                for (int axis = 0; axis < AXES; axis++) {
+                    final int[] values = values(samples, axis);
+                    int min = 255;
+                    int max = 0;
+                    for (int i = start; i < end; i++) {
+                        final int value = values[order[i]];
+                        min = Math.min(min, value);
+                        max = Math.max(max, value);
+                    }
+
+                    final long score = count * (max - min);
+                    if (score > splitScore) {
+                        split = box;
+                        splitAxis = axis;
+                        splitScore = score;
+                    }
+                }
+            }
+
+            if (-1 == split) {
+                break;
+            }
+
+            final int start = starts[split];
+            final int end = ends[split];
+            final int[] values = values(samples, splitAxis);
+            sort(
+                order,
+                temp,
+                values,
+                start,
+                end
+            );
+
+            final int middle = median(
+                samples,
+                order,
+                values,
+                start,
+                end
+            );
+            ends[split] = middle;
+            starts[boxes] = middle;
+            ends[boxes] = end;
+            boxes++;
+        }
+
+        final ColorQuantizerSamples quantized = new ColorQuantizerSamples(boxes);
+        for (int box = 0; box < boxes; box++) {
+            long count = 0;
+            long red = 0;
+            long green = 0;
+            long blue = 0;
+
+            for (int i = starts[box]; i < ends[box]; i++) {
+                final int sample = order[i];
+                final long sampleCount = samples.counts[sample];
+
+                count += sampleCount;
+                red += sampleCount * samples.red[sample];
+                green += sampleCount * samples.green[sample];
+                blue += sampleCount * samples.blue[sample];
+            }
+
+            quantized.set(
+                box,
+                (int) count,
+                ColorQuantizerHistogram.mean(red, count),
+                ColorQuantizerHistogram.mean(green, count),
+                ColorQuantizerHistogram.mean(blue, count)
+            );
+        }
+        return quantized;
+    }
+
+    private final static int AXES = 3;
+
+    private static int[] values(final ColorQuantizerSamples samples,
+                                final int axis) {
+        final int[] values;
+        switch (axis) {
+            case 0:
+                values = samples.red;
+                break;
+            case 1:
+                values = samples.green;
+                break;
+            default:
+                values = samples.blue;
+                break;
+        }
+        return values;
+    }
+
+    /**
+     * A stable counting sort of the samples between start and end by their component value.
+     */
+    private static void sort(final int[] order,
+                             final int[] temp,
+                             final int[] values,
+                             final int start,
+                             final int end) {
+        final int[] offsets = new int[256 + 1];
+        for (int i = start; i < end; i++) {
+            offsets[values[order[i]] + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        for (int i = start; i < end; i++) {
+            final int sample = order[i];
+            temp[start + offsets[values[sample]]++] = sample;
+        }
+        System.arraycopy(
+            temp,
+            start,
+            order,
+            start,
+            end - start
+        );
+    }
+
+    /**
+     * Returns the index of the first sample after the weighted median, which splits the sorted samples into two
+     * boxes, the samples must hold at least two different values.
+     */
+    private static int median(final ColorQuantizerSamples samples,
+                              final int[] order,
+                              final int[] values,
+                              final int start,
+                              final int end) {
+        long total = 0;
+        for (int i = start; i < end; i++) {
+            total += samples.counts[order[i]];
+        }
+
+        long count = 0;
+        int middle = start + 1;
+        for (int i = start; i < end; i++) {
+            count += samples.counts[order[i]];
+            if (2 * count >= total) {
+                middle = i + 1;
+                break;
+            }
+        }
+
+        // move the split so both boxes are non empty and samples with the same value stay together
+        final int last = values[order[end - 1]];
+        if (middle >= end || values[order[middle - 1]] == last) {
+            middle = start + 1;
+            while (values[order[middle]] != last) {
+                middle++;
+            }
+        } else {
+            while (values[order[middle]] == values[order[middle - 1]]) {
+                middle++;
+            }
+        }
+        return middle;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ColorQuantizerMedianCut() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+
+/**
+ * Octree quantization, which adds every sample to a tree eight levels deep selected by successive bits of each
+ * component, then starting with the deepest level merges the children of the least common nodes into their parent
+ * until there are no more leaves than colors. Each leaf becomes the weighted mean of its samples.
+ * <br>
+ * <a>https://en.wikipedia.org/wiki/Octree#Color_quantization</a>
+ */
+final class ColorQuantizerOctree {
+
+    private final static int LEVELS = 8;
+
+    static ColorQuantizerSamples quantize(final ColorQuantizerSamples samples,
+                                          final int colors) {
+        final ColorQuantizerOctree tree = new ColorQuantizerOctree();
+
+        final int size = samples.size;
+        for (int i = 0; i < size; i++) {
+            tree.add(
+                samples.counts[i],
+                samples.red[i],
+                samples.green[i],
+                samples.blue[i]
+            );
+        }
+        tree.reduce(colors);
+        return tree.leaves();
+    }
+
+    private ColorQuantizerOctree() {
+        super();
+
+        final List<List<Node>> levels = Lists.array();
+        for (int i = 0; i < LEVELS; i++) {
+            levels.add(Lists.array());
+        }
+        this.levels = levels;
+        this.root = this.node(0);
+    }
+
+    private void add(final int count,
+                     final int red,
+                     final int green,
+                     final int blue) {
+        Node node = this.root;
+
+        for (int level = 0; ; level++) {
+            node.add(count, red, green, blue);
+            if (LEVELS == level) {
+                break;
+            }
+
+            final int bit = LEVELS - 1 - level;
+            final int child = (red >> bit & 1) << 2 |
+                (green >> bit & 1) << 1 |
+                blue >> bit & 1;
+
+            Node next = node.children[child];
+            if (null == next) {
+                next = this.node(level + 1);
+                node.children[child] = next;
+            }
+            node = next;
+        }
+    }
+
+    private Node node(final int level) {
+        final Node node = new Node(level);
+        if (level < LEVELS) {
+            this.levels.get(level)
+                .add(node);
+        } else {
+            this.leaves++;
+        }
+        return node;
+    }
+
+    /**
+     * Starting with the deepest level merges the children of the least common nodes into their parent, until there
+     * are no more leaves than colors. As children are always merged before their parent every child is a leaf.
+     */
+    private void reduce(final int colors) {
+        for (int level = LEVELS - 1; level >= 0 && this.leaves > colors; level--) {
+            final List<Node> nodes = this.levels.get(level);
+            nodes.sort((l, r) -> Long.compare(l.count, r.count));
+
+            for (final Node node : nodes) {
+                if (this.leaves <= colors) {
+                    break;
+                }
+                this.leaves -= node.reduce() - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns every leaf in tree order.
+     */
+    private ColorQuantizerSamples leaves() {
+        final ColorQuantizerSamples leaves = new ColorQuantizerSamples(
+            0 == this.root.count ?
+                0 :
+                this.leaves
+        );
+        if (leaves.size > 0) {
+            this.root.leaves(
+                leaves,
+                0
+            );
+        }
+        return leaves;
+    }
+
+    private final Node root;
+
+    /**
+     * The nodes of each level that may have children, in the order they were created.
+     */
+    private final List<List<Node>> levels;
+
+    private int leaves;
+
+    /**
+     * A node holding the count and component sums of all samples below it.
+     */
+    private final static class Node {
+
+        Node(final int level) {
+            super();
+            this.children = level < LEVELS ?
+                new Node[8] :
+                null;
+        }
+
+        void add(final int count,
+                 final int red,
+                 final int green,
+                 final int blue) {
+            this.count += count;
+            this.red += (long) count * red;
+            this.green += (long) count * green;
+            this.blue += (long) count * blue;
+        }
+
+        /**
+         * Removes the children returning their count, making this node a leaf.
+         */
+        int reduce() {
+            int children = 0;
+            for (final Node child : this.children) {
+                if (null != child) {
+                    children++;
+                }
+            }
+            this.children = null;
+            return children;
+        }
+
+        int leaves(final ColorQuantizerSamples leaves,
+                   final int index) {
+            int next = index;
+
+            if (null == this.children) {
+                final long count = this.count;
+                leaves.set(
+                    next,
+                    (int) count,
+                    ColorQuantizerHistogram.mean(this.red, count),
+                    ColorQuantizerHistogram.mean(this.green, count),
+                    ColorQuantizerHistogram.mean(this.blue, count)
+                );
+                next++;
+            } else {
+                for (final Node child : this.children) {
+                    if (null != child) {
+                        next = child.leaves(
+                            leaves,
+                            next
+                        );
+                    }
+                }
+            }
+            return next;
+        }
+
+        private Node[] children;
+
+        private long count;
+
+        private long red;
+
+        private long green;
+
+        private long blue;
+
+        @Override
+        public String toString() {
+            return String.valueOf(this.count);
+        }
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.leaves + " leaves";
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Colors with the number of values each represents, used as both the input and output of the
+ * {@link ColorQuantizer} strategies. The components of each color are held in separate arrays.
+ */
+final class ColorQuantizerSamples {
+
+    ColorQuantizerSamples(final int size) {
+        super();
+        this.size = size;
+        this.counts = new int[size];
+        this.red = new int[size];
+        this.green = new int[size];
+        this.blue = new int[size];
+    }
+
+    void set(final int i,
+             final int count,
+             final int red,
+             final int green,
+             final int blue) {
+        this.counts[i] = count;
+        this.red[i] = red;
+        this.green[i] = green;
+        this.blue[i] = blue;
+    }
+
+    /**
+     * Returns the total count of all samples.
+     */
+    long total() {
+        long total = 0;
+        for (final int count : this.counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the opaque colors most common first, where several samples have the same color they are combined, and
+     * where counts are equal the lower RGB value is first.
+     */
+    List<RgbColor> palette() {
+        final int size = this.size;
+
+        // sort by rgb so samples with the same color are adjacent and their counts may be added
+        final long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (long) this.rgb(i) << 32 | this.counts[i];
+        }
+        Arrays.sort(keys);
+
+        int merged = 0;
+        for (int i = 0; i < size; i++) {
+            final long key = keys[i];
+            if (merged > 0 && keys[merged - 1] >>> 32 == key >>> 32) {
+                keys[merged - 1] += key & 0xFFFFFFFFL;
+            } else {
+                keys[merged++] = key;
+            }
+        }
+
+        // sort by count inverted so the most common is first, then rgb
+        for (int i = 0; i < merged; i++) {
+            final long key = keys[i];
+            keys[i] = (Integer.MAX_VALUE - (key & 0xFFFFFFFFL)) << 32 | key >>> 32;
+        }
+        Arrays.sort(keys, 0, merged);
+
+        final List<RgbColor> palette = Lists.array();
+        for (int i = 0; i < merged; i++) {
+            palette.add(
+                Color.fromArgb(OPAQUE | (int) keys[i])
+            );
+        }
+        return Lists.immutable(palette);
+    }
+
+    private int rgb(final int i) {
+        return this.red[i] << 16 |
+            this.green[i] << 8 |
+            this.blue[i];
+    }
+
+    private final static int OPAQUE = 0xFF000000;
+
+    final int size;
+
+    final int[] counts;
+
+    final int[] red;
+
+    final int[] green;
+
+    final int[] blue;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.size + " samples";
+    }
+}
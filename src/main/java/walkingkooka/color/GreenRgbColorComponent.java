@@ -61,6 +61,12 @@ final public class GreenRgbColorComponent extends RgbColorComponent {
         return color.green().unsignedIntValue;
     }
 
+    @Override
+    int replaceArgb(final int argb) {
+        return (argb & ~(0xFF << RgbColor.GREEN_SHIFT)) |
+            (this.unsignedIntValue << RgbColor.GREEN_SHIFT);
+    }
+
     @Override
     RgbColor setComponent(final RgbColor color, final int value) {
         return color.setGreen(GreenRgbColorComponent.CONSTANTS[RgbColorComponent.mask(value)]);
@@ -20,6 +20,7 @@ package walkingkooka.color;
 import walkingkooka.Cast;
 import walkingkooka.ToStringBuilder;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -39,15 +40,46 @@ public abstract class HslColor extends Color {
         Objects.requireNonNull(saturation, "saturation");
         Objects.requireNonNull(lightness, "lightness");
 
-        return OpaqueHslColor.withOpaque(hue, saturation, lightness);
+        return OpaqueHslColor.withOpaque(
+            hue.value,
+            saturation.value,
+            lightness.value
+        );
     }
 
     /**
-     * Package private constructor to limit sub classing.
+     * Factory used by conversions that creates a new {@link HslColor} from values, without creating any
+     * {@link HslColorComponent}.
      */
-    HslColor(final HueHslColorComponent hue,
-             final SaturationHslColorComponent saturation,
-             final LightnessHslColorComponent lightness) {
+    static HslColor with(final float hue,
+                         final float saturation,
+                         final float lightness) {
+        return OpaqueHslColor.withOpaque(
+            HslOrHsvColorComponent.check(
+                hue,
+                HueHslColorComponent.MIN_VALUE,
+                HueHslColorComponent.MAX_VALUE
+            ),
+            HslOrHsvColorComponent.check(
+                saturation,
+                SaturationHslColorComponent.MIN_VALUE,
+                SaturationHslColorComponent.MAX_VALUE
+            ),
+            HslOrHsvColorComponent.check(
+                lightness,
+                LightnessHslColorComponent.MIN_VALUE,
+                LightnessHslColorComponent.MAX_VALUE
+            )
+        );
+    }
+
+    /**
+     * Package private constructor to limit sub classing. The values are held rather than their components, which are
+     * only created when requested by a getter.
+     */
+    HslColor(final float hue,
+             final float saturation,
+             final float lightness) {
         super();
 
         this.hue = hue;
@@ -68,47 +100,72 @@ public abstract class HslColor extends Color {
      * Factory that creates a new {@link HslColor} with the new {@link HueHslColorComponent}.
      */
     final HslColor setHue(final HueHslColorComponent hue) {
-        return this.hue.equals(hue) ?
+        return this.hue == hue.value ?
             this :
-            this.replace(hue, this.saturation, this.lightness);
+            this.replace(hue.value, this.saturation, this.lightness);
     }
 
     /**
      * Factory that creates a new {@link HslColor} with the new {@link SaturationHslColorComponent}.
      */
     final HslColor setSaturation(final SaturationHslColorComponent saturation) {
-        return this.saturation.equals(saturation) ?
+        return this.saturation == saturation.value ?
             this :
-            this.replace(this.hue, saturation, this.lightness);
+            this.replace(this.hue, saturation.value, this.lightness);
     }
 
     /**
      * Factory that creates a new {@link HslColor} with the new {@link LightnessHslColorComponent}.
      */
     final HslColor setLightness(final LightnessHslColorComponent lightness) {
-        return this.lightness.equals(lightness) ?
+        return this.lightness == lightness.value ?
             this :
-            this.replace(this.hue, this.saturation, lightness);
+            this.replace(this.hue, this.saturation, lightness.value);
     }
 
     /**
      * Factory that creates a new {@link HslColor} with the new {@link LightnessHslColorComponent}.
      */
     final HslColor setAlpha(final AlphaHslColorComponent alpha) {
-        return this.alpha().equals(alpha) ?
+        return this.alphaValue() == alpha.value ?
             this :
             AlphaHslColor.withAlpha(this.hue,
                 this.saturation,
                 this.lightness,
-                alpha);
+                alpha.value);
     }
 
     /**
-     * Factory that creates a {@link HslColor} with the given {@link HslColorComponent components}.
+     * Factory that creates a {@link HslColor} with the given {@link HslColorComponent component} values.
      */
-    abstract HslColor replace(final HueHslColorComponent hue,
-                              final SaturationHslColorComponent saturation,
-                              final LightnessHslColorComponent lightness);
+    abstract HslColor replace(final float hue,
+                              final float saturation,
+                              final float lightness);
+
+    /**
+     * Returns a {@link HslColor} with the hue rounded to the nearest tenth of a degree and the remaining components
+     * to the nearest tenth of a percent. The components of the result are all shared instances, making it a cheap key
+     * when many similar colors are held.
+     */
+    public final HslColor quantize() {
+        return this.setHue(
+            HueHslColorComponent.with(
+                HueHslColorComponent.quantize(this.hue)
+            )
+        ).setSaturation(
+            SaturationHslColorComponent.with(
+                SaturationHslColorComponent.quantize(this.saturation)
+            )
+        ).setLightness(
+            LightnessHslColorComponent.with(
+                LightnessHslColorComponent.quantize(this.lightness)
+            )
+        ).setAlpha(
+            AlphaHslColorComponent.with(
+                AlphaHslColorComponent.quantize(this.alphaValue())
+            )
+        );
+    }
 
     // properties
 
@@ -116,34 +173,39 @@ public abstract class HslColor extends Color {
      * Getter that returns only the {@link HueHslColorComponent}
      */
     public final HueHslColorComponent hue() {
-        return this.hue;
+        return HueHslColorComponent.with(this.hue);
     }
 
-    final HueHslColorComponent hue;
+    final float hue;
 
     /**
      * Getter that returns only the {@link SaturationHslColorComponent}
      */
     public final SaturationHslColorComponent saturation() {
-        return this.saturation;
+        return SaturationHslColorComponent.with(this.saturation);
     }
 
-    final SaturationHslColorComponent saturation;
+    final float saturation;
 
     /**
      * Getter that returns only the {@link LightnessHslColorComponent}
      */
     public final LightnessHslColorComponent lightness() {
-        return this.lightness;
+        return LightnessHslColorComponent.with(this.lightness);
     }
 
-    final LightnessHslColorComponent lightness;
+    final float lightness;
 
     /**
      * Getter that returns the alpha component.
      */
     public abstract AlphaHslColorComponent alpha();
 
+    /**
+     * Getter that returns the alpha value without creating a {@link AlphaHslColorComponent}.
+     */
+    abstract float alphaValue();
+
     // Color............................................................................................................
 
     @Override
@@ -153,7 +215,20 @@ public abstract class HslColor extends Color {
 
     @Override
     public final HsvColor toHsv() {
-        return this.toRgb().toHsv();
+        final float saturation = this.saturation;
+        final float lightness = this.lightness;
+
+        return HsvColor.with(
+            this.hue,
+            HslHsvConversions.hslToHsvSaturation(
+                saturation,
+                lightness
+            ),
+            HslHsvConversions.hslToHsvValue(
+                saturation,
+                lightness
+            )
+        );
     }
 
     /**
@@ -198,8 +273,8 @@ public abstract class HslColor extends Color {
         float blue;
 
         // constants
-        final float saturation = this.saturation.value;
-        final float lightness = this.lightness.value;
+        final float saturation = this.saturation;
+        final float lightness = this.lightness;
 
         if (0 == saturation) {
             red = lightness;
@@ -210,7 +285,7 @@ public abstract class HslColor extends Color {
                 : (lightness + saturation) - (lightness * saturation);
             final float p = (2 * lightness) - q;
 
-            final float hue = this.hue.value / HueHslColorComponent.MAX_VALUE; // now within 0..1
+            final float hue = this.hue / HueHslColorComponent.MAX_VALUE; // now within 0..1
             red = HslColor.hue2rgb(p, q, hue + (1f / 3));
             green = HslColor.hue2rgb(p, q, hue);
             blue = HslColor.hue2rgb(p, q, hue - (1f / 3));
@@ -289,32 +364,32 @@ public abstract class HslColor extends Color {
         return this.setHue(
             HslColorComponent.hue(
                 mixFloatValue(
-                    this.hue().value,
-                    color.hue().value,
+                    this.hue,
+                    color.hue,
                     amount
                 )
             )
         ).setSaturation(
             HslColorComponent.saturation(
                 mixFloatValue(
-                    this.saturation().value,
-                    color.saturation().value,
+                    this.saturation,
+                    color.saturation,
                     amount
                 )
             )
         ).setLightness(
             HslColorComponent.lightness(
                 mixFloatValue(
-                    this.lightness().value,
-                    color.lightness().value,
+                    this.lightness,
+                    color.lightness,
                     amount
                 )
             )
         ).setAlpha(
             HslColorComponent.alpha(
                 mixFloatValue(
-                    this.alpha().value,
-                    color.alpha().value,
+                    this.alphaValue(),
+                    color.alphaValue(),
                     amount
                 )
             )
@@ -338,12 +413,10 @@ public abstract class HslColor extends Color {
 
     @Override
     public final int hashCode() {
-        return Objects.hash(
-            this.hue,
-            this.saturation,
-            this.lightness,
-            this.hashCodeAlpha()
-        );
+        int hash = Float.hashCode(this.hue);
+        hash = 31 * hash + Float.hashCode(this.saturation);
+        hash = 31 * hash + Float.hashCode(this.lightness);
+        return 31 * hash + this.hashCodeAlpha();
     }
 
     abstract int hashCodeAlpha();
@@ -354,9 +427,9 @@ public abstract class HslColor extends Color {
     }
 
     private boolean equals1(final HslColor other) {
-        return this.hue.equals(other.hue) &&
-            this.saturation.equals(other.saturation) &&
-            this.lightness.equals(other.lightness) &&
+        return this.hue == other.hue &&
+            this.saturation == other.saturation &&
+            this.lightness == other.lightness &&
             this.equalsAlpha(other);
     }
 
@@ -366,9 +439,9 @@ public abstract class HslColor extends Color {
     public final void buildToString(final ToStringBuilder builder) {
         builder.separator(",")
             .append(this.functionName())
-            .value(this.hue)
-            .value(this.saturation)
-            .value(this.lightness);
+            .value(this.hue())
+            .value(this.saturation())
+            .value(this.lightness());
         this.buildToStringAlpha(builder);
         builder.append(')');
     }
@@ -376,4 +449,29 @@ public abstract class HslColor extends Color {
     abstract String functionName();
 
     abstract void buildToStringAlpha(final ToStringBuilder builder);
+
+    // appendTo.........................................................................................................
+
+    @Override
+    final void appendTo0(final Appendable text) throws IOException {
+        text.append(this.functionName());
+        HslOrHsvColorComponent.appendDegrees(
+            this.hue,
+            text
+        );
+        text.append(',');
+        HslOrHsvColorComponent.appendPercentage(
+            this.saturation,
+            text
+        );
+        text.append(',');
+        HslOrHsvColorComponent.appendPercentage(
+            this.lightness,
+            text
+        );
+        this.appendAlpha(text);
+        text.append(')');
+    }
+
+    abstract void appendAlpha(final Appendable text) throws IOException;
 }
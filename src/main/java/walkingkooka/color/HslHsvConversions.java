@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.util.Objects;
+
+/**
+ * Closed form conversions between HSL and HSV that stay in <code>float</code> space, avoiding the loss of precision and
+ * the allocations of converting to {@link RgbColor} first.
+ * <br>
+ * The hue is the same in both models so only the saturation and lightness or value are converted.
+ * <pre>
+ * HSV to HSL
+ * L = V * (1 - Sv / 2)
+ * Sl = 0 if L is 0 or 1 otherwise (V - L) / min(L, 1 - L)
+ *
+ * HSL to HSV
+ * V = L + Sl * min(L, 1 - L)
+ * Sv = 0 if V is 0 otherwise 2 * (1 - L / V)
+ * </pre>
+ * <a>https://en.wikipedia.org/wiki/HSL_and_HSV#Interconversion</a>
+ */
+public final class HslHsvConversions implements PublicStaticHelper {
+
+    /**
+     * Converts the HSV saturation and value of every color to a HSL saturation and lightness, the output arrays may
+     * be the same as the input arrays.
+     */
+    public static void hsvToHsl(final float[] saturation,
+                                final float[] value,
+                                final float[] hslSaturation,
+                                final float[] lightness) {
+        final int length = checkLengths(
+            saturation,
+            "saturation",
+            value,
+            "value",
+            hslSaturation,
+            "hslSaturation",
+            lightness,
+            "lightness"
+        );
+
+        for (int i = 0; i < length; i++) {
+            final float s = saturation[i];
+            final float v = value[i];
+
+            hslSaturation[i] = hsvToHslSaturation(s, v);
+            lightness[i] = hsvToHslLightness(s, v);
+        }
+    }
+
+    /**
+     * Converts the HSL saturation and lightness of every color to a HSV saturation and value, the output arrays may
+     * be the same as the input arrays.
+     */
+    public static void hslToHsv(final float[] saturation,
+                                final float[] lightness,
+                                final float[] hsvSaturation,
+                                final float[] value) {
+        final int length = checkLengths(
+            saturation,
+            "saturation",
+            lightness,
+            "lightness",
+            hsvSaturation,
+            "hsvSaturation",
+            value,
+            "value"
+        );
+
+        for (int i = 0; i < length; i++) {
+            final float s = saturation[i];
+            final float l = lightness[i];
+
+            hsvSaturation[i] = hslToHsvSaturation(s, l);
+            value[i] = hslToHsvValue(s, l);
+        }
+    }
+
+    private static int checkLengths(final float[] input,
+                                    final String inputLabel,
+                                    final float[] input2,
+                                    final String input2Label,
+                                    final float[] output,
+                                    final String outputLabel,
+                                    final float[] output2,
+                                    final String output2Label) {
+        Objects.requireNonNull(input, inputLabel);
+        Objects.requireNonNull(input2, input2Label);
+        Objects.requireNonNull(output, outputLabel);
+        Objects.requireNonNull(output2, output2Label);
+
+        final int length = input.length;
+        checkLength(input2, input2Label, length);
+        checkLength(output, outputLabel, length);
+        checkLength(output2, output2Label, length);
+        return length;
+    }
+
+    private static void checkLength(final float[] array,
+                                    final String label,
+                                    final int length) {
+        if (array.length < length) {
+            throw new IllegalArgumentException("Invalid " + label + " length " + array.length + " < " + length);
+        }
+    }
+
+    // HSV -> HSL.......................................................................................................
+
+    static float hsvToHslLightness(final float saturation,
+                                   final float value) {
+        return value * (1.0f - saturation / 2);
+    }
+
+    static float hsvToHslSaturation(final float saturation,
+                                    final float value) {
+        final float lightness = hsvToHslLightness(saturation, value);
+        final float min = Math.min(lightness, 1.0f - lightness);
+
+        return min > 0 ?
+            clamp((value - lightness) / min) :
+            0;
+    }
+
+    // HSL -> HSV.......................................................................................................
+
+    static float hslToHsvValue(final float saturation,
+                               final float lightness) {
+        return clamp(
+            lightness + saturation * Math.min(lightness, 1.0f - lightness)
+        );
+    }
+
+    static float hslToHsvSaturation(final float saturation,
+                                    final float lightness) {
+        final float value = hslToHsvValue(saturation, lightness);
+
+        return value > 0 ?
+            clamp(2 * (1.0f - lightness / value)) :
+            0;
+    }
+
+    /**
+     * Float rounding may move a component slightly outside 0.0 to 1.0.
+     */
+    private static float clamp(final float value) {
+        return Math.max(
+            0,
+            Math.min(value, 1.0f)
+        );
+    }
+
+    /**
+     * Stop creation
+     */
+    private HslHsvConversions() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -19,6 +19,8 @@ package walkingkooka.color;
 
 import walkingkooka.Cast;
 
+import java.io.IOException;
+
 abstract class HslOrHsvColorComponent extends ColorComponent {
 
     /**
@@ -81,6 +83,42 @@ abstract class HslOrHsvColorComponent extends ColorComponent {
         return Math.round(100 * this.value) + "%";
     }
 
+    /**
+     * Appends the same text as {@link #toString()}.
+     */
+    abstract void appendTo(final Appendable text) throws IOException;
+
+    final void appendPercentage(final Appendable text) throws IOException {
+        appendPercentage(
+            this.value,
+            text
+        );
+    }
+
+    /**
+     * Appends the value as a rounded percentage, shared with {@link HslColor} and {@link HsvColor} which hold
+     * their component values as floats.
+     */
+    static void appendPercentage(final float value,
+                                 final Appendable text) throws IOException {
+        Color.appendDecimal(
+            text,
+            Math.round(100 * value)
+        );
+        text.append('%');
+    }
+
+    /**
+     * Appends the value rounded to whole degrees, used by both hue components.
+     */
+    static void appendDegrees(final float value,
+                              final Appendable text) throws IOException {
+        Color.appendDecimal(
+            text,
+            Math.round(value)
+        );
+    }
+
     // HasText..........................................................................................................
 
     @Override
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+import walkingkooka.Cast;
+
+/**
+ * A lazily filled pool of {@link HslOrHsvColorComponent} for values that lie exactly on a fixed grid, such as hue in
+ * tenths of a degree or a percentage in tenths of a percent. Values off the grid are never rounded, a new component
+ * is created for them, {@link #quantize(float)} may be used to snap a value to the grid beforehand.
+ * <br>
+ * Slots are filled without locking, racing threads may both create the same component, which is harmless as
+ * components are immutable and compared by value.
+ */
+final class HslOrHsvColorComponentCache<C extends HslOrHsvColorComponent> {
+
+    /**
+     * Creates a component for a value, the value is checked by the component.
+     */
+    interface Factory<C extends HslOrHsvColorComponent> {
+        C create(final float value);
+    }
+
+    /**
+     * Creates a new empty {@link HslOrHsvColorComponentCache} for values between 0 and max in steps of 1 / scale.
+     */
+    static <C extends HslOrHsvColorComponent> HslOrHsvColorComponentCache<C> with(final float max,
+                                                                                final int scale,
+                                                                                final Factory<C> factory) {
+        return new HslOrHsvColorComponentCache<>(
+            max,
+            scale,
+            factory
+        );
+    }
+
+    private HslOrHsvColorComponentCache(final float max,
+                                        final int scale,
+                                        final Factory<C> factory) {
+        super();
+        this.scale = scale;
+        this.factory = factory;
+        this.components = new Object[1 + Math.round(max * scale)];
+    }
+
+    /**
+     * Returns the shared component if the value is on the grid, otherwise creates a new component.
+     */
+    C get(final float value) {
+        final int index = Math.round(value * this.scale);
+
+        C component;
+        if (index >= 0 && index < this.components.length && this.value(index) == value) {
+            component = Cast.to(this.components[index]);
+            if (null == component) {
+                component = this.factory.create(this.value(index));
+                this.components[index] = component;
+            }
+        } else {
+            component = this.factory.create(value);
+        }
+        return component;
+    }
+
+    /**
+     * Rounds the value to the nearest value on the grid.
+     */
+    float quantize(final float value) {
+        return this.value(
+            Math.round(value * this.scale)
+        );
+    }
+
+    private float value(final int index) {
+        return (float) index / this.scale;
+    }
+
+    private final int scale;
+
+    private final Factory<C> factory;
+
+    private final Object[] components;
+
+    @Override
+    public String toString() {
+        return this.components.length - 1 + " steps";
+    }
+}
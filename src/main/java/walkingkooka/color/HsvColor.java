@@ -20,6 +20,7 @@ package walkingkooka.color;
 import walkingkooka.Cast;
 import walkingkooka.ToStringBuilder;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -39,15 +40,46 @@ public abstract class HsvColor extends Color {
         Objects.requireNonNull(saturation, "saturation");
         Objects.requireNonNull(value, "value");
 
-        return OpaqueHsvColor.withOpaque(hue, saturation, value);
+        return OpaqueHsvColor.withOpaque(
+            hue.value,
+            saturation.value,
+            value.value
+        );
     }
 
     /**
-     * Package private to limit sub classing.
+     * Factory used by conversions that creates a new {@link HsvColor} from values, without creating any
+     * {@link HsvColorComponent}.
      */
-    HsvColor(final HueHsvColorComponent hue,
-             final SaturationHsvColorComponent saturation,
-             final ValueHsvColorComponent value) {
+    static HsvColor with(final float hue,
+                         final float saturation,
+                         final float value) {
+        return OpaqueHsvColor.withOpaque(
+            HslOrHsvColorComponent.check(
+                hue,
+                HueHsvColorComponent.MIN_VALUE,
+                HueHsvColorComponent.MAX_VALUE
+            ),
+            HslOrHsvColorComponent.check(
+                saturation,
+                SaturationHsvColorComponent.MIN_VALUE,
+                SaturationHsvColorComponent.MAX_VALUE
+            ),
+            HslOrHsvColorComponent.check(
+                value,
+                ValueHsvColorComponent.MIN_VALUE,
+                ValueHsvColorComponent.MAX_VALUE
+            )
+        );
+    }
+
+    /**
+     * Package private to limit sub classing. The values are held rather than their components, which are only created
+     * when requested by a getter.
+     */
+    HsvColor(final float hue,
+             final float saturation,
+             final float value) {
         this.hue = hue;
         this.saturation = saturation;
         this.value = value;
@@ -66,18 +98,18 @@ public abstract class HsvColor extends Color {
      * Factory that creates a new {@link HsvColor} with the new {@link HueHsvColorComponent}.
      */
     final HsvColor setHue(final HueHsvColorComponent hue) {
-        return this.hue.equals(hue) ?
+        return this.hue == hue.value ?
             this :
-            this.replace(hue, this.saturation, this.value);
+            this.replace(hue.value, this.saturation, this.value);
     }
 
     /**
      * Factory that creates a new {@link HsvColor} with the new {@link SaturationHsvColorComponent}.
      */
     final HsvColor setSaturation(final SaturationHsvColorComponent saturation) {
-        return this.saturation.equals(saturation) ?
+        return this.saturation == saturation.value ?
             this :
-            this.replace(this.hue, saturation, this.value);
+            this.replace(this.hue, saturation.value, this.value);
     }
 
     /**
@@ -85,9 +117,9 @@ public abstract class HsvColor extends Color {
      */
     final HsvColor setValue(final ValueHsvColorComponent value) {
 
-        return this.value.equals(value) ?
+        return this.value == value.value ?
             this :
-            this.replace(this.hue, this.saturation, value);
+            this.replace(this.hue, this.saturation, value.value);
     }
 
     /**
@@ -95,17 +127,42 @@ public abstract class HsvColor extends Color {
      */
     final HsvColor setAlpha(final AlphaHsvColorComponent alpha) {
 
-        return this.alpha().equals(alpha) ?
+        return this.alphaValue() == alpha.value ?
             this :
-            AlphaHsvColor.withAlpha(this.hue, this.saturation, this.value, alpha);
+            AlphaHsvColor.withAlpha(this.hue, this.saturation, this.value, alpha.value);
     }
 
     /**
-     * Factory that creates a {@link HsvColor} with the given {@link HsvColorComponent components}.
+     * Factory that creates a {@link HsvColor} with the given {@link HsvColorComponent component} values.
      */
-    abstract HsvColor replace(final HueHsvColorComponent hue,
-                              final SaturationHsvColorComponent saturation,
-                              final ValueHsvColorComponent value);
+    abstract HsvColor replace(final float hue,
+                              final float saturation,
+                              final float value);
+
+    /**
+     * Returns a {@link HsvColor} with the hue rounded to the nearest tenth of a degree and the remaining components
+     * to the nearest tenth of a percent. The components of the result are all shared instances, making it a cheap key
+     * when many similar colors are held.
+     */
+    public final HsvColor quantize() {
+        return this.setHue(
+            HueHsvColorComponent.with(
+                HueHsvColorComponent.quantize(this.hue)
+            )
+        ).setSaturation(
+            SaturationHsvColorComponent.with(
+                SaturationHsvColorComponent.quantize(this.saturation)
+            )
+        ).setValue(
+            ValueHsvColorComponent.with(
+                ValueHsvColorComponent.quantize(this.value)
+            )
+        ).setAlpha(
+            AlphaHsvColorComponent.with(
+                AlphaHsvColorComponent.quantize(this.alphaValue())
+            )
+        );
+    }
 
     // properties
 
@@ -113,39 +170,57 @@ public abstract class HsvColor extends Color {
      * Getter that returns only the {@link HueHsvColorComponent}
      */
     public final HueHsvColorComponent hue() {
-        return this.hue;
+        return HueHsvColorComponent.with(this.hue);
     }
 
-    final HueHsvColorComponent hue;
+    final float hue;
 
     /**
      * Getter that returns only the {@link SaturationHsvColorComponent}
      */
     public final SaturationHsvColorComponent saturation() {
-        return this.saturation;
+        return SaturationHsvColorComponent.with(this.saturation);
     }
 
-    final SaturationHsvColorComponent saturation;
+    final float saturation;
 
     /**
      * Getter that returns only the {@link ValueHsvColorComponent}
      */
     public final ValueHsvColorComponent value() {
-        return this.value;
+        return ValueHsvColorComponent.with(this.value);
     }
 
-    final ValueHsvColorComponent value;
+    final float value;
 
     /**
      * Getter that returns only the {@link AlphaHsvColorComponent}
      */
     public abstract AlphaHsvColorComponent alpha();
 
+    /**
+     * Getter that returns the alpha value without creating a {@link AlphaHsvColorComponent}.
+     */
+    abstract float alphaValue();
+
     // Color............................................................................................................
 
     @Override
     public final HslColor toHsl() {
-        return this.toRgb().toHsl();
+        final float saturation = this.saturation;
+        final float value = this.value;
+
+        return HslColor.with(
+            this.hue,
+            HslHsvConversions.hsvToHslSaturation(
+                saturation,
+                value
+            ),
+            HslHsvConversions.hsvToHslLightness(
+                saturation,
+                value
+            )
+        );
     }
 
     @Override
@@ -159,9 +234,9 @@ public abstract class HsvColor extends Color {
      */
     @Override
     public final RgbColor toRgb() {
-        final float value = this.value.value;
-        final float chroma = this.saturation.value * value;
-        final float q = this.hue.value / 60.0f;
+        final float value = this.value;
+        final float chroma = this.saturation * value;
+        final float q = this.hue / 60.0f;
         final float x = chroma * (1.0f - Math.abs((q % 2.0f) - 1.0f));
         float red = 0;
         float green = 0;
@@ -234,32 +309,32 @@ public abstract class HsvColor extends Color {
         return this.setHue(
             HsvColorComponent.hue(
                 mixFloatValue(
-                    this.hue().value,
-                    color.hue().value,
+                    this.hue,
+                    color.hue,
                     amount
                 )
             )
         ).setSaturation(
             HsvColorComponent.saturation(
                 mixFloatValue(
-                    this.saturation().value,
-                    color.saturation().value,
+                    this.saturation,
+                    color.saturation,
                     amount
                 )
             )
         ).setValue(
             HsvColorComponent.value(
                 mixFloatValue(
-                    this.value().value,
-                    color.value().value,
+                    this.value,
+                    color.value,
                     amount
                 )
             )
         ).setAlpha(
             HsvColorComponent.alpha(
                 mixFloatValue(
-                    this.alpha().value,
-                    color.alpha().value,
+                    this.alphaValue(),
+                    color.alphaValue(),
                     amount
                 )
             )
@@ -283,12 +358,10 @@ public abstract class HsvColor extends Color {
 
     @Override
     public final int hashCode() {
-        return Objects.hash(
-            this.hue,
-            this.saturation,
-            this.value,
-            this.hashCodeAlpha()
-        );
+        int hash = Float.hashCode(this.hue);
+        hash = 31 * hash + Float.hashCode(this.saturation);
+        hash = 31 * hash + Float.hashCode(this.value);
+        return 31 * hash + this.hashCodeAlpha();
     }
 
     abstract int hashCodeAlpha();
@@ -298,9 +371,9 @@ public abstract class HsvColor extends Color {
     }
 
     private boolean equals1(final HsvColor other) {
-        return this.hue.equals(other.hue) &&
-            this.saturation.equals(other.saturation) &&
-            this.value.equals(other.value) &&
+        return this.hue == other.hue &&
+            this.saturation == other.saturation &&
+            this.value == other.value &&
             this.equalsAlpha(other);
     }
 
@@ -310,9 +383,9 @@ public abstract class HsvColor extends Color {
     public final void buildToString(final ToStringBuilder builder) {
         builder.separator(",")
             .append(this.functionName())
-            .value(this.hue)
-            .value(this.saturation)
-            .value(this.value);
+            .value(this.hue())
+            .value(this.saturation())
+            .value(this.value());
         this.buildToStringAlpha(builder);
         builder.append(')');
     }
@@ -320,4 +393,29 @@ public abstract class HsvColor extends Color {
     abstract String functionName();
 
     abstract void buildToStringAlpha(final ToStringBuilder builder);
+
+    // appendTo.........................................................................................................
+
+    @Override
+    final void appendTo0(final Appendable text) throws IOException {
+        text.append(this.functionName());
+        HslOrHsvColorComponent.appendDegrees(
+            this.hue,
+            text
+        );
+        text.append(',');
+        HslOrHsvColorComponent.appendPercentage(
+            this.saturation,
+            text
+        );
+        text.append(',');
+        HslOrHsvColorComponent.appendPercentage(
+            this.value,
+            text
+        );
+        this.appendAlpha(text);
+        text.append(')');
+    }
+
+    abstract void appendAlpha(final Appendable text) throws IOException;
 }
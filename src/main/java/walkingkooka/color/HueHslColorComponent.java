@@ -17,6 +17,8 @@
 
 package walkingkooka.color;
 
+import java.io.IOException;
+
 /**
  * A {@link HslColorComponent} holding the hue component which is a value between 0 and 360 degrees.
  */
@@ -32,11 +34,27 @@ final public class HueHslColorComponent extends HslColorComponent {
      */
     public final static float MAX_VALUE = 360.0f;
 
+    /**
+     * Shares components whose value is a whole tenth of a degree.
+     */
+    private final static HslOrHsvColorComponentCache<HueHslColorComponent> CACHE = HslOrHsvColorComponentCache.with(
+        MAX_VALUE,
+        10,
+        HueHslColorComponent::new
+    );
+
     /**
      * Factory that creates a new {@link HueHslColorComponent}
      */
     static HueHslColorComponent with(final float value) {
-        return new HueHslColorComponent(value);
+        return CACHE.get(value);
+    }
+
+    /**
+     * Rounds the value to the nearest tenth of a degree, components with such values are shared.
+     */
+    static float quantize(final float value) {
+        return CACHE.quantize(value);
     }
 
     /**
@@ -54,7 +72,7 @@ final public class HueHslColorComponent extends HslColorComponent {
 
     @Override
     public HueHslColorComponent add(final float value) {
-        return 0 == value ? this : new HueHslColorComponent(HslColorComponent.add(value, HueHslColorComponent.MIN_VALUE, HueHslColorComponent.MAX_VALUE));
+        return 0 == value ? this : with(HslColorComponent.add(value, HueHslColorComponent.MIN_VALUE, HueHslColorComponent.MAX_VALUE));
     }
 
     @Override
@@ -69,7 +87,7 @@ final public class HueHslColorComponent extends HslColorComponent {
      */
     @Override
     HueHslColorComponent replace(final float value) {
-        return new HueHslColorComponent(value);
+        return with(value);
     }
 
     @Override
@@ -88,4 +106,12 @@ final public class HueHslColorComponent extends HslColorComponent {
     public String toString() {
         return String.valueOf(Math.round(this.value));
     }
+
+    @Override
+    void appendTo(final Appendable text) throws IOException {
+        appendDegrees(
+            this.value,
+            text
+        );
+    }
 }
@@ -17,6 +17,8 @@
 
 package walkingkooka.color;
 
+import java.io.IOException;
+
 /**
  * A {@link HsvColorComponent} holding the hue component which is a value between 0 and 360 degrees.
  */
@@ -32,11 +34,27 @@ final public class HueHsvColorComponent extends HsvColorComponent {
      */
     public final static float MAX_VALUE = 360.0f;
 
+    /**
+     * Shares components whose value is a whole tenth of a degree.
+     */
+    private final static HslOrHsvColorComponentCache<HueHsvColorComponent> CACHE = HslOrHsvColorComponentCache.with(
+        MAX_VALUE,
+        10,
+        HueHsvColorComponent::new
+    );
+
     /**
      * Factory that creates a new {@link HueHsvColorComponent}
      */
     static HueHsvColorComponent with(final float value) {
-        return new HueHsvColorComponent(value);
+        return CACHE.get(value);
+    }
+
+    /**
+     * Rounds the value to the nearest tenth of a degree, components with such values are shared.
+     */
+    static float quantize(final float value) {
+        return CACHE.quantize(value);
     }
 
     /**
@@ -56,7 +74,7 @@ final public class HueHsvColorComponent extends HsvColorComponent {
     public HueHsvColorComponent add(final float value) {
         return 0 == value ?
             this :
-            new HueHsvColorComponent(
+            with(
                 HsvColorComponent.add(
                     value,
                     MIN_VALUE,
@@ -77,7 +95,7 @@ final public class HueHsvColorComponent extends HsvColorComponent {
      */
     @Override
     HueHsvColorComponent replace(final float value) {
-        return new HueHsvColorComponent(value);
+        return with(value);
     }
 
     @Override
@@ -96,4 +114,12 @@ final public class HueHsvColorComponent extends HsvColorComponent {
     public String toString() {
         return String.valueOf(Math.round(this.value));
     }
+
+    @Override
+    void appendTo(final Appendable text) throws IOException {
+        appendDegrees(
+            this.value,
+            text
+        );
+    }
 }
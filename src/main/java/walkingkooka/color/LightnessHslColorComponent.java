@@ -22,11 +22,27 @@ package walkingkooka.color;
  */
 final public class LightnessHslColorComponent extends AlphaLightnessOrSaturationHslColorComponent {
 
+    /**
+     * Shares components whose value is a whole tenth of a percent.
+     */
+    private final static HslOrHsvColorComponentCache<LightnessHslColorComponent> CACHE = HslOrHsvColorComponentCache.with(
+        MAX_VALUE,
+        1000,
+        LightnessHslColorComponent::new
+    );
+
     /**
      * Factory that creates a new {@link LightnessHslColorComponent}
      */
     static LightnessHslColorComponent with(final float value) {
-        return new LightnessHslColorComponent(value);
+        return CACHE.get(value);
+    }
+
+    /**
+     * Rounds the value to the nearest tenth of a percent, components with such values are shared.
+     */
+    static float quantize(final float value) {
+        return CACHE.quantize(value);
     }
 
     /**
@@ -39,7 +55,7 @@ final public class LightnessHslColorComponent extends AlphaLightnessOrSaturation
     @Override
     public LightnessHslColorComponent add(final float value) {
         return 0 == value ? this
-            : new LightnessHslColorComponent(HslColorComponent.add(value, LightnessHslColorComponent.MIN_VALUE, LightnessHslColorComponent.MAX_VALUE));
+            : with(HslColorComponent.add(value, LightnessHslColorComponent.MIN_VALUE, LightnessHslColorComponent.MAX_VALUE));
     }
 
     @Override
@@ -54,7 +70,7 @@ final public class LightnessHslColorComponent extends AlphaLightnessOrSaturation
      */
     @Override
     LightnessHslColorComponent replace(final float value) {
-        return new LightnessHslColorComponent(value);
+        return with(value);
     }
 
     @Override
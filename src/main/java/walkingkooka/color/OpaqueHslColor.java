@@ -19,6 +19,8 @@ package walkingkooka.color;
 
 import walkingkooka.ToStringBuilder;
 
+import java.io.IOException;
+
 /**
  * A {@link HslColor} that includes an alpha property.
  */
@@ -27,12 +29,22 @@ final class OpaqueHslColor extends HslColor {
     static OpaqueHslColor withOpaque(final HueHslColorComponent hue,
                                      final SaturationHslColorComponent saturation,
                                      final LightnessHslColorComponent lightness) {
+        return withOpaque(
+            hue.value,
+            saturation.value,
+            lightness.value
+        );
+    }
+
+    static OpaqueHslColor withOpaque(final float hue,
+                                     final float saturation,
+                                     final float lightness) {
         return new OpaqueHslColor(hue, saturation, lightness);
     }
 
-    private OpaqueHslColor(final HueHslColorComponent hue,
-                           final SaturationHslColorComponent saturation,
-                           final LightnessHslColorComponent lightness) {
+    private OpaqueHslColor(final float hue,
+                           final float saturation,
+                           final float lightness) {
         super(hue, saturation, lightness);
     }
 
@@ -41,13 +53,18 @@ final class OpaqueHslColor extends HslColor {
         return AlphaHslColorComponent.OPAQUE;
     }
 
+    @Override
+    float alphaValue() {
+        return AlphaHslColorComponent.MAX_VALUE;
+    }
+
     /**
-     * Factory that creates a {@link HslColor} with the given {@link HslColorComponent components}.
+     * Factory that creates a {@link HslColor} with the given {@link HslColorComponent component} values.
      */
     @Override
-    HslColor replace(final HueHslColorComponent hue,
-                     final SaturationHslColorComponent saturation,
-                     final LightnessHslColorComponent lightness) {
+    HslColor replace(final float hue,
+                     final float saturation,
+                     final float lightness) {
         return withOpaque(hue, saturation, lightness);
     }
 
@@ -78,4 +95,11 @@ final class OpaqueHslColor extends HslColor {
     @Override
     void buildToStringAlpha(final ToStringBuilder builder) {
     }
+
+    // appendTo.........................................................................................................
+
+    @Override
+    void appendAlpha(final Appendable text) {
+        // no alpha component.
+    }
 }
@@ -19,6 +19,8 @@ package walkingkooka.color;
 
 import walkingkooka.ToStringBuilder;
 
+import java.io.IOException;
+
 /**
  * A {@link HsvColor} that includes an alpha property.
  */
@@ -27,12 +29,22 @@ final class OpaqueHsvColor extends HsvColor {
     static OpaqueHsvColor withOpaque(final HueHsvColorComponent hue,
                                      final SaturationHsvColorComponent saturation,
                                      final ValueHsvColorComponent value) {
+        return withOpaque(
+            hue.value,
+            saturation.value,
+            value.value
+        );
+    }
+
+    static OpaqueHsvColor withOpaque(final float hue,
+                                     final float saturation,
+                                     final float value) {
         return new OpaqueHsvColor(hue, saturation, value);
     }
 
-    private OpaqueHsvColor(final HueHsvColorComponent hue,
-                           final SaturationHsvColorComponent saturation,
-                           final ValueHsvColorComponent value) {
+    private OpaqueHsvColor(final float hue,
+                           final float saturation,
+                           final float value) {
         super(hue, saturation, value);
     }
 
@@ -41,13 +53,18 @@ final class OpaqueHsvColor extends HsvColor {
         return AlphaHsvColorComponent.OPAQUE;
     }
 
+    @Override
+    float alphaValue() {
+        return AlphaHsvColorComponent.MAX_VALUE;
+    }
+
     /**
-     * Factory that creates a {@link HsvColor} with the given {@link HsvColorComponent components}.
+     * Factory that creates a {@link HsvColor} with the given {@link HsvColorComponent component} values.
      */
     @Override
-    HsvColor replace(final HueHsvColorComponent hue,
-                     final SaturationHsvColorComponent saturation,
-                     final ValueHsvColorComponent value) {
+    HsvColor replace(final float hue,
+                     final float saturation,
+                     final float value) {
         return withOpaque(hue, saturation, value);
     }
 
@@ -78,4 +95,11 @@ final class OpaqueHsvColor extends HsvColor {
     @Override
     void buildToStringAlpha(final ToStringBuilder builder) {
     }
+
+    // appendTo.........................................................................................................
+
+    @Override
+    void appendAlpha(final Appendable text) {
+        // no alpha component.
+    }
 }
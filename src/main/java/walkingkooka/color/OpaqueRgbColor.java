@@ -18,8 +18,10 @@
 package walkingkooka.color;
 
 import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.Cast;
 import walkingkooka.ToStringBuilder;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -45,32 +47,40 @@ final class OpaqueRgbColor extends RgbColor {
      */
     static OpaqueRgbColor computeRgbAndCreate(final RedRgbColorComponent red, final GreenRgbColorComponent green,
                                               final BlueRgbColorComponent blue) {
-        return OpaqueRgbColor.with(red, green, blue, //
+        return OpaqueRgbColor.with(
             (red.unsignedIntValue << RgbColor.RED_SHIFT) | // red
                 (green.unsignedIntValue << RgbColor.GREEN_SHIFT) | // green
                 (blue.unsignedIntValue << RgbColor.BLUE_SHIFT)); // blue
     }
 
     /**
-     * Factory that creates with out any parameter checking.
+     * Factory that creates with out any parameter checking, returning a cached instance if a {@link RgbColorCache} is present.
      */
-    static OpaqueRgbColor with(final RedRgbColorComponent red,
-                               final GreenRgbColorComponent green,
-                               final BlueRgbColorComponent blue,
-                               final int rgb) {
-        return new OpaqueRgbColor(red, green, blue, rgb);
+    static OpaqueRgbColor with(final int rgb) {
+        final RgbColorCache cache = RgbColor.cache;
+
+        OpaqueRgbColor color = null;
+        if (null != cache) {
+            color = Cast.to(
+                cache.get(OpaqueRgbColor.ALPHA | rgb)
+            );
+        }
+
+        if (null == color) {
+            color = new OpaqueRgbColor(rgb);
+            if (null != cache) {
+                cache.put(color);
+            }
+        }
+
+        return color;
     }
 
     /**
      * Private constructor use factory.
      */
-    private OpaqueRgbColor(final RedRgbColorComponent red,
-                           final GreenRgbColorComponent green,
-                           final BlueRgbColorComponent blue,
-                           final int rgb) {
-        super(red, green, blue);
-        this.rgb = rgb;
-        this.argb = OpaqueRgbColor.ALPHA | rgb;
+    private OpaqueRgbColor(final int rgb) {
+        super(OpaqueRgbColor.ALPHA | rgb);
     }
 
     /**
@@ -96,7 +106,7 @@ final class OpaqueRgbColor extends RgbColor {
     RgbColor setAlpha(final AlphaRgbColorComponent alpha) {
         return this.alpha().equals(alpha) ?
             this :
-            AlphaRgbColor.with(this.red, this.green, this.blue, alpha);
+            AlphaRgbColor.with(this.red(), this.green(), this.blue(), alpha);
     }
 
     /**
@@ -114,10 +124,10 @@ final class OpaqueRgbColor extends RgbColor {
      */
     @Override
     public int rgb() {
-        return this.rgb;
+        return OpaqueRgbColor.MASK & this.argb;
     }
 
-    private final int rgb;
+    private final static int MASK = 0x00FFFFFF;
 
     /**
      * Returns an integer holding the ARGB value.
@@ -127,8 +137,6 @@ final class OpaqueRgbColor extends RgbColor {
         return this.argb;
     }
 
-    private final int argb;
-
     /**
      * A pre-computed constant holding the constant alpha component used by {@link #argb()}.
      */
@@ -142,6 +150,14 @@ final class OpaqueRgbColor extends RgbColor {
         return this.rgb();
     }
 
+    /**
+     * Returns the RGB
+     */
+    @Override
+    public int intValue() {
+        return this.rgb();
+    }
+
     // AWT..............................................................................................................
 
     @GwtIncompatible
@@ -153,17 +169,17 @@ final class OpaqueRgbColor extends RgbColor {
     // toHexString......................................................................................................
 
     @Override
-    int hexStringDigitLength() {
-        return 6;
+    void appendHexDigits(final Appendable text) throws IOException {
+        this.appendRedGreenBlueComponents(text);
     }
 
     // UsesToStringBuilder..............................................................................................
 
     @Override
     void buildColorComponentsToString(final ToStringBuilder builder) {
-        final RedRgbColorComponent red = this.red;
-        final GreenRgbColorComponent green = this.green;
-        final BlueRgbColorComponent blue = this.blue;
+        final RedRgbColorComponent red = this.red();
+        final GreenRgbColorComponent green = this.green();
+        final BlueRgbColorComponent blue = this.blue();
 
         if (canBeOneHexDigit(red) && canBeOneHexDigit(green) && canBeOneHexDigit(blue)) {
             addHexDigit(red, builder);
@@ -174,6 +190,23 @@ final class OpaqueRgbColor extends RgbColor {
         }
     }
 
+    // appendTo.........................................................................................................
+
+    @Override
+    void appendColorComponents(final Appendable text) throws IOException {
+        final RedRgbColorComponent red = this.red();
+        final GreenRgbColorComponent green = this.green();
+        final BlueRgbColorComponent blue = this.blue();
+
+        if (canBeOneHexDigit(red) && canBeOneHexDigit(green) && canBeOneHexDigit(blue)) {
+            appendHexDigit(red, text);
+            appendHexDigit(green, text);
+            appendHexDigit(blue, text);
+        } else {
+            this.appendRedGreenBlueComponents(text);
+        }
+    }
+
     // RgbColorString................................................................................
 
     /**
@@ -185,7 +218,7 @@ final class OpaqueRgbColor extends RgbColor {
     }
 
     @Override
-    void alphaComponentToString(final StringBuilder b,
+    void alphaComponentToString(final Appendable text,
                                 final RgbColorString format) {
         // no alpha component.
     }
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.util.Objects;
+
+/**
+ * Converts ARGB values to HSL or HSV without creating any {@link Color} or {@link ColorComponent}, returning the result
+ * packed into a <code>long</code>.
+ * <br>
+ * The hue is held as the bits of a <code>float</code> in the high 32 bits, while the low 16 bits hold the unsigned
+ * maximum and minimum of the red, green and blue components, from which the remaining HSL or HSV components are
+ * computed when requested. Components are selected using integer comparisons and converted to <code>float</code> using
+ * a 256 entry table, the remaining <code>float</code> arithmetic is identical to {@link RgbColor#toHsl()} and
+ * {@link RgbColor#toHsv()} so results are bit for bit the same.
+ */
+public final class PackedHslHsv implements PublicStaticHelper {
+
+    /**
+     * Converts the ARGB value to a packed HSL value, ignoring alpha.
+     */
+    public static long hsl(final int argb) {
+        final int red = red(argb);
+        final int green = green(argb);
+        final int blue = blue(argb);
+
+        final int max = Math.max(red, Math.max(green, blue));
+        final int min = Math.min(red, Math.min(green, blue));
+
+        final float maxFloat = FLOAT_VALUES[max];
+        final float diff = maxFloat - FLOAT_VALUES[min];
+
+        float hue = 0;
+        if (0 != diff) {
+            final float redFloat = FLOAT_VALUES[red];
+            final float greenFloat = FLOAT_VALUES[green];
+            final float blueFloat = FLOAT_VALUES[blue];
+
+            if (max == red) {
+                hue = (greenFloat - (blueFloat / diff)) + (greenFloat < blueFloat ? 6 : 0);
+            } else {
+                if (max == green) {
+                    hue = ((blueFloat - redFloat) / diff) + 2;
+                } else {
+                    hue = ((redFloat - greenFloat) / diff) + 4;
+                }
+            }
+
+            hue /= 6;
+        }
+
+        return pack(
+            Math.abs(hue * HueHslColorComponent.MAX_VALUE),
+            max,
+            min
+        );
+    }
+
+    /**
+     * Converts all ARGB values to packed HSL values, {@link #hsl(int)}.
+     */
+    public static void hsl(final int[] argb,
+                           final long[] hsl) {
+        checkLength(argb, hsl, "hsl");
+
+        final int length = argb.length;
+        for (int i = 0; i < length; i++) {
+            hsl[i] = hsl(argb[i]);
+        }
+    }
+
+    /**
+     * Converts the ARGB value to a packed HSV value, ignoring alpha.
+     */
+    public static long hsv(final int argb) {
+        final int red = red(argb);
+        final int green = green(argb);
+        final int blue = blue(argb);
+
+        final int max = Math.max(red, Math.max(green, blue));
+        final int min = Math.min(red, Math.min(green, blue));
+
+        final float maxFloat = FLOAT_VALUES[max];
+        final float delta = maxFloat - FLOAT_VALUES[min];
+
+        float hue = 0;
+        if (0 != maxFloat && 0 != delta / maxFloat) {
+            final float maxRed = maxFloat - FLOAT_VALUES[red];
+            final float maxGreen = maxFloat - FLOAT_VALUES[green];
+            final float maxBlue = maxFloat - FLOAT_VALUES[blue];
+
+            if (max == red) {
+                hue = ((maxBlue) - (maxGreen)) / delta;
+            } else if (max == green) {
+                hue = 2.0f + (((maxRed) - (maxBlue)) / delta);
+            } else {
+                hue = 4.0f + (((maxGreen) - (maxRed)) / delta);
+            }
+
+            hue *= 60.0f;
+            while (hue < 0.0f) {
+                hue += HueHsvColorComponent.MAX_VALUE;
+            }
+            while (hue >= HueHsvColorComponent.MAX_VALUE) {
+                hue -= HueHsvColorComponent.MAX_VALUE;
+            }
+        }
+
+        return pack(
+            hue,
+            max,
+            min
+        );
+    }
+
+    /**
+     * Converts all ARGB values to packed HSV values, {@link #hsv(int)}.
+     */
+    public static void hsv(final int[] argb,
+                           final long[] hsv) {
+        checkLength(argb, hsv, "hsv");
+
+        final int length = argb.length;
+        for (int i = 0; i < length; i++) {
+            hsv[i] = hsv(argb[i]);
+        }
+    }
+
+    private static void checkLength(final int[] argb,
+                                    final long[] packed,
+                                    final String label) {
+        Objects.requireNonNull(argb, "argb");
+        Objects.requireNonNull(packed, label);
+
+        if (packed.length < argb.length) {
+            throw new IllegalArgumentException("Invalid " + label + " length " + packed.length + " < " + argb.length);
+        }
+    }
+
+    private static int red(final int argb) {
+        return RgbColorComponent.mask(argb >> RgbColor.RED_SHIFT);
+    }
+
+    private static int green(final int argb) {
+        return RgbColorComponent.mask(argb >> RgbColor.GREEN_SHIFT);
+    }
+
+    private static int blue(final int argb) {
+        return RgbColorComponent.mask(argb >> RgbColor.BLUE_SHIFT);
+    }
+
+    private static long pack(final float hue,
+                             final int max,
+                             final int min) {
+        return ((long) Float.floatToIntBits(hue) << 32) |
+            (max << 8) |
+            min;
+    }
+
+    // hue..............................................................................................................
+
+    /**
+     * Returns the hue of a packed HSL or HSV value.
+     */
+    public static float hue(final long packed) {
+        return Float.intBitsToFloat((int) (packed >>> 32));
+    }
+
+    // HSL..............................................................................................................
+
+    /**
+     * Returns the saturation of a packed HSL value.
+     */
+    public static float hslSaturation(final long packed) {
+        final float max = max(packed);
+        final float min = min(packed);
+        final float sumMaxMin = max + min;
+        final float diff = max - min;
+
+        return 0 != diff ?
+            Math.min(1.0f, diff / (sumMaxMin / 2 > 0.5f ? (2f - sumMaxMin) : sumMaxMin)) :
+            0;
+    }
+
+    /**
+     * Returns the lightness of a packed HSL value.
+     */
+    public static float hslLightness(final long packed) {
+        return (max(packed) + min(packed)) / 2;
+    }
+
+    // HSV..............................................................................................................
+
+    /**
+     * Returns the saturation of a packed HSV value.
+     */
+    public static float hsvSaturation(final long packed) {
+        final float max = max(packed);
+
+        return 0 != max ?
+            (max - min(packed)) / max :
+            0.0f;
+    }
+
+    /**
+     * Returns the value of a packed HSV value.
+     */
+    public static float hsvValue(final long packed) {
+        return max(packed);
+    }
+
+    private static float max(final long packed) {
+        return FLOAT_VALUES[RgbColorComponent.mask((int) (packed >> 8))];
+    }
+
+    private static float min(final long packed) {
+        return FLOAT_VALUES[RgbColorComponent.mask((int) packed)];
+    }
+
+    /**
+     * Holds the {@link RgbColorComponent#floatValue} for every unsigned component value.
+     */
+    private final static float[] FLOAT_VALUES = new float[RgbColorComponent.MAX_VALUE + 1];
+
+    static {
+        for (int i = 0; i <= RgbColorComponent.MAX_VALUE; i++) {
+            FLOAT_VALUES[i] = RedRgbColorComponent.with((byte) i)
+                .floatValue;
+        }
+    }
+
+    /**
+     * Stop creation
+     */
+    private PackedHslHsv() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -61,6 +61,12 @@ final public class RedRgbColorComponent extends RgbColorComponent {
         return color.red().unsignedIntValue;
     }
 
+    @Override
+    int replaceArgb(final int argb) {
+        return (argb & ~(0xFF << RgbColor.RED_SHIFT)) |
+            (this.unsignedIntValue << RgbColor.RED_SHIFT);
+    }
+
     @Override
     RgbColor setComponent(final RgbColor color, final int value) {
         return color.setRed(RedRgbColorComponent.CONSTANTS[RgbColorComponent.mask(value)]);
@@ -21,12 +21,9 @@ import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.Cast;
 import walkingkooka.ToStringBuilder;
 import walkingkooka.ToStringBuilderOption;
-import walkingkooka.color.parser.ColorParsers;
 import walkingkooka.text.CharSequences;
-import walkingkooka.text.cursor.parser.Parser;
-import walkingkooka.text.cursor.parser.ParserContext;
-import walkingkooka.text.cursor.parser.ParserReporters;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -37,18 +34,32 @@ import java.util.Optional;
 abstract public class RgbColor extends Color implements ColorLike<Integer> {
 
     static RgbColor parseRgbOrHash(final String text) {
+        return parseRgbOrHash(
+            text,
+            0,
+            text.length()
+        );
+    }
+
+    /**
+     * Parses the characters between start and end, the hex and web color name forms are decoded in place without
+     * creating any intermediate {@link String}.
+     */
+    static RgbColor parseRgbOrHash(final CharSequence text,
+                                   final int start,
+                                   final int end) {
         final RgbColor color;
 
-        if (text.startsWith("rgb")) {
-            color = parseRgbFunction(text);
+        if (ColorFunctionScanner.startsWith(text, start, end, "rgb")) {
+            color = parseRgbFunction(text, start, end);
         } else {
-            if (Character.isLetter(text.charAt(0))) {
-                color = parseWebColorName(text);
+            if (Character.isLetter(text.charAt(start))) {
+                color = parseWebColorName(text, start, end);
             } else {
-                if (text.startsWith("#")) {
-                    color = parseHash(text);
+                if ('#' == text.charAt(start)) {
+                    color = parseHash(text, start, end);
                 } else {
-                    throw new IllegalArgumentException("Invalid rgb color " + CharSequences.quoteAndEscape(text));
+                    throw new IllegalArgumentException("Invalid rgb color " + CharSequences.quoteAndEscape(text.subSequence(start, end)));
                 }
             }
         }
@@ -57,110 +68,179 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
 
     // parseRgb rgb(12,34,56)...........................................................................................
 
-    private static RgbColor parseRgbFunction(final String text) {
-        return parseColorParserToken(text, RGB_FUNCTION_PARSER)
-            .toRgb();
+    private static RgbColor parseRgbFunction(final CharSequence text,
+                                             final int start,
+                                             final int end) {
+        final RgbColor color = ColorFunctionScanner.rgb(text, start, end);
+        return null != color ?
+            color :
+            parseColorParserToken(
+                text.subSequence(start, end).toString(),
+                ColorFunctionParsers.RGB
+            ).toRgb();
     }
 
-    private final static Parser<ParserContext> RGB_FUNCTION_PARSER = ColorParsers.rgb()
-        .orReport(ParserReporters.basic());
-
     // parseWebColorName................................................................................................
 
     /**
      * Looks up by the given name or fails.
      */
-    private static RgbColor parseWebColorName(final String name) {
-        return WebColorName.with(name)
-            .map(WebColorName::color)
-            .orElseThrow(() -> new UnknownColorNameException(name));
+    private static RgbColor parseWebColorName(final CharSequence text,
+                                              final int start,
+                                              final int end) {
+        final WebColorName name = WebColorName.with(text, start, end);
+        if (null == name) {
+            throw new UnknownColorNameException(
+                text.subSequence(start, end)
+                    .toString()
+            );
+        }
+        return name.color();
     }
 
     /**
      * Only parses several hex digit text, other forms will result in a {@link IllegalArgumentException}.
      */
-    private static RgbColor parseHash(final String text) {
-        RgbColor color;
+    private static RgbColor parseHash(final CharSequence text,
+                                      final int start,
+                                      final int end) {
+        return fromArgb0(
+            parseHashArgb(
+                text,
+                start,
+                end
+            )
+        );
+    }
+
+    /**
+     * Parses the hash forms returning the ARGB value without creating a {@link RgbColor}, forms without an alpha are
+     * opaque.
+     */
+    static int parseHashArgb(final CharSequence text,
+                             final int start,
+                             final int end) {
+        final int argb;
 
-        final int textLength = text.length();
+        final int textLength = end - start;
         switch (textLength) {
             case 4:
-                color = parseRgb3Hex(text);
+                argb = parseRgb3Hex(text, start, end);
                 break;
             case 5:
-                color = parseRgba4Hex(text);
+                argb = parseRgba4Hex(text, start, end);
                 break;
             case 7:
-                color = parseRrggbb(text);
+                argb = parseRrggbb(text, start, end);
                 break;
             case 9:
-                color = parseRrggbbaa(text);
+                argb = parseRrggbbaa(text, start, end);
                 break;
             default:
-                throw new IllegalArgumentException("Invalid text length " + CharSequences.quoteAndEscape(text));
+                throw new IllegalArgumentException("Invalid text length " + CharSequences.quoteAndEscape(text.subSequence(start, end)));
         }
-        return color;
+        return argb;
     }
 
     /**
      * Handles parsing RGB 3 hex digits.
      */
-    private static RgbColor parseRgb3Hex(final String text) {
-        final int value = parseHashHexDigits(text);
-        return fromRgb0((value & 0xF00) * 0x1100 +
+    private static int parseRgb3Hex(final CharSequence text,
+                                    final int start,
+                                    final int end) {
+        final int value = parseHashHexDigits(text, start, end);
+        return ALPHA_MASK |
+            (value & 0xF00) * 0x1100 +
             (value & 0xF0) * 0x110 +
-            (value & 0xF) * 0x11);
+            (value & 0xF) * 0x11;
     }
 
     /**
      * Handles parsing RGBA 4 hex digits.
      */
-    private static RgbColor parseRgba4Hex(final String text) {
-        final int value = parseHashHexDigits(text);
+    private static int parseRgba4Hex(final CharSequence text,
+                                     final int start,
+                                     final int end) {
+        final int value = parseHashHexDigits(text, start, end);
 
         final int red = ((value >> 12) & 0xf) * 0x11;
         final int green = ((value >> 8) & 0xf) * 0x11;
         final int blue = ((value >> 4) & 0xf) * 0x11;
         final int alpha = (value & 0xf) * 0x11;
 
-        return fromArgb0((alpha << 24) +
+        return (alpha << 24) +
             (red << 16) +
             (green << 8) +
-            blue);
+            blue;
     }
 
     /**
      * Handles parsing RRGGBB 6 hex digits.
      */
     // WebColorName.registerConstant
-    private static RgbColor parseRrggbb(final String text) {
-        return fromRgb0(parseHashHexDigits(text));
+    private static int parseRrggbb(final CharSequence text,
+                                   final int start,
+                                   final int end) {
+        return ALPHA_MASK | parseHashHexDigits(text, start, end);
     }
 
     /**
      * Handles parsing RRGGBBAA 8 hex digits.
      */
-    private static RgbColor parseRrggbbaa(final String text) {
-        final int value = parseHashHexDigits(text);
+    private static int parseRrggbbaa(final CharSequence text,
+                                     final int start,
+                                     final int end) {
+        final int value = parseHashHexDigits(text, start, end);
 
         final int red = (value >> 24) & 0xff;
         final int green = (value >> 16) & 0xff;
         final int blue = (value >> 8) & 0xff;
         final int alpha = value & 0xff;
 
-        return fromArgb0((alpha << 24) +
+        return (alpha << 24) +
             (red << 16) +
             (green << 8) +
-            blue);
+            blue;
     }
 
-    private static int parseHashHexDigits(final String text) {
-        try {
-            // Integer.parseInt will fail when parsing 8 hex digits...
-            return (int) Long.parseLong(text.substring(1), 16);
-        } catch (final NumberFormatException cause) {
-            throw new IllegalArgumentException("Invalid rgb " + CharSequences.quote(text), cause);
+    /**
+     * Decodes the hex digits after the leading hash, at most 8 so the value always fits in an int.
+     */
+    private static int parseHashHexDigits(final CharSequence text,
+                                          final int start,
+                                          final int end) {
+        int value = 0;
+
+        for (int i = start + 1; i < end; i++) {
+            final int digit = hexDigit(text.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid rgb " + CharSequences.quote(text.subSequence(start, end)));
+            }
+            value = (value << 4) | digit;
         }
+
+        return value;
+    }
+
+    /**
+     * Returns the value of an ASCII hex digit or -1.
+     */
+    private static int hexDigit(final char c) {
+        final int digit;
+
+        if (c >= '0' && c <= '9') {
+            digit = c - '0';
+        } else {
+            if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else {
+                digit = c >= 'A' && c <= 'F' ?
+                    c - 'A' + 10 :
+                    -1;
+            }
+        }
+
+        return digit;
     }
 
     /**
@@ -171,11 +251,7 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
             throw new IllegalArgumentException("Invalid rgb value " + Integer.toHexString(rgb));
         }
 
-        return OpaqueRgbColor.with( //
-            RgbColorComponent.red(RgbColor.shiftRight(rgb, RgbColor.RED_SHIFT)), //
-            RgbColorComponent.green(RgbColor.shiftRight(rgb, RgbColor.GREEN_SHIFT)), //
-            RgbColorComponent.blue(RgbColor.shiftRight(rgb, RgbColor.BLUE_SHIFT)), //
-            rgb & RgbColor.WITHOUT_ALPHA);
+        return OpaqueRgbColor.with(rgb & RgbColor.WITHOUT_ALPHA);
     }
 
     private final static int WITHOUT_ALPHA = 0x00FFFFFF;
@@ -222,6 +298,29 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
      */
     final static int BLUE_SHIFT = 0;
 
+    // cache............................................................................................................
+
+    /**
+     * Returns the {@link RgbColorCache} used by all {@link RgbColor} factories if one was installed.
+     */
+    public static Optional<RgbColorCache> cache() {
+        return Optional.ofNullable(RgbColor.cache);
+    }
+
+    /**
+     * Installs or removes with {@link Optional#empty()} the {@link RgbColorCache} used by all {@link RgbColor} factories.
+     */
+    public static void setCache(final Optional<RgbColorCache> cache) {
+        Objects.requireNonNull(cache, "cache");
+
+        RgbColor.cache = cache.orElse(null);
+    }
+
+    /**
+     * The {@link RgbColorCache} or null when caching is disabled, which is the default.
+     */
+    static volatile RgbColorCache cache;
+
     /**
      * Creates a new {@link RgbColor} with the provided components.
      */
@@ -247,13 +346,9 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
     /**
      * Package private constructor to limit sub classing.
      */
-    RgbColor(final RedRgbColorComponent red,
-             final GreenRgbColorComponent green,
-             final BlueRgbColorComponent blue) {
+    RgbColor(final int argb) {
         super();
-        this.red = red;
-        this.green = green;
-        this.blue = blue;
+        this.argb = argb;
     }
 
     /**
@@ -274,12 +369,12 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
      * Factory that creates a new {@link RgbColor} with the new {@link RedRgbColorComponent}.
      */
     final RgbColor setRed(final RedRgbColorComponent red) {
-        return this.red.equals(red) ?
+        return this.red().equals(red) ?
             this :
             this.replace(
                 red,
-                this.green,
-                this.blue
+                this.green(),
+                this.blue()
             );
     }
 
@@ -287,12 +382,12 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
      * Factory that creates a new {@link RgbColor} with the new {@link GreenRgbColorComponent}.
      */
     final RgbColor setGreen(final GreenRgbColorComponent green) {
-        return this.green.equals(green) ?
+        return this.green().equals(green) ?
             this :
             this.replace(
-                this.red,
+                this.red(),
                 green,
-                this.blue
+                this.blue()
             );
     }
 
@@ -300,11 +395,11 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
      * Factory that creates a new {@link RgbColor} with the new {@link BlueRgbColorComponent}.
      */
     final RgbColor setBlue(final BlueRgbColorComponent blue) {
-        return this.blue.equals(blue) ?
+        return this.blue().equals(blue) ?
             this :
             this.replace(
-                this.red,
-                this.green,
+                this.red(),
+                this.green(),
                 blue
             );
     }
@@ -339,41 +434,58 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
 
     private RgbColor mixRgb(final RgbColor color,
                             final float amount) {
-        return this.setRed(
-            RgbColorComponent.red(
-                mixIntValue(
-                    this.red().value,
-                    color.red().value,
-                    amount
-                )
-            )
-        ).setGreen(
-            RgbColorComponent.green(
-                mixIntValue(
-                    this.green().value,
-                    color.green().value,
-                    amount
-                )
-            )
-        ).setBlue(
-            RgbColorComponent.blue(
-                mixIntValue(
-                    this.blue().value,
-                    color.blue().value,
-                    amount
-                )
-            )
-        ).setAlpha(
-            RgbColorComponent.alpha(
-                mixIntValue(
-                    this.alpha().value,
-                    color.alpha().value,
-                    amount
-                )
-            )
+        final int argb = this.argb();
+        final int mixed = mixArgb(
+            argb,
+            color.argb(),
+            mixWeight(amount)
         );
+        return argb == mixed ?
+            this :
+            fromArgb0(mixed);
+    }
+
+    /**
+     * Converts a mix amount into a fixed point weight with {@link #MIX_WEIGHT_SHIFT} fraction bits. Amounts that are
+     * not small or large have at most 32 fraction bits, so the weight is an exact copy of the amount.
+     */
+    static long mixWeight(final float amount) {
+        return (long) (amount * (double) (1L << MIX_WEIGHT_SHIFT));
     }
 
+    /**
+     * Mixes all four components of both ARGB values in a single pass using the weight from {@link #mixWeight(float)},
+     * each component is rounded to the nearest integer.
+     */
+    static int mixArgb(final int argb,
+                       final int other,
+                       final long weight) {
+        return mixComponent(argb, other, weight, ALPHA_SHIFT) |
+            mixComponent(argb, other, weight, RED_SHIFT) |
+            mixComponent(argb, other, weight, GREEN_SHIFT) |
+            mixComponent(argb, other, weight, BLUE_SHIFT);
+    }
+
+    private static int mixComponent(final int argb,
+                                    final int other,
+                                    final long weight,
+                                    final int shift) {
+        final int value = (argb >>> shift) & 0xFF;
+        final int difference = value - ((other >>> shift) & 0xFF);
+
+        return (int) (
+            (
+                ((long) value << MIX_WEIGHT_SHIFT) -
+                    difference * weight +
+                    MIX_WEIGHT_HALF
+            ) >> MIX_WEIGHT_SHIFT
+        ) << shift;
+    }
+
+    private final static int MIX_WEIGHT_SHIFT = 32;
+
+    private final static long MIX_WEIGHT_HALF = 1L << (MIX_WEIGHT_SHIFT - 1);
+
     /**
      * Mixes the given {@link RgbColorComponent} by the provided amount and returns a {@link RgbColor} with that amount.
      */
@@ -395,28 +507,34 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
      * Getter that returns only the {@link RedRgbColorComponent}
      */
     public final RedRgbColorComponent red() {
-        return this.red;
+        return RedRgbColorComponent.with(
+            shiftRight(this.argb, RED_SHIFT)
+        );
     }
 
-    final RedRgbColorComponent red;
-
     /**
      * Getter that returns only the {@link GreenRgbColorComponent}
      */
     public final GreenRgbColorComponent green() {
-        return this.green;
+        return GreenRgbColorComponent.with(
+            shiftRight(this.argb, GREEN_SHIFT)
+        );
     }
 
-    final GreenRgbColorComponent green;
-
     /**
      * Getter that returns only the {@link BlueRgbColorComponent}
      */
     public final BlueRgbColorComponent blue() {
-        return this.blue;
+        return BlueRgbColorComponent.with(
+            shiftRight(this.argb, BLUE_SHIFT)
+        );
     }
 
-    final BlueRgbColorComponent blue;
+    /**
+     * The ARGB value, the components are not held but fetched from their constants when requested, so each color
+     * is a single <code>int</code>.
+     */
+    final int argb;
 
     /**
      * Always returns an opaque alpha.
@@ -440,28 +558,10 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
     abstract public Integer value();
 
     /**
-     * Returns the max of 3 floats.
-     */
-    private static float max(final float a,
-                             final float b,
-                             final float c) {
-        return Math.max(
-            a,
-            Math.max(b, c)
-        );
-    }
-
-    /**
-     * Returns the min of 3 floats.
+     * Returns either RGB or ARGB value without boxing.
      */
-    private static float min(final float a,
-                             final float b,
-                             final float c) {
-        return Math.min(
-            a,
-            Math.min(b, c)
-        );
-    }
+    @Override
+    abstract public int intValue();
 
     // WebColorName.....................................................................................................
 
@@ -471,12 +571,25 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
     @Override
     public final Optional<WebColorName> toWebColorName() {
         return Optional.ofNullable(
-            WebColorName.AARRGGBB_CONSTANTS.get(
+            WebColorName.withArgb(
                 this.argb()
             )
         );
     }
 
+    /**
+     * Returns the nearest {@link WebColorName} using the given {@link ColorMetric}, ignoring alpha. An exact match
+     * returns the same {@link WebColorName} as {@link #toWebColorName()}.
+     */
+    public final WebColorName toNearestWebColorName(final ColorMetric metric) {
+        Objects.requireNonNull(metric, "metric");
+
+        return WebColorNameNearest.nearest(
+            this.argb(),
+            metric
+        );
+    }
+
     // AWT..............................................................................................................
 
     /**
@@ -506,11 +619,11 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
         final float blue = this.blue()
             .floatValue;
 
-        if (red > 0 || green > 0 || blue > 0) {
-            final byte grayByte = RgbColorComponent.toByte(
-                (red + GRAY_ROUNDING) * 0.299F +
-                    (green + GRAY_ROUNDING) * 0.587F +
-                    (blue + GRAY_ROUNDING) * 0.114f
+        if (isNotBlack(red, green, blue)) {
+            final byte grayByte = toGrayByte(
+                red,
+                green,
+                blue
             );
 
             return this.setRed(
@@ -525,6 +638,28 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
         return gray;
     }
 
+    /**
+     * Tests if the given {@link RgbColorComponent#floatValue} are not black, black and near black colors are not converted to gray.
+     */
+    static boolean isNotBlack(final float red,
+                              final float green,
+                              final float blue) {
+        return red > 0 || green > 0 || blue > 0;
+    }
+
+    /**
+     * Computes the gray component value for the given {@link RgbColorComponent#floatValue}.
+     */
+    static byte toGrayByte(final float red,
+                           final float green,
+                           final float blue) {
+        return RgbColorComponent.toByte(
+            (red + GRAY_ROUNDING) * 0.299F +
+                (green + GRAY_ROUNDING) * 0.587F +
+                (blue + GRAY_ROUNDING) * 0.114f
+        );
+    }
+
     private final static float GRAY_ROUNDING = 1f / RgbColorComponent.MAX_VALUE / 2f;
 
     /**
@@ -565,41 +700,13 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
      */
     @Override
     public final HslColor toHsl() {
-        final float red = this.red.floatValue;
-        final float green = this.green.floatValue;
-        final float blue = this.blue.floatValue;
+        final long hsl = PackedHslHsv.hsl(this.argb());
 
-        final float max = RgbColor.max(red, green, blue);
-        final float min = RgbColor.min(red, green, blue);
-        final float sumMaxMin = max + min;
-
-        float hue = 0;
-        float saturation = 0;
-        final float lightness = sumMaxMin / 2;
-
-        final float diff = max - min;
-        if (0 != diff) {
-            saturation = Math.min(1.0f, diff / (lightness > 0.5f ? (2f - sumMaxMin) : sumMaxMin));
-
-            if (max == red) {
-                hue = (green - (blue / diff)) + (green < blue ? 6 : 0);
-            } else {
-                if (max == green) {
-                    hue = ((blue - red) / diff) + 2;
-                } else {
-                    if (max == blue) {
-                        hue = ((red - green) / diff) + 4;
-                    }
-                }
-            }
-
-            hue /= 6;
-        }
-
-        return HslColor.with(//
-            HslColorComponent.hue(Math.abs(hue * HueHslColorComponent.MAX_VALUE)), //
-            HslColorComponent.saturation(saturation), //
-            HslColorComponent.lightness(lightness));
+        return HslColor.with(
+            PackedHslHsv.hue(hsl),
+            PackedHslHsv.hslSaturation(hsl),
+            PackedHslHsv.hslLightness(hsl)
+        );
     }
 
     /**
@@ -607,45 +714,12 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
      */
     @Override
     public final HsvColor toHsv() {
-        final float red = this.red.floatValue;
-        final float green = this.green.floatValue;
-        final float blue = this.blue.floatValue;
-
-        final float max = RgbColor.max(red, green, blue);
-        final float min = RgbColor.min(red, green, blue);
-
-        float saturation = 0.0f;
-        if (max != 0) {
-            saturation = ((max - min)) / max;
-        }
-        float hue = 0;
-        if (saturation != 0) {
-            final float delta = max - min;
-            final float maxRed = max - red;
-            final float maxGreen = max - green;
-            final float maxBlue = max - blue;
-
-            if (red == max) {
-                hue = ((maxBlue) - (maxGreen)) / delta;
-            } else if (green == max) {
-                hue = 2.0f + (((maxRed) - (maxBlue)) / delta);
-            } else if (blue == max) {
-                hue = 4.0f + (((maxGreen) - (maxRed)) / delta);
-            }
-
-            hue *= 60.0f;
-            while (hue < 0.0f) {
-                hue += HueHsvColorComponent.MAX_VALUE;
-            }
-            while (hue >= HueHsvColorComponent.MAX_VALUE) {
-                hue -= HueHsvColorComponent.MAX_VALUE;
-            }
-        }
+        final long hsv = PackedHslHsv.hsv(this.argb());
 
         return HsvColor.with(
-            HsvColorComponent.hue(hue),
-            HsvColorComponent.saturation(saturation),
-            HsvColorComponent.value(max)
+            PackedHslHsv.hue(hsv),
+            PackedHslHsv.hsvSaturation(hsv),
+            PackedHslHsv.hsvValue(hsv)
         );
     }
 
@@ -673,17 +747,38 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
      * Returns this color in hex notation, eg #123456
      */
     public final String toHexString() {
-        return "#" +
-            CharSequences.padLeft(
-                Integer.toHexString(
-                    this.value()
-                ),
-                this.hexStringDigitLength(),
-                '0'
-            );
+        return this.appendHexString(
+            new StringBuilder()
+        ).toString();
     }
 
-    abstract int hexStringDigitLength();
+    /**
+     * Appends the same text as {@link #toHexString()} to the given {@link StringBuilder}.
+     */
+    public final StringBuilder appendHexString(final StringBuilder text) {
+        try {
+            this.appendHexString((Appendable) text);
+        } catch (final IOException never) {
+            throw new IllegalStateException(never);
+        }
+        return text;
+    }
+
+    /**
+     * Appends the same text as {@link #toHexString()} to the given {@link Appendable}, without creating any
+     * intermediate {@link String}.
+     */
+    public final void appendHexString(final Appendable text) throws IOException {
+        Objects.requireNonNull(text, "text");
+
+        text.append('#');
+        this.appendHexDigits(text);
+    }
+
+    /**
+     * Appends the two hex digits of each component, alpha first if present.
+     */
+    abstract void appendHexDigits(final Appendable text) throws IOException;
 
     // Object...........................................................................................................
 
@@ -692,7 +787,7 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
      */
     @Override //
     final public int hashCode() {
-        return this.value();
+        return this.intValue();
     }
 
     /**
@@ -704,17 +799,14 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
     }
 
     private boolean equals1(final RgbColor other) {
-        return this.value()
-            .equals(
-                other.value()
-            );
+        return this.intValue() == other.intValue();
     }
 
     @Override //
     final public void buildToString(final ToStringBuilder builder) {
         builder.disable(ToStringBuilderOption.QUOTE);
 
-        final WebColorName webColorName = WebColorName.AARRGGBB_CONSTANTS.get(
+        final WebColorName webColorName = WebColorName.withArgb(
             this.argb()
         );
         if (null != webColorName) {
@@ -732,10 +824,46 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
 
     abstract void buildColorComponentsToString(ToStringBuilder builder);
 
+    // appendTo.........................................................................................................
+
+    /**
+     * Appends the same text as {@link #buildToString(ToStringBuilder)}.
+     */
+    @Override
+    final void appendTo0(final Appendable text) throws IOException {
+        final WebColorName webColorName = WebColorName.withArgb(
+            this.argb()
+        );
+        if (null != webColorName) {
+            text.append(webColorName.value());
+        } else {
+            text.append('#');
+            this.appendColorComponents(text);
+        }
+    }
+
+    abstract void appendColorComponents(final Appendable text) throws IOException;
+
+    final void appendRedGreenBlueComponents(final Appendable text) throws IOException {
+        this.red().appendHex(text);
+        this.green().appendHex(text);
+        this.blue().appendHex(text);
+    }
+
+    static void appendHexDigit(final RgbColorComponent component,
+                               final Appendable text) throws IOException {
+        text.append(
+            Character.forDigit(
+                component.value & 0xf,
+                16
+            )
+        );
+    }
+
     final void addRedGreenBlueComponents(final ToStringBuilder builder) {
-        builder.value(this.red);
-        builder.value(this.green);
-        builder.value(this.blue);
+        builder.value(this.red());
+        builder.value(this.green());
+        builder.value(this.blue());
     }
 
     final void addHexDigit(final RgbColorComponent component,
@@ -751,7 +879,7 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
      * Helper that can be used to format RGB values like #112233 as #123.
      */
     static boolean canBeOneHexDigit(final RgbColorComponent component) {
-        final int value = component.value();
+        final int value = component.intValue();
         final int tens = (value >> 4) & 0x0f;
         final int ones = value & 0x0f;
 
@@ -765,6 +893,6 @@ abstract public class RgbColor extends Color implements ColorLike<Integer> {
      */
     abstract String rgbFunctionName();
 
-    abstract void alphaComponentToString(final StringBuilder b,
-                                         final RgbColorString format);
+    abstract void alphaComponentToString(final Appendable text,
+                                         final RgbColorString format) throws IOException;
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import walkingkooka.ToStringBuilder;
+import walkingkooka.UsesToStringBuilder;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache that canonicalizes {@link RgbColor} instances by their ARGB value, so equal colors created by the
+ * various factories share a single instance. Entries live in a direct mapped table, a new color replaces (evicts)
+ * any different color that hashes to the same slot.
+ * <br>
+ * The table slots hold references to immutable {@link RgbColor} so reads and writes from multiple threads are safe
+ * without locking, the worst outcome of a race is a lost update and a later miss.
+ * <br>
+ * Caching is opt-in, install with {@link RgbColor#setCache(java.util.Optional)}.
+ */
+public final class RgbColorCache implements UsesToStringBuilder {
+
+    /**
+     * The largest supported capacity.
+     */
+    public final static int MAX_CAPACITY = 1 << 24;
+
+    /**
+     * Creates a new empty {@link RgbColorCache}, the capacity is rounded up to the next power of two.
+     */
+    public static RgbColorCache with(final int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity + " < 1 or > " + MAX_CAPACITY);
+        }
+
+        int powerOfTwo = 1;
+        while (powerOfTwo < capacity) {
+            powerOfTwo <<= 1;
+        }
+
+        return new RgbColorCache(powerOfTwo);
+    }
+
+    private RgbColorCache(final int capacity) {
+        super();
+        this.colors = new RgbColor[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the cached {@link RgbColor} with the given ARGB value or null, recording a hit or miss.
+     */
+    RgbColor get(final int argb) {
+        final RgbColor color = this.colors[this.index(argb)];
+
+        final RgbColor hit;
+        if (null != color && argb == color.argb()) {
+            this.hits.incrementAndGet();
+            hit = color;
+        } else {
+            this.misses.incrementAndGet();
+            hit = null;
+        }
+        return hit;
+    }
+
+    /**
+     * Adds the given {@link RgbColor} replacing any other color in the same slot. Replacing an equal color, such as
+     * when two threads miss on the same color, is not counted as an eviction.
+     */
+    <C extends RgbColor> C put(final C color) {
+        final int index = this.index(color.argb());
+
+        final RgbColor previous = this.colors[index];
+        if (null != previous && previous.argb() != color.argb()) {
+            this.evictions.incrementAndGet();
+        }
+        this.colors[index] = color;
+        return color;
+    }
+
+    /**
+     * Spreads the bits of the ARGB value so colors that only differ in the higher components use different slots.
+     */
+    private int index(final int argb) {
+        return (argb ^ (argb >>> 16) ^ (argb >>> 7)) & this.mask;
+    }
+
+    private final RgbColor[] colors;
+
+    private final int mask;
+
+    /**
+     * Removes all cached colors and resets all counters.
+     */
+    public void clear() {
+        final RgbColor[] colors = this.colors;
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = null;
+        }
+
+        this.hits.set(0);
+        this.misses.set(0);
+        this.evictions.set(0);
+    }
+
+    /**
+     * The maximum number of colors that may be cached.
+     */
+    public int capacity() {
+        return this.colors.length;
+    }
+
+    /**
+     * The number of cached colors.
+     */
+    public int size() {
+        int size = 0;
+        for (final RgbColor color : this.colors) {
+            if (null != color) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * The number of lookups that returned a cached color.
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The number of lookups that had to create a new color.
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * The number of colors that were replaced by another color.
+     */
+    public long evictions() {
+        return this.evictions.get();
+    }
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    // UsesToStringBuilder..............................................................................................
+
+    @Override
+    public void buildToString(final ToStringBuilder builder) {
+        builder.label("capacity")
+            .value(this.capacity())
+            .label("hits")
+            .value(this.hits())
+            .label("misses")
+            .value(this.misses())
+            .label("evictions")
+            .value(this.evictions());
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.buildFrom(this);
+    }
+}
@@ -17,6 +17,7 @@
 
 package walkingkooka.color;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.function.IntFunction;
 import java.util.stream.IntStream;
@@ -220,6 +221,11 @@ abstract public class RgbColorComponent extends ColorComponent
      */
     abstract RgbColor setComponent(RgbColor color, int value);
 
+    /**
+     * Returns the given ARGB value with this {@link RgbColorComponent} replacing the same component.
+     */
+    abstract int replaceArgb(int argb);
+
     // isXXX
 
     /**
@@ -258,6 +264,35 @@ abstract public class RgbColorComponent extends ColorComponent
         return this.value;
     }
 
+    /**
+     * Returns the raw RGB value as a signed int, the same as {@link #value()} without boxing.
+     */
+    @Override //
+    final public int intValue() {
+        return this.value;
+    }
+
+    /**
+     * Returns the raw RGB value as a byte.
+     */
+    final public byte byteValue() {
+        return this.value;
+    }
+
+    /**
+     * Returns the value as an unsigned int between 0 and {@link #MAX_VALUE} inclusive.
+     */
+    final public int unsignedIntValue() {
+        return this.unsignedIntValue;
+    }
+
+    /**
+     * Returns the value as a float between 0.0 and 1.0f.
+     */
+    final public float floatValue() {
+        return this.floatValue;
+    }
+
     /**
      * The component in byte form.
      */
@@ -300,6 +335,13 @@ abstract public class RgbColorComponent extends ColorComponent
         return RgbColorComponent.TO_HEX_STRING[this.unsignedIntValue];
     }
 
+    /**
+     * Appends the same two hex digits as {@link #toString()}.
+     */
+    final void appendHex(final Appendable text) throws IOException {
+        text.append(RgbColorComponent.TO_HEX_STRING[this.unsignedIntValue]);
+    }
+
     /**
      * Prebuilt cache of {@link String} which may be looked up using an unsigned byte value.
      */
@@ -17,6 +17,7 @@
 
 package walkingkooka.color;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -35,6 +36,12 @@ public enum RgbColorString {
             return color.toString();
         }
 
+        @Override
+        void appendTo0(final RgbColor color,
+                       final Appendable text) throws IOException {
+            color.appendTo(text);
+        }
+
         @Override
         String componentToString(final RgbColorComponent component) {
             throw new UnsupportedOperationException();
@@ -51,6 +58,12 @@ public enum RgbColorString {
             return this.rgbFunction(color);
         }
 
+        @Override
+        void appendTo0(final RgbColor color,
+                       final Appendable text) throws IOException {
+            this.appendRgbFunction(color, text);
+        }
+
         @Override
         String componentToString(final RgbColorComponent component) {
             return component.toDecimalString();
@@ -67,6 +80,12 @@ public enum RgbColorString {
             return this.rgbFunction(color);
         }
 
+        @Override
+        void appendTo0(final RgbColor color,
+                       final Appendable text) throws IOException {
+            this.appendRgbFunction(color, text);
+        }
+
         @Override
         String componentToString(final RgbColorComponent component) {
             return component.toPercentageString();
@@ -74,29 +93,62 @@ public enum RgbColorString {
     };
 
     public final String toString(final RgbColor color) {
-        Objects.requireNonNull(color, "rgb");
+        Objects.requireNonNull(color, "color");
         return this.toString0(color);
     }
 
     abstract String toString0(final RgbColor color);
 
+    /**
+     * Appends the same text as {@link #toString(RgbColor)} to the given {@link StringBuilder}.
+     */
+    public final StringBuilder appendTo(final RgbColor color,
+                                        final StringBuilder text) {
+        try {
+            this.appendTo(color, (Appendable) text);
+        } catch (final IOException never) {
+            throw new IllegalStateException(never);
+        }
+        return text;
+    }
+
+    /**
+     * Appends the same text as {@link #toString(RgbColor)} to the given {@link Appendable}, using the prebuilt
+     * component text and without creating any intermediate {@link String}.
+     */
+    public final void appendTo(final RgbColor color,
+                               final Appendable text) throws IOException {
+        Objects.requireNonNull(color, "color");
+        Objects.requireNonNull(text, "text");
+
+        this.appendTo0(color, text);
+    }
+
+    abstract void appendTo0(final RgbColor color,
+                            final Appendable text) throws IOException;
+
     final String rgbFunction(final RgbColor color) {
-        final StringBuilder b = new StringBuilder();
-        b.append(color.rgbFunctionName());
-        b.append('(');
+        return this.appendTo(
+            color,
+            new StringBuilder()
+        ).toString();
+    }
 
-        b.append(this.componentToString(color.red));
-        b.append(RgbColorComponent.SEPARATOR);
+    final void appendRgbFunction(final RgbColor color,
+                                 final Appendable text) throws IOException {
+        text.append(color.rgbFunctionName());
+        text.append('(');
 
-        b.append(this.componentToString(color.green));
-        b.append(RgbColorComponent.SEPARATOR);
+        text.append(this.componentToString(color.red()));
+        text.append(RgbColorComponent.SEPARATOR);
 
-        b.append(this.componentToString(color.blue));
+        text.append(this.componentToString(color.green()));
+        text.append(RgbColorComponent.SEPARATOR);
 
-        color.alphaComponentToString(b, this);
-        b.append(')');
+        text.append(this.componentToString(color.blue()));
 
-        return b.toString();
+        color.alphaComponentToString(text, this);
+        text.append(')');
     }
 
     abstract String componentToString(final RgbColorComponent color);
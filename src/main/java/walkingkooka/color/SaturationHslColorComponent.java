@@ -22,11 +22,27 @@ package walkingkooka.color;
  */
 final public class SaturationHslColorComponent extends AlphaLightnessOrSaturationHslColorComponent {
 
+    /**
+     * Shares components whose value is a whole tenth of a percent.
+     */
+    private final static HslOrHsvColorComponentCache<SaturationHslColorComponent> CACHE = HslOrHsvColorComponentCache.with(
+        MAX_VALUE,
+        1000,
+        SaturationHslColorComponent::new
+    );
+
     /**
      * Factory that creates a new {@link SaturationHslColorComponent}
      */
     static SaturationHslColorComponent with(final float value) {
-        return new SaturationHslColorComponent(value);
+        return CACHE.get(value);
+    }
+
+    /**
+     * Rounds the value to the nearest tenth of a percent, components with such values are shared.
+     */
+    static float quantize(final float value) {
+        return CACHE.quantize(value);
     }
 
     /**
@@ -39,7 +55,7 @@ final public class SaturationHslColorComponent extends AlphaLightnessOrSaturatio
     @Override
     public SaturationHslColorComponent add(final float value) {
         return 0 == value ? this
-            : new SaturationHslColorComponent(
+            : with(
             HslColorComponent.add(value, SaturationHslColorComponent.MIN_VALUE, SaturationHslColorComponent.MAX_VALUE));
     }
 
@@ -55,7 +71,7 @@ final public class SaturationHslColorComponent extends AlphaLightnessOrSaturatio
      */
     @Override
     SaturationHslColorComponent replace(final float value) {
-        return new SaturationHslColorComponent(value);
+        return with(value);
     }
 
     @Override
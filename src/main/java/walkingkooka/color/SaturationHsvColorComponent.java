@@ -22,11 +22,27 @@ package walkingkooka.color;
  */
 final public class SaturationHsvColorComponent extends AlphaSaturationOrValueHsvColorComponent {
 
+    /**
+     * Shares components whose value is a whole tenth of a percent.
+     */
+    private final static HslOrHsvColorComponentCache<SaturationHsvColorComponent> CACHE = HslOrHsvColorComponentCache.with(
+        MAX_VALUE,
+        1000,
+        SaturationHsvColorComponent::new
+    );
+
     /**
      * Factory that creates a new {@link SaturationHsvColorComponent}
      */
     static SaturationHsvColorComponent with(final float value) {
-        return new SaturationHsvColorComponent(value);
+        return CACHE.get(value);
+    }
+
+    /**
+     * Rounds the value to the nearest tenth of a percent, components with such values are shared.
+     */
+    static float quantize(final float value) {
+        return CACHE.quantize(value);
     }
 
     /**
@@ -39,7 +55,7 @@ final public class SaturationHsvColorComponent extends AlphaSaturationOrValueHsv
     @Override
     public SaturationHsvColorComponent add(final float value) {
         return 0 == value ? this
-            : new SaturationHsvColorComponent(
+            : with(
             HsvColorComponent.add(value, SaturationHsvColorComponent.MIN_VALUE, SaturationHsvColorComponent.MAX_VALUE));
     }
 
@@ -55,7 +71,7 @@ final public class SaturationHsvColorComponent extends AlphaSaturationOrValueHsv
      */
     @Override
     SaturationHsvColorComponent replace(final float value) {
-        return new SaturationHsvColorComponent(value);
+        return with(value);
     }
 
     @Override
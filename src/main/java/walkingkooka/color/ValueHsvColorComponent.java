@@ -22,11 +22,27 @@ package walkingkooka.color;
  */
 final public class ValueHsvColorComponent extends AlphaSaturationOrValueHsvColorComponent {
 
+    /**
+     * Shares components whose value is a whole tenth of a percent.
+     */
+    private final static HslOrHsvColorComponentCache<ValueHsvColorComponent> CACHE = HslOrHsvColorComponentCache.with(
+        MAX_VALUE,
+        1000,
+        ValueHsvColorComponent::new
+    );
+
     /**
      * Factory that creates a new {@link ValueHsvColorComponent}
      */
     static ValueHsvColorComponent with(final float value) {
-        return new ValueHsvColorComponent(value);
+        return CACHE.get(value);
+    }
+
+    /**
+     * Rounds the value to the nearest tenth of a percent, components with such values are shared.
+     */
+    static float quantize(final float value) {
+        return CACHE.quantize(value);
     }
 
     /**
@@ -39,7 +55,7 @@ final public class ValueHsvColorComponent extends AlphaSaturationOrValueHsvColor
     @Override
     public ValueHsvColorComponent add(final float value) {
         return 0 == value ? this
-            : new ValueHsvColorComponent(HsvColorComponent.add(value, ValueHsvColorComponent.MIN_VALUE, ValueHsvColorComponent.MAX_VALUE));
+            : with(HsvColorComponent.add(value, ValueHsvColorComponent.MIN_VALUE, ValueHsvColorComponent.MAX_VALUE));
     }
 
     @Override
@@ -54,7 +70,7 @@ final public class ValueHsvColorComponent extends AlphaSaturationOrValueHsvColor
      */
     @Override
     ValueHsvColorComponent replace(final float value) {
-        return new ValueHsvColorComponent(value);
+        return with(value);
     }
 
     @Override
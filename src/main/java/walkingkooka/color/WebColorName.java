@@ -18,13 +18,14 @@
 package walkingkooka.color;
 
 import walkingkooka.EmptyTextException;
-import walkingkooka.collect.map.Maps;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.naming.Name;
 import walkingkooka.predicate.character.CharPredicate;
 import walkingkooka.predicate.character.CharPredicates;
 import walkingkooka.text.CaseSensitivity;
 
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -35,7 +36,7 @@ import java.util.Optional;
 public final class WebColorName implements Name, Comparable<WebColorName> {
 
     /**
-     * First because required by {@link #NAME_CONSTANTS} init.
+     * Used by {@link #compareTo(WebColorName)}, name lookups use the same rules.
      * Probably should be case-insensitive but to be a bit more practical make insensitive.
      */
     private final static CaseSensitivity CASE_SENSITIVITY = CaseSensitivity.INSENSITIVE;
@@ -46,7 +47,7 @@ public final class WebColorName implements Name, Comparable<WebColorName> {
     // constants
 
     /**
-     * A read only cache of {@link WebColorName} constants.
+     * All {@link WebColorName} constants in registration order, used to build the name and ARGB lookup tables.
      * <a href="https://developer.mozilla.org/en-US/docs/Web/CSS/color_value"></a>
      * <pre>
      * var rows = document.evaluate( "//*[@id='colors_table']/tbody/tr", document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null );
@@ -64,13 +65,7 @@ public final class WebColorName implements Name, Comparable<WebColorName> {
      * console.log(s);
      * </pre>
      */
-    private final static Map<String, WebColorName> NAME_CONSTANTS = Maps.sorted(WebColorName.CASE_SENSITIVITY.comparator());
-
-    /**
-     * Allows lookup by AARRGGBB value, used by {@link RgbColor#toWebColorName}.
-     */
-    // RgbColor#toString
-    final static Map<Integer, WebColorName> AARRGGBB_CONSTANTS = Maps.sorted();
+    private final static List<WebColorName> CONSTANTS = Lists.array();
 
     // generated constants begin........................................................................................
 
@@ -235,6 +230,193 @@ public final class WebColorName implements Name, Comparable<WebColorName> {
 
     // generated constants end..........................................................................................
 
+    // name lookup....................................................................................................
+
+    /**
+     * The initial seed for {@link #nameHash(CharSequence, int, int, int)}, which was searched for offline and places every
+     * constant name in a different slot of {@link #NAME_TABLE}. If a new constant causes a collision
+     * {@link #nameTable()} continues the search with the following seeds.
+     */
+    private final static int NAME_HASH_SEED = 55265;
+
+    private final static int NAME_MASK = 1024 - 1;
+
+    /**
+     * A perfect hash table of the constants by name, so finding a name needs a single probe and compare.
+     */
+    private final static WebColorName[] NAME_TABLE = new WebColorName[NAME_MASK + 1];
+
+    /**
+     * The seed actually used to fill {@link #NAME_TABLE}.
+     */
+    private final static int NAME_SEED = nameTable();
+
+    private static int nameTable() {
+        final WebColorName[] table = NAME_TABLE;
+        int seed = NAME_HASH_SEED;
+
+        boolean perfect;
+        do {
+            Arrays.fill(table, null);
+            perfect = true;
+
+            for (final WebColorName constant : CONSTANTS) {
+                final String name = constant.name;
+                final int index = nameHash(
+                    name,
+                    0,
+                    name.length(),
+                    seed
+                ) & NAME_MASK;
+
+                if (null != table[index]) {
+                    perfect = false;
+                    seed++;
+                    break;
+                }
+                table[index] = constant;
+            }
+        } while (false == perfect);
+
+        return seed;
+    }
+
+    /**
+     * A FNV-1a hash of the case folded characters, so names differing only in case have the same hash.
+     */
+    private static int nameHash(final CharSequence text,
+                                final int start,
+                                final int end,
+                                final int seed) {
+        int hash = seed;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ fold(text.charAt(i))) * 0x01000193;
+        }
+        return hash ^ (hash >>> 15);
+    }
+
+    /**
+     * Folds the case of a character following {@link String#CASE_INSENSITIVE_ORDER}, two characters are equal
+     * ignoring case when they have the same folded character.
+     */
+    private static char fold(final char c) {
+        return Character.toLowerCase(
+            Character.toUpperCase(c)
+        );
+    }
+
+    // argb lookup....................................................................................................
+
+    private final static int ARGB_MASK = 512 - 1;
+
+    /**
+     * The ARGB value of each {@link #ARGB_NAMES} slot.
+     */
+    private final static int[] ARGB_KEYS = new int[ARGB_MASK + 1];
+
+    /**
+     * An open addressing table using linear probing of the constants by ARGB value, empty slots are null.
+     */
+    // @VisibleForTesting
+    final static WebColorName[] ARGB_NAMES = argbTable();
+
+    /**
+     * Adds all constants in registration order, where several constants share an ARGB value the last wins.
+     */
+    private static WebColorName[] argbTable() {
+        final int[] keys = ARGB_KEYS;
+        final WebColorName[] names = new WebColorName[keys.length];
+
+        for (final WebColorName webColorName : CONSTANTS) {
+            final int argb = webColorName.color.argb();
+
+            int index = argbHash(argb);
+            WebColorName duplicate;
+            for (; ; ) {
+                duplicate = names[index];
+                if (null == duplicate || argb == keys[index]) {
+                    break;
+                }
+                index = (index + 1) & ARGB_MASK;
+            }
+
+            if (null != duplicate && duplicate != AQUA && duplicate != FUCHSIA) {
+                if (false == webColorName.name.replace("gray", "grey").equals(duplicate.name.replace("gray", "grey"))) {
+                    throw new IllegalStateException("Multiple WebColorName constants " + webColorName + " and " + duplicate + " for " + Integer.toHexString(argb));
+                }
+            }
+
+            keys[index] = argb;
+            names[index] = webColorName;
+        }
+
+        return names;
+    }
+
+    private static int argbHash(final int argb) {
+        final int hash = argb * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & ARGB_MASK;
+    }
+
+    /**
+     * Returns the {@link WebColorName} with the given ARGB value or null.
+     */
+    // RgbColor#toWebColorName, RgbColor#buildToString
+    static WebColorName withArgb(final int argb) {
+        final int[] keys = ARGB_KEYS;
+        final WebColorName[] names = ARGB_NAMES;
+
+        int index = argbHash(argb);
+        WebColorName webColorName;
+        for (; ; ) {
+            webColorName = names[index];
+            if (null == webColorName || argb == keys[index]) {
+                break;
+            }
+            index = (index + 1) & ARGB_MASK;
+        }
+        return webColorName;
+    }
+
+    // nearest..........................................................................................................
+
+    /**
+     * Returns the nearest {@link WebColorName} for every ARGB value using the given {@link ColorMetric}, ignoring alpha.
+     */
+    public static WebColorName[] nearest(final int[] argb,
+                                         final ColorMetric metric) {
+        Objects.requireNonNull(argb, "argb");
+        Objects.requireNonNull(metric, "metric");
+
+        return WebColorNameNearest.nearest(
+            argb,
+            metric
+        );
+    }
+
+    /**
+     * Returns the opaque constants with different ARGB values, in registration order, picking the constant returned by
+     * {@link #withArgb(int)} where several share an ARGB value.
+     */
+    // WebColorNameNearest
+    static WebColorName[] opaqueDistinctArgb() {
+        final List<WebColorName> names = Lists.array();
+
+        for (final WebColorName constant : CONSTANTS) {
+            final int argb = constant.color.argb();
+            if (OPAQUE == (argb >>> 24)) {
+                final WebColorName webColorName = withArgb(argb);
+                if (false == names.contains(webColorName)) {
+                    names.add(webColorName);
+                }
+            }
+        }
+
+        return names.toArray(new WebColorName[names.size()]);
+    }
+
+    private final static int OPAQUE = 0xFF;
+
     /**
      * Creates and adds a new {@link WebColorName} to the cache being built.
      */
@@ -250,23 +432,11 @@ public final class WebColorName implements Name, Comparable<WebColorName> {
             throw new EmptyTextException(name);
         }
 
-        final RgbColor color = RgbColor.parseRgb(text);
-        final WebColorName webColorName = new WebColorName(name, color);
-        WebColorName.NAME_CONSTANTS.put(name, webColorName);
-
-        final int argb = color.argb();
-
-        final WebColorName duplicate = AARRGGBB_CONSTANTS.put(
-            argb,
-            webColorName
+        final WebColorName webColorName = new WebColorName(
+            name,
+            RgbColor.parseRgb(text)
         );
-        if (null != duplicate && duplicate != AQUA && duplicate != FUCHSIA) {
-            if (false == name.replace("gray", "grey").equals(duplicate.name.replace("gray", "grey"))) {
-                if (null != duplicate) {
-                    throw new IllegalStateException("Multiple WebColorName constants " + webColorName + " and " + duplicate + " for " + Integer.toHexString(argb));
-                }
-            }
-        }
+        CONSTANTS.add(webColorName);
 
         return webColorName;
     }
@@ -277,7 +447,43 @@ public final class WebColorName implements Name, Comparable<WebColorName> {
     public static Optional<WebColorName> with(final String name) {
         Objects.requireNonNull(name, "name");
 
-        return Optional.ofNullable(NAME_CONSTANTS.get(name));
+        return Optional.ofNullable(
+            with(
+                name,
+                0,
+                name.length()
+            )
+        );
+    }
+
+    /**
+     * Finds the {@link WebColorName} for the characters between start and end ignoring case, returning null if none
+     * matched.
+     */
+    static WebColorName with(final CharSequence text,
+                             final int start,
+                             final int end) {
+        final WebColorName webColorName = NAME_TABLE[nameHash(text, start, end, NAME_SEED) & NAME_MASK];
+
+        return null != webColorName && regionMatchesIgnoreCase(webColorName.name, text, start, end) ?
+            webColorName :
+            null;
+    }
+
+    private static boolean regionMatchesIgnoreCase(final String name,
+                                                   final CharSequence text,
+                                                   final int start,
+                                                   final int end) {
+        final int length = name.length();
+
+        boolean matches = end - start == length;
+        for (int i = 0; matches && i < length; i++) {
+            final char c = name.charAt(i);
+            final char d = text.charAt(start + i);
+
+            matches = c == d || fold(c) == fold(d);
+        }
+        return matches;
     }
 
     // @VisibleForTesting
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+/**
+ * Holds a {@link ColorKdTree} for each {@link ColorMetric} of the opaque {@link WebColorName} constants, which are only
+ * built when the nearest {@link WebColorName} is first requested.
+ * <br>
+ * Where several constants share the same ARGB value the one returned by {@link RgbColor#toWebColorName()} is used, so
+ * an exact match returns the same {@link WebColorName}.
+ */
+final class WebColorNameNearest {
+
+    /**
+     * Returns the nearest {@link WebColorName} to the ARGB value, ignoring alpha.
+     */
+    static WebColorName nearest(final int argb,
+                                final ColorMetric metric) {
+        return NAMES[tree(metric).nearest(argb)];
+    }
+
+    /**
+     * Returns the nearest {@link WebColorName} for every ARGB value, ignoring alpha.
+     */
+    static WebColorName[] nearest(final int[] argb,
+                                  final ColorMetric metric) {
+        final int length = argb.length;
+        final int[] indices = new int[length];
+        tree(metric).nearest(
+            argb,
+            indices
+        );
+
+        final WebColorName[] names = new WebColorName[length];
+        for (int i = 0; i < length; i++) {
+            names[i] = NAMES[indices[i]];
+        }
+        return names;
+    }
+
+    private static ColorKdTree tree(final ColorMetric metric) {
+        final ColorKdTree tree;
+
+        switch (metric) {
+            case RGB:
+                tree = RGB;
+                break;
+            case CIELAB:
+                tree = CIELAB;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown metric " + metric);
+        }
+
+        return tree;
+    }
+
+    /**
+     * The opaque {@link WebColorName} constants with different ARGB values, in registration order.
+     */
+    // @VisibleForTesting
+    final static WebColorName[] NAMES = WebColorName.opaqueDistinctArgb();
+
+    private final static int[] ARGB = argb();
+
+    private static int[] argb() {
+        final WebColorName[] names = NAMES;
+        final int length = names.length;
+
+        final int[] argb = new int[length];
+        for (int i = 0; i < length; i++) {
+            argb[i] = names[i].color()
+                .argb();
+        }
+        return argb;
+    }
+
+    private final static ColorKdTree RGB = ColorKdTree.with(
+        ARGB,
+        ColorMetric.RGB
+    );
+
+    private final static ColorKdTree CIELAB = ColorKdTree.with(
+        ARGB,
+        ColorMetric.CIELAB
+    );
+
+    /**
+     * Stop creation
+     */
+    private WebColorNameNearest() {
+        throw new UnsupportedOperationException();
+    }
+}
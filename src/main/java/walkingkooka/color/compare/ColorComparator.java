@@ -26,4 +26,41 @@ abstract class ColorComparator implements Comparator<Color> {
     ColorComparator() {
         super();
     }
+
+    /**
+     * Adds the component or components of this comparator to the {@link ColorComparatorPackedKey} being compiled.
+     */
+    abstract void addPackedKeyComponents(final ColorComparatorPackedKey key,
+                                         final boolean reversed);
+
+    /**
+     * Compiles this comparator into a {@link ColorComparatorPackedKey}.
+     */
+    ColorComparatorPackedKey packedKey() {
+        return ColorComparatorPackedKey.with(this);
+    }
+
+    // Comparator.......................................................................................................
+
+    /**
+     * Returns a {@link ColorComparatorReversed} which may also be compiled into a {@link ColorComparatorPackedKey}.
+     */
+    @Override
+    public Comparator<Color> reversed() {
+        return ColorComparatorReversed.with(this);
+    }
+
+    /**
+     * When the other {@link Comparator} is also a {@link ColorComparator} a {@link ColorComparatorThenComparing} is returned,
+     * which may also be compiled into a {@link ColorComparatorPackedKey}.
+     */
+    @Override
+    public Comparator<Color> thenComparing(final Comparator<? super Color> other) {
+        return other instanceof ColorComparator ?
+            ColorComparatorThenComparing.with(
+                this,
+                (ColorComparator) other
+            ) :
+            Comparator.super.thenComparing(other);
+    }
 }
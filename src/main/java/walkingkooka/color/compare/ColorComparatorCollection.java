@@ -31,6 +31,8 @@ import walkingkooka.text.cursor.parser.ParserToken;
 import walkingkooka.text.cursor.parser.Parsers;
 
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * A collection of {@link Color} {@link Comparator} that may be selected by name separated by spaces.
@@ -38,13 +40,60 @@ import java.util.Comparator;
  * redReversed
  * red green blue hslHue hslSaturation hslLightness hsvHue hsvSaturation hsvValue
  * </pre>
+ * The components are compiled into a {@link ColorComparatorPackedKey}, which compares component keys converting each
+ * color at most once per RGB, HSL and HSV and stopping at the first different component, and the most recently parsed
+ * collections are cached by text as the same sort texts are used repeatedly.
  */
 final class ColorComparatorCollection extends ColorComparator {
 
     static ColorComparatorCollection parse(final String text) {
+        final Map<String, ColorComparatorCollection> cache = CACHE;
+
+        ColorComparatorCollection collection;
+        synchronized (cache) {
+            collection = cache.get(text);
+        }
+
+        if (null == collection) {
+            collection = parse0(text);
+
+            synchronized (cache) {
+                cache.put(
+                    text,
+                    collection
+                );
+            }
+        }
+
+        return collection;
+    }
+
+    /**
+     * The maximum number of texts held by {@link #CACHE}.
+     */
+    // @VisibleForTesting
+    final static int CACHE_CAPACITY = 64;
+
+    /**
+     * A least recently used cache of text to {@link ColorComparatorCollection}, only successfully parsed text is cached.
+     */
+    private final static Map<String, ColorComparatorCollection> CACHE = new LinkedHashMap<String, ColorComparatorCollection>(
+        16,
+        0.75f,
+        true // accessOrder
+    ) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ColorComparatorCollection> eldest) {
+            return this.size() > CACHE_CAPACITY;
+        }
+
+        private static final long serialVersionUID = 1L;
+    };
+
+    private static ColorComparatorCollection parse0(final String text) {
         final TextCursor cursor = TextCursors.charSequence(text);
 
-        Comparator<Color> comparator = null;
+        ColorComparator comparator = null;
 
         while (cursor.isNotEmpty()) {
             skipSpaces(cursor);
@@ -52,11 +101,14 @@ final class ColorComparatorCollection extends ColorComparator {
                 break;
             }
 
-            final Comparator<Color> next = comparatorName(cursor);
+            final ColorComparator next = comparatorName(cursor);
             if (null == comparator) {
                 comparator = next;
             } else {
-                comparator = comparator.thenComparing(next);
+                comparator = ColorComparatorThenComparing.with(
+                    comparator,
+                    next
+                );
             }
         }
 
@@ -88,7 +140,7 @@ final class ColorComparatorCollection extends ColorComparator {
         65536
     );
 
-    private static Comparator<Color> comparatorName(final TextCursor cursor) {
+    private static ColorComparator comparatorName(final TextCursor cursor) {
         final String comparatorNameMaybeReversed = COMPARATOR_NAME.parse(
                 cursor,
                 CONTEXT
@@ -109,42 +161,42 @@ final class ColorComparatorCollection extends ColorComparator {
             ).toString() :
             comparatorNameMaybeReversed;
 
-        Comparator<Color> comparator;
+        ColorComparator comparator;
 
         switch (comparatorName) {
             case "red":
-                comparator = ColorComparators.red();
+                comparator = ColorComparatorRgbRed.INSTANCE;
                 break;
             case "green":
-                comparator = ColorComparators.green();
+                comparator = ColorComparatorRgbGreen.INSTANCE;
                 break;
             case "blue":
-                comparator = ColorComparators.blue();
+                comparator = ColorComparatorRgbBlue.INSTANCE;
                 break;
             case "hslHue":
-                comparator = ColorComparators.hslHue();
+                comparator = ColorComparatorHslOrHsvSharedHslHue.INSTANCE;
                 break;
             case "hslSaturation":
-                comparator = ColorComparators.hslSaturation();
+                comparator = ColorComparatorHslOrHsvSharedHslSaturation.INSTANCE;
                 break;
             case "hslLightness":
-                comparator = ColorComparators.hslLightness();
+                comparator = ColorComparatorHslOrHsvSharedHslLightness.INSTANCE;
                 break;
             case "hsvHue":
-                comparator = ColorComparators.hsvHue();
+                comparator = ColorComparatorHslOrHsvSharedHsvHue.INSTANCE;
                 break;
             case "hsvSaturation":
-                comparator = ColorComparators.hsvSaturation();
+                comparator = ColorComparatorHslOrHsvSharedHsvSaturation.INSTANCE;
                 break;
             case "hsvValue":
-                comparator = ColorComparators.hsvValue();
+                comparator = ColorComparatorHslOrHsvSharedHsvValue.INSTANCE;
                 break;
             default:
                 throw new IllegalArgumentException("Unknown color component " + CharSequences.quoteAndEscape(comparatorName));
         }
 
         if (false == comparatorName.equals(comparatorNameMaybeReversed)) {
-            comparator = comparator.reversed();
+            comparator = ColorComparatorReversed.with(comparator);
         }
 
         return comparator;
@@ -162,11 +214,12 @@ final class ColorComparatorCollection extends ColorComparator {
 
     // @VisibleForTesting
     ColorComparatorCollection(final String text,
-                              final Comparator<Color> comparator) {
+                              final ColorComparator comparator) {
         super();
 
         this.text = text;
         this.comparator = comparator;
+        this.packedKey = comparator.packedKey();
     }
 
     // Comparator.......................................................................................................
@@ -174,13 +227,32 @@ final class ColorComparatorCollection extends ColorComparator {
     @Override
     public int compare(final Color left,
                        final Color right) {
-        return this.comparator.compare(
+        return this.packedKey.compare(
             left,
             right
         );
     }
 
-    private final Comparator<Color> comparator;
+    @Override
+    void addPackedKeyComponents(final ColorComparatorPackedKey key,
+                                final boolean reversed) {
+        this.comparator.addPackedKeyComponents(
+            key,
+            reversed
+        );
+    }
+
+    /**
+     * Returns the {@link ColorComparatorPackedKey} compiled when this collection was created.
+     */
+    @Override
+    ColorComparatorPackedKey packedKey() {
+        return this.packedKey;
+    }
+
+    private final ColorComparator comparator;
+
+    private final ColorComparatorPackedKey packedKey;
 
     // Object...........................................................................................................
 
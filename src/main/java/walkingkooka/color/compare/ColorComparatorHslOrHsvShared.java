@@ -34,5 +34,25 @@ abstract class ColorComparatorHslOrHsvShared extends ColorComparator {
         );
     }
 
+    @Override
+    final void addPackedKeyComponents(final ColorComparatorPackedKey key,
+                                      final boolean reversed) {
+        key.add(
+            (Color color) -> ColorComparatorPackedKey.floatKey(
+                this.getComponentValue(color)
+            ),
+            this.packedKeySource(),
+            ColorComparatorPackedKey.FLOAT_BITS,
+            reversed
+        );
+    }
+
+    /**
+     * Either {@link ColorComparatorPackedKeyComponent#HSL} or {@link ColorComparatorPackedKeyComponent#HSV}, the
+     * packed key then calls {@link #getComponentValue(Color)} with the already converted color, whose
+     * {@link Color#toHsl()} or {@link Color#toHsv()} returns itself.
+     */
+    abstract int packedKeySource();
+
     abstract float getComponentValue(final Color color);
 }
@@ -27,6 +27,11 @@ final class ColorComparatorHslOrHsvSharedHslHue extends ColorComparatorHslOrHsvS
         super();
     }
 
+    @Override
+    int packedKeySource() {
+        return ColorComparatorPackedKeyComponent.HSL;
+    }
+
     @Override
     float getComponentValue(final Color color) {
         return color.toHsl()
@@ -27,6 +27,11 @@ final class ColorComparatorHslOrHsvSharedHslLightness extends ColorComparatorHsl
         super();
     }
 
+    @Override
+    int packedKeySource() {
+        return ColorComparatorPackedKeyComponent.HSL;
+    }
+
     @Override
     float getComponentValue(final Color color) {
         return color.toHsl()
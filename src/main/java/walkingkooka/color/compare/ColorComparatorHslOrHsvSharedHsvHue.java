@@ -27,6 +27,11 @@ final class ColorComparatorHslOrHsvSharedHsvHue extends ColorComparatorHslOrHsvS
         super();
     }
 
+    @Override
+    int packedKeySource() {
+        return ColorComparatorPackedKeyComponent.HSV;
+    }
+
     @Override
     float getComponentValue(final Color color) {
         return color.toHsv()
@@ -27,6 +27,11 @@ final class ColorComparatorHslOrHsvSharedHsvSaturation extends ColorComparatorHs
         super();
     }
 
+    @Override
+    int packedKeySource() {
+        return ColorComparatorPackedKeyComponent.HSV;
+    }
+
     @Override
     float getComponentValue(final Color color) {
         return color.toHsv()
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.color.Color;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link ColorComparator} compiled into a key function that packs every component, with any reversal folded in,
+ * into one or more <code>long</code> words per {@link Color}, so comparing two colors becomes a compare of the words.
+ * <br>
+ * Components are packed from the most significant bits down in order of importance, RGB components take
+ * {@link #BYTE_BITS} and HSL/HSV components take {@link #FLOAT_BITS} using {@link #floatKey(float)}, a component
+ * that does not fit in the remaining bits of a word starts the next word. A reversed component stores its maximum
+ * value minus the value.
+ * <br>
+ * Each component reads a {@link Color} converted once by its {@link ColorComparatorPackedKeyComponent#source}, so
+ * building the words or comparing two colors performs at most one RGB, HSL and HSV conversion per color.
+ */
+final class ColorComparatorPackedKey {
+
+    /**
+     * The number of bits used by a RGB component.
+     */
+    final static int BYTE_BITS = 8;
+
+    /**
+     * The number of bits used by a HSL or HSV component.
+     */
+    final static int FLOAT_BITS = 32;
+
+    /**
+     * Compiles the {@link ColorComparator} into a {@link ColorComparatorPackedKey}.
+     */
+    static ColorComparatorPackedKey with(final ColorComparator comparator) {
+        final ColorComparatorPackedKey key = new ColorComparatorPackedKey();
+        comparator.addPackedKeyComponents(
+            key,
+            false
+        );
+        key.components = key.componentList.toArray(new ColorComparatorPackedKeyComponent[0]);
+        key.componentList = null;
+        return key;
+    }
+
+    /**
+     * Returns an unsigned 32 bit key for a float with the same order as {@link Float#compare(float, float)}.
+     */
+    static long floatKey(final float value) {
+        final int bits = Float.floatToIntBits(value);
+        return (bits < 0 ? ~bits : bits ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+    }
+
+    private ColorComparatorPackedKey() {
+        super();
+    }
+
+    /**
+     * Called by each {@link ColorComparatorRgb} with the shift of its component within an ARGB value. RGB components
+     * are compared as signed bytes, so the key flips the sign bit giving an unsigned key with the same order.
+     */
+    void addArgb(final int shift,
+                 final boolean reversed) {
+        this.add0(
+            (Color color) -> ColorComparatorPackedKeyComponent.argbKey(
+                color.toRgb()
+                    .argb(),
+                shift
+            ),
+            ColorComparatorPackedKeyComponent.RGB,
+            BYTE_BITS,
+            shift,
+            reversed
+        );
+    }
+
+    /**
+     * Called by each {@link ColorComparator} component in order of importance, with the value function given the
+     * {@link Color} converted for the source.
+     */
+    void add(final ToLongFunction<Color> value,
+             final int source,
+             final int bits,
+             final boolean reversed) {
+        this.add0(
+            value,
+            source,
+            bits,
+            ColorComparatorPackedKeyComponent.NO_ARGB_SHIFT,
+            reversed
+        );
+    }
+
+    private void add0(final ToLongFunction<Color> value,
+                      final int source,
+                      final int bits,
+                      final int argbShift,
+                      final boolean reversed) {
+        if (this.bits + bits > Long.SIZE) {
+            this.words++;
+            this.bits = 0;
+        }
+        this.bits += bits;
+        this.sources |= source;
+
+        this.componentList.add(
+            ColorComparatorPackedKeyComponent.with(
+                value,
+                source,
+                this.words - 1,
+                Long.SIZE - this.bits,
+                bits,
+                argbShift,
+                reversed
+            )
+        );
+    }
+
+    /**
+     * Returns true if all components are RGB components which may be read directly from an ARGB value.
+     */
+    boolean isArgb() {
+        boolean argb = true;
+
+        for (final ColorComparatorPackedKeyComponent component : this.components) {
+            argb = argb && component.isArgb();
+        }
+        return argb;
+    }
+
+    /**
+     * The components in order of importance.
+     */
+    ColorComparatorPackedKeyComponent[] components() {
+        return this.components.clone();
+    }
+
+    /**
+     * The number of words for each {@link Color}.
+     */
+    int words() {
+        return this.words;
+    }
+
+    /**
+     * Writes the packed words for the {@link Color} to keys starting at offset, converting the color once for each
+     * source used by the components. Words should be compared using {@link #compareWords(long, long)}.
+     */
+    void words(final Color color,
+               final long[] keys,
+               final int offset) {
+        final int sources = this.sources;
+        final Color rgb = convert(color, sources, ColorComparatorPackedKeyComponent.RGB);
+        final Color hsl = convert(color, sources, ColorComparatorPackedKeyComponent.HSL);
+        final Color hsv = convert(color, sources, ColorComparatorPackedKeyComponent.HSV);
+
+        Arrays.fill(
+            keys,
+            offset,
+            offset + this.words,
+            0
+        );
+
+        for (final ColorComparatorPackedKeyComponent component : this.components) {
+            keys[offset + component.word] |= component.value(
+                select(
+                    component.source,
+                    rgb,
+                    hsl,
+                    hsv
+                )
+            );
+        }
+    }
+
+    /**
+     * Converts the {@link Color} if any component uses the source otherwise returns null.
+     */
+    private static Color convert(final Color color,
+                                 final int sources,
+                                 final int source) {
+        return 0 != (sources & source) ?
+            ColorComparatorPackedKeyComponent.convert(
+                color,
+                source
+            ) :
+            null;
+    }
+
+    private static Color select(final int source,
+                                final Color rgb,
+                                final Color hsl,
+                                final Color hsv) {
+        return ColorComparatorPackedKeyComponent.RGB == source ?
+            rgb :
+            ColorComparatorPackedKeyComponent.HSL == source ?
+                hsl :
+                hsv;
+    }
+
+    /**
+     * Returns the packed word for the ARGB value, which must only be used when {@link #isArgb()} is true.
+     */
+    long argbWord(final int argb,
+                  final int word) {
+        long packed = 0;
+
+        for (final ColorComparatorPackedKeyComponent component : this.components) {
+            if (word == component.word) {
+                packed |= component.argbValue(argb);
+            }
+        }
+
+        return packed;
+    }
+
+    /**
+     * Compares two {@link Color} one component at a time, stopping at the first component that is different. Each
+     * color is converted for a source only when the first component with that source is reached, and the conversion
+     * is reused by later components with the same source.
+     */
+    int compare(final Color left,
+                final Color right) {
+        Color leftRgb = null;
+        Color rightRgb = null;
+        Color leftHsl = null;
+        Color rightHsl = null;
+        Color leftHsv = null;
+        Color rightHsv = null;
+
+        int result = 0;
+        for (final ColorComparatorPackedKeyComponent component : this.components) {
+            final int source = component.source;
+            final Color leftConverted;
+            final Color rightConverted;
+
+            switch (source) {
+                case ColorComparatorPackedKeyComponent.RGB:
+                    if (null == leftRgb) {
+                        leftRgb = left.toRgb();
+                        rightRgb = right.toRgb();
+                    }
+                    leftConverted = leftRgb;
+                    rightConverted = rightRgb;
+                    break;
+                case ColorComparatorPackedKeyComponent.HSL:
+                    if (null == leftHsl) {
+                        leftHsl = left.toHsl();
+                        rightHsl = right.toHsl();
+                    }
+                    leftConverted = leftHsl;
+                    rightConverted = rightHsl;
+                    break;
+                default:
+                    if (null == leftHsv) {
+                        leftHsv = left.toHsv();
+                        rightHsv = right.toHsv();
+                    }
+                    leftConverted = leftHsv;
+                    rightConverted = rightHsv;
+                    break;
+            }
+
+            result = Long.compare(
+                component.key(leftConverted),
+                component.key(rightConverted)
+            );
+            if (0 != result) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Words use all 64 bits and are compared unsigned.
+     */
+    static int compareWords(final long left,
+                            final long right) {
+        return Long.compare(
+            left + Long.MIN_VALUE,
+            right + Long.MIN_VALUE
+        );
+    }
+
+    private List<ColorComparatorPackedKeyComponent> componentList = Lists.array();
+
+    private ColorComparatorPackedKeyComponent[] components;
+
+    private int words = 1;
+
+    /**
+     * The sources of all components, used to skip conversions no component reads.
+     */
+    private int sources;
+
+    /**
+     * The bits used by the last word.
+     */
+    private int bits;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.words + " words " + this.components.length + " components";
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import walkingkooka.color.Color;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * A single component within a {@link ColorComparatorPackedKey}, holding its word and position within that word.
+ */
+final class ColorComparatorPackedKeyComponent {
+
+    static ColorComparatorPackedKeyComponent with(final ToLongFunction<Color> value,
+                                                  final int source,
+                                                  final int word,
+                                                  final int shift,
+                                                  final int bits,
+                                                  final int argbShift,
+                                                  final boolean reversed) {
+        return new ColorComparatorPackedKeyComponent(
+            value,
+            source,
+            word,
+            shift,
+            bits,
+            argbShift,
+            reversed
+        );
+    }
+
+    /**
+     * The source of a component read from {@link Color#toRgb()}.
+     */
+    final static int RGB = 1;
+
+    /**
+     * The source of a component read from {@link Color#toHsl()}.
+     */
+    final static int HSL = 2;
+
+    /**
+     * The source of a component read from {@link Color#toHsv()}.
+     */
+    final static int HSV = 4;
+
+    /**
+     * Converts the {@link Color} for the source, the result is given to the value function of every component with
+     * that source, so a color is converted once however many of its components are read.
+     */
+    static Color convert(final Color color,
+                         final int source) {
+        final Color converted;
+
+        switch (source) {
+            case RGB:
+                converted = color.toRgb();
+                break;
+            case HSL:
+                converted = color.toHsl();
+                break;
+            case HSV:
+                converted = color.toHsv();
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid source " + source);
+        }
+
+        return converted;
+    }
+
+    /**
+     * The argbShift of a component that is not a RGB component.
+     */
+    final static int NO_ARGB_SHIFT = -1;
+
+    /**
+     * Returns the unsigned key of the component at the shift within the ARGB value, which has the same order as the
+     * signed byte.
+     */
+    static int argbKey(final int argb,
+                       final int shift) {
+        return ((argb >> shift) & 0xFF) ^ 0x80;
+    }
+
+    private ColorComparatorPackedKeyComponent(final ToLongFunction<Color> value,
+                                              final int source,
+                                              final int word,
+                                              final int shift,
+                                              final int bits,
+                                              final int argbShift,
+                                              final boolean reversed) {
+        super();
+
+        this.value = value;
+        this.source = source;
+        this.word = word;
+        this.shift = shift;
+        this.mask = bits == Long.SIZE ?
+            -1L :
+            (1L << bits) - 1;
+        this.argbShift = argbShift;
+        this.reversed = reversed;
+    }
+
+    /**
+     * Returns the key of this component with any reversal applied, the color must already be converted for
+     * {@link #source}.
+     */
+    long key(final Color converted) {
+        final long value = this.value.applyAsLong(converted);
+
+        return this.reversed ?
+            this.mask - value :
+            value;
+    }
+
+    /**
+     * Returns the {@link #key(Color)} shifted into its position within its word.
+     */
+    long value(final Color converted) {
+        return this.key(converted) << this.shift;
+    }
+
+    /**
+     * Returns the byte sized digit of this RGB component of the ARGB value, with any reversal applied.
+     */
+    int argbDigit(final int argb) {
+        final int key = argbKey(
+            argb,
+            this.argbShift
+        );
+        return this.reversed ?
+            0xFF - key :
+            key;
+    }
+
+    /**
+     * Returns the {@link #argbDigit(int)} shifted into its position within its word.
+     */
+    long argbValue(final int argb) {
+        return (long) this.argbDigit(argb) << this.shift;
+    }
+
+    boolean isArgb() {
+        return NO_ARGB_SHIFT != this.argbShift;
+    }
+
+    private final ToLongFunction<Color> value;
+
+    final int source;
+
+    final int word;
+
+    private final int shift;
+
+    private final long mask;
+
+    private final int argbShift;
+
+    private final boolean reversed;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "word " + this.word + " shift " + this.shift + (this.reversed ? " reversed" : "");
+    }
+}
@@ -0,0 +1,425 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.color.Color;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts and removes duplicates from large collections of colors using the common {@link ForkJoinPool}.
+ * <br>
+ * Sorting computes the {@link ColorComparatorPackedKey} words of every color in parallel, followed by a parallel
+ * stable merge sort of their indices where each half is sorted by a separate task and then merged, with ranges smaller
+ * than {@link #THRESHOLD} sorted by a {@link ColorComparatorSorter}. The order is the same as {@link List#sort(Comparator)}.
+ * <br>
+ * Removing duplicates uses the {@link walkingkooka.color.RgbColor#argb()} of each color, keeping the first of each in
+ * the original order.
+ */
+@GwtIncompatible
+final class ColorComparatorParallelSorter {
+
+    /**
+     * Ranges with fewer elements are sorted or processed without forking.
+     */
+    // @VisibleForTesting
+    final static int THRESHOLD = 8192;
+
+    /**
+     * Sorts the colors in the {@link List} in parallel when the {@link Comparator} is a {@link ColorComparator},
+     * otherwise the {@link List} is sorted by {@link List#sort(Comparator)}.
+     */
+    static <C extends Color> void sort(final List<C> colors,
+                                       final Comparator<? super C> comparator) {
+        Objects.requireNonNull(colors, "colors");
+        Objects.requireNonNull(comparator, "comparator");
+
+        if (comparator instanceof ColorComparator) {
+            final Color[] array = colors.toArray(new Color[colors.size()]);
+            sort0(
+                array,
+                (ColorComparator) comparator
+            );
+
+            final ListIterator<C> iterator = colors.listIterator();
+            for (final Color color : array) {
+                iterator.next();
+                iterator.set(Cast.to(color));
+            }
+        } else {
+            colors.sort(comparator);
+        }
+    }
+
+    private static void sort0(final Color[] colors,
+                              final ColorComparator comparator) {
+        final int length = colors.length;
+
+        if (length > 1) {
+            final ColorComparatorPackedKey packedKey = comparator.packedKey();
+            final int words = packedKey.words();
+            final long[] keys = new long[length * words];
+
+            forEachRange(
+                length,
+                (start, end) -> ColorComparatorSorter.fillKeys(
+                    colors,
+                    packedKey,
+                    keys,
+                    start,
+                    end
+                )
+            );
+
+            ColorComparatorSorter.reorder(
+                colors,
+                sortIndices(
+                    keys,
+                    words
+                )
+            );
+        }
+    }
+
+    /**
+     * Sorts the ARGB values in place in parallel, by the components in the text understood by
+     * {@link ColorComparatorCollection}.
+     */
+    static void sortArgb(final int[] argb,
+                         final String components) {
+        Objects.requireNonNull(argb, "argb");
+
+        sortArgb(
+            argb,
+            ColorComparatorCollection.parse(components)
+        );
+    }
+
+    // @VisibleForTesting
+    static void sortArgb(final int[] argb,
+                         final ColorComparator comparator) {
+        final int length = argb.length;
+
+        if (length > 1) {
+            final ColorComparatorPackedKey packedKey = comparator.packedKey();
+            final int words = packedKey.words();
+            final long[] keys = new long[length * words];
+            final boolean isArgb = packedKey.isArgb();
+
+            forEachRange(
+                length,
+                (start, end) -> {
+                    for (int i = start; i < end; i++) {
+                        final int value = argb[i];
+
+                        if (isArgb) {
+                            for (int j = 0; j < words; j++) {
+                                keys[i * words + j] = packedKey.argbWord(value, j);
+                            }
+                        } else {
+                            packedKey.words(
+                                Color.fromArgb(value),
+                                keys,
+                                i * words
+                            );
+                        }
+                    }
+                }
+            );
+
+            final int[] indices = sortIndices(
+                keys,
+                words
+            );
+
+            final int[] unsorted = argb.clone();
+            for (int i = 0; i < length; i++) {
+                argb[i] = unsorted[indices[i]];
+            }
+        }
+    }
+
+    /**
+     * Sorts the indices of the keys, forking for each half larger than {@link #THRESHOLD}.
+     */
+    private static int[] sortIndices(final long[] keys,
+                                     final int words) {
+        final ColorComparatorSorter sorter = new ColorComparatorSorter(
+            keys,
+            words
+        );
+        final int length = sorter.length();
+
+        final int[] indices = new int[length];
+        for (int i = 0; i < length; i++) {
+            indices[i] = i;
+        }
+
+        ForkJoinPool.commonPool()
+            .invoke(
+                new SortTask(
+                    sorter,
+                    indices,
+                    new int[length],
+                    0,
+                    length
+                )
+            );
+        return indices;
+    }
+
+    /**
+     * Sorts the indices from start to end, leaving the result in indices.
+     */
+    private static final class SortTask extends RecursiveAction {
+
+        SortTask(final ColorComparatorSorter sorter,
+                 final int[] indices,
+                 final int[] temp,
+                 final int start,
+                 final int end) {
+            super();
+            this.sorter = sorter;
+            this.indices = indices;
+            this.temp = temp;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            final ColorComparatorSorter sorter = this.sorter;
+            final int[] indices = this.indices;
+            final int[] temp = this.temp;
+            final int start = this.start;
+            final int end = this.end;
+
+            if (end - start <= THRESHOLD) {
+                sorter.sortIndices(
+                    indices,
+                    temp,
+                    start,
+                    end
+                );
+            } else {
+                final int middle = (start + end) >>> 1;
+                invokeAll(
+                    new SortTask(sorter, indices, temp, start, middle),
+                    new SortTask(sorter, indices, temp, middle, end)
+                );
+
+                sorter.merge(
+                    indices,
+                    temp,
+                    start,
+                    middle,
+                    end
+                );
+                System.arraycopy(
+                    temp,
+                    start,
+                    indices,
+                    start,
+                    end - start
+                );
+            }
+        }
+
+        private final ColorComparatorSorter sorter;
+        private final int[] indices;
+        private final int[] temp;
+        private final int start;
+        private final int end;
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    // distinct.........................................................................................................
+
+    /**
+     * Returns a new {@link List} without any colors with the same {@link walkingkooka.color.RgbColor#argb()} as an
+     * earlier color.
+     */
+    static <C extends Color> List<C> distinct(final List<C> colors) {
+        Objects.requireNonNull(colors, "colors");
+
+        final Color[] array = colors.toArray(new Color[colors.size()]);
+        final int length = array.length;
+        final int[] argb = new int[length];
+
+        forEachRange(
+            length,
+            (start, end) -> {
+                for (int i = start; i < end; i++) {
+                    argb[i] = array[i].toRgb()
+                        .argb();
+                }
+            }
+        );
+
+        final boolean[] first = firsts(argb);
+        final List<C> distinct = Lists.array();
+        for (int i = 0; i < length; i++) {
+            if (first[i]) {
+                distinct.add(
+                    Cast.to(array[i])
+                );
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Returns a new array without any ARGB values that are the same as an earlier value.
+     */
+    static int[] distinctArgb(final int[] argb) {
+        Objects.requireNonNull(argb, "argb");
+
+        final boolean[] first = firsts(argb);
+        final int length = argb.length;
+
+        int count = 0;
+        for (final boolean f : first) {
+            if (f) {
+                count++;
+            }
+        }
+
+        final int[] distinct = new int[count];
+        int j = 0;
+        for (int i = 0; i < length; i++) {
+            if (first[i]) {
+                distinct[j++] = argb[i];
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Marks the first index of every ARGB value, by sorting the values each combined with their index in parallel,
+     * so each run of the same value starts with its first index.
+     */
+    private static boolean[] firsts(final int[] argb) {
+        final int length = argb.length;
+
+        final long[] valueAndIndex = new long[length];
+        Arrays.parallelSetAll(
+            valueAndIndex,
+            (int i) -> (long) argb[i] << 32 | i
+        );
+        Arrays.parallelSort(valueAndIndex);
+
+        final boolean[] first = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            final long current = valueAndIndex[i];
+            if (0 == i || (current >> 32) != (valueAndIndex[i - 1] >> 32)) {
+                first[(int) current] = true;
+            }
+        }
+        return first;
+    }
+
+    // helpers..........................................................................................................
+
+    /**
+     * Calls the {@link Range} for slices of 0 to length, in parallel when length is larger than {@link #THRESHOLD}.
+     */
+    private static void forEachRange(final int length,
+                                     final Range range) {
+        if (length <= THRESHOLD) {
+            range.accept(
+                0,
+                length
+            );
+        } else {
+            ForkJoinPool.commonPool()
+                .invoke(
+                    new RangeTask(
+                        range,
+                        0,
+                        length
+                    )
+                );
+        }
+    }
+
+    /**
+     * Processes the elements from start to end.
+     */
+    @FunctionalInterface
+    private interface Range {
+        void accept(final int start,
+                    final int end);
+    }
+
+    /**
+     * Splits the range in half until it is smaller than {@link #THRESHOLD}.
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        RangeTask(final Range range,
+                  final int start,
+                  final int end) {
+            super();
+            this.range = range;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            final int start = this.start;
+            final int end = this.end;
+
+            if (end - start <= THRESHOLD) {
+                this.range.accept(
+                    start,
+                    end
+                );
+            } else {
+                final int middle = (start + end) >>> 1;
+                invokeAll(
+                    new RangeTask(this.range, start, middle),
+                    new RangeTask(this.range, middle, end)
+                );
+            }
+        }
+
+        private final Range range;
+        private final int start;
+        private final int end;
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ColorComparatorParallelSorter() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import walkingkooka.Cast;
+import walkingkooka.color.Color;
+import walkingkooka.color.RgbColor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
+/**
+ * A least significant digit radix sort of ARGB values, ordered by the components selected by text understood by
+ * {@link ColorComparatorCollection}, such as <code>red blueReversed</code>. Each RGB component is a single byte
+ * digit, so sorting takes one stable counting sort pass per component, starting with the least important. Passes where
+ * every value has the same digit are skipped.
+ * <br>
+ * When the text includes any HSL or HSV components, which are floats, the colors are sorted by
+ * {@link ColorComparatorSorter} instead. In both cases the order is the same as sorting with the
+ * {@link ColorComparatorCollection}.
+ */
+final class ColorComparatorRadixSorter {
+
+    /**
+     * Sorts the ARGB values in place.
+     */
+    static void sort(final int[] argb,
+                     final String components) {
+        Objects.requireNonNull(argb, "argb");
+
+        sort(
+            argb,
+            ColorComparatorCollection.parse(components)
+        );
+    }
+
+    // @VisibleForTesting
+    static void sort(final int[] argb,
+                     final ColorComparator comparator) {
+        final ColorComparatorPackedKey key = comparator.packedKey();
+        final int length = argb.length;
+
+        if (key.isArgb()) {
+            final int[] indices = sortIndices(
+                argb,
+                key
+            );
+
+            final int[] unsorted = argb.clone();
+            for (int i = 0; i < length; i++) {
+                argb[i] = unsorted[indices[i]];
+            }
+        } else {
+            final Color[] colors = new Color[length];
+            for (int i = 0; i < length; i++) {
+                colors[i] = Color.fromArgb(argb[i]);
+            }
+
+            ColorComparatorSorter.sort(
+                colors,
+                comparator
+            );
+
+            for (int i = 0; i < length; i++) {
+                argb[i] = colors[i].toRgb()
+                    .argb();
+            }
+        }
+    }
+
+    /**
+     * Sorts the {@link RgbColor} in the {@link List} by sorting an index array of their ARGB values.
+     */
+    static <C extends RgbColor> void sort(final List<C> colors,
+                                          final String components) {
+        Objects.requireNonNull(colors, "colors");
+
+        sort(
+            colors,
+            ColorComparatorCollection.parse(components)
+        );
+    }
+
+    // @VisibleForTesting
+    static <C extends RgbColor> void sort(final List<C> colors,
+                                          final ColorComparator comparator) {
+        final ColorComparatorPackedKey key = comparator.packedKey();
+
+        if (key.isArgb()) {
+            final RgbColor[] unsorted = colors.toArray(new RgbColor[colors.size()]);
+            final int length = unsorted.length;
+
+            final int[] argb = new int[length];
+            for (int i = 0; i < length; i++) {
+                argb[i] = unsorted[i].argb();
+            }
+
+            final ListIterator<C> iterator = colors.listIterator();
+            for (final int index : sortIndices(argb, key)) {
+                iterator.next();
+                iterator.set(Cast.to(unsorted[index]));
+            }
+        } else {
+            ColorComparatorSorter.sort(
+                colors,
+                comparator
+            );
+        }
+    }
+
+    /**
+     * Returns the indices of the ARGB values in sorted order.
+     */
+    private static int[] sortIndices(final int[] argb,
+                                     final ColorComparatorPackedKey key) {
+        final int length = argb.length;
+
+        int[] indices = new int[length];
+        for (int i = 0; i < length; i++) {
+            indices[i] = i;
+        }
+        int[] temp = new int[length];
+
+        final ColorComparatorPackedKeyComponent[] components = key.components();
+        final int[] counts = new int[RADIX + 1];
+
+        for (int c = components.length - 1; c >= 0; c--) {
+            final ColorComparatorPackedKeyComponent component = components[c];
+
+            Arrays.fill(counts, 0);
+            for (final int value : argb) {
+                counts[component.argbDigit(value) + 1]++;
+            }
+
+            // all values have the same digit, the order will not change
+            if (0 == length || length == counts[component.argbDigit(argb[0]) + 1]) {
+                continue;
+            }
+
+            for (int i = 1; i <= RADIX; i++) {
+                counts[i] += counts[i - 1];
+            }
+
+            for (final int index : indices) {
+                temp[counts[component.argbDigit(argb[index])]++] = index;
+            }
+
+            final int[] swap = indices;
+            indices = temp;
+            temp = swap;
+        }
+
+        return indices;
+    }
+
+    /**
+     * The number of different digits, one for each byte value.
+     */
+    private final static int RADIX = 256;
+
+    /**
+     * Stop creation
+     */
+    private ColorComparatorRadixSorter() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import walkingkooka.Cast;
+import walkingkooka.color.Color;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A {@link ColorComparator} that reverses the order of another {@link ColorComparator}.
+ */
+final class ColorComparatorReversed extends ColorComparator {
+
+    static ColorComparatorReversed with(final ColorComparator comparator) {
+        return new ColorComparatorReversed(
+            Objects.requireNonNull(comparator, "comparator")
+        );
+    }
+
+    private ColorComparatorReversed(final ColorComparator comparator) {
+        super();
+        this.comparator = comparator;
+    }
+
+    @Override
+    public int compare(final Color left,
+                       final Color right) {
+        return this.comparator.compare(
+            right,
+            left
+        );
+    }
+
+    @Override
+    void addPackedKeyComponents(final ColorComparatorPackedKey key,
+                                final boolean reversed) {
+        this.comparator.addPackedKeyComponents(
+            key,
+            false == reversed
+        );
+    }
+
+    /**
+     * Reversing again returns the original {@link ColorComparator}.
+     */
+    @Override
+    public Comparator<Color> reversed() {
+        return this.comparator;
+    }
+
+    private final ColorComparator comparator;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return ~this.comparator.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ColorComparatorReversed &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ColorComparatorReversed other) {
+        return this.comparator.equals(other.comparator);
+    }
+
+    @Override
+    public String toString() {
+        return this.comparator + "Reversed";
+    }
+}
@@ -37,5 +37,19 @@ abstract class ColorComparatorRgb extends ColorComparator {
             );
     }
 
+    @Override
+    final void addPackedKeyComponents(final ColorComparatorPackedKey key,
+                                      final boolean reversed) {
+        key.addArgb(
+            this.argbShift(),
+            reversed
+        );
+    }
+
+    /**
+     * The number of bits to shift an ARGB value right to get this component.
+     */
+    abstract int argbShift();
+
     abstract int getComponentValue(final RgbColor rgbColor);
 }
@@ -36,10 +36,14 @@ final class ColorComparatorRgbBlue extends ColorComparatorRgb {
     @Override
     int getComponentValue(final RgbColor rgbColor) {
         return rgbColor.blue()
-            .value()
             .intValue();
     }
 
+    @Override
+    int argbShift() {
+        return 0;
+    }
+
     @Override
     public String toString() {
         return "Blue";
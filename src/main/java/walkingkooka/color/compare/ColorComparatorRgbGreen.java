@@ -36,10 +36,14 @@ final class ColorComparatorRgbGreen extends ColorComparatorRgb {
     @Override
     int getComponentValue(final RgbColor rgbColor) {
         return rgbColor.green()
-            .value()
             .intValue();
     }
 
+    @Override
+    int argbShift() {
+        return 8;
+    }
+
     @Override
     public String toString() {
         return "Green";
@@ -36,10 +36,14 @@ final class ColorComparatorRgbRed extends ColorComparatorRgb {
     @Override
     int getComponentValue(final RgbColor rgbColor) {
         return rgbColor.red()
-            .value()
             .intValue();
     }
 
+    @Override
+    int argbShift() {
+        return 16;
+    }
+
     @Override
     public String toString() {
         return "Red";
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import walkingkooka.Cast;
+import walkingkooka.color.Color;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
+/**
+ * Sorts colors using a decorate-sort-undecorate, where the {@link ColorComparatorPackedKey} words of every color are
+ * computed once into a <code>long[]</code>, followed by a stable merge sort of the indices of the colors that only
+ * compares words, and finally the colors are reordered.
+ * <br>
+ * The packed words have the same order as the {@link ColorComparator} including ties, so the result is the same as
+ * {@link List#sort(Comparator)}.
+ */
+final class ColorComparatorSorter {
+
+    /**
+     * Sorts the colors in the {@link List}, using a {@link ColorComparatorSorter} when the {@link Comparator} is a
+     * {@link ColorComparator}.
+     */
+    static <C extends Color> void sort(final List<C> colors,
+                                       final Comparator<? super C> comparator) {
+        Objects.requireNonNull(colors, "colors");
+        Objects.requireNonNull(comparator, "comparator");
+
+        if (comparator instanceof ColorComparator) {
+            final Color[] array = colors.toArray(new Color[colors.size()]);
+            sort0(
+                array,
+                (ColorComparator) comparator
+            );
+
+            final ListIterator<C> iterator = colors.listIterator();
+            for (final Color color : array) {
+                iterator.next();
+                iterator.set(Cast.to(color));
+            }
+        } else {
+            colors.sort(comparator);
+        }
+    }
+
+    /**
+     * Sorts the colors in the array, using a {@link ColorComparatorSorter} when the {@link Comparator} is a
+     * {@link ColorComparator}.
+     */
+    static <C extends Color> void sort(final C[] colors,
+                                       final Comparator<? super C> comparator) {
+        Objects.requireNonNull(colors, "colors");
+        Objects.requireNonNull(comparator, "comparator");
+
+        if (comparator instanceof ColorComparator) {
+            sort0(
+                colors,
+                (ColorComparator) comparator
+            );
+        } else {
+            Arrays.sort(
+                colors,
+                comparator
+            );
+        }
+    }
+
+    private static void sort0(final Color[] colors,
+                              final ColorComparator comparator) {
+        if (colors.length > 1) {
+            final ColorComparatorPackedKey packedKey = comparator.packedKey();
+            final int words = packedKey.words();
+            final long[] keys = new long[colors.length * words];
+
+            fillKeys(
+                colors,
+                packedKey,
+                keys,
+                0,
+                colors.length
+            );
+
+            reorder(
+                colors,
+                new ColorComparatorSorter(
+                    keys,
+                    words
+                ).sortIndices()
+            );
+        }
+    }
+
+    /**
+     * Computes the packed words of the colors from start to end into keys, converting each color once.
+     */
+    static void fillKeys(final Color[] colors,
+                         final ColorComparatorPackedKey packedKey,
+                         final long[] keys,
+                         final int start,
+                         final int end) {
+        final int words = packedKey.words();
+
+        for (int i = start; i < end; i++) {
+            packedKey.words(
+                colors[i],
+                keys,
+                i * words
+            );
+        }
+    }
+
+    /**
+     * Reorders the colors so each holds the color at the sorted index.
+     */
+    static void reorder(final Color[] colors,
+                        final int[] indices) {
+        final Color[] unsorted = colors.clone();
+        final int length = colors.length;
+
+        for (int i = 0; i < length; i++) {
+            colors[i] = unsorted[indices[i]];
+        }
+    }
+
+    // @VisibleForTesting
+    ColorComparatorSorter(final long[] keys,
+                          final int words) {
+        super();
+        this.keys = keys;
+        this.words = words;
+    }
+
+    /**
+     * Returns the indices of all the keys in sorted order.
+     */
+    int[] sortIndices() {
+        final int length = this.length();
+
+        final int[] indices = new int[length];
+        for (int i = 0; i < length; i++) {
+            indices[i] = i;
+        }
+
+        this.sortIndices(
+            indices,
+            new int[length],
+            0,
+            length
+        );
+        return indices;
+    }
+
+    /**
+     * Sorts the indices from start to end, using temp from start to end as the merge buffer.
+     */
+    void sortIndices(final int[] indices,
+                     final int[] temp,
+                     final int start,
+                     final int end) {
+        for (int runStart = start; runStart < end; runStart += RUN) {
+            this.insertionSort(
+                indices,
+                runStart,
+                Math.min(runStart + RUN, end)
+            );
+        }
+
+        int[] from = indices;
+        int[] to = temp;
+        for (int width = RUN; width < end - start; width *= 2) {
+            for (int left = start; left < end; left += 2 * width) {
+                final int middle = Math.min(left + width, end);
+                this.merge(
+                    from,
+                    to,
+                    left,
+                    middle,
+                    Math.min(middle + width, end)
+                );
+            }
+
+            final int[] swap = from;
+            from = to;
+            to = swap;
+        }
+
+        if (from != indices) {
+            System.arraycopy(
+                from,
+                start,
+                indices,
+                start,
+                end - start
+            );
+        }
+    }
+
+    /**
+     * The number of keys, which is the number of colors being sorted.
+     */
+    int length() {
+        return this.keys.length / this.words;
+    }
+
+    /**
+     * Runs shorter than this are sorted with an insertion sort before merging.
+     */
+    private final static int RUN = 16;
+
+    private void insertionSort(final int[] indices,
+                               final int start,
+                               final int end) {
+        for (int i = start + 1; i < end; i++) {
+            final int index = indices[i];
+            int j = i - 1;
+            while (j >= start && this.compare(indices[j], index) > 0) {
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            indices[j + 1] = index;
+        }
+    }
+
+    /**
+     * Merges the two sorted runs from left to middle and middle to right into to, taking from the left run when equal
+     * so the sort is stable.
+     */
+    void merge(final int[] from,
+               final int[] to,
+               final int left,
+               final int middle,
+               final int right) {
+        int i = left;
+        int j = middle;
+
+        for (int k = left; k < right; k++) {
+            if (i < middle && (j >= right || this.compare(from[i], from[j]) <= 0)) {
+                to[k] = from[i];
+                i++;
+            } else {
+                to[k] = from[j];
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Compares the packed words of the two colors, in order until a difference is found.
+     */
+    private int compare(final int left,
+                        final int right) {
+        final long[] keys = this.keys;
+        final int words = this.words;
+
+        int result = 0;
+        for (int i = 0; 0 == result && i < words; i++) {
+            result = ColorComparatorPackedKey.compareWords(
+                keys[left * words + i],
+                keys[right * words + i]
+            );
+        }
+        return result;
+    }
+
+    /**
+     * The packed words of every color, {@link #words} for each color.
+     */
+    private final long[] keys;
+
+    private final int words;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.length() + " colors " + this.words + " words";
+    }
+}
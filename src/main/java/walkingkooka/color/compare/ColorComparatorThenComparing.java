@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import walkingkooka.Cast;
+import walkingkooka.color.Color;
+
+import java.util.Objects;
+
+/**
+ * A {@link ColorComparator} that uses a second {@link ColorComparator} when the first finds two colors equal.
+ */
+final class ColorComparatorThenComparing extends ColorComparator {
+
+    static ColorComparatorThenComparing with(final ColorComparator first,
+                                             final ColorComparator second) {
+        return new ColorComparatorThenComparing(
+            Objects.requireNonNull(first, "first"),
+            Objects.requireNonNull(second, "second")
+        );
+    }
+
+    private ColorComparatorThenComparing(final ColorComparator first,
+                                         final ColorComparator second) {
+        super();
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public int compare(final Color left,
+                       final Color right) {
+        final int result = this.first.compare(
+            left,
+            right
+        );
+        return 0 != result ?
+            result :
+            this.second.compare(
+                left,
+                right
+            );
+    }
+
+    @Override
+    void addPackedKeyComponents(final ColorComparatorPackedKey key,
+                                final boolean reversed) {
+        this.first.addPackedKeyComponents(
+            key,
+            reversed
+        );
+        this.second.addPackedKeyComponents(
+            key,
+            reversed
+        );
+    }
+
+    private final ColorComparator first;
+
+    private final ColorComparator second;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.first,
+            this.second
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ColorComparatorThenComparing &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ColorComparatorThenComparing other) {
+        return this.first.equals(other.first) &&
+            this.second.equals(other.second);
+    }
+
+    @Override
+    public String toString() {
+        return this.first + " " + this.second;
+    }
+}
@@ -17,10 +17,13 @@
 
 package walkingkooka.color.compare;
 
+import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.color.Color;
+import walkingkooka.color.RgbColor;
 import walkingkooka.reflect.PublicStaticHelper;
 
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * A collection of {@link walkingkooka.color.Color} related {@link java.util.Comparator}.
@@ -90,6 +93,50 @@ public final class ColorComparators implements PublicStaticHelper {
         return ColorComparatorHslOrHsvSharedHsvValue.INSTANCE;
     }
 
+    /**
+     * Returns a new {@link List} without any colors with the same {@link RgbColor#argb()} as an earlier color, using the
+     * common {@link java.util.concurrent.ForkJoinPool}.
+     */
+    @GwtIncompatible
+    public static <C extends Color> List<C> parallelDistinct(final List<C> colors) {
+        return ColorComparatorParallelSorter.distinct(colors);
+    }
+
+    /**
+     * Returns a new array without any ARGB values that are the same as an earlier value, using the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     */
+    @GwtIncompatible
+    public static int[] parallelDistinctArgb(final int[] argb) {
+        return ColorComparatorParallelSorter.distinctArgb(argb);
+    }
+
+    /**
+     * Sorts the colors in the {@link List} using the common {@link java.util.concurrent.ForkJoinPool}, giving the
+     * same order as {@link #sort(List, Comparator)}.
+     */
+    @GwtIncompatible
+    public static <C extends Color> void parallelSort(final List<C> colors,
+                                                      final Comparator<? super C> comparator) {
+        ColorComparatorParallelSorter.sort(
+            colors,
+            comparator
+        );
+    }
+
+    /**
+     * Sorts the ARGB values in place using the common {@link java.util.concurrent.ForkJoinPool}, giving the same order
+     * as {@link #sortArgb(int[], String)}.
+     */
+    @GwtIncompatible
+    public static void parallelSortArgb(final int[] argb,
+                                        final String components) {
+        ColorComparatorParallelSorter.sortArgb(
+            argb,
+            components
+        );
+    }
+
     /**
      * {@link ColorComparatorRgbRed}
      */
@@ -97,6 +144,58 @@ public final class ColorComparators implements PublicStaticHelper {
         return ColorComparatorRgbRed.INSTANCE;
     }
 
+    /**
+     * Sorts the colors in the {@link List}, giving the same order as {@link List#sort(Comparator)}. When the
+     * {@link Comparator} comes from this class, including {@link #colorCollection(String)} and any
+     * {@link Comparator#reversed()} or {@link Comparator#thenComparing(Comparator)} of them, every color is converted
+     * once rather than twice for every comparison.
+     */
+    public static <C extends Color> void sort(final List<C> colors,
+                                              final Comparator<? super C> comparator) {
+        ColorComparatorSorter.sort(
+            colors,
+            comparator
+        );
+    }
+
+    /**
+     * Sorts the colors in the array, giving the same order as {@link java.util.Arrays#sort(Object[], Comparator)}.
+     * When the {@link Comparator} comes from this class every color is converted once.
+     */
+    public static <C extends Color> void sort(final C[] colors,
+                                              final Comparator<? super C> comparator) {
+        ColorComparatorSorter.sort(
+            colors,
+            comparator
+        );
+    }
+
+    /**
+     * Sorts the ARGB values in place by the components in the text, using the same names as
+     * {@link #colorCollection(String)}. RGB components are sorted with a radix sort, any HSL or HSV component sorts
+     * using the {@link #colorCollection(String)} {@link Comparator}.
+     */
+    public static void sortArgb(final int[] argb,
+                                final String components) {
+        ColorComparatorRadixSorter.sort(
+            argb,
+            components
+        );
+    }
+
+    /**
+     * Sorts the {@link RgbColor} in the {@link List} by the components in the text, using the same names as
+     * {@link #colorCollection(String)}. RGB components are sorted with a radix sort of their ARGB values, any HSL or
+     * HSV component sorts using the {@link #colorCollection(String)} {@link Comparator}.
+     */
+    public static <C extends RgbColor> void sortRgb(final List<C> colors,
+                                                    final String components) {
+        ColorComparatorRadixSorter.sort(
+            colors,
+            components
+        );
+    }
+
     private ColorComparators() {
         throw new UnsupportedOperationException();
     }
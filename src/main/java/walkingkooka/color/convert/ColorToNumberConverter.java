@@ -19,7 +19,6 @@ package walkingkooka.color.convert;
 
 import walkingkooka.Cast;
 import walkingkooka.Either;
-import walkingkooka.HasValue;
 import walkingkooka.color.Color;
 import walkingkooka.color.ColorComponent;
 import walkingkooka.color.ColorLike;
@@ -58,8 +57,6 @@ final class ColorToNumberConverter<C extends ConverterContext> implements ShortC
                               final C context) {
         // RgbColor OR RgbColorComponent
         return value instanceof ColorLike &&
-            // must have a value getter
-            value instanceof HasValue &&
             (
                 value instanceof ColorComponent ||
                     // Color cannot be converted to Byte or Short
@@ -75,9 +72,12 @@ final class ColorToNumberConverter<C extends ConverterContext> implements ShortC
                                            final C context) {
         Number number = null;
 
-        // get the number
-        if (value instanceof HasValue) {
-            number = ((HasValue<Number>) value).value();
+        // get the number, Byte values are cached so only RgbColor values are boxed, once
+        if (value instanceof ColorLike) {
+            final ColorLike<?> colorLike = (ColorLike<?>) value;
+            number = value instanceof ColorComponent ?
+                colorLike.value() :
+                Integer.valueOf(colorLike.intValue());
         }
 
         return null != number ?
@@ -28,9 +28,9 @@ public final class AlphaHslColorTest extends HslColorTestCase<AlphaHslColor> {
     public void testWith() {
         final AlphaHslColorComponent alpha = this.alphaHslComponent();
         final HslColor hsl = AlphaHslColor.withAlpha(HUE, SATURATION, LIGHTNESS, alpha);
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(LIGHTNESS, hsl.lightness, "lightness");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(LIGHTNESS, hsl.lightness(), "lightness");
         assertSame(alpha, hsl.alpha(), "alpha");
     }
 
@@ -48,9 +48,9 @@ public final class AlphaHslColorTest extends HslColorTestCase<AlphaHslColor> {
         final RgbColor expected = RgbColor.fromRgb0(rgb)
             .set(RgbColorComponent.alpha(RgbColorComponent.toByte(alpha)));
         final RgbColor actual = hsla.toRgb();
-        if ((false == this.isEquals(expected.red, actual.red)) || //
-            (false == this.isEquals(expected.green, actual.green)) || //
-            (false == this.isEquals(expected.blue, actual.blue) ||
+        if ((false == this.isEquals(expected.red(), actual.red())) || //
+            (false == this.isEquals(expected.green(), actual.green())) || //
+            (false == this.isEquals(expected.blue(), actual.blue()) ||
                 (false == this.isEquals(expected.alpha(), actual.alpha())))) {
             this.checkEquals(expected, actual, "failed to convert " + hsla + " to a RgbColor");
         }
@@ -28,9 +28,9 @@ public final class AlphaHsvColorTest extends HsvTestCase<AlphaHsvColor> {
     public void testWith() {
         final AlphaHsvColorComponent alpha = this.alphaHsvColorComponent();
         final HsvColor hsv = AlphaHsvColor.withAlpha(HUE, SATURATION, VALUE, alpha);
-        assertSame(HUE, hsv.hue, "hue");
-        assertSame(SATURATION, hsv.saturation, "saturation");
-        assertSame(VALUE, hsv.value, "value");
+        assertSame(HUE, hsv.hue(), "hue");
+        assertSame(SATURATION, hsv.saturation(), "saturation");
+        assertSame(VALUE, hsv.value(), "value");
         assertSame(alpha, hsv.alpha(), "alpha");
     }
 
@@ -48,9 +48,9 @@ public final class AlphaHsvColorTest extends HsvTestCase<AlphaHsvColor> {
         final RgbColor expected = RgbColor.fromRgb0(rgb)
             .set(RgbColorComponent.alpha(RgbColorComponent.toByte(alpha)));
         final RgbColor actual = hsva.toRgb();
-        if ((false == this.isEquals(expected.red, actual.red)) || //
-            (false == this.isEquals(expected.green, actual.green)) || //
-            (false == this.isEquals(expected.blue, actual.blue) ||
+        if ((false == this.isEquals(expected.red(), actual.red())) || //
+            (false == this.isEquals(expected.green(), actual.green())) || //
+            (false == this.isEquals(expected.blue(), actual.blue()) ||
                 (false == this.isEquals(expected.alpha(), actual.alpha())))) {
             this.checkEquals(expected, actual, "failed to convert " + hsva + " to a RgbColor");
         }
@@ -150,6 +150,29 @@ public final class AlphaRgbColorTest extends RgbColorTestCase<AlphaRgbColor> {
         );
     }
 
+    @Test
+    public void testMixTenth() {
+        this.mixAndCheck(
+            "#00000000",
+            "#ffffffff",
+            0.1f,
+            "#1a1a1a1a"
+        );
+    }
+
+    @Test
+    public void testMixRoundsToSameColor() {
+        final RgbColor color = Color.parseRgb("#12345678");
+
+        assertSame(
+            color,
+            color.mix(
+                Color.parseRgb("#13355779"),
+                0.25f
+            )
+        );
+    }
+
     // toAwt............................................................................................................
 
     @Test
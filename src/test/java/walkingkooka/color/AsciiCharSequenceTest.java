@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class AsciiCharSequenceTest implements ClassTesting2<AsciiCharSequence>,
+    ToStringTesting<AsciiCharSequence> {
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> AsciiCharSequence.with(null)
+        );
+    }
+
+    @Test
+    public void testLengthAndCharAt() {
+        final AsciiCharSequence chars = this.createCharSequence();
+
+        this.checkEquals(
+            5,
+            chars.length(),
+            "length"
+        );
+        this.checkEquals(
+            '#',
+            chars.charAt(0),
+            "charAt 0"
+        );
+        this.checkEquals(
+            'c',
+            chars.charAt(4),
+            "charAt 4"
+        );
+    }
+
+    @Test
+    public void testCharAtInvalidIndexFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createCharSequence()
+                .charAt(5)
+        );
+    }
+
+    @Test
+    public void testCharAtNonAscii() {
+        this.checkEquals(
+            (char) 0xFF,
+            AsciiCharSequence.with(new byte[]{(byte) 0xFF})
+                .charAt(0)
+        );
+    }
+
+    @Test
+    public void testSubSequence() {
+        this.toStringAndCheck(
+            this.createCharSequence()
+                .subSequence(1, 4)
+                .subSequence(1, 3),
+            "bc"
+        );
+    }
+
+    @Test
+    public void testSubSequenceInvalidFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createCharSequence()
+                .subSequence(3, 2)
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createCharSequence(),
+            "#abbc"
+        );
+    }
+
+    private AsciiCharSequence createCharSequence() {
+        return AsciiCharSequence.with(
+            "#abbc".getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<AsciiCharSequence> type() {
+        return AsciiCharSequence.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
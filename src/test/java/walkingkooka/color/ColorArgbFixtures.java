@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+/**
+ * Deterministic pseudo random ARGB values, for tests that need more colors than can be listed inline.
+ */
+public final class ColorArgbFixtures {
+
+    /**
+     * Returns count ARGB values from a linear congruential generator seeded with the count, and the mask applied so
+     * tests can clear bits to force duplicates.
+     */
+    public static int[] argb(final int count,
+                             final int mask) {
+        final int[] argb = new int[count];
+        int value = count;
+        for (int i = 0; i < count; i++) {
+            value = value * 1103515245 + 12345;
+            argb[i] = value & mask;
+        }
+        return argb;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ColorArgbFixtures() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorBufferTest implements ClassTesting2<ColorBuffer>,
+    HashCodeEqualsDefinedTesting2<ColorBuffer>,
+    ToStringTesting<ColorBuffer> {
+
+    private final static int[] ARGB = new int[]{
+        0xFF000000,
+        0xFFFFFFFF,
+        0xFF123456,
+        0x80123456,
+        0x00FEDCBA,
+        0xFF010101,
+        0x7F808080
+    };
+
+    @Test
+    public void testWithNegativeLengthFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ColorBuffer.with(-1)
+        );
+    }
+
+    @Test
+    public void testWrapNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorBuffer.wrap(null)
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final ColorBuffer buffer = ColorBuffer.with(2);
+        this.checkEquals(
+            2,
+            buffer.length()
+        );
+        this.checkEquals(
+            WebColorName.TRANSPARENT.color(),
+            buffer.get(1)
+        );
+    }
+
+    @Test
+    public void testWrapShares() {
+        final int[] argb = new int[]{0xFF123456};
+        final ColorBuffer buffer = ColorBuffer.wrap(argb);
+        buffer.set(0, Color.WHITE);
+
+        this.checkEquals(
+            0xFFFFFFFF,
+            argb[0]
+        );
+    }
+
+    @Test
+    public void testCopyOf() {
+        final RgbColor rgb = Color.parseRgb("#123456");
+        final HslColor hsl = Color.parseRgb("#ff0000").toHsl();
+
+        final ColorBuffer buffer = ColorBuffer.copyOf(
+            Lists.of(
+                rgb,
+                hsl
+            )
+        );
+        this.checkEquals(
+            Lists.of(
+                rgb,
+                hsl.toRgb()
+            ),
+            buffer.asList()
+        );
+    }
+
+    @Test
+    public void testSetArgbAndArgb() {
+        final ColorBuffer buffer = ColorBuffer.with(1)
+            .setArgb(0, 0x80123456);
+        this.checkEquals(
+            0x80123456,
+            buffer.argb(0)
+        );
+        this.checkEquals(
+            Color.fromArgb(0x80123456),
+            buffer.get(0)
+        );
+    }
+
+    @Test
+    public void testToArgbArrayCopies() {
+        final ColorBuffer buffer = this.createObject();
+        final int[] argb = buffer.toArgbArray();
+        argb[0] = 0;
+
+        this.checkEquals(
+            ARGB[0],
+            buffer.argb(0)
+        );
+    }
+
+    @Test
+    public void testInvert() {
+        this.operationAndCheck(
+            ColorBuffer::invert,
+            RgbColor::invert
+        );
+    }
+
+    @Test
+    public void testToGray() {
+        this.operationAndCheck(
+            ColorBuffer::toGray,
+            RgbColor::toGray
+        );
+    }
+
+    @Test
+    public void testSetRed() {
+        final RedRgbColorComponent red = RgbColorComponent.red((byte) 0x99);
+
+        this.operationAndCheck(
+            b -> b.set(red),
+            c -> c.set(red)
+        );
+    }
+
+    @Test
+    public void testSetAlpha() {
+        final AlphaRgbColorComponent alpha = RgbColorComponent.alpha((byte) 0x40);
+
+        this.operationAndCheck(
+            b -> b.set(alpha),
+            c -> c.set(alpha)
+        );
+    }
+
+    @Test
+    public void testSetOpaqueAlpha() {
+        final AlphaRgbColorComponent alpha = AlphaRgbColorComponent.OPAQUE;
+
+        this.operationAndCheck(
+            b -> b.set(alpha),
+            c -> c.set(alpha)
+        );
+    }
+
+    @Test
+    public void testMixInvalidAmountFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .mix(Color.BLACK, 1.5f)
+        );
+    }
+
+    @Test
+    public void testMixColor() {
+        final RgbColor other = Color.fromArgb(0x80336699);
+
+        this.operationAndCheck(
+            b -> b.mix(other, 0.25f),
+            c -> c.mix(other, 0.25f)
+        );
+    }
+
+    @Test
+    public void testMixColorLarge() {
+        final RgbColor other = Color.fromArgb(0x80336699);
+
+        this.operationAndCheck(
+            b -> b.mix(other, 1.0f),
+            c -> c.mix(other, 1.0f)
+        );
+    }
+
+    @Test
+    public void testMixColorSmall() {
+        this.checkEquals(
+            this.createObject(),
+            this.createObject()
+                .mix(Color.WHITE, 0.001f)
+        );
+    }
+
+    @Test
+    public void testMixColorBufferLarge() {
+        final ColorBuffer other = this.createObject()
+            .invert();
+
+        this.checkEquals(
+            other,
+            this.createObject()
+                .mix(other, 1.0f)
+        );
+    }
+
+    @Test
+    public void testMixColorBuffer() {
+        final ColorBuffer buffer = this.createObject();
+        final ColorBuffer other = this.createObject()
+            .invert();
+        buffer.mix(other, 0.75f);
+
+        for (int i = 0; i < ARGB.length; i++) {
+            this.checkEquals(
+                Color.fromArgb(ARGB[i])
+                    .mix(other.get(i), 0.75f),
+                buffer.get(i),
+                () -> "mix"
+            );
+        }
+    }
+
+    @Test
+    public void testMixColorBufferDifferentLengthFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .mix(ColorBuffer.with(1), 0.5f)
+        );
+    }
+
+    private void operationAndCheck(final UnaryOperator<ColorBuffer> bulk,
+                                   final UnaryOperator<RgbColor> color) {
+        final ColorBuffer buffer = this.createObject();
+        bulk.apply(buffer);
+
+        for (int i = 0; i < ARGB.length; i++) {
+            final int argb = ARGB[i];
+
+            this.checkEquals(
+                color.apply(Color.fromArgb(argb)),
+                buffer.get(i),
+                () -> "argb " + Integer.toHexString(argb)
+            );
+        }
+    }
+
+    @Test
+    public void testToHsv() {
+        final ColorBuffer buffer = this.createObject();
+        final int length = buffer.length();
+
+        final float[] hue = new float[length];
+        final float[] saturation = new float[length];
+        final float[] value = new float[length];
+        buffer.toHsv(hue, saturation, value);
+
+        for (int i = 0; i < length; i++) {
+            this.checkEquals(
+                buffer.get(i)
+                    .toHsv(),
+                Color.hsv(
+                    HsvColorComponent.hue(hue[i]),
+                    HsvColorComponent.saturation(saturation[i]),
+                    HsvColorComponent.value(value[i])
+                )
+            );
+        }
+    }
+
+    @Test
+    public void testToHsl() {
+        final ColorBuffer buffer = ColorBuffer.wrap(
+            new int[]{
+                0xFF000000,
+                0xFFFFFFFF,
+                0xFF123456,
+                0xFF808080
+            }
+        );
+        final int length = buffer.length();
+
+        final float[] hue = new float[length];
+        final float[] saturation = new float[length];
+        final float[] lightness = new float[length];
+        buffer.toHsl(hue, saturation, lightness);
+
+        for (int i = 0; i < length; i++) {
+            this.checkEquals(
+                buffer.get(i)
+                    .toHsl(),
+                Color.hsl(
+                    HslColorComponent.hue(hue[i]),
+                    HslColorComponent.saturation(saturation[i]),
+                    HslColorComponent.lightness(lightness[i])
+                )
+            );
+        }
+    }
+
+    @Test
+    public void testToHslInvalidHueFails() {
+        final ColorBuffer buffer = ColorBuffer.wrap(
+            new int[]{
+                0xFF123456,
+                0xFF171614
+            }
+        );
+
+        final float[] hue = new float[2];
+        final float[] saturation = new float[2];
+        final float[] lightness = new float[2];
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> buffer.toHsl(hue, saturation, lightness)
+        );
+
+        this.checkEquals(
+            Color.fromArgb(0xFF123456)
+                .toHsl(),
+            Color.hsl(
+                HslColorComponent.hue(hue[0]),
+                HslColorComponent.saturation(saturation[0]),
+                HslColorComponent.lightness(lightness[0])
+            ),
+            "earlier colors written"
+        );
+    }
+
+    @Test
+    public void testToHslShortArrayFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .toHsl(
+                    new float[1],
+                    new float[ARGB.length],
+                    new float[ARGB.length]
+                )
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferent() {
+        this.checkNotEquals(
+            this.createObject()
+                .invert()
+        );
+    }
+
+    @Override
+    public ColorBuffer createObject() {
+        return ColorBuffer.wrap(ARGB.clone());
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ColorBuffer.wrap(
+                new int[]{
+                    0xFF123456,
+                    0x80112233
+                }
+            ),
+            "[#123456, #11223380]"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorBuffer> type() {
+        return ColorBuffer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
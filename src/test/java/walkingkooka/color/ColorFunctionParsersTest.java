@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ColorFunctionParsersTest implements ClassTesting2<ColorFunctionParsers> {
+
+    @Test
+    public void testRgbNotAcceptedByScanner() {
+        final String text = "rgb(10.000000,2,3)";
+
+        this.checkEquals(
+            null,
+            ColorFunctionScanner.rgb(text),
+            "scanner"
+        );
+        this.checkEquals(
+            Color.fromRgb(0x0a0203),
+            Color.parseColorParserToken(
+                text,
+                ColorFunctionParsers.RGB
+            ).toRgb()
+        );
+    }
+
+    @Test
+    public void testHslNotAcceptedByScanner() {
+        final String text = "hsl(12.500000,50%,50%)";
+
+        this.checkEquals(
+            null,
+            ColorFunctionScanner.hsl(text),
+            "scanner"
+        );
+        this.checkEquals(
+            Color.parseHsl("hsl(12.5,50%,50%)"),
+            Color.parseColorParserToken(
+                text,
+                ColorFunctionParsers.HSL
+            ).toHsl()
+        );
+    }
+
+    @Test
+    public void testHsvNotAcceptedByScanner() {
+        final String text = "hsv(12.500000,50%,50%)";
+
+        this.checkEquals(
+            null,
+            ColorFunctionScanner.hsv(text),
+            "scanner"
+        );
+        this.checkEquals(
+            Color.parseHsv("hsv(12.5,50%,50%)"),
+            Color.parseColorParserToken(
+                text,
+                ColorFunctionParsers.HSV
+            ).toHsv()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorFunctionParsers> type() {
+        return ColorFunctionParsers.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
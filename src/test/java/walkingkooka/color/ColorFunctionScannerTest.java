@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.color.parser.ColorParsers;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.parser.Parser;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserReporters;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorFunctionScannerTest implements ClassTesting2<ColorFunctionScanner> {
+
+    // rgb..............................................................................................................
+
+    @Test
+    public void testRgbCorpus() {
+        this.scanAndCheck(
+            ColorFunctionScanner::rgb,
+            ColorParsers.rgb(),
+            "rgb(1,2,3)",
+            "rgb(12,34,56)",
+            "rgb(99,128,255)",
+            "rgb( 1,2 , 3 )",
+            "rgb(1 ,2,3)",
+            "rgb(300,2,3)",
+            "rgb(1.5,2.25,3.125)",
+            "rgb(1 2 3)",
+            "rgb( 1 2 3 )",
+            "rgb(1 2 3 / 4)",
+            "rgb(1 2 3/50%)",
+            "rgb(10%,20%,30%)",
+            "rgb(10% 20% 30%)",
+            "rgb(33.3%,66.7%,99.9%)",
+            "rgba(1,2,3,127)",
+            "rgba(12,34,56,127)",
+            "rgba(0,0,0,0%)",
+            "rgba(255,254,253,100%)",
+            "rgba( 1,2 , 3, 0 )",
+            "rgba(10%,20%,30%,0.5)",
+            "rgba(1 2 3 / 50.5%)"
+        );
+    }
+
+    @Test
+    public void testRgbNotAccepted() {
+        this.notAcceptedCheck(
+            ColorFunctionScanner::rgb,
+            "rgb(1",
+            "rgb(1,2,3",
+            "rgb(1,2,3,",
+            "rgb(1,2,3)X",
+            "rgb(1  2 3)",
+            "rgb(1,2,3  )",
+            "rgb(1%, 2, 3)",
+            "rgb(1, 2%, 3%)",
+            "rgb(1,2,3,4,5)",
+            "rgb(1 2 3, 4)",
+            "rgba(1, 2, 3 / 4)",
+            "rgb(1.,2,3)",
+            "rgb(.5,2,3)",
+            "rgb(-1,2,3)",
+            "rgb(1e2,2,3)",
+            "rgb(12345678,1,1)",
+            "hsl(1,2,3)"
+        );
+    }
+
+    // hsl..............................................................................................................
+
+    @Test
+    public void testHslCorpus() {
+        this.scanAndCheck(
+            ColorFunctionScanner::hsl,
+            ColorParsers.hsl(),
+            "hsl(359,100%,99%)",
+            "hsl(120, 50%, 25%)",
+            "hsl(120deg, 50%, 25%)",
+            "hsl(120deg 50% 25%)",
+            "hsl(120 0.5 0.25)",
+            "hsl(120.5 12.5% 37.5%)",
+            "hsla(120,50%,25%,0.5)",
+            "hsla(120deg,50%,25%,50%)",
+            "hsla(120 0.5 0.25 / 50%)",
+            "hsla( 120 , 50% , 25% , 1 )"
+        );
+    }
+
+    @Test
+    public void testHslNotAccepted() {
+        this.notAcceptedCheck(
+            ColorFunctionScanner::hsl,
+            "hsl(",
+            "hsl(120%, 50%, 25%)",
+            "hsl(120, 50%, 0.25)",
+            "hsl(120deg50% 25%)",
+            "hsl(120 deg, 50%, 25%)",
+            "hsv(120, 50%, 25%)"
+        );
+    }
+
+    @Test
+    public void testHslInvalidHueFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ColorFunctionScanner.hsl("hsl(400, 50%, 25%)")
+        );
+    }
+
+    // hsv..............................................................................................................
+
+    @Test
+    public void testHsvCorpus() {
+        this.scanAndCheck(
+            ColorFunctionScanner::hsv,
+            ColorParsers.hsv(),
+            "hsv(359,100%,99%)",
+            "hsv(359, 100%, 99%)",
+            "hsv(90deg 0.5 0.25)",
+            "hsva(359,100%,99%,25%)",
+            "hsva(359 100% 99% / 0.25)"
+        );
+    }
+
+    @Test
+    public void testHsvNotAccepted() {
+        this.notAcceptedCheck(
+            ColorFunctionScanner::hsv,
+            "hsv(359,100%,99%",
+            "hsv(359,100%,99)",
+            "hsl(359,100%,99%)"
+        );
+    }
+
+    // helpers..........................................................................................................
+
+    /**
+     * Verifies every text is accepted by the scanner and produces the same {@link Color} as the parser combinator.
+     */
+    private void scanAndCheck(final Function<String, Color> scanner,
+                              final Parser<ParserContext> parser,
+                              final String... texts) {
+        for (final String text : texts) {
+            this.checkEquals(
+                Color.parseColorParserToken(
+                    text,
+                    parser.orReport(ParserReporters.basic())
+                ),
+                scanner.apply(text),
+                () -> "scan " + text
+            );
+        }
+    }
+
+    private void notAcceptedCheck(final Function<String, Color> scanner,
+                                  final String... texts) {
+        for (final String text : texts) {
+            this.checkEquals(
+                null,
+                scanner.apply(text),
+                () -> "scan " + text
+            );
+        }
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorFunctionScanner> type() {
+        return ColorFunctionScanner.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorHistogramTest implements ClassTesting2<ColorHistogram>,
+    HashCodeEqualsDefinedTesting2<ColorHistogram>,
+    ToStringTesting<ColorHistogram> {
+
+    private final static int RED = 0xFFFF0000;
+    private final static int GREEN = 0xFF00FF00;
+    private final static int BLUE = 0xFF0000FF;
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorHistogram.with(null)
+        );
+    }
+
+    @Test
+    public void testEmpty() {
+        final ColorHistogram histogram = ColorHistogram.empty();
+
+        this.checkEquals(
+            0,
+            histogram.size(),
+            "size"
+        );
+        this.checkEquals(
+            0L,
+            histogram.total(),
+            "total"
+        );
+        this.checkEquals(
+            0L,
+            histogram.count(RED),
+            "count"
+        );
+    }
+
+    @Test
+    public void testAddNegativeCountFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ColorHistogram.empty()
+                .add(RED, -1)
+        );
+    }
+
+    @Test
+    public void testAdd() {
+        final ColorHistogram histogram = ColorHistogram.empty()
+            .add(RED)
+            .add(GREEN, 2)
+            .add(Color.fromArgb(RED))
+            .add(BLUE, 0);
+
+        this.checkEquals(
+            2,
+            histogram.size(),
+            "size"
+        );
+        this.checkEquals(
+            4L,
+            histogram.total(),
+            "total"
+        );
+        this.checkEquals(
+            2L,
+            histogram.count(RED),
+            "red"
+        );
+        this.checkEquals(
+            2L,
+            histogram.count(Color.fromArgb(GREEN)),
+            "green"
+        );
+        this.checkEquals(
+            0L,
+            histogram.count(BLUE),
+            "blue"
+        );
+    }
+
+    @Test
+    public void testAddZeroArgb() {
+        this.checkEquals(
+            1L,
+            ColorHistogram.empty()
+                .add(0)
+                .count(0)
+        );
+    }
+
+    @Test
+    public void testAddManySameAsMap() {
+        final int[] argb = ColorArgbFixtures.argb(
+            100_000,
+            0xFF0F0F0F
+        );
+        final Map<Integer, Long> expected = new HashMap<>();
+        for (final int value : argb) {
+            expected.merge(value, 1L, Long::sum);
+        }
+
+        final ColorHistogram histogram = ColorHistogram.with(argb);
+        this.checkEquals(
+            expected.size(),
+            histogram.size(),
+            "size"
+        );
+        for (final Map.Entry<Integer, Long> entry : expected.entrySet()) {
+            this.checkEquals(
+                entry.getValue(),
+                histogram.count(entry.getKey()),
+                () -> "count " + Integer.toHexString(entry.getKey())
+            );
+        }
+    }
+
+    @Test
+    public void testAddAll() {
+        this.checkEquals(
+            ColorHistogram.empty()
+                .add(RED, 3)
+                .add(GREEN),
+            ColorHistogram.empty()
+                .add(RED)
+                .addAll(
+                    ColorHistogram.empty()
+                        .add(RED, 2)
+                        .add(GREEN)
+                )
+        );
+    }
+
+    @Test
+    public void testWithParallelSameAsAdd() {
+        final int[] argb = ColorArgbFixtures.argb(
+            100_000,
+            0xFF0F0F0F
+        );
+        final ColorHistogram expected = ColorHistogram.empty();
+        for (final int value : argb) {
+            expected.add(value);
+        }
+
+        this.checkEquals(
+            expected,
+            ColorHistogram.with(argb)
+        );
+    }
+
+    @Test
+    public void testCollectorParallel() {
+        final int[] argb = ColorArgbFixtures.argb(
+            10_000,
+            0xFF0F0F0F
+        );
+
+        this.checkEquals(
+            ColorHistogram.with(argb),
+            Arrays.stream(argb)
+                .mapToObj(Color::fromArgb)
+                .parallel()
+                .collect(ColorHistogram.collector())
+        );
+    }
+
+    // top..............................................................................................................
+
+    @Test
+    public void testTopInvalidFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ColorHistogram.empty()
+                .top(-1)
+        );
+    }
+
+    @Test
+    public void testTop() {
+        this.checkEquals(
+            Lists.of(
+                Color.fromArgb(GREEN),
+                Color.fromArgb(BLUE)
+            ),
+            ColorHistogram.empty()
+                .add(RED)
+                .add(GREEN, 3)
+                .add(BLUE)
+                .top(2)
+        );
+    }
+
+    @Test
+    public void testTopMoreThanSize() {
+        this.checkEquals(
+            Lists.of(
+                Color.fromArgb(GREEN),
+                Color.fromArgb(RED)
+            ),
+            ColorHistogram.empty()
+                .add(RED)
+                .add(GREEN, 3)
+                .top(5)
+        );
+    }
+
+    @Test
+    public void testTopEqualCountsTranslucentBeforeOpaque() {
+        this.checkEquals(
+            Lists.of(
+                Color.fromArgb(0x80FF0000),
+                Color.fromArgb(BLUE),
+                Color.fromArgb(RED)
+            ),
+            ColorHistogram.empty()
+                .add(RED)
+                .add(0x80FF0000)
+                .add(BLUE)
+                .top(3)
+        );
+    }
+
+    @Test
+    public void testTopZero() {
+        this.checkEquals(
+            Lists.empty(),
+            ColorHistogram.empty()
+                .add(RED)
+                .top(0)
+        );
+    }
+
+    // mean.............................................................................................................
+
+    @Test
+    public void testMeanEmptyFails() {
+        assertThrows(
+            IllegalStateException.class,
+            () -> ColorHistogram.empty()
+                .mean()
+        );
+    }
+
+    @Test
+    public void testMean() {
+        this.checkEquals(
+            Color.fromArgb(0xFF800080),
+            ColorHistogram.empty()
+                .add(RED)
+                .add(BLUE)
+                .mean()
+        );
+    }
+
+    @Test
+    public void testMeanHslEmptyFails() {
+        assertThrows(
+            IllegalStateException.class,
+            () -> ColorHistogram.empty()
+                .meanHsl()
+        );
+    }
+
+    @Test
+    public void testMeanHslCircularHue() {
+        // red 0 and blue 240 are 120 apart across 0, so their mean is 300 rather than 120
+        this.checkEquals(
+            Color.hsl(
+                HslColorComponent.hue(300),
+                HslColorComponent.saturation(1.0f),
+                HslColorComponent.lightness(0.5f)
+            ),
+            ColorHistogram.empty()
+                .add(RED)
+                .add(BLUE)
+                .meanHsl()
+        );
+    }
+
+    @Test
+    public void testMeanHslAchromaticIgnoredByHue() {
+        // gray has no saturation so its hue of 0 does not pull the mean of blue 240 toward red 300
+        this.checkEquals(
+            HslColorComponent.hue(240),
+            ColorHistogram.empty()
+                .add(0xFF808080)
+                .add(BLUE)
+                .meanHsl()
+                .hue()
+        );
+    }
+
+    @Test
+    public void testMeanHslCancelledHue() {
+        this.checkEquals(
+            Color.hsl(
+                HslColorComponent.hue(0),
+                HslColorComponent.saturation(1.0f),
+                HslColorComponent.lightness(0.5f)
+            ),
+            ColorHistogram.empty()
+                .add(RED)
+                .add(0xFF00FFFF)
+                .meanHsl()
+        );
+    }
+
+    // distribution.....................................................................................................
+
+    @Test
+    public void testDistributions() {
+        final ColorHistogram histogram = ColorHistogram.empty()
+            .add(0x80102030, 2)
+            .add(0xFF102040);
+
+        final long[] alpha = histogram.alphaDistribution();
+        this.checkEquals(2L, alpha[0x80], "alpha 80");
+        this.checkEquals(1L, alpha[0xFF], "alpha FF");
+
+        final long[] red = histogram.redDistribution();
+        this.checkEquals(3L, red[0x10], "red 10");
+
+        final long[] green = histogram.greenDistribution();
+        this.checkEquals(3L, green[0x20], "green 20");
+
+        final long[] blue = histogram.blueDistribution();
+        this.checkEquals(2L, blue[0x30], "blue 30");
+        this.checkEquals(1L, blue[0x40], "blue 40");
+        this.checkEquals(
+            3L,
+            Arrays.stream(blue).sum(),
+            "blue total"
+        );
+    }
+
+    @Test
+    public void testMeanDistribution() {
+        this.checkEquals(
+            2.5,
+            ColorHistogram.mean(new long[]{0, 1, 0, 1})
+        );
+    }
+
+    @Test
+    public void testVarianceDistribution() {
+        // values 1 and 3, mean 2
+        this.checkEquals(
+            1.0,
+            ColorHistogram.variance(new long[]{0, 1, 0, 1})
+        );
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentCount() {
+        this.checkNotEquals(
+            ColorHistogram.empty()
+                .add(RED, 3)
+                .add(GREEN)
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentColor() {
+        this.checkNotEquals(
+            ColorHistogram.empty()
+                .add(RED, 2)
+                .add(BLUE)
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentOrder() {
+        final ColorHistogram other = ColorHistogram.empty()
+            .add(GREEN)
+            .add(RED, 2);
+
+        this.checkEquals(
+            this.createObject(),
+            other
+        );
+        this.checkEquals(
+            this.createObject().hashCode(),
+            other.hashCode(),
+            "hashCode"
+        );
+    }
+
+    @Override
+    public ColorHistogram createObject() {
+        return ColorHistogram.empty()
+            .add(RED, 2)
+            .add(GREEN);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "2 colors 3 total"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorHistogram> type() {
+        return ColorHistogram.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorKdTreeTest implements ClassTesting2<ColorKdTree>,
+    ToStringTesting<ColorKdTree> {
+
+    private final static int MASK = 0xFFF0F0F0;
+
+    private final static int[] ARGB = ColorArgbFixtures.argb(
+        500,
+        MASK
+    );
+
+    @Test
+    public void testWithNullArgbFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorKdTree.with(
+                null,
+                ColorMetric.RGB
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullMetricFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorKdTree.with(
+                ARGB,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithEmptyFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ColorKdTree.with(
+                new int[0],
+                ColorMetric.RGB
+            )
+        );
+    }
+
+    @Test
+    public void testNearestOne() {
+        this.checkEquals(
+            0,
+            ColorKdTree.with(
+                new int[]{0xFF123456},
+                ColorMetric.RGB
+            ).nearest(0xFFFFFFFF)
+        );
+    }
+
+    @Test
+    public void testNearestDuplicatesLowestIndex() {
+        this.checkEquals(
+            1,
+            ColorKdTree.with(
+                new int[]{
+                    0xFF000000,
+                    0xFF808080,
+                    0xFFFFFFFF,
+                    0xFF808080
+                },
+                ColorMetric.RGB
+            ).nearest(0xFF818181)
+        );
+    }
+
+    @Test
+    public void testNearestRgb() {
+        this.nearestAndCheck(ColorMetric.RGB);
+    }
+
+    @Test
+    public void testNearestCielab() {
+        this.nearestAndCheck(ColorMetric.CIELAB);
+    }
+
+    /**
+     * Verifies the tree returns the same index as comparing every value, for single and bulk queries.
+     */
+    private void nearestAndCheck(final ColorMetric metric) {
+        final ColorKdTree tree = ColorKdTree.with(
+            ARGB,
+            metric
+        );
+        final int[] queries = ColorArgbFixtures.argb(
+            1000,
+            MASK
+        );
+        final int[] indices = new int[queries.length];
+        tree.nearest(
+            queries,
+            indices
+        );
+
+        for (int i = 0; i < queries.length; i++) {
+            final int query = queries[i];
+
+            int expected = -1;
+            double distance = Double.MAX_VALUE;
+            for (int j = 0; j < ARGB.length; j++) {
+                final double d = metric.distanceSquared(query, ARGB[j]);
+                if (d < distance) {
+                    distance = d;
+                    expected = j;
+                }
+            }
+
+            this.checkEquals(
+                expected,
+                tree.nearest(query),
+                () -> metric + " nearest " + Integer.toHexString(query)
+            );
+            this.checkEquals(
+                expected,
+                indices[i],
+                () -> metric + " nearest bulk " + Integer.toHexString(query)
+            );
+        }
+    }
+
+    // k nearest........................................................................................................
+
+    @Test
+    public void testNearestKMoreThanSize() {
+        this.checkEquals(
+            "[2, 1, 0]",
+            Arrays.toString(
+                ColorKdTree.with(
+                    new int[]{
+                        0xFF000000,
+                        0xFF808080,
+                        0xFFFFFFFF
+                    },
+                    ColorMetric.RGB
+                ).nearest(0xFFF0F0F0, 5)
+            )
+        );
+    }
+
+    @Test
+    public void testNearestKDuplicatesLowestIndexFirst() {
+        this.checkEquals(
+            "[1, 3]",
+            Arrays.toString(
+                ColorKdTree.with(
+                    new int[]{
+                        0xFF000000,
+                        0xFF808080,
+                        0xFFFFFFFF,
+                        0xFF808080
+                    },
+                    ColorMetric.RGB
+                ).nearest(0xFF818181, 2)
+            )
+        );
+    }
+
+    @Test
+    public void testNearestKRgb() {
+        this.nearestKAndCheck(ColorMetric.RGB);
+    }
+
+    @Test
+    public void testNearestKCielab() {
+        this.nearestKAndCheck(ColorMetric.CIELAB);
+    }
+
+    private void nearestKAndCheck(final ColorMetric metric) {
+        final ColorKdTree tree = ColorKdTree.with(
+            ARGB,
+            metric
+        );
+
+        for (final int query : ColorArgbFixtures.argb(200, MASK)) {
+            final Integer[] expected = sorted(query, metric);
+            final int[] nearest = tree.nearest(query, 7);
+
+            this.checkEquals(
+                7,
+                nearest.length,
+                () -> metric + " nearest 7 " + Integer.toHexString(query)
+            );
+            for (int i = 0; i < nearest.length; i++) {
+                this.checkEquals(
+                    expected[i],
+                    nearest[i],
+                    () -> metric + " nearest 7 " + Integer.toHexString(query)
+                );
+            }
+        }
+    }
+
+    // within...........................................................................................................
+
+    @Test
+    public void testWithinZero() {
+        this.checkEquals(
+            "[1, 3]",
+            Arrays.toString(
+                ColorKdTree.with(
+                    new int[]{
+                        0xFF000000,
+                        0xFF808080,
+                        0xFFFFFFFF,
+                        0xFF808080
+                    },
+                    ColorMetric.RGB
+                ).within(0xFF808080, 0)
+            )
+        );
+    }
+
+    @Test
+    public void testWithinRgb() {
+        this.withinAndCheck(
+            ColorMetric.RGB,
+            60
+        );
+    }
+
+    @Test
+    public void testWithinCielab() {
+        this.withinAndCheck(
+            ColorMetric.CIELAB,
+            20
+        );
+    }
+
+    /**
+     * Verifies the tree returns the same indices in the same order as sorting every value by distance.
+     */
+    private void withinAndCheck(final ColorMetric metric,
+                                final double distance) {
+        final ColorKdTree tree = ColorKdTree.with(
+            ARGB,
+            metric
+        );
+
+        for (final int query : ColorArgbFixtures.argb(200, MASK)) {
+            final Integer[] sorted = sorted(query, metric);
+            final int[] within = tree.within(query, distance);
+
+            int count = 0;
+            for (final Integer index : sorted) {
+                if (metric.distanceSquared(query, ARGB[index]) <= distance * distance) {
+                    this.checkEquals(
+                        index,
+                        within[count],
+                        () -> metric + " within " + Integer.toHexString(query)
+                    );
+                    count++;
+                }
+            }
+            this.checkEquals(
+                count,
+                within.length,
+                () -> metric + " within " + Integer.toHexString(query)
+            );
+        }
+    }
+
+    /**
+     * Returns every index sorted by distance and then index.
+     */
+    private static Integer[] sorted(final int query,
+                                    final ColorMetric metric) {
+        final Integer[] indices = new Integer[ARGB.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        Arrays.sort(
+            indices,
+            Comparator.<Integer>comparingDouble(i -> metric.distanceSquared(query, ARGB[i]))
+                .thenComparing(Comparator.naturalOrder())
+        );
+        return indices;
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ColorKdTree.with(
+                ARGB,
+                ColorMetric.CIELAB
+            ),
+            "CIELAB 500"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorKdTree> type() {
+        return ColorKdTree.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
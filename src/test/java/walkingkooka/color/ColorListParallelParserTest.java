@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public final class ColorListParallelParserTest implements ClassTesting2<ColorListParallelParser> {
+
+    private final static String TEXT = "#123, rgb(1, 2, 3),red\r\n" +
+        "\n" +
+        "  hsl(120,50%,50%)  \n" +
+        "hsva(10,20%,30%,40%),#12345678\n" +
+        "unknown,#12g, hsl(1,2%,3%)\n" +
+        "#fff,#12x,rgba(1,2,3,50%),#456,#zz";
+
+    // boundaries.......................................................................................................
+
+    @Test
+    public void testBoundariesEmpty() throws IOException {
+        this.boundariesAndCheck(
+            "",
+            1,
+            0, 0
+        );
+    }
+
+    @Test
+    public void testBoundariesSingleChunk() throws IOException {
+        this.boundariesAndCheck(
+            "#123\n#456\n#789\n",
+            100,
+            0, 15
+        );
+    }
+
+    @Test
+    public void testBoundariesNewLine() throws IOException {
+        this.boundariesAndCheck(
+            "#123\n#456\n#789\n",
+            6,
+            0, 10, 15
+        );
+    }
+
+    @Test
+    public void testBoundariesComma() throws IOException {
+        this.boundariesAndCheck(
+            "#123,#456,#789",
+            1,
+            0, 5, 10, 14
+        );
+    }
+
+    @Test
+    public void testBoundariesCommaInsideParenthesisIgnored() throws IOException {
+        this.boundariesAndCheck(
+            "#123,#456,rgb(1,2,3),#789,#abc",
+            6,
+            0, 10, 21, 30
+        );
+    }
+
+    private void boundariesAndCheck(final String text,
+                                    final long chunkSize,
+                                    final long... expected) throws IOException {
+        final Path file = this.file(text);
+        try (final FileChannel channel = FileChannel.open(file)) {
+            assertArrayEquals(
+                expected,
+                ColorListParallelParser.boundaries(
+                    channel,
+                    chunkSize
+                ),
+                () -> "boundaries " + chunkSize + " " + text
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseEmpty() throws IOException {
+        this.parseAndCheck(
+            "",
+            ColorListParallelParser.MIN_CHUNK_SIZE
+        );
+    }
+
+    @Test
+    public void testParseSingleChunk() throws IOException {
+        this.parseAndCheck(
+            TEXT,
+            ColorListParallelParser.MIN_CHUNK_SIZE
+        );
+    }
+
+    @Test
+    public void testParseManyChunks() throws IOException {
+        for (int chunkSize = 1; chunkSize < 40; chunkSize++) {
+            this.parseAndCheck(
+                TEXT,
+                chunkSize
+            );
+        }
+    }
+
+    @Test
+    public void testParseManyChunksWithoutNewLines() throws IOException {
+        final String text = TEXT.replace(
+            '\n',
+            ','
+        );
+        for (int chunkSize = 1; chunkSize < 40; chunkSize++) {
+            this.parseAndCheck(
+                text,
+                chunkSize
+            );
+        }
+    }
+
+    /**
+     * Parses the text split into chunks of the given size, and checks the colors and errors match those of the
+     * sequential {@link ColorListParser#parse(java.io.Reader, ColorListParserHandler)}.
+     */
+    private void parseAndCheck(final String text,
+                               final long chunkSize) throws IOException {
+        final ColorListParserTest.Log expected = new ColorListParserTest.Log();
+        ColorListParser.parse(
+            new StringReader(text),
+            expected
+        );
+
+        final Path file = this.file(text);
+        try (final FileChannel channel = FileChannel.open(file)) {
+            final ColorListParserTest.Log errors = new ColorListParserTest.Log();
+            final int[] argb = ColorListParallelParser.parse(
+                channel,
+                chunkSize,
+                ForkJoinPool.commonPool(),
+                errors
+            );
+
+            final ColorListParserTest.Log colors = new ColorListParserTest.Log();
+            colors.colors(
+                argb,
+                argb.length
+            );
+
+            this.checkEquals(
+                expected.entries.stream()
+                    .filter(e -> e.contains(":"))
+                    .collect(Collectors.toList()),
+                errors.entries,
+                () -> "errors " + chunkSize
+            );
+            this.checkEquals(
+                expected.entries.stream()
+                    .filter(e -> false == e.contains(":"))
+                    .collect(Collectors.toList()),
+                colors.entries,
+                () -> "colors " + chunkSize
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private Path file(final String text) throws IOException {
+        final Path file = Files.createTempFile(
+            ColorListParallelParserTest.class.getSimpleName(),
+            ".txt"
+        );
+        Files.write(
+            file,
+            text.getBytes(StandardCharsets.US_ASCII)
+        );
+        return file;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorListParallelParser> type() {
+        return ColorListParallelParser.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
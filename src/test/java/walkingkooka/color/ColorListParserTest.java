@@ -0,0 +1,321 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorListParserTest implements PublicStaticHelperTesting<ColorListParser> {
+
+    private final static String TEXT = "#123, rgb(1, 2, 3),red\r\n" +
+        "\n" +
+        "  hsl(120,50%,50%)  \n" +
+        "hsva(10,20%,30%,40%),#12345678\n" +
+        "unknown,#12g\n" +
+        "#fff";
+
+    private final static List<String> EXPECTED = Lists.of(
+        "ff112233",
+        "ff010203",
+        "ffff0000",
+        "ff40bf40",
+        "664d403d",
+        "78123456",
+        "5:1 unknown",
+        "5:9 #12g",
+        "ffffffff"
+    );
+
+    @Test
+    public void testParseNullReaderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorListParser.parse(
+                (Reader) null,
+                new Log()
+            )
+        );
+    }
+
+    @Test
+    public void testParseReaderNullHandlerFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorListParser.parse(
+                new StringReader(""),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testParseNullInputStreamFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorListParser.parse(
+                (InputStream) null,
+                new Log()
+            )
+        );
+    }
+
+    @Test
+    public void testParseNullChannelFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorListParser.parse(
+                (ReadableByteChannel) null,
+                new Log()
+            )
+        );
+    }
+
+    @Test
+    public void testParseReader() throws IOException {
+        final Log log = new Log();
+
+        this.checkEquals(
+            7L,
+            ColorListParser.parse(
+                new StringReader(TEXT),
+                log
+            )
+        );
+        this.checkEquals(
+            EXPECTED,
+            log.entries
+        );
+    }
+
+    @Test
+    public void testParseInputStream() throws IOException {
+        final Log log = new Log();
+
+        this.checkEquals(
+            7L,
+            ColorListParser.parse(
+                this.inputStream(TEXT),
+                log
+            )
+        );
+        this.checkEquals(
+            EXPECTED,
+            log.entries
+        );
+    }
+
+    @Test
+    public void testParseChannel() throws IOException {
+        final Log log = new Log();
+
+        this.checkEquals(
+            7L,
+            ColorListParser.parse(
+                Channels.newChannel(
+                    this.inputStream(TEXT)
+                ),
+                log
+            )
+        );
+        this.checkEquals(
+            EXPECTED,
+            log.entries
+        );
+    }
+
+    @Test
+    public void testParseEmpty() throws IOException {
+        final Log log = new Log();
+
+        this.checkEquals(
+            0L,
+            ColorListParser.parse(
+                new StringReader(""),
+                log
+            )
+        );
+        this.checkEquals(
+            Lists.empty(),
+            log.entries
+        );
+    }
+
+    @Test
+    public void testParseLargerThanBuffer() throws IOException {
+        final StringBuilder text = new StringBuilder();
+        final int count = ColorListParser.BUFFER_SIZE / 4;
+        for (int i = 0; i < count; i++) {
+            text.append("#")
+                .append(Integer.toHexString(0x100 + (i & 0xEFF)))
+                .append(',');
+        }
+
+        final Log log = new Log();
+        this.checkEquals(
+            (long) count,
+            ColorListParser.parse(
+                this.inputStream(text.toString()),
+                log
+            )
+        );
+        this.checkEquals(
+            count,
+            log.entries.size()
+        );
+    }
+
+    @Test
+    public void testParseMappedNullFileFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorListParser.parseMapped(
+                null,
+                new Log()
+            )
+        );
+    }
+
+    @Test
+    public void testParseMappedNullPoolFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorListParser.parseMapped(
+                Path.of("colors.txt"),
+                null,
+                new Log()
+            )
+        );
+    }
+
+    @Test
+    public void testParseMappedNullErrorHandlerFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorListParser.parseMapped(
+                Path.of("colors.txt"),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testParseMapped() throws IOException {
+        final Path file = Files.createTempFile(
+            ColorListParserTest.class.getSimpleName(),
+            ".txt"
+        );
+        try {
+            Files.write(
+                file,
+                TEXT.getBytes(StandardCharsets.US_ASCII)
+            );
+
+            final Log log = new Log();
+            final int[] argb = ColorListParser.parseMapped(
+                file,
+                ForkJoinPool.commonPool(),
+                log
+            );
+            log.colors(
+                argb,
+                argb.length
+            );
+
+            this.checkEquals(
+                Lists.of(
+                    "5:1 unknown",
+                    "5:9 #12g",
+                    "ff112233",
+                    "ff010203",
+                    "ffff0000",
+                    "ff40bf40",
+                    "664d403d",
+                    "78123456",
+                    "ffffffff"
+                ),
+                log.entries
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private InputStream inputStream(final String text) {
+        return new ByteArrayInputStream(
+            text.getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    /**
+     * Records each color as hex and each error as its line, column and text.
+     */
+    static final class Log implements ColorListParserHandler {
+
+        @Override
+        public void colors(final int[] argb,
+                           final int count) {
+            for (int i = 0; i < count; i++) {
+                this.entries.add(Integer.toHexString(argb[i]));
+            }
+        }
+
+        @Override
+        public void error(final long line,
+                          final long column,
+                          final String text,
+                          final IllegalArgumentException cause) {
+            this.entries.add(line + ":" + column + " " + text);
+        }
+
+        final List<String> entries = Lists.array();
+    }
+
+    // PublicStaticHelperTesting........................................................................................
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public Class<ColorListParser> type() {
+        return ColorListParser.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
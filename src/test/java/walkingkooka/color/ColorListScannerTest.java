@@ -0,0 +1,256 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CharSequences;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public final class ColorListScannerTest implements ClassTesting2<ColorListScanner>,
+    ToStringTesting<ColorListScanner> {
+
+    @Test
+    public void testCommaInsideParenthesis() {
+        this.scanAndCheck(
+            "rgb(1,2,3),rgba(4,5,6,50%)",
+            "ff010203",
+            "80040506"
+        );
+    }
+
+    @Test
+    public void testNewLinesAndWhitespace() {
+        this.scanAndCheck(
+            "  #123  \r\n\t#456\n",
+            "ff112233",
+            "ff445566"
+        );
+    }
+
+    @Test
+    public void testEmptyRecordsIgnored() {
+        this.scanAndCheck(
+            ",,\n\n  \n#123,",
+            "ff112233"
+        );
+    }
+
+    @Test
+    public void testNewLineResetsParenthesis() {
+        this.scanAndCheck(
+            "#12(3,4\n#123",
+            "1:1 #12(3,4",
+            "ff112233"
+        );
+    }
+
+    @Test
+    public void testErrorLineAndColumn() {
+        this.scanAndCheck(
+            "#123\n  #12g, #456\nxyz",
+            "ff112233",
+            "2:3 #12g",
+            "ff445566",
+            "3:1 xyz"
+        );
+    }
+
+    @Test
+    public void testRecordTooLong() {
+        final String tooLong = "x".repeat(ColorListScanner.MAX_RECORD_LENGTH + 1);
+
+        this.scanAndCheck(
+            "#123," + tooLong + ",#456",
+            "ff112233",
+            "1:6 " + tooLong.substring(0, ColorListScanner.MAX_RECORD_LENGTH),
+            "ff445566"
+        );
+    }
+
+    @Test
+    public void testNonAsciiByte() {
+        final ColorListParserTest.Log log = new ColorListParserTest.Log();
+        final ColorListScanner scanner = ColorListScanner.with(log);
+
+        final byte[] bytes = "#123\n\u00e9\n#456".getBytes(StandardCharsets.UTF_8);
+        scanner.bytes(
+            bytes,
+            0,
+            bytes.length
+        );
+        this.checkEquals(
+            2L,
+            scanner.end()
+        );
+        this.checkEquals(
+            Lists.of(
+                "ff112233",
+                "2:1 \u00c3\u00a9",
+                "ff445566"
+            ),
+            log.entries
+        );
+    }
+
+    @Test
+    public void testBytesByteBufferLineAndColumn() {
+        final ColorListParserTest.Log log = new ColorListParserTest.Log();
+        final ColorListScanner scanner = ColorListScanner.with(log);
+
+        final ByteBuffer bytes = ByteBuffer.wrap("!!#123\n#45g, #789".getBytes(StandardCharsets.US_ASCII));
+        bytes.position(2);
+        scanner.bytes(bytes);
+        this.checkEquals(
+            2L,
+            scanner.end()
+        );
+        this.checkEquals(
+            Lists.of(
+                "ff112233",
+                "2:1 #45g",
+                "ff778899"
+            ),
+            log.entries
+        );
+        this.checkEquals(
+            2L,
+            scanner.line(),
+            "line"
+        );
+        this.checkEquals(
+            10L,
+            scanner.column(),
+            "column"
+        );
+    }
+
+    @Test
+    public void testBatches() {
+        final List<Integer> batches = Lists.array();
+        final ColorListScanner scanner = ColorListScanner.with(
+            new ColorListParserHandler() {
+                @Override
+                public void colors(final int[] argb,
+                                   final int count) {
+                    batches.add(count);
+                }
+
+                @Override
+                public void error(final long line,
+                                  final long column,
+                                  final String text,
+                                  final IllegalArgumentException cause) {
+                    batches.add(-1);
+                }
+            }
+        );
+
+        final char[] chars = "#123\n".toCharArray();
+        for (int i = 0; i < ColorListScanner.BATCH_SIZE + 1; i++) {
+            scanner.chars(
+                chars,
+                0,
+                chars.length
+            );
+        }
+        scanner.chars(
+            "!\n#456".toCharArray(),
+            0,
+            6
+        );
+
+        this.checkEquals(
+            ColorListScanner.BATCH_SIZE + 2L,
+            scanner.end()
+        );
+        this.checkEquals(
+            Lists.of(
+                ColorListScanner.BATCH_SIZE,
+                1,
+                -1,
+                1
+            ),
+            batches
+        );
+    }
+
+    private void scanAndCheck(final String text,
+                              final String... expected) {
+        final ColorListParserTest.Log log = new ColorListParserTest.Log();
+        final ColorListScanner scanner = ColorListScanner.with(log);
+
+        // split to verify records may span calls
+        final char[] chars = text.toCharArray();
+        final int half = chars.length / 2;
+        scanner.chars(
+            chars,
+            0,
+            half
+        );
+        scanner.chars(
+            chars,
+            half,
+            chars.length - half
+        );
+        scanner.end();
+
+        this.checkEquals(
+            Lists.of(expected),
+            log.entries,
+            () -> "scan " + CharSequences.quoteAndEscape(text)
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final ColorListScanner scanner = ColorListScanner.with(new ColorListParserTest.Log());
+
+        final char[] chars = "#123\n#456\n".toCharArray();
+        scanner.chars(
+            chars,
+            0,
+            chars.length
+        );
+        scanner.end();
+
+        this.toStringAndCheck(
+            scanner,
+            "2 colors line 3"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorListScanner> type() {
+        return ColorListScanner.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
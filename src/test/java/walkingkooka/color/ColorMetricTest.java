@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorMetricTest implements ClassTesting2<ColorMetric> {
+
+    @Test
+    public void testDistanceNullLeftFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorMetric.RGB.distance(
+                null,
+                Color.BLACK
+            )
+        );
+    }
+
+    @Test
+    public void testDistanceNullRightFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorMetric.RGB.distance(
+                Color.BLACK,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testDistanceRgb() {
+        this.distanceAndCheck(
+            ColorMetric.RGB,
+            Color.parse("#010203"),
+            Color.parse("#040607"),
+            Math.sqrt(3 * 3 + 4 * 4 + 4 * 4)
+        );
+    }
+
+    @Test
+    public void testDistanceRgbIgnoresAlpha() {
+        this.distanceAndCheck(
+            ColorMetric.RGB,
+            Color.parse("#01020300"),
+            Color.parse("#010203"),
+            0
+        );
+    }
+
+    @Test
+    public void testDistanceRgbHsl() {
+        this.distanceAndCheck(
+            ColorMetric.RGB,
+            Color.parse("#FF0000").toHsl(),
+            Color.parse("#00FF00"),
+            Math.sqrt(2 * 255 * 255)
+        );
+    }
+
+    @Test
+    public void testDistanceCielabBlackWhite() {
+        this.distanceAndCheck(
+            ColorMetric.CIELAB,
+            Color.BLACK,
+            Color.WHITE,
+            100
+        );
+    }
+
+    @Test
+    public void testDistanceCielabSame() {
+        this.distanceAndCheck(
+            ColorMetric.CIELAB,
+            Color.parse("#123456"),
+            Color.parse("#123456"),
+            0
+        );
+    }
+
+    @Test
+    public void testCoordinatesCielabRed() {
+        final double[] lab = new double[3];
+        ColorMetric.CIELAB.coordinates(
+            0xFFFF0000,
+            lab,
+            0
+        );
+
+        this.closeAndCheck(53.24, lab[0], "L");
+        this.closeAndCheck(80.09, lab[1], "a");
+        this.closeAndCheck(67.20, lab[2], "b");
+    }
+
+    private void distanceAndCheck(final ColorMetric metric,
+                                  final Color left,
+                                  final Color right,
+                                  final double expected) {
+        this.closeAndCheck(
+            expected,
+            metric.distance(
+                left,
+                right
+            ),
+            metric + " " + left + " " + right
+        );
+    }
+
+    private void closeAndCheck(final double expected,
+                               final double actual,
+                               final String message) {
+        this.checkEquals(
+            true,
+            Math.abs(expected - actual) < 0.01,
+            () -> message + " expected " + expected + " got " + actual
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorMetric> type() {
+        return ColorMetric.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorPaletteLookupTableTest implements ClassTesting2<ColorPaletteLookupTable>,
+    HashCodeEqualsDefinedTesting2<ColorPaletteLookupTable>,
+    ToStringTesting<ColorPaletteLookupTable> {
+
+    private final static ColorPalette PALETTE = ColorPalette.with(
+        Lists.of(
+            Color.parse("#f00"),
+            Color.parse("#0f0"),
+            Color.parse("#00f"),
+            Color.parse("#fff"),
+            Color.parse("#000")
+        ),
+        ColorMetric.RGB
+    );
+
+    @Test
+    public void testWithNullPaletteFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorPaletteLookupTable.with(
+                null,
+                5
+            )
+        );
+    }
+
+    @Test
+    public void testWithBitsTooSmallFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> PALETTE.lookupTable(ColorPaletteLookupTable.MIN_BITS - 1)
+        );
+    }
+
+    @Test
+    public void testWithBitsTooLargeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> PALETTE.lookupTable(ColorPaletteLookupTable.MAX_BITS + 1)
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final ColorPaletteLookupTable table = PALETTE.lookupTable(5);
+
+        this.checkEquals(
+            5,
+            table.bits(),
+            "bits"
+        );
+        this.checkEquals(
+            ColorMetric.RGB,
+            table.metric(),
+            "metric"
+        );
+    }
+
+    @Test
+    public void testIndexPaletteColors() {
+        final ColorPaletteLookupTable table = PALETTE.lookupTable(5);
+        final int size = PALETTE.size();
+
+        for (int i = 0; i < size; i++) {
+            this.checkEquals(
+                i,
+                table.index(PALETTE.colors().get(i)),
+                "index " + i
+            );
+        }
+    }
+
+    @Test
+    public void testIndexIgnoresAlpha() {
+        final ColorPaletteLookupTable table = PALETTE.lookupTable(5);
+
+        this.checkEquals(
+            table.index(0xFFE01010),
+            table.index(0x00E01010)
+        );
+    }
+
+    @Test
+    public void testColor() {
+        this.checkEquals(
+            Color.parse("#f00"),
+            PALETTE.lookupTable(6)
+                .color(Color.parse("#e01010"))
+        );
+    }
+
+    @Test
+    public void testIndexCellCentre() {
+        this.indexCellCentreAndCheck(ColorMetric.RGB);
+    }
+
+    @Test
+    public void testIndexCellCentreCielab() {
+        this.indexCellCentreAndCheck(ColorMetric.CIELAB);
+    }
+
+    /**
+     * Verifies every ARGB value maps to the palette color nearest the centre of its cell.
+     */
+    private void indexCellCentreAndCheck(final ColorMetric metric) {
+        final ColorPalette palette = ColorPalette.with(
+            Lists.of(
+                Color.parse("#123456"),
+                Color.parse("#abcdef"),
+                Color.parse("#808080"),
+                Color.parse("#ff8000"),
+                Color.parse("#00a0a0"),
+                Color.parse("#400040")
+            ),
+            metric
+        );
+        final int bits = 4;
+        final int shift = 8 - bits;
+        final int centre = 1 << shift - 1;
+        final ColorPaletteLookupTable table = palette.lookupTable(bits);
+
+        for (int argb = 0; argb < 0x1000000; argb += 0x010307) {
+            final int cell = 0xFF000000 |
+                (((argb >> 16 & 0xFF) >> shift << shift) | centre) << 16 |
+                (((argb >> 8 & 0xFF) >> shift << shift) | centre) << 8 |
+                (((argb & 0xFF) >> shift << shift) | centre);
+
+            final int value = argb;
+            this.checkEquals(
+                palette.nearestIndex(Color.fromArgb(cell)),
+                table.index(argb),
+                () -> metric + " " + Integer.toHexString(value)
+            );
+        }
+    }
+
+    @Test
+    public void testIndexMaxBitsExact() {
+        final ColorPaletteLookupTable table = PALETTE.lookupTable(ColorPaletteLookupTable.MAX_BITS);
+
+        for (int argb = 0; argb < 0x1000000; argb += 0x030507) {
+            final Color color = Color.fromArgb(0xFF000000 | argb);
+            this.checkEquals(
+                PALETTE.nearestIndex(color),
+                table.index(color),
+                () -> color.toString()
+            );
+        }
+    }
+
+    @Test
+    public void testIndices() {
+        final int[] argb = new int[]{
+            0xFFE01010,
+            0xFF00FF01,
+            0xFFEEEEEE
+        };
+        final int[] indices = new int[argb.length];
+        PALETTE.lookupTable(5)
+            .indices(
+                argb,
+                indices
+            );
+
+        assertArrayEquals(
+            new int[]{0, 1, 3},
+            indices
+        );
+    }
+
+    @Test
+    public void testIndicesShortFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> PALETTE.lookupTable(5)
+                .indices(
+                    new int[2],
+                    new int[1]
+                )
+        );
+    }
+
+    @Test
+    public void testRemap() {
+        final int[] argb = new int[]{
+            0xFFE01010,
+            0xFF00FF01,
+            0xFFEEEEEE
+        };
+        PALETTE.lookupTable(5)
+            .remap(argb);
+
+        assertArrayEquals(
+            new int[]{
+                0xFFFF0000,
+                0xFF00FF00,
+                0xFFFFFFFF
+            },
+            argb
+        );
+    }
+
+    // Serializable.....................................................................................................
+
+    @Test
+    public void testSerializeRoundtrip() throws IOException, ClassNotFoundException {
+        final ColorPaletteLookupTable table = PALETTE.lookupTable(5);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(table);
+        }
+
+        try (final ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            this.checkEquals(
+                table,
+                input.readObject()
+            );
+        }
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentBits() {
+        this.checkNotEquals(PALETTE.lookupTable(4));
+    }
+
+    @Test
+    public void testEqualsDifferentMetric() {
+        this.checkNotEquals(
+            ColorPalette.with(
+                PALETTE.colors(),
+                ColorMetric.CIELAB
+            ).lookupTable(5)
+        );
+    }
+
+    @Override
+    public ColorPaletteLookupTable createObject() {
+        return PALETTE.lookupTable(5);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            PALETTE.lookupTable(5),
+            "RGB 5 bits 5 colors"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorPaletteLookupTable> type() {
+        return ColorPaletteLookupTable.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
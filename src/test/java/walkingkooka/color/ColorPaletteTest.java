@@ -0,0 +1,294 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorPaletteTest implements ClassTesting2<ColorPalette>,
+    ToStringTesting<ColorPalette> {
+
+    private final static Color RED = Color.parse("#f00");
+    private final static Color GREEN = Color.parse("#0f0");
+    private final static Color BLUE = Color.parse("#00f");
+    private final static Color WHITE = Color.parse("#fff");
+    private final static Color BLACK = Color.parse("#000");
+
+    private final static List<Color> COLORS = Lists.of(
+        RED,
+        GREEN,
+        BLUE,
+        WHITE,
+        BLACK
+    );
+
+    @Test
+    public void testWithNullColorsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorPalette.with(
+                null,
+                ColorMetric.RGB
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullMetricFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorPalette.with(
+                COLORS,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithEmptyFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ColorPalette.with(
+                Lists.empty(),
+                ColorMetric.RGB
+            )
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final ColorPalette palette = this.createPalette();
+
+        this.checkEquals(
+            COLORS,
+            palette.colors(),
+            "colors"
+        );
+        this.checkEquals(
+            ColorMetric.RGB,
+            palette.metric(),
+            "metric"
+        );
+        this.checkEquals(
+            5,
+            palette.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testWithCopiesColors() {
+        final List<Color> colors = Lists.array();
+        colors.add(RED);
+
+        final ColorPalette palette = ColorPalette.with(
+            colors,
+            ColorMetric.RGB
+        );
+        colors.add(GREEN);
+
+        this.checkEquals(
+            Lists.of(RED),
+            palette.colors()
+        );
+    }
+
+    @Test
+    public void testColorsImmutable() {
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> this.createPalette()
+                .colors()
+                .add(RED)
+        );
+    }
+
+    // nearest..........................................................................................................
+
+    @Test
+    public void testNearestNullColorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createPalette()
+                .nearest(null)
+        );
+    }
+
+    @Test
+    public void testNearest() {
+        this.checkEquals(
+            RED,
+            this.createPalette()
+                .nearest(Color.parse("#e01010"))
+        );
+    }
+
+    @Test
+    public void testNearestIndex() {
+        this.checkEquals(
+            3,
+            this.createPalette()
+                .nearestIndex(Color.parse("#eeeeee"))
+        );
+    }
+
+    @Test
+    public void testNearestKInvalidFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createPalette()
+                .nearest(
+                    RED,
+                    0
+                )
+        );
+    }
+
+    @Test
+    public void testNearestK() {
+        this.checkEquals(
+            Lists.of(
+                BLACK,
+                RED
+            ),
+            this.createPalette()
+                .nearest(
+                    Color.parse("#200000"),
+                    2
+                )
+        );
+    }
+
+    @Test
+    public void testNearestKMoreThanSize() {
+        this.checkEquals(
+            5,
+            this.createPalette()
+                .nearest(
+                    RED,
+                    10
+                ).size()
+        );
+    }
+
+    // within...........................................................................................................
+
+    @Test
+    public void testWithinNegativeDistanceFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createPalette()
+                .within(
+                    RED,
+                    -1
+                )
+        );
+    }
+
+    @Test
+    public void testWithin() {
+        this.checkEquals(
+            Lists.of(
+                BLACK,
+                RED,
+                GREEN,
+                BLUE
+            ),
+            this.createPalette()
+                .within(
+                    Color.parse("#200000"),
+                    300
+                )
+        );
+    }
+
+    @Test
+    public void testWithinNone() {
+        this.checkEquals(
+            Lists.empty(),
+            this.createPalette()
+                .within(
+                    Color.parse("#808080"),
+                    1
+                )
+        );
+    }
+
+    // nearestIndices...................................................................................................
+
+    @Test
+    public void testNearestIndicesNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createPalette()
+                .nearestIndices(null)
+        );
+    }
+
+    @Test
+    public void testNearestIndices() {
+        assertArrayEquals(
+            new int[]{0, 1, 3},
+            this.createPalette()
+                .nearestIndices(
+                    new int[]{
+                        0xFFE01010,
+                        0xFF00FF01,
+                        0xFFEEEEEE
+                    }
+                )
+        );
+    }
+
+    private ColorPalette createPalette() {
+        return ColorPalette.with(
+            COLORS,
+            ColorMetric.RGB
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createPalette(),
+            "RGB " + COLORS
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorPalette> type() {
+        return ColorPalette.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
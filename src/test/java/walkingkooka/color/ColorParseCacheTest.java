@@ -0,0 +1,251 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorParseCacheTest implements ClassTesting2<ColorParseCache>,
+    ToStringTesting<ColorParseCache> {
+
+    @AfterEach
+    public void afterEach() {
+        Color.setParseCache(Optional.empty());
+    }
+
+    @Test
+    public void testWithZeroCapacityFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ColorParseCache.with(0)
+        );
+    }
+
+    @Test
+    public void testWithTooLargeCapacityFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ColorParseCache.with(ColorParseCache.MAX_CAPACITY + 1)
+        );
+    }
+
+    @Test
+    public void testSetParseCacheNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Color.setParseCache(null)
+        );
+    }
+
+    @Test
+    public void testParseCacheDefaultsEmpty() {
+        this.checkEquals(
+            Optional.empty(),
+            Color.parseCache()
+        );
+    }
+
+    @Test
+    public void testWithoutCacheParsesNewInstances() {
+        assertNotSame(
+            Color.parse("#123"),
+            Color.parse("#123")
+        );
+    }
+
+    @Test
+    public void testParseShared() {
+        final ColorParseCache cache = this.install();
+
+        final Color color = Color.parse("#123");
+        assertSame(
+            color,
+            Color.parse("#123")
+        );
+        this.hitsAndMissesCheck(
+            cache,
+            1,
+            1
+        );
+    }
+
+    @Test
+    public void testParseRgbSharedWithParse() {
+        final ColorParseCache cache = this.install();
+
+        final Color color = Color.parse("red");
+        assertSame(
+            color,
+            Color.parseRgb("red")
+        );
+        this.hitsAndMissesCheck(
+            cache,
+            1,
+            1
+        );
+    }
+
+    @Test
+    public void testParseHslWrongTypeFails() {
+        final ColorParseCache cache = this.install();
+
+        Color.parse("#123");
+        assertThrows(
+            RuntimeException.class,
+            () -> Color.parseHsl("#123")
+        );
+        this.hitsAndMissesCheck(
+            cache,
+            0,
+            2
+        );
+    }
+
+    @Test
+    public void testParseFailureNotCached() {
+        final ColorParseCache cache = this.install();
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Color.parse("#12")
+        );
+        this.checkEquals(
+            0,
+            cache.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testUnmarshallShared() {
+        final ColorParseCache cache = this.install();
+
+        final Color color = Color.parse("#123456");
+        assertSame(
+            color,
+            Color.unmarshallRgb(
+                JsonNode.string("#123456"),
+                null
+            )
+        );
+        this.hitsAndMissesCheck(
+            cache,
+            1,
+            1
+        );
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        final ColorParseCache cache = ColorParseCache.with(2);
+        Color.setParseCache(Optional.of(cache));
+
+        final Color color = Color.parse("#111");
+        Color.parse("#222");
+        Color.parse("#111");
+        Color.parse("#333"); // evicts #222
+
+        assertSame(
+            color,
+            Color.parse("#111")
+        );
+        this.checkEquals(
+            1L,
+            cache.evictions(),
+            "evictions"
+        );
+        this.checkEquals(
+            2,
+            cache.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testClear() {
+        final ColorParseCache cache = this.install();
+
+        Color.parse("#123");
+        Color.parse("#123");
+        cache.clear();
+
+        this.checkEquals(
+            0,
+            cache.size(),
+            "size"
+        );
+        this.hitsAndMissesCheck(
+            cache,
+            0,
+            0
+        );
+    }
+
+    private ColorParseCache install() {
+        final ColorParseCache cache = ColorParseCache.with(1024);
+        Color.setParseCache(Optional.of(cache));
+        return cache;
+    }
+
+    private void hitsAndMissesCheck(final ColorParseCache cache,
+                                    final long hits,
+                                    final long misses) {
+        this.checkEquals(
+            hits,
+            cache.hits(),
+            "hits"
+        );
+        this.checkEquals(
+            misses,
+            cache.misses(),
+            "misses"
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ColorParseCache.with(16),
+            "capacity=16 hits=0 misses=0 evictions=0"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorParseCache> type() {
+        return ColorParseCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
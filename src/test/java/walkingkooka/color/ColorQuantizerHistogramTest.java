@@ -0,0 +1,179 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public final class ColorQuantizerHistogramTest implements ClassTesting2<ColorQuantizerHistogram>,
+    ToStringTesting<ColorQuantizerHistogram> {
+
+    @Test
+    public void testSamples() {
+        final ColorQuantizerSamples samples = ColorQuantizerHistogram.with(
+            new int[]{
+                0xFF010203,
+                0xFF030405,
+                0x00FFFFFF,
+                0xFF800000
+            },
+            0,
+            4
+        ).samples();
+
+        this.checkEquals(
+            2,
+            samples.size,
+            "size"
+        );
+        assertArrayEquals(
+            new int[]{2, 1},
+            samples.counts,
+            "counts"
+        );
+        assertArrayEquals(
+            new int[]{2, 128},
+            samples.red,
+            "red"
+        );
+        assertArrayEquals(
+            new int[]{3, 0},
+            samples.green,
+            "green"
+        );
+        assertArrayEquals(
+            new int[]{4, 0},
+            samples.blue,
+            "blue"
+        );
+    }
+
+    @Test
+    public void testWithRange() {
+        this.checkEquals(
+            1,
+            ColorQuantizerHistogram.with(
+                new int[]{
+                    0xFF010203,
+                    0xFF800000,
+                    0xFF808080
+                },
+                1,
+                2
+            ).samples()
+                .size
+        );
+    }
+
+    @Test
+    public void testWithBelowThresholdSameAsAdd() {
+        this.withAndCheck(1000);
+    }
+
+    @Test
+    public void testWithParallelSameAsAdd() {
+        this.withAndCheck(ColorQuantizerHistogram.THRESHOLD * 3 + 7);
+    }
+
+    @Test
+    public void testWithMoreThanChunksSameAsAdd() {
+        this.withAndCheck(ColorQuantizerHistogram.THRESHOLD * (ColorQuantizerHistogram.CHUNKS + 2) + 1);
+    }
+
+    private void withAndCheck(final int count) {
+        final int[] argb = ColorArgbFixtures.argb(
+            count,
+            0xFFFFFFFF
+        );
+        final ColorQuantizerHistogram histogram = new ColorQuantizerHistogram();
+        for (final int value : argb) {
+            histogram.add(value);
+        }
+
+        final ColorQuantizerSamples expected = histogram.samples();
+        final ColorQuantizerSamples actual = ColorQuantizerHistogram.with(
+            argb,
+            0,
+            count
+        ).samples();
+
+        assertArrayEquals(
+            expected.counts,
+            actual.counts,
+            "counts"
+        );
+        assertArrayEquals(
+            expected.red,
+            actual.red,
+            "red"
+        );
+        assertArrayEquals(
+            expected.green,
+            actual.green,
+            "green"
+        );
+        assertArrayEquals(
+            expected.blue,
+            actual.blue,
+            "blue"
+        );
+    }
+
+    @Test
+    public void testMean() {
+        this.checkEquals(
+            128,
+            ColorQuantizerHistogram.mean(255, 2)
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ColorQuantizerHistogram.with(
+                new int[]{
+                    0xFF010203,
+                    0xFF030405,
+                    0x00FFFFFF,
+                    0xFF800000
+                },
+                0,
+                4
+            ),
+            "3 values 2 bins"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorQuantizerHistogram> type() {
+        return ColorQuantizerHistogram.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+
+public final class ColorQuantizerKMeansTest implements ClassTesting2<ColorQuantizerKMeans> {
+
+    /**
+     * Four clusters, each of a few close colors with different counts.
+     */
+    private final static ColorQuantizerSamples CLUSTERS = samples(
+        new int[]{10, 0x10, 0x10, 0x10},
+        new int[]{30, 0x14, 0x10, 0x10},
+        new int[]{20, 0xF0, 0x10, 0x10},
+        new int[]{20, 0xF8, 0x10, 0x10},
+        new int[]{5, 0x10, 0xF0, 0x10},
+        new int[]{15, 0x10, 0xF0, 0x18},
+        new int[]{25, 0x10, 0x10, 0xF0},
+        new int[]{25, 0x10, 0x14, 0xF0}
+    );
+
+    @Test
+    public void testQuantizeRecoversClusterCentres() {
+        this.quantizeAndCheck(
+            CLUSTERS,
+            4,
+            0,
+            "50 #1012f0",
+            "40 #131010", // (10 * 0x10 + 30 * 0x14) / 40 rounded
+            "40 #f41010",
+            "20 #10f016"
+        );
+    }
+
+    @Test
+    public void testQuantizeOtherSeedSameCentres() {
+        // a different seed picks the initial centres in a different order, but converges to the same clusters
+        this.quantizeAndCheck(
+            CLUSTERS,
+            4,
+            2,
+            "50 #1012f0",
+            "20 #10f016",
+            "40 #f41010",
+            "40 #131010"
+        );
+    }
+
+    @Test
+    public void testQuantizeSameSeedSame() {
+        this.checkEquals(
+            ColorQuantizerKMeans.quantize(CLUSTERS, 3, 99)
+                .palette(),
+            ColorQuantizerKMeans.quantize(CLUSTERS, 3, 99)
+                .palette()
+        );
+    }
+
+    /**
+     * Creates samples from rows of count, red, green and blue.
+     */
+    private static ColorQuantizerSamples samples(final int[]... rows) {
+        final ColorQuantizerSamples samples = new ColorQuantizerSamples(rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            final int[] row = rows[i];
+            samples.set(
+                i,
+                row[0],
+                row[1],
+                row[2],
+                row[3]
+            );
+        }
+        return samples;
+    }
+
+    private void quantizeAndCheck(final ColorQuantizerSamples samples,
+                                  final int colors,
+                                  final long seed,
+                                  final String... expected) {
+        final ColorQuantizerSamples quantized = ColorQuantizerKMeans.quantize(
+            samples,
+            colors,
+            seed
+        );
+
+        final List<String> actual = Lists.array();
+        for (int i = 0; i < quantized.size; i++) {
+            actual.add(
+                quantized.counts[i] +
+                    " " +
+                    Color.fromRgb(
+                        (quantized.red[i] << 16) |
+                            (quantized.green[i] << 8) |
+                            quantized.blue[i]
+                    ).toHexString()
+            );
+        }
+
+        this.checkEquals(
+            Lists.of(expected),
+            actual
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorQuantizerKMeans> type() {
+        return ColorQuantizerKMeans.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+
+public final class ColorQuantizerMedianCutTest implements ClassTesting2<ColorQuantizerMedianCut> {
+
+    @Test
+    public void testQuantizeSeparatedClusters() {
+        // 4 clusters along red each with a total count of 40, the first split is at the weighted median between
+        // the second and third clusters, then each half splits between its two clusters
+        this.quantizeAndCheck(
+            samples(
+                new int[]{10, 0x10, 0x80, 0x80},
+                new int[]{30, 0x18, 0x80, 0x80},
+                new int[]{20, 0x60, 0x80, 0x80},
+                new int[]{20, 0x68, 0x80, 0x80},
+                new int[]{30, 0xA0, 0x80, 0x80},
+                new int[]{10, 0xA8, 0x80, 0x80},
+                new int[]{25, 0xF0, 0x80, 0x80},
+                new int[]{15, 0xF8, 0x80, 0x80}
+            ),
+            4,
+            "40 #168080", // (10 * 0x10 + 30 * 0x18) / 40
+            "40 #a28080", // (30 * 0xA0 + 10 * 0xA8) / 40
+            "40 #648080", // (20 * 0x60 + 20 * 0x68) / 40
+            "40 #f38080" // (25 * 0xF0 + 15 * 0xF8) / 40
+        );
+    }
+
+    @Test
+    public void testQuantizeSplitsAtWeightedMedian() {
+        // the first sample holds 6 of 10, so the split is after it rather than at the middle sample
+        this.quantizeAndCheck(
+            samples(
+                new int[]{6, 0x00, 0, 0},
+                new int[]{1, 0x40, 0, 0},
+                new int[]{1, 0x80, 0, 0},
+                new int[]{1, 0xC0, 0, 0},
+                new int[]{1, 0xFF, 0, 0}
+            ),
+            2,
+            "6 #000000",
+            "4 #a00000" // (0x40 + 0x80 + 0xC0 + 0xFF) / 4
+        );
+    }
+
+    @Test
+    public void testQuantizeSplitsLongestWeightedSide() {
+        // green spans further than red, so the only split separates the green values
+        this.quantizeAndCheck(
+            samples(
+                new int[]{1, 0x00, 0x00, 0x80},
+                new int[]{1, 0x40, 0x00, 0x80},
+                new int[]{1, 0x00, 0xF0, 0x80},
+                new int[]{1, 0x40, 0xF0, 0x80}
+            ),
+            2,
+            "2 #200080",
+            "2 #20f080"
+        );
+    }
+
+    /**
+     * Creates samples from rows of count, red, green and blue.
+     */
+    private static ColorQuantizerSamples samples(final int[]... rows) {
+        final ColorQuantizerSamples samples = new ColorQuantizerSamples(rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            final int[] row = rows[i];
+            samples.set(
+                i,
+                row[0],
+                row[1],
+                row[2],
+                row[3]
+            );
+        }
+        return samples;
+    }
+
+    private void quantizeAndCheck(final ColorQuantizerSamples samples,
+                                  final int colors,
+                                  final String... expected) {
+        final ColorQuantizerSamples quantized = ColorQuantizerMedianCut.quantize(
+            samples,
+            colors
+        );
+
+        final List<String> actual = Lists.array();
+        for (int i = 0; i < quantized.size; i++) {
+            actual.add(
+                quantized.counts[i] +
+                    " " +
+                    Color.fromRgb(
+                        (quantized.red[i] << 16) |
+                            (quantized.green[i] << 8) |
+                            quantized.blue[i]
+                    ).toHexString()
+            );
+        }
+
+        this.checkEquals(
+            Lists.of(expected),
+            actual
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorQuantizerMedianCut> type() {
+        return ColorQuantizerMedianCut.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+
+public final class ColorQuantizerOctreeTest implements ClassTesting2<ColorQuantizerOctree> {
+
+    /**
+     * Two pairs of siblings which only differ in the lowest bit of red, and a color without siblings.
+     */
+    private final static ColorQuantizerSamples SAMPLES = samples(
+        new int[]{1, 0x00, 0, 0},
+        new int[]{1, 0x01, 0, 0},
+        new int[]{5, 0x80, 0, 0},
+        new int[]{5, 0x81, 0, 0},
+        new int[]{3, 0x40, 0, 0}
+    );
+
+    @Test
+    public void testQuantizeNoReduce() {
+        this.quantizeAndCheck(
+            SAMPLES,
+            5,
+            "1 #000000",
+            "1 #010000",
+            "3 #400000",
+            "5 #800000",
+            "5 #810000"
+        );
+    }
+
+    @Test
+    public void testQuantizeReducesLeastCommonSiblings() {
+        // the parent of 0x00 and 0x01 has a count of 2 and is merged before the parent of 0x80 and 0x81 with 10
+        this.quantizeAndCheck(
+            SAMPLES,
+            4,
+            "2 #010000", // (0x00 + 0x01) / 2 rounded
+            "3 #400000",
+            "5 #800000",
+            "5 #810000"
+        );
+    }
+
+    @Test
+    public void testQuantizeReducesUntilColors() {
+        // merging the single child of 0x40 removes no leaf, so the parent of 0x80 and 0x81 is merged next
+        this.quantizeAndCheck(
+            SAMPLES,
+            3,
+            "2 #010000",
+            "3 #400000",
+            "10 #810000" // (5 * 0x80 + 5 * 0x81) / 10 rounded
+        );
+    }
+
+    @Test
+    public void testQuantizeSeparatedClusters() {
+        this.quantizeAndCheck(
+            samples(
+                new int[]{10, 0x10, 0x10, 0x10},
+                new int[]{30, 0x14, 0x10, 0x10},
+                new int[]{20, 0xF0, 0x10, 0x10},
+                new int[]{20, 0xF8, 0x10, 0x10},
+                new int[]{5, 0x10, 0xF0, 0x10},
+                new int[]{15, 0x10, 0xF0, 0x18},
+                new int[]{25, 0x10, 0x10, 0xF0},
+                new int[]{25, 0x10, 0x14, 0xF0}
+            ),
+            4,
+            "40 #131010",
+            "50 #1012f0",
+            "20 #10f016",
+            "40 #f41010"
+        );
+    }
+
+    /**
+     * Creates samples from rows of count, red, green and blue.
+     */
+    private static ColorQuantizerSamples samples(final int[]... rows) {
+        final ColorQuantizerSamples samples = new ColorQuantizerSamples(rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            final int[] row = rows[i];
+            samples.set(
+                i,
+                row[0],
+                row[1],
+                row[2],
+                row[3]
+            );
+        }
+        return samples;
+    }
+
+    private void quantizeAndCheck(final ColorQuantizerSamples samples,
+                                  final int colors,
+                                  final String... expected) {
+        final ColorQuantizerSamples quantized = ColorQuantizerOctree.quantize(
+            samples,
+            colors
+        );
+
+        final List<String> actual = Lists.array();
+        for (int i = 0; i < quantized.size; i++) {
+            actual.add(
+                quantized.counts[i] +
+                    " " +
+                    Color.fromRgb(
+                        (quantized.red[i] << 16) |
+                            (quantized.green[i] << 8) |
+                            quantized.blue[i]
+                    ).toHexString()
+            );
+        }
+
+        this.checkEquals(
+            Lists.of(expected),
+            actual
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorQuantizerOctree> type() {
+        return ColorQuantizerOctree.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ColorQuantizerSamplesTest implements ClassTesting2<ColorQuantizerSamples>,
+    ToStringTesting<ColorQuantizerSamples> {
+
+    @Test
+    public void testTotal() {
+        this.checkEquals(
+            6L,
+            this.samples()
+                .total()
+        );
+    }
+
+    @Test
+    public void testPalette() {
+        this.checkEquals(
+            Lists.of(
+                Color.fromArgb(0xFF010203),
+                Color.fromArgb(0xFF000000),
+                Color.fromArgb(0xFFFFFFFF)
+            ),
+            this.samples()
+                .palette()
+        );
+    }
+
+    @Test
+    public void testPaletteEmpty() {
+        this.checkEquals(
+            Lists.empty(),
+            new ColorQuantizerSamples(0)
+                .palette()
+        );
+    }
+
+    /**
+     * The two samples of 1,2,3 are combined and are most common, then the equally common black and white by rgb.
+     */
+    private ColorQuantizerSamples samples() {
+        final ColorQuantizerSamples samples = new ColorQuantizerSamples(4);
+        samples.set(0, 1, 255, 255, 255);
+        samples.set(1, 2, 1, 2, 3);
+        samples.set(2, 1, 0, 0, 0);
+        samples.set(3, 2, 1, 2, 3);
+        return samples;
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.samples(),
+            "4 samples"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorQuantizerSamples> type() {
+        return ColorQuantizerSamples.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorQuantizerTest implements ClassTesting2<ColorQuantizer> {
+
+    private final static int RED = 0xFFFF0000;
+    private final static int GREEN = 0xFF00FF00;
+    private final static int BLUE = 0xFF0000FF;
+    private final static int WHITE = 0xFFFFFFFF;
+    private final static int BLACK = 0xFF000000;
+
+    @Test
+    public void testQuantizeNullArgbFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorQuantizer.MEDIAN_CUT.quantize(
+                (int[]) null,
+                8,
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testQuantizeNullImageFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorQuantizer.MEDIAN_CUT.quantize(
+                (BufferedImage) null,
+                8,
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testQuantizeInvalidColorsFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ColorQuantizer.MEDIAN_CUT.quantize(
+                new int[]{RED},
+                0,
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testQuantizeEmpty() {
+        for (final ColorQuantizer quantizer : ColorQuantizer.values()) {
+            this.checkEquals(
+                Lists.empty(),
+                quantizer.quantize(
+                    new int[0],
+                    8,
+                    0
+                ),
+                quantizer::toString
+            );
+        }
+    }
+
+    @Test
+    public void testQuantizeIgnoresTransparent() {
+        for (final ColorQuantizer quantizer : ColorQuantizer.values()) {
+            this.checkEquals(
+                Lists.of(
+                    Color.fromArgb(BLUE)
+                ),
+                quantizer.quantize(
+                    new int[]{
+                        0x00FF0000,
+                        0x00FF0000,
+                        BLUE
+                    },
+                    8,
+                    0
+                ),
+                quantizer::toString
+            );
+        }
+    }
+
+    @Test
+    public void testQuantizeFewerDifferentColors() {
+        final int[] colors = new int[]{
+            RED,
+            GREEN,
+            BLUE,
+            WHITE,
+            BLACK
+        };
+        final int[] argb = new int[7 * 10];
+        for (int i = 0; i < argb.length; i++) {
+            argb[i] = colors[i % 7 % 5];
+        }
+
+        // red and green twice as common, then equally common colors by rgb value
+        for (final ColorQuantizer quantizer : ColorQuantizer.values()) {
+            this.checkEquals(
+                Lists.of(
+                    Color.fromArgb(GREEN),
+                    Color.fromArgb(RED),
+                    Color.fromArgb(BLACK),
+                    Color.fromArgb(BLUE),
+                    Color.fromArgb(WHITE)
+                ),
+                quantizer.quantize(
+                    argb,
+                    8,
+                    0
+                ),
+                quantizer::toString
+            );
+        }
+    }
+
+    @Test
+    public void testQuantizeOneColor() {
+        for (final ColorQuantizer quantizer : ColorQuantizer.values()) {
+            this.checkEquals(
+                Lists.of(
+                    Color.fromArgb(0xFF808080)
+                ),
+                quantizer.quantize(
+                    new int[]{
+                        WHITE,
+                        BLACK
+                    },
+                    1,
+                    0
+                ),
+                quantizer::toString
+            );
+        }
+    }
+
+    @Test
+    public void testQuantizeAtMostColorsAndRepeatable() {
+        final int[] argb = ColorArgbFixtures.argb(
+            100_000,
+            0xFFFFFFFF
+        );
+
+        for (final ColorQuantizer quantizer : ColorQuantizer.values()) {
+            final List<RgbColor> palette = quantizer.quantize(
+                argb,
+                16,
+                123
+            );
+
+            this.checkEquals(
+                true,
+                palette.size() <= 16 && palette.size() > 0,
+                () -> quantizer + " " + palette
+            );
+            this.checkEquals(
+                palette,
+                quantizer.quantize(
+                    argb,
+                    16,
+                    123
+                ),
+                quantizer::toString
+            );
+        }
+    }
+
+    @Test
+    public void testQuantizeImage() {
+        final int width = 300;
+        final int height = 200;
+        final int[] argb = ColorArgbFixtures.argb(
+            width * height,
+            0xFFFFFFFF
+        );
+
+        final BufferedImage image = new BufferedImage(
+            width,
+            height,
+            BufferedImage.TYPE_INT_ARGB
+        );
+        image.setRGB(
+            0,
+            0,
+            width,
+            height,
+            argb,
+            0,
+            width
+        );
+
+        for (final ColorQuantizer quantizer : ColorQuantizer.values()) {
+            this.checkEquals(
+                quantizer.quantize(
+                    argb,
+                    32,
+                    1
+                ),
+                quantizer.quantize(
+                    image,
+                    32,
+                    1
+                ),
+                quantizer::toString
+            );
+        }
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorQuantizer> type() {
+        return ColorQuantizer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
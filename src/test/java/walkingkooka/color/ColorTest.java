@@ -21,11 +21,16 @@ import org.junit.jupiter.api.Test;
 import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.test.ParseStringTesting;
+import walkingkooka.text.CharSequences;
 import walkingkooka.text.printer.TreePrintableTesting;
 import walkingkooka.tree.json.JsonNode;
 import walkingkooka.tree.json.marshall.JsonNodeMarshallingTesting;
 import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public final class ColorTest implements ClassTesting2<Color>,
     JsonNodeMarshallingTesting<Color>,
     ParseStringTesting<Color>,
@@ -354,6 +359,194 @@ public final class ColorTest implements ClassTesting2<Color>,
         );
     }
 
+    // parse CharSequence region........................................................................................
+
+    @Test
+    public void testParseRegionOutOfBoundsFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> Color.parse(
+                "#123",
+                1,
+                4
+            )
+        );
+    }
+
+    @Test
+    public void testParseRegionEmptyFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Color.parse(
+                "#123",
+                1,
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testParseRegionInvalidHexFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Color.parse(
+                " #12g ",
+                1,
+                4
+            )
+        );
+    }
+
+    @Test
+    public void testParseRegionHex() {
+        this.parseRegionAndCheck(
+            "color: #123456;",
+            "#123456"
+        );
+    }
+
+    @Test
+    public void testParseRegionHex8() {
+        this.parseRegionAndCheck(
+            "[#12345678]",
+            "#12345678"
+        );
+    }
+
+    @Test
+    public void testParseRegionWebColorName() {
+        this.parseRegionAndCheck(
+            "color: Red;",
+            "Red"
+        );
+    }
+
+    @Test
+    public void testParseRegionRgb() {
+        this.parseRegionAndCheck(
+            "color: rgb(12,34,56);",
+            "rgb(12,34,56)"
+        );
+    }
+
+    @Test
+    public void testParseRegionHsl() {
+        this.parseRegionAndCheck(
+            "color: hsl(359, 0%, 25%);",
+            "hsl(359, 0%, 25%)"
+        );
+    }
+
+    @Test
+    public void testParseRegionHsv() {
+        this.parseRegionAndCheck(
+            "color: hsv(359, 0%, 25%);",
+            "hsv(359, 0%, 25%)"
+        );
+    }
+
+    private void parseRegionAndCheck(final String text,
+                                     final String color) {
+        final int offset = text.indexOf(color);
+        final Color expected = Color.parse(color);
+
+        this.checkEquals(
+            expected,
+            Color.parse(
+                new StringBuilder(text),
+                offset,
+                color.length()
+            ),
+            () -> "parse " + CharSequences.quoteAndEscape(text)
+        );
+        this.checkEquals(
+            expected,
+            Color.parse(
+                text.getBytes(StandardCharsets.US_ASCII),
+                offset,
+                color.length()
+            ),
+            () -> "parse bytes " + CharSequences.quoteAndEscape(text)
+        );
+    }
+
+    @Test
+    public void testParseRgbRegion() {
+        this.checkEquals(
+            Color.parseRgb("#123"),
+            Color.parseRgb(
+                "a#123b",
+                1,
+                4
+            )
+        );
+    }
+
+    @Test
+    public void testParseRgbBytes() {
+        this.checkEquals(
+            Color.parseRgb("#123"),
+            Color.parseRgb(
+                "a#123b".getBytes(StandardCharsets.US_ASCII),
+                1,
+                4
+            )
+        );
+    }
+
+    // parseArgb........................................................................................................
+
+    @Test
+    public void testParseArgbHash() {
+        this.parseArgbAndCheck("#123");
+    }
+
+    @Test
+    public void testParseArgbHashAlpha() {
+        this.parseArgbAndCheck("#12345678");
+    }
+
+    @Test
+    public void testParseArgbRgbFunction() {
+        this.parseArgbAndCheck("rgba(1,2,3,50%)");
+    }
+
+    @Test
+    public void testParseArgbHsl() {
+        this.parseArgbAndCheck("hsl(120,50%,50%)");
+    }
+
+    @Test
+    public void testParseArgbWebColorName() {
+        this.parseArgbAndCheck("red");
+    }
+
+    @Test
+    public void testParseArgbInvalidHashFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Color.parseArgb(
+                "#12345",
+                0,
+                6
+            )
+        );
+    }
+
+    private void parseArgbAndCheck(final String text) {
+        this.checkEquals(
+            Color.parse(text)
+                .toRgb()
+                .argb(),
+            Color.parseArgb(
+                "!" + text + "!",
+                1,
+                1 + text.length()
+            ),
+            () -> "parseArgb " + CharSequences.quoteAndEscape(text)
+        );
+    }
+
     @Override
     public Color parseString(final String text) {
         return Color.parse(text);
@@ -25,6 +25,8 @@ import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.text.HasTextTesting;
 import walkingkooka.tree.json.marshall.JsonNodeMarshallingTesting;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertNotSame;
@@ -123,6 +125,40 @@ public abstract class ColorTestCase<C extends Color> implements ClassTesting2<C>
         }
     }
 
+    // appendTo.........................................................................................................
+
+    @Test
+    public final void testAppendToNullAppendableFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createColor()
+                .appendTo((Appendable) null)
+        );
+    }
+
+    @Test
+    public final void testAppendToStringBuilder() {
+        final C color = this.createColor();
+
+        this.checkEquals(
+            "prefix" + color,
+            color.appendTo(new StringBuilder("prefix"))
+                .toString()
+        );
+    }
+
+    @Test
+    public final void testAppendToAppendable() throws IOException {
+        final C color = this.createColor();
+        final StringWriter writer = new StringWriter();
+        color.appendTo(writer);
+
+        this.checkEquals(
+            color.toString(),
+            writer.toString()
+        );
+    }
+
     final void toWebNameAndCheck(final Color color) {
         this.toWebNameAndCheck(
             color,
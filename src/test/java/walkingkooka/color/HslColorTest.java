@@ -113,9 +113,9 @@ public final class HslColorTest extends ColorTestCase<HslColor> implements Parse
                        final HueHslColorComponent hue,
                        final SaturationHslColorComponent saturation,
                        final LightnessHslColorComponent value) {
-        assertSame(hue, hsl.hue, "hue");
-        assertSame(saturation, hsl.saturation, "saturation");
-        assertSame(value, hsl.lightness, "value");
+        assertSame(hue, hsl.hue(), "hue");
+        assertSame(saturation, hsl.saturation(), "saturation");
+        assertSame(value, hsl.lightness(), "value");
     }
 
     @Test
@@ -200,8 +200,8 @@ public final class HslColorTest extends ColorTestCase<HslColor> implements Parse
         final HslColor hsl = HslColor.with(HslColorComponent.hue(hue), HslColorComponent.saturation(saturation), HslColorComponent.lightness(value));
         final RgbColor expected = RgbColor.fromRgb0(rgb);
         final RgbColor actual = hsl.toRgb();
-        if ((false == this.isEquals(expected.red, actual.red)) || (false == this.isEquals(expected.green, actual.green))
-            || (false == this.isEquals(expected.blue, actual.blue))) {
+        if ((false == this.isEquals(expected.red(), actual.red())) || (false == this.isEquals(expected.green(), actual.green()))
+            || (false == this.isEquals(expected.blue(), actual.blue()))) {
             this.checkEquals(expected, actual, () -> "failed to convert " + hsl + " to a RgbColor");
         }
     }
@@ -50,9 +50,9 @@ public abstract class HslColorTestCase<H extends HslColor> extends ColorTestCase
     public final void testSetSameHue() {
         final HslColor hsl = this.createHsl();
         assertSame(hsl, hsl.set(HUE));
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(LIGHTNESS, hsl.lightness, "lightness");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(LIGHTNESS, hsl.lightness(), "lightness");
         assertSame(this.alphaHslComponent(), hsl.alpha(), "alpha");
     }
 
@@ -60,9 +60,9 @@ public abstract class HslColorTestCase<H extends HslColor> extends ColorTestCase
     public final void testSetDifferentHue() {
         final HueHslColorComponent different = HueHslColorComponent.with(180);
         final HslColor hsl = this.createHsl().set(different);
-        assertSame(different, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(LIGHTNESS, hsl.lightness, "lightness");
+        assertSame(different, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(LIGHTNESS, hsl.lightness(), "lightness");
         assertSame(this.alphaHslComponent(), hsl.alpha(), "alpha");
     }
 
@@ -70,9 +70,9 @@ public abstract class HslColorTestCase<H extends HslColor> extends ColorTestCase
     public final void testSetSameSaturation() {
         final HslColor hsl = this.createHsl();
         assertSame(hsl, hsl.set(SATURATION));
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(LIGHTNESS, hsl.lightness, "lightness");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(LIGHTNESS, hsl.lightness(), "lightness");
         assertSame(this.alphaHslComponent(), hsl.alpha(), "alpha");
     }
 
@@ -80,9 +80,9 @@ public abstract class HslColorTestCase<H extends HslColor> extends ColorTestCase
     public final void testSetDifferentSaturation() {
         final HslColorComponent different = SaturationHslColorComponent.with(0.99f);
         final HslColor hsl = this.createHsl().set(different);
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(different, hsl.saturation, "saturation");
-        assertSame(LIGHTNESS, hsl.lightness, "lightness");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(different, hsl.saturation(), "saturation");
+        assertSame(LIGHTNESS, hsl.lightness(), "lightness");
         assertSame(this.alphaHslComponent(), hsl.alpha(), "alpha");
     }
 
@@ -90,9 +90,9 @@ public abstract class HslColorTestCase<H extends HslColor> extends ColorTestCase
     public final void testSetSameLightness() {
         final HslColor hsl = this.createHsl();
         assertSame(hsl, hsl.set(LIGHTNESS));
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(LIGHTNESS, hsl.lightness, "lightness");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(LIGHTNESS, hsl.lightness(), "lightness");
         assertSame(this.alphaHslComponent(), hsl.alpha(), "alpha");
     }
 
@@ -100,9 +100,9 @@ public abstract class HslColorTestCase<H extends HslColor> extends ColorTestCase
     public final void testSetDifferentLightness() {
         final HslColorComponent different = LightnessHslColorComponent.with(0.5f);
         final HslColor hsl = this.createHsl().set(different);
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(different, hsl.lightness, "lightness");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(different, hsl.lightness(), "lightness");
         assertSame(this.alphaHslComponent(), hsl.alpha(), "alpha");
     }
 
@@ -116,9 +116,9 @@ public abstract class HslColorTestCase<H extends HslColor> extends ColorTestCase
     public final void testSetAlphaDifferent() {
         final HslColorComponent different = AlphaHslColorComponent.with(0.25f);
         final HslColor hsl = this.createHsl().set(different);
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(LIGHTNESS, hsl.lightness, "lightness");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(LIGHTNESS, hsl.lightness(), "lightness");
         assertSame(different, hsl.alpha(), "alpha");
     }
 
@@ -247,6 +247,65 @@ public abstract class HslColorTestCase<H extends HslColor> extends ColorTestCase
         this.checkNotEquals(HslColor.with(HUE, SATURATION, LightnessHslColorComponent.with(0.99f)));
     }
 
+    // quantize.........................................................................................................
+
+    @Test
+    public final void testQuantizeSame() {
+        final HslColor color = this.createHsl();
+        assertSame(
+            color,
+            color.quantize()
+        );
+    }
+
+    @Test
+    public final void testQuantize() {
+        final HslColor quantized = this.createHsl(
+            HslColorComponent.hue(120.04f),
+            HslColorComponent.saturation(0.33333f),
+            LightnessHslColorComponent.with(0.25f)
+        ).quantize();
+
+        this.checkEquals(
+            120.0f,
+            quantized.hue().value(),
+            "hue"
+        );
+        this.checkEquals(
+            0.333f,
+            quantized.saturation().value(),
+            "saturation"
+        );
+        assertSame(
+            quantized.hue(),
+            quantized.hue(),
+            "hue"
+        );
+        assertSame(
+            quantized.saturation(),
+            quantized.saturation(),
+            "saturation"
+        );
+        assertSame(
+            LightnessHslColorComponent.with(0.25f),
+            quantized.lightness(),
+            "lightness"
+        );
+        assertSame(
+            this.alphaHslComponent(),
+            quantized.alpha(),
+            "alpha"
+        );
+    }
+
+    @Test
+    public final void testHashCodeSameValues() {
+        this.checkEquals(
+            this.createHsl().hashCode(),
+            this.createHsl().hashCode()
+        );
+    }
+
     @Override final HslColor createColor() {
         return this.createHsl();
     }
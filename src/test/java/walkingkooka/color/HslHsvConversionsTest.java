@@ -0,0 +1,231 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class HslHsvConversionsTest implements PublicStaticHelperTesting<HslHsvConversions> {
+
+    @Test
+    public void testHsvToHslRed() {
+        this.checkEquals(
+            Color.hsl(
+                HslColorComponent.hue(0),
+                HslColorComponent.saturation(1.0f),
+                HslColorComponent.lightness(0.5f)
+            ),
+            Color.hsv(
+                HsvColorComponent.hue(0),
+                HsvColorComponent.saturation(1.0f),
+                HsvColorComponent.value(1.0f)
+            ).toHsl()
+        );
+    }
+
+    @Test
+    public void testHsvToHslWhite() {
+        this.checkEquals(
+            Color.hsl(
+                HslColorComponent.hue(90),
+                HslColorComponent.saturation(0),
+                HslColorComponent.lightness(1.0f)
+            ),
+            Color.hsv(
+                HsvColorComponent.hue(90),
+                HsvColorComponent.saturation(0),
+                HsvColorComponent.value(1.0f)
+            ).toHsl()
+        );
+    }
+
+    @Test
+    public void testHsvToHslBlack() {
+        this.checkEquals(
+            Color.hsl(
+                HslColorComponent.hue(180),
+                HslColorComponent.saturation(0),
+                HslColorComponent.lightness(0)
+            ),
+            Color.hsv(
+                HsvColorComponent.hue(180),
+                HsvColorComponent.saturation(0.5f),
+                HsvColorComponent.value(0)
+            ).toHsl()
+        );
+    }
+
+    @Test
+    public void testHslToHsv() {
+        this.checkEquals(
+            Color.hsv(
+                HsvColorComponent.hue(120),
+                HsvColorComponent.saturation(1.0f),
+                HsvColorComponent.value(0.5f)
+            ),
+            Color.hsl(
+                HslColorComponent.hue(120),
+                HslColorComponent.saturation(1.0f),
+                HslColorComponent.lightness(0.25f)
+            ).toHsv()
+        );
+    }
+
+    @Test
+    public void testHslToHsvBlack() {
+        this.checkEquals(
+            Color.hsv(
+                HsvColorComponent.hue(240),
+                HsvColorComponent.saturation(0),
+                HsvColorComponent.value(0)
+            ),
+            Color.hsl(
+                HslColorComponent.hue(240),
+                HslColorComponent.saturation(0.5f),
+                HslColorComponent.lightness(0)
+            ).toHsv()
+        );
+    }
+
+    @Test
+    public void testHslToHsvToHslRoundTrip() {
+        final HslColor hsl = Color.hsl(
+            HslColorComponent.hue(200),
+            HslColorComponent.saturation(0.5f),
+            HslColorComponent.lightness(0.25f)
+        );
+        final HslColor roundTrip = hsl.toHsv()
+            .toHsl();
+
+        this.closeAndCheck(
+            hsl.lightness().value(),
+            roundTrip.lightness().value(),
+            0.00001f
+        );
+        this.closeAndCheck(
+            hsl.saturation().value(),
+            roundTrip.saturation().value(),
+            0.00001f
+        );
+    }
+
+    private void closeAndCheck(final float expected,
+                               final float actual,
+                               final float delta) {
+        this.checkEquals(
+            true,
+            Math.abs(expected - actual) <= delta,
+            () -> expected + " " + actual
+        );
+    }
+
+    @Test
+    public void testHsvToHslArraysInPlace() {
+        final float[] saturation = new float[]{1.0f, 0};
+        final float[] value = new float[]{1.0f, 1.0f};
+
+        HslHsvConversions.hsvToHsl(
+            saturation,
+            value,
+            saturation,
+            value
+        );
+
+        this.checkEquals(
+            1.0f,
+            saturation[0],
+            "saturation[0]"
+        );
+        this.checkEquals(
+            0.5f,
+            value[0],
+            "lightness[0]"
+        );
+        this.checkEquals(
+            0f,
+            saturation[1],
+            "saturation[1]"
+        );
+        this.checkEquals(
+            1.0f,
+            value[1],
+            "lightness[1]"
+        );
+    }
+
+    @Test
+    public void testHslToHsvArrays() {
+        final float[] saturation = new float[]{1.0f};
+        final float[] lightness = new float[]{0.25f};
+        final float[] hsvSaturation = new float[1];
+        final float[] value = new float[1];
+
+        HslHsvConversions.hslToHsv(
+            saturation,
+            lightness,
+            hsvSaturation,
+            value
+        );
+
+        this.checkEquals(
+            1.0f,
+            hsvSaturation[0],
+            "saturation"
+        );
+        this.checkEquals(
+            0.5f,
+            value[0],
+            "value"
+        );
+    }
+
+    @Test
+    public void testHslToHsvArraysShortFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> HslHsvConversions.hslToHsv(
+                new float[2],
+                new float[2],
+                new float[1],
+                new float[2]
+            )
+        );
+    }
+
+    // PublicStaticHelperTesting........................................................................................
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public Class<HslHsvConversions> type() {
+        return HslHsvConversions.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
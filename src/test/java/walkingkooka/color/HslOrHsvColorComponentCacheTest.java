@@ -0,0 +1,161 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class HslOrHsvColorComponentCacheTest implements ClassTesting2<HslOrHsvColorComponentCache<?>>,
+    ToStringTesting<HslOrHsvColorComponentCache<?>> {
+
+    @Test
+    public void testGetOnGridShared() {
+        final HslOrHsvColorComponentCache<HueHslColorComponent> cache = this.createCache();
+
+        final HueHslColorComponent component = cache.get(33.3f);
+        this.checkEquals(
+            33.3f,
+            component.value()
+        );
+        assertSame(
+            component,
+            cache.get(33.3f)
+        );
+    }
+
+    @Test
+    public void testGetMinAndMaxShared() {
+        final HslOrHsvColorComponentCache<HueHslColorComponent> cache = this.createCache();
+
+        assertSame(
+            cache.get(HueHslColorComponent.MIN_VALUE),
+            cache.get(HueHslColorComponent.MIN_VALUE)
+        );
+        assertSame(
+            cache.get(HueHslColorComponent.MAX_VALUE),
+            cache.get(HueHslColorComponent.MAX_VALUE)
+        );
+    }
+
+    @Test
+    public void testGetOffGridNotRounded() {
+        final HslOrHsvColorComponentCache<HueHslColorComponent> cache = this.createCache();
+
+        final HueHslColorComponent component = cache.get(33.33f);
+        this.checkEquals(
+            33.33f,
+            component.value()
+        );
+        assertNotSame(
+            component,
+            cache.get(33.33f)
+        );
+        this.checkEquals(
+            component,
+            cache.get(33.33f)
+        );
+    }
+
+    @Test
+    public void testGetOutOfRangeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createCache()
+                .get(HueHslColorComponent.MAX_VALUE + 1)
+        );
+    }
+
+    @Test
+    public void testGetNegativeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createCache()
+                .get(-0.1f)
+        );
+    }
+
+    @Test
+    public void testQuantize() {
+        this.quantizeAndCheck(
+            33.33f,
+            33.3f
+        );
+    }
+
+    @Test
+    public void testQuantizeRoundsUp() {
+        this.quantizeAndCheck(
+            359.96f,
+            360f
+        );
+    }
+
+    @Test
+    public void testQuantizeOnGrid() {
+        this.quantizeAndCheck(
+            120.5f,
+            120.5f
+        );
+    }
+
+    private void quantizeAndCheck(final float value,
+                                  final float expected) {
+        this.checkEquals(
+            expected,
+            this.createCache()
+                .quantize(value),
+            () -> "quantize " + value
+        );
+    }
+
+    private HslOrHsvColorComponentCache<HueHslColorComponent> createCache() {
+        return HslOrHsvColorComponentCache.with(
+            HueHslColorComponent.MAX_VALUE,
+            10,
+            HslColorComponent::hue
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createCache(),
+            "3600 steps"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<HslOrHsvColorComponentCache<?>> type() {
+        return Cast.to(HslOrHsvColorComponentCache.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -48,6 +48,26 @@ public abstract class HslOrHsvColorComponentTestCase<C extends HslOrHsvColorComp
         assertEquals(value(), component.value(), 0.1, "value");
     }
 
+    @Test
+    public final void testWithShared() {
+        assertSame(
+            this.createHslOrHsvComponent(this.value()),
+            this.createHslOrHsvComponent(this.value())
+        );
+    }
+
+    @Test
+    public final void testWithMinAndMaxShared() {
+        assertSame(
+            this.createHslOrHsvComponent(this.min()),
+            this.createHslOrHsvComponent(this.min())
+        );
+        assertSame(
+            this.createHslOrHsvComponent(this.max()),
+            this.createHslOrHsvComponent(this.max())
+        );
+    }
+
     // set
 
     @Test
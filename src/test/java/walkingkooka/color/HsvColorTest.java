@@ -113,9 +113,9 @@ public final class HsvColorTest extends ColorTestCase<HsvColor> implements Parse
                        final HueHsvColorComponent hue,
                        final SaturationHsvColorComponent saturation,
                        final ValueHsvColorComponent value) {
-        assertSame(hue, hsv.hue, "hue");
-        assertSame(saturation, hsv.saturation, "saturation");
-        assertSame(value, hsv.value, "value");
+        assertSame(hue, hsv.hue(), "hue");
+        assertSame(saturation, hsv.saturation(), "saturation");
+        assertSame(value, hsv.value(), "value");
     }
 
     @Test
@@ -200,8 +200,8 @@ public final class HsvColorTest extends ColorTestCase<HsvColor> implements Parse
         final HsvColor hsv = HsvColor.with(HsvColorComponent.hue(hue), HsvColorComponent.saturation(saturation), HsvColorComponent.value(value));
         final RgbColor expected = RgbColor.fromRgb0(rgb);
         final RgbColor actual = hsv.toRgb();
-        if ((false == this.isEquals(expected.red, actual.red)) || (false == this.isEquals(expected.green, actual.green))
-            || (false == this.isEquals(expected.blue, actual.blue))) {
+        if ((false == this.isEquals(expected.red(), actual.red())) || (false == this.isEquals(expected.green(), actual.green()))
+            || (false == this.isEquals(expected.blue(), actual.blue()))) {
             this.checkEquals(expected, actual, () -> "failed to convert " + hsv + " to a RgbColor");
         }
     }
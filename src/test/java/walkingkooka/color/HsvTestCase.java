@@ -50,9 +50,9 @@ public abstract class HsvTestCase<H extends HsvColor> extends ColorTestCase<HsvC
     public final void testSetSameHue() {
         final HsvColor hsl = this.createHsv();
         assertSame(hsl, hsl.set(HUE));
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(VALUE, hsl.value, "value");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(VALUE, hsl.value(), "value");
         assertSame(this.alphaHsvColorComponent(), hsl.alpha(), "alpha");
     }
 
@@ -60,9 +60,9 @@ public abstract class HsvTestCase<H extends HsvColor> extends ColorTestCase<HsvC
     public final void testSetDifferentHue() {
         final HueHsvColorComponent different = HueHsvColorComponent.with(180);
         final HsvColor hsl = this.createHsv().set(different);
-        assertSame(different, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(VALUE, hsl.value, "value");
+        assertSame(different, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(VALUE, hsl.value(), "value");
         assertSame(this.alphaHsvColorComponent(), hsl.alpha(), "alpha");
     }
 
@@ -70,9 +70,9 @@ public abstract class HsvTestCase<H extends HsvColor> extends ColorTestCase<HsvC
     public final void testSetSameSaturation() {
         final HsvColor hsl = this.createHsv();
         assertSame(hsl, hsl.set(SATURATION));
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(VALUE, hsl.value, "value");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(VALUE, hsl.value(), "value");
         assertSame(this.alphaHsvColorComponent(), hsl.alpha(), "alpha");
     }
 
@@ -80,9 +80,9 @@ public abstract class HsvTestCase<H extends HsvColor> extends ColorTestCase<HsvC
     public final void testSetDifferentSaturation() {
         final HsvColorComponent different = SaturationHsvColorComponent.with(0.99f);
         final HsvColor hsl = this.createHsv().set(different);
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(different, hsl.saturation, "saturation");
-        assertSame(VALUE, hsl.value, "value");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(different, hsl.saturation(), "saturation");
+        assertSame(VALUE, hsl.value(), "value");
         assertSame(this.alphaHsvColorComponent(), hsl.alpha(), "alpha");
     }
 
@@ -90,9 +90,9 @@ public abstract class HsvTestCase<H extends HsvColor> extends ColorTestCase<HsvC
     public final void testSetSameLightness() {
         final HsvColor hsl = this.createHsv();
         assertSame(hsl, hsl.set(VALUE));
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(VALUE, hsl.value, "value");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(VALUE, hsl.value(), "value");
         assertSame(this.alphaHsvColorComponent(), hsl.alpha(), "alpha");
     }
 
@@ -100,9 +100,9 @@ public abstract class HsvTestCase<H extends HsvColor> extends ColorTestCase<HsvC
     public final void testSetDifferentLightness() {
         final HsvColorComponent different = ValueHsvColorComponent.with(0.5f);
         final HsvColor hsl = this.createHsv().set(different);
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(different, hsl.value, "value");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(different, hsl.value(), "value");
         assertSame(this.alphaHsvColorComponent(), hsl.alpha(), "alpha");
     }
 
@@ -116,9 +116,9 @@ public abstract class HsvTestCase<H extends HsvColor> extends ColorTestCase<HsvC
     public final void testSetAlphaDifferent() {
         final HsvColorComponent different = AlphaHsvColorComponent.with(0.25f);
         final HsvColor hsl = this.createHsv().set(different);
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(VALUE, hsl.value, "value");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(VALUE, hsl.value(), "value");
         assertSame(different, hsl.alpha(), "alpha");
     }
 
@@ -247,6 +247,65 @@ public abstract class HsvTestCase<H extends HsvColor> extends ColorTestCase<HsvC
         this.checkNotEquals(HsvColor.with(HUE, SATURATION, ValueHsvColorComponent.with(0.99f)));
     }
 
+    // quantize.........................................................................................................
+
+    @Test
+    public final void testQuantizeSame() {
+        final HsvColor color = this.createHsv();
+        assertSame(
+            color,
+            color.quantize()
+        );
+    }
+
+    @Test
+    public final void testQuantize() {
+        final HsvColor quantized = this.createHsv(
+            HsvColorComponent.hue(120.04f),
+            HsvColorComponent.saturation(0.33333f),
+            ValueHsvColorComponent.with(0.25f)
+        ).quantize();
+
+        this.checkEquals(
+            120.0f,
+            quantized.hue().value(),
+            "hue"
+        );
+        this.checkEquals(
+            0.333f,
+            quantized.saturation().value(),
+            "saturation"
+        );
+        assertSame(
+            quantized.hue(),
+            quantized.hue(),
+            "hue"
+        );
+        assertSame(
+            quantized.saturation(),
+            quantized.saturation(),
+            "saturation"
+        );
+        assertSame(
+            ValueHsvColorComponent.with(0.25f),
+            quantized.value(),
+            "value"
+        );
+        assertSame(
+            this.alphaHsvColorComponent(),
+            quantized.alpha(),
+            "alpha"
+        );
+    }
+
+    @Test
+    public final void testHashCodeSameValues() {
+        this.checkEquals(
+            this.createHsv().hashCode(),
+            this.createHsv().hashCode()
+        );
+    }
+
     @Override final HsvColor createColor() {
         return this.createHsv();
     }
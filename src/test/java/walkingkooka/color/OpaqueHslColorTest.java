@@ -45,9 +45,9 @@ public final class OpaqueHslColorTest extends HslColorTestCase<OpaqueHslColor> {
     @Test
     public void testWith() {
         final OpaqueHslColor hsl = OpaqueHslColor.withOpaque(HUE, SATURATION, LIGHTNESS);
-        assertSame(HUE, hsl.hue, "hue");
-        assertSame(SATURATION, hsl.saturation, "saturation");
-        assertSame(LIGHTNESS, hsl.lightness, "lightness");
+        assertSame(HUE, hsl.hue(), "hue");
+        assertSame(SATURATION, hsl.saturation(), "saturation");
+        assertSame(LIGHTNESS, hsl.lightness(), "lightness");
         assertSame(this.alphaHslComponent(), hsl.alpha(), "alpha");
     }
 
@@ -60,9 +60,9 @@ public final class OpaqueHslColorTest extends HslColorTestCase<OpaqueHslColor> {
             HslColorComponent.lightness(value));
         final RgbColor expected = RgbColor.fromRgb0(rgb);
         final RgbColor actual = hsl.toRgb();
-        if ((false == this.isEquals(expected.red, actual.red)) || //
-            (false == this.isEquals(expected.green, actual.green)) || //
-            (false == this.isEquals(expected.blue, actual.blue))) {
+        if ((false == this.isEquals(expected.red(), actual.red())) || //
+            (false == this.isEquals(expected.green(), actual.green())) || //
+            (false == this.isEquals(expected.blue(), actual.blue()))) {
             this.checkEquals(expected, actual, "failed to convert " + hsl + " to a RgbColor");
         }
     }
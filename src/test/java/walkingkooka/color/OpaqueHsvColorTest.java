@@ -45,9 +45,9 @@ public final class OpaqueHsvColorTest extends HsvTestCase<OpaqueHsvColor> {
     @Test
     public void testWith() {
         final OpaqueHsvColor hsv = OpaqueHsvColor.withOpaque(HUE, SATURATION, VALUE);
-        assertSame(HUE, hsv.hue, "hue");
-        assertSame(SATURATION, hsv.saturation, "saturation");
-        assertSame(VALUE, hsv.value, "value");
+        assertSame(HUE, hsv.hue(), "hue");
+        assertSame(SATURATION, hsv.saturation(), "saturation");
+        assertSame(VALUE, hsv.value(), "value");
         assertSame(this.alphaHsvColorComponent(), hsv.alpha(), "alpha");
     }
 
@@ -60,9 +60,9 @@ public final class OpaqueHsvColorTest extends HsvTestCase<OpaqueHsvColor> {
             HsvColorComponent.value(value));
         final RgbColor expected = RgbColor.fromRgb0(rgb);
         final RgbColor actual = hsv.toRgb();
-        if ((false == this.isEquals(expected.red, actual.red)) || //
-            (false == this.isEquals(expected.green, actual.green)) || //
-            (false == this.isEquals(expected.blue, actual.blue))) {
+        if ((false == this.isEquals(expected.red(), actual.red())) || //
+            (false == this.isEquals(expected.green(), actual.green())) || //
+            (false == this.isEquals(expected.blue(), actual.blue()))) {
             this.checkEquals(expected, actual, "failed to convert " + hsv + " to a RgbColor");
         }
     }
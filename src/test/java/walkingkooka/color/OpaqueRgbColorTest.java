@@ -22,6 +22,9 @@ import walkingkooka.Cast;
 import walkingkooka.ToStringBuilder;
 import walkingkooka.tree.json.JsonNode;
 
+import java.util.Arrays;
+import java.util.Objects;
+
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -214,7 +217,8 @@ public final class OpaqueRgbColorTest extends RgbColorTestCase<OpaqueRgbColor> {
 
     @Test
     public void testWebNameConstants() {
-        WebColorName.AARRGGBB_CONSTANTS.values()
+        Arrays.stream(WebColorName.ARGB_NAMES)
+            .filter(Objects::nonNull)
             .forEach(n -> {
                 final RgbColor color = n.color();
                 this.toWebNameAndCheck(color, n);
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PackedHslHsvTest implements PublicStaticHelperTesting<PackedHslHsv> {
+
+    private final static int[] ARGB = new int[]{
+        0xFF000000,
+        0xFFFFFFFF,
+        0xFF808080,
+        0xFF123456,
+        0x80123456,
+        0xFFFF0000,
+        0xFF00FF00,
+        0xFF0000FF,
+        0xFF010000,
+        0xFFFEDCBA
+    };
+
+    @Test
+    public void testHsl() {
+        for (final int argb : ARGB) {
+            final HslColor hsl = Color.fromArgb(argb)
+                .toHsl();
+            final long packed = PackedHslHsv.hsl(argb);
+
+            this.checkEquals(
+                hsl,
+                Color.hsl(
+                    HslColorComponent.hue(PackedHslHsv.hue(packed)),
+                    HslColorComponent.saturation(PackedHslHsv.hslSaturation(packed)),
+                    HslColorComponent.lightness(PackedHslHsv.hslLightness(packed))
+                ),
+                () -> "hsl " + Integer.toHexString(argb)
+            );
+        }
+    }
+
+    @Test
+    public void testHsv() {
+        for (final int argb : ARGB) {
+            final HsvColor hsv = Color.fromArgb(argb)
+                .toHsv();
+            final long packed = PackedHslHsv.hsv(argb);
+
+            this.checkEquals(
+                hsv,
+                Color.hsv(
+                    HsvColorComponent.hue(PackedHslHsv.hue(packed)),
+                    HsvColorComponent.saturation(PackedHslHsv.hsvSaturation(packed)),
+                    HsvColorComponent.value(PackedHslHsv.hsvValue(packed))
+                ),
+                () -> "hsv " + Integer.toHexString(argb)
+            );
+        }
+    }
+
+    @Test
+    public void testHsvIgnoresAlpha() {
+        this.checkEquals(
+            PackedHslHsv.hsv(0xFF123456),
+            PackedHslHsv.hsv(0x00123456)
+        );
+    }
+
+    @Test
+    public void testHslArray() {
+        final int[] argb = new int[]{0xFF000000, 0xFF123456};
+        final long[] hsl = new long[argb.length];
+        PackedHslHsv.hsl(argb, hsl);
+
+        for (int i = 0; i < argb.length; i++) {
+            this.checkEquals(
+                PackedHslHsv.hsl(argb[i]),
+                hsl[i]
+            );
+        }
+    }
+
+    @Test
+    public void testHsvArray() {
+        final long[] hsv = new long[ARGB.length];
+        PackedHslHsv.hsv(ARGB, hsv);
+
+        for (int i = 0; i < ARGB.length; i++) {
+            this.checkEquals(
+                PackedHslHsv.hsv(ARGB[i]),
+                hsv[i]
+            );
+        }
+    }
+
+    @Test
+    public void testHsvArrayShortFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> PackedHslHsv.hsv(
+                ARGB,
+                new long[1]
+            )
+        );
+    }
+
+    // PublicStaticHelperTesting........................................................................................
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public Class<PackedHslHsv> type() {
+        return PackedHslHsv.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
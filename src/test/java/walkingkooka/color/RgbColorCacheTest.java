@@ -0,0 +1,266 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class RgbColorCacheTest implements ClassTesting2<RgbColorCache>,
+    ToStringTesting<RgbColorCache> {
+
+    @AfterEach
+    public void afterEach() {
+        RgbColor.setCache(Optional.empty());
+    }
+
+    @Test
+    public void testWithZeroCapacityFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> RgbColorCache.with(0)
+        );
+    }
+
+    @Test
+    public void testWithTooLargeCapacityFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> RgbColorCache.with(RgbColorCache.MAX_CAPACITY + 1)
+        );
+    }
+
+    @Test
+    public void testWithRoundsCapacity() {
+        this.checkEquals(
+            128,
+            RgbColorCache.with(100)
+                .capacity()
+        );
+    }
+
+    @Test
+    public void testSetCacheNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> RgbColor.setCache(null)
+        );
+    }
+
+    @Test
+    public void testCacheDefaultsEmpty() {
+        this.checkEquals(
+            Optional.empty(),
+            RgbColor.cache()
+        );
+    }
+
+    @Test
+    public void testWithoutCacheCreatesNewInstances() {
+        assertNotSame(
+            Color.fromArgb(0x12345678),
+            Color.fromArgb(0x12345678)
+        );
+    }
+
+    @Test
+    public void testFromRgbShared() {
+        final RgbColorCache cache = this.install();
+
+        final RgbColor color = Color.fromRgb(0x123456);
+        assertSame(
+            color,
+            Color.fromRgb(0x123456)
+        );
+        this.hitsAndMissesCheck(
+            cache,
+            1,
+            1
+        );
+    }
+
+    @Test
+    public void testFromArgbShared() {
+        final RgbColorCache cache = this.install();
+
+        final RgbColor color = Color.fromArgb(0x12345678);
+        assertSame(
+            color,
+            Color.fromArgb(0x12345678)
+        );
+        this.hitsAndMissesCheck(
+            cache,
+            1,
+            1
+        );
+    }
+
+    @Test
+    public void testParseRgbShared() {
+        this.install();
+
+        assertSame(
+            Color.fromRgb(0x112233),
+            Color.parseRgb("#123")
+        );
+    }
+
+    @Test
+    public void testSetComponentShared() {
+        this.install();
+
+        final RgbColor color = Color.fromRgb(0x112233);
+        assertSame(
+            Color.fromRgb(0xFF2233),
+            color.set(RgbColorComponent.red((byte) 0xFF))
+        );
+    }
+
+    @Test
+    public void testSetAlphaShared() {
+        this.install();
+
+        final RgbColor color = Color.fromRgb(0x112233);
+        assertSame(
+            Color.fromArgb(0x80112233),
+            color.set(RgbColorComponent.alpha((byte) 0x80))
+        );
+    }
+
+    @Test
+    public void testOpaqueAndAlphaNotShared() {
+        this.install();
+
+        final RgbColor opaque = Color.fromRgb(0x112233);
+        final RgbColor alpha = Color.fromArgb(0x01112233);
+
+        this.checkEquals(
+            false,
+            opaque.equals(alpha)
+        );
+        assertSame(
+            opaque,
+            Color.fromRgb(0x112233)
+        );
+    }
+
+    @Test
+    public void testEviction() {
+        final RgbColorCache cache = RgbColorCache.with(1);
+        RgbColor.setCache(Optional.of(cache));
+
+        Color.fromRgb(0x111111);
+        Color.fromRgb(0x222222);
+
+        this.checkEquals(
+            1L,
+            cache.evictions(),
+            "evictions"
+        );
+        this.checkEquals(
+            1,
+            cache.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testPutSameColorNotEviction() {
+        final RgbColorCache cache = RgbColorCache.with(1);
+
+        cache.put(Color.fromRgb(0x111111));
+        cache.put(Color.fromRgb(0x111111));
+
+        this.checkEquals(
+            0L,
+            cache.evictions(),
+            "evictions"
+        );
+    }
+
+    @Test
+    public void testClear() {
+        final RgbColorCache cache = this.install();
+
+        Color.fromRgb(0x123456);
+        Color.fromRgb(0x123456);
+        cache.clear();
+
+        this.checkEquals(
+            0,
+            cache.size(),
+            "size"
+        );
+        this.hitsAndMissesCheck(
+            cache,
+            0,
+            0
+        );
+    }
+
+    private RgbColorCache install() {
+        final RgbColorCache cache = RgbColorCache.with(1024);
+        RgbColor.setCache(Optional.of(cache));
+        return cache;
+    }
+
+    private void hitsAndMissesCheck(final RgbColorCache cache,
+                                    final long hits,
+                                    final long misses) {
+        this.checkEquals(
+            hits,
+            cache.hits(),
+            "hits"
+        );
+        this.checkEquals(
+            misses,
+            cache.misses(),
+            "misses"
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            RgbColorCache.with(16),
+            "capacity=16 hits=0 misses=0 evictions=0"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<RgbColorCache> type() {
+        return RgbColorCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
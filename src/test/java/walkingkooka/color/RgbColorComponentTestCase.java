@@ -70,6 +70,11 @@ abstract public class RgbColorComponentTestCase<C extends RgbColorComponent> ext
         );
         this.checkEquals(unsigned, component.unsignedIntValue, "unsignedIntValue");
         assertEquals(floatValue, component.floatValue, 0.1f, "floatValue");
+
+        this.checkEquals(component.value().intValue(), component.intValue(), "intValue");
+        this.checkEquals(value, component.byteValue(), "byteValue");
+        this.checkEquals(unsigned, component.unsignedIntValue(), "unsignedIntValue()");
+        this.checkEquals(component.floatValue, component.floatValue(), "floatValue()");
     }
 
     // add
@@ -175,6 +175,23 @@ public final class RgbColorStringTest implements ClassTesting2<RgbColorString> {
             format.toString(color),
             () -> "format " + format + " rgb=" + color
         );
+        this.checkEquals(
+            toString,
+            format.appendTo(color, new StringBuilder())
+                .toString(),
+            () -> "appendTo format " + format + " rgb=" + color
+        );
+    }
+
+    @Test
+    public void testAppendToNullAppendableFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> RgbColorString.RGB_DECIMAL.appendTo(
+                Color.BLACK,
+                (Appendable) null
+            )
+        );
     }
 
     // ClassTesting.....................................................................................................
@@ -19,12 +19,17 @@ package walkingkooka.color;
 
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.reflect.TypeNameTesting;
 import walkingkooka.tree.json.JsonNode;
 import walkingkooka.tree.json.marshall.JsonNodeMarshallingTesting;
 import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -1067,6 +1072,72 @@ abstract public class RgbColorTestCase<C extends RgbColor> extends ColorTestCase
         );
     }
 
+    // toNearestWebColorName............................................................................................
+
+    @Test
+    public final void testToNearestWebColorNameNullMetricFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createColor()
+                .toNearestWebColorName(null)
+        );
+    }
+
+    @Test
+    public final void testToNearestWebColorName() {
+        final byte component = 1;
+
+        this.checkEquals(
+            WebColorName.BLACK,
+            this.createColor(
+                RgbColorComponent.red(component),
+                RgbColorComponent.green(component),
+                RgbColorComponent.blue(component)
+            ).toNearestWebColorName(ColorMetric.RGB)
+        );
+    }
+
+    // intValue.........................................................................................................
+
+    @Test
+    public final void testIntValue() {
+        final C color = this.createColor();
+
+        this.checkEquals(
+            color.value(),
+            color.intValue()
+        );
+    }
+
+    @Test
+    public final void testHashCodeIntValue() {
+        final C color = this.createColor();
+
+        this.checkEquals(
+            color.intValue(),
+            color.hashCode()
+        );
+    }
+
+    @Test
+    public final void testOnlyArgbInstanceField() {
+        final List<String> fields = Lists.array();
+
+        for (Class<?> type = this.type(); Color.class != type; type = type.getSuperclass()) {
+            for (final Field field : type.getDeclaredFields()) {
+                if (false == Modifier.isStatic(field.getModifiers())) {
+                    fields.add(field.getName());
+                }
+            }
+        }
+
+        this.checkEquals(
+            Lists.of("argb"),
+            fields,
+            () -> "instance fields of " + this.type().getName()
+        );
+    }
+
     // toHexString......................................................................................................
 
     final void toHexStringAndCheck(final RgbColor color,
@@ -1075,6 +1146,12 @@ abstract public class RgbColorTestCase<C extends RgbColor> extends ColorTestCase
             expected,
             color.toHexString()
         );
+        this.checkEquals(
+            expected,
+            color.appendHexString(new StringBuilder())
+                .toString(),
+            () -> "appendHexString " + color
+        );
     }
 
     // json.............................................................................................................
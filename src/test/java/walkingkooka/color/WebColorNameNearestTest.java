@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+
+public final class WebColorNameNearestTest implements ClassTesting2<WebColorNameNearest> {
+
+    @Test
+    public void testNamesOpaqueAndDistinct() {
+        final WebColorName[] names = WebColorNameNearest.NAMES;
+
+        this.checkEquals(
+            (long) names.length,
+            Arrays.stream(names)
+                .mapToInt(n -> n.color().argb())
+                .distinct()
+                .count(),
+            "distinct"
+        );
+
+        for (final WebColorName name : names) {
+            this.checkEquals(
+                0xFF,
+                name.color().argb() >>> 24,
+                name::toString
+            );
+        }
+    }
+
+    @Test
+    public void testNearestExact() {
+        for (final ColorMetric metric : ColorMetric.values()) {
+            for (final WebColorName name : WebColorNameNearest.NAMES) {
+                final RgbColor color = name.color();
+
+                this.checkEquals(
+                    color.toWebColorName().get(),
+                    WebColorNameNearest.nearest(
+                        color.argb(),
+                        metric
+                    ),
+                    () -> metric + " " + name
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testNearestRgb() {
+        this.checkEquals(
+            WebColorName.NAVY,
+            WebColorNameNearest.nearest(
+                0xFF010180,
+                ColorMetric.RGB
+            )
+        );
+    }
+
+    @Test
+    public void testNearestCielab() {
+        this.checkEquals(
+            WebColorName.ORANGERED,
+            WebColorNameNearest.nearest(
+                0xFFFF4401,
+                ColorMetric.CIELAB
+            )
+        );
+    }
+
+    @Test
+    public void testNearestArray() {
+        final int[] argb = new int[]{
+            0xFF010180,
+            0xFFFF4401,
+            0x00FFFFFF
+        };
+
+        final WebColorName[] names = WebColorNameNearest.nearest(
+            argb,
+            ColorMetric.CIELAB
+        );
+
+        for (int i = 0; i < argb.length; i++) {
+            this.checkEquals(
+                WebColorNameNearest.nearest(argb[i], ColorMetric.CIELAB),
+                names[i]
+            );
+        }
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<WebColorNameNearest> type() {
+        return WebColorNameNearest.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -27,9 +27,12 @@ import walkingkooka.text.CharSequences;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public final class WebColorNameTest implements NameTesting2<WebColorName, WebColorName> {
 
     @Test
@@ -63,6 +66,93 @@ public final class WebColorNameTest implements NameTesting2<WebColorName, WebCol
         }
     }
 
+    @Test
+    public void testConstantsUpperCase() {
+        this.checkEquals(
+            Lists.empty(),
+            Arrays.stream(WebColorName.ARGB_NAMES)
+                .filter(Objects::nonNull)
+                .filter(n -> false == Optional.of(n).equals(WebColorName.with(n.value().toUpperCase())))
+                .collect(Collectors.toList())
+        );
+    }
+
+    // withArgb.........................................................................................................
+
+    @Test
+    public void testWithArgbUnknown() {
+        this.checkEquals(
+            null,
+            WebColorName.withArgb(0x12345678)
+        );
+    }
+
+    @Test
+    public void testWithArgbTransparent() {
+        this.checkEquals(
+            WebColorName.TRANSPARENT,
+            WebColorName.withArgb(0)
+        );
+    }
+
+    @Test
+    public void testWithArgbSharedLastWins() {
+        this.checkEquals(
+            WebColorName.CYAN,
+            WebColorName.withArgb(
+                WebColorName.AQUA.color()
+                    .argb()
+            )
+        );
+    }
+
+    // nearest..........................................................................................................
+
+    @Test
+    public void testNearestNullArgbFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> WebColorName.nearest(
+                null,
+                ColorMetric.RGB
+            )
+        );
+    }
+
+    @Test
+    public void testNearestNullMetricFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> WebColorName.nearest(
+                new int[0],
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testNearest() {
+        this.checkEquals(
+            Lists.of(
+                WebColorName.RED,
+                WebColorName.BLACK,
+                WebColorName.CYAN,
+                WebColorName.WHITE
+            ),
+            Lists.of(
+                WebColorName.nearest(
+                    new int[]{
+                        0xFFFE0101,
+                        0x00000000,
+                        0xFF00FFFF,
+                        0x80FEFEFE
+                    },
+                    ColorMetric.RGB
+                )
+            )
+        );
+    }
+
     // with.............................................................................................................
 
     @Override
@@ -122,11 +212,21 @@ public final class WebColorNameTest implements NameTesting2<WebColorName, WebCol
             () -> "name " + CharSequences.quoteAndEscape(name)
         );
 
+        this.checkEquals(
+            webColorName.orElse(null),
+            WebColorName.with(
+                "(" + name + ")",
+                1,
+                1 + name.length()
+            ),
+            () -> "region name " + CharSequences.quoteAndEscape(name)
+        );
+
         webColorName.ifPresent(
             colorName -> this.checkEquals(
                 colorName,
-                WebColorName.AARRGGBB_CONSTANTS.get(color.argb()),
-                () -> "AARRGGBB_CONSTANTS -> name " + CharSequences.quoteAndEscape(name))
+                WebColorName.withArgb(color.argb()),
+                () -> "withArgb -> name " + CharSequences.quoteAndEscape(name))
         );
     }
 
@@ -26,6 +26,8 @@ import walkingkooka.test.ParseStringTesting;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class ColorComparatorCollectionTest extends ColorComparatorTestCase<ColorComparatorCollection>
     implements ParseStringTesting<ColorComparatorCollection>,
     HashCodeEqualsDefinedTesting2<ColorComparatorCollection>,
@@ -35,7 +37,7 @@ public final class ColorComparatorCollectionTest extends ColorComparatorTestCase
     public ColorComparatorCollection createComparator() {
         return new ColorComparatorCollection(
             "red",
-            ColorComparators.red()
+            ColorComparatorRgbRed.INSTANCE
         );
     }
 
@@ -332,6 +334,40 @@ public final class ColorComparatorCollectionTest extends ColorComparatorTestCase
         );
     }
 
+    @Test
+    public void testParseCached() {
+        final String text = "hslHue hsvValueReversed red";
+
+        assertSame(
+            ColorComparatorCollection.parse(text),
+            ColorComparatorCollection.parse(text)
+        );
+    }
+
+    @Test
+    public void testParseHslHueHsvValueReversedRed() {
+        final Color color1 = Color.parse("#F00");
+        final Color color2 = Color.parse("#800");
+        final Color color3 = Color.parse("#0F0");
+        final Color color4 = Color.parse("#0000FF");
+
+        this.parseStringAndSortColors(
+            "hslHue hsvValueReversed red",
+            Lists.of(
+                color4,
+                color3,
+                color2,
+                color1
+            ),
+            Lists.of(
+                color1,
+                color2,
+                color3,
+                color4
+            )
+        );
+    }
+
     private void parseStringAndSortColors(final String text,
                                           final List<Color> unsorted,
                                           final List<Color> expected) {
@@ -346,6 +382,19 @@ public final class ColorComparatorCollectionTest extends ColorComparatorTestCase
             sorted,
             text
         );
+
+        final List<Color> sorted2 = Lists.array();
+        sorted2.addAll(unsorted);
+        ColorComparators.sort(
+            sorted2,
+            ColorComparatorCollection.parse(text)
+        );
+
+        this.checkEquals(
+            expected,
+            sorted2,
+            () -> "ColorComparators.sort " + text
+        );
     }
 
     @Override
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.color.Color;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ColorComparatorPackedKeyComponentTest implements ClassTesting2<ColorComparatorPackedKeyComponent>,
+    ToStringTesting<ColorComparatorPackedKeyComponent> {
+
+    private final static Color COLOR = Color.parse("#123456");
+
+    @Test
+    public void testValue() {
+        this.checkEquals(
+            0x12L << 8,
+            this.createComponent(false)
+                .value(COLOR)
+        );
+    }
+
+    @Test
+    public void testKeyReversed() {
+        this.checkEquals(
+            0xFFL - 0x12,
+            this.createComponent(true)
+                .key(COLOR)
+        );
+    }
+
+    @Test
+    public void testValueReversed() {
+        this.checkEquals(
+            (0xFFL - 0x12) << 8,
+            this.createComponent(true)
+                .value(COLOR)
+        );
+    }
+
+    private ColorComparatorPackedKeyComponent createComponent(final boolean reversed) {
+        return ColorComparatorPackedKeyComponent.with(
+            (Color color) -> color.toRgb()
+                .red()
+                .value() & 0xFF,
+            ColorComparatorPackedKeyComponent.RGB,
+            1,
+            8,
+            8,
+            16,
+            reversed
+        );
+    }
+
+    @Test
+    public void testArgbKey() {
+        this.checkEquals(
+            0x92,
+            ColorComparatorPackedKeyComponent.argbKey(
+                0xFF123456,
+                16
+            )
+        );
+    }
+
+    @Test
+    public void testArgbKeyNegativeByte() {
+        this.checkEquals(
+            0x7E,
+            ColorComparatorPackedKeyComponent.argbKey(
+                0xFFFE3456,
+                16
+            )
+        );
+    }
+
+    @Test
+    public void testConvertRgb() {
+        this.checkEquals(
+            COLOR.toRgb(),
+            ColorComparatorPackedKeyComponent.convert(
+                COLOR,
+                ColorComparatorPackedKeyComponent.RGB
+            )
+        );
+    }
+
+    @Test
+    public void testConvertHsl() {
+        this.checkEquals(
+            COLOR.toHsl(),
+            ColorComparatorPackedKeyComponent.convert(
+                COLOR,
+                ColorComparatorPackedKeyComponent.HSL
+            )
+        );
+    }
+
+    @Test
+    public void testConvertHsv() {
+        this.checkEquals(
+            COLOR.toHsv(),
+            ColorComparatorPackedKeyComponent.convert(
+                COLOR,
+                ColorComparatorPackedKeyComponent.HSV
+            )
+        );
+    }
+
+    @Test
+    public void testArgbDigit() {
+        this.checkEquals(
+            0x92,
+            this.createComponent(false)
+                .argbDigit(0xFF123456)
+        );
+    }
+
+    @Test
+    public void testArgbDigitReversed() {
+        this.checkEquals(
+            0xFF - 0x92,
+            this.createComponent(true)
+                .argbDigit(0xFF123456)
+        );
+    }
+
+    @Test
+    public void testArgbValue() {
+        this.checkEquals(
+            0x92L << 8,
+            this.createComponent(false)
+                .argbValue(0xFF123456)
+        );
+    }
+
+    @Test
+    public void testIsArgb() {
+        this.checkEquals(
+            true,
+            this.createComponent(false)
+                .isArgb()
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createComponent(false),
+            "word 1 shift 8"
+        );
+    }
+
+    @Test
+    public void testToStringReversed() {
+        this.toStringAndCheck(
+            this.createComponent(true),
+            "word 1 shift 8 reversed"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorComparatorPackedKeyComponent> type() {
+        return ColorComparatorPackedKeyComponent.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
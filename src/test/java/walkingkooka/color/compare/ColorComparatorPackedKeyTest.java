@@ -0,0 +1,292 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.color.Color;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Comparator;
+
+public final class ColorComparatorPackedKeyTest implements ClassTesting2<ColorComparatorPackedKey>,
+    ToStringTesting<ColorComparatorPackedKey> {
+
+    private final static Color[] COLORS = new Color[]{
+        Color.parse("#000"),
+        Color.parse("#FFF"),
+        Color.parse("#F00"),
+        Color.parse("#800"),
+        Color.parse("#0F0"),
+        Color.parse("#00F"),
+        Color.parse("#123456"),
+        Color.parse("#FEDCBA"),
+        Color.parse("#F00").toHsl(),
+        Color.parse("#0F0").toHsv()
+    };
+
+    @Test
+    public void testFloatKey() {
+        final float[] values = new float[]{
+            -0.0f,
+            0,
+            Float.MIN_VALUE,
+            0.5f,
+            1,
+            359.5f,
+            360
+        };
+
+        for (final float left : values) {
+            for (final float right : values) {
+                this.checkEquals(
+                    Integer.signum(Float.compare(left, right)),
+                    Integer.signum(Long.compare(ColorComparatorPackedKey.floatKey(left), ColorComparatorPackedKey.floatKey(right))),
+                    () -> left + " " + right
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testCompareWordsUnsigned() {
+        this.checkEquals(
+            -1,
+            ColorComparatorPackedKey.compareWords(
+                1,
+                -1
+            )
+        );
+    }
+
+    @Test
+    public void testWordsRgb() {
+        this.checkEquals(
+            1,
+            ColorComparatorPackedKey.with(
+                ColorComparatorThenComparing.with(
+                    ColorComparatorThenComparing.with(
+                        ColorComparatorRgbRed.INSTANCE,
+                        ColorComparatorRgbGreen.INSTANCE
+                    ),
+                    ColorComparatorRgbBlue.INSTANCE
+                )
+            ).words()
+        );
+    }
+
+    @Test
+    public void testWordsHsv() {
+        this.checkEquals(
+            2,
+            ColorComparatorPackedKey.with(
+                ColorComparatorThenComparing.with(
+                    ColorComparatorThenComparing.with(
+                        ColorComparatorHslOrHsvSharedHsvHue.INSTANCE,
+                        ColorComparatorHslOrHsvSharedHsvSaturation.INSTANCE
+                    ),
+                    ColorComparatorHslOrHsvSharedHsvValue.INSTANCE
+                )
+            ).words()
+        );
+    }
+
+    @Test
+    public void testIsArgb() {
+        this.checkEquals(
+            true,
+            ColorComparatorPackedKey.with(
+                ColorComparatorThenComparing.with(
+                    ColorComparatorRgbRed.INSTANCE,
+                    ColorComparatorReversed.with(ColorComparatorRgbBlue.INSTANCE)
+                )
+            ).isArgb()
+        );
+    }
+
+    @Test
+    public void testIsArgbHslHue() {
+        this.checkEquals(
+            false,
+            ColorComparatorPackedKey.with(
+                ColorComparatorThenComparing.with(
+                    ColorComparatorRgbRed.INSTANCE,
+                    ColorComparatorHslOrHsvSharedHslHue.INSTANCE
+                )
+            ).isArgb()
+        );
+    }
+
+    @Test
+    public void testArgbWord() {
+        final ColorComparatorPackedKey key = ColorComparatorPackedKey.with(
+            ColorComparatorThenComparing.with(
+                ColorComparatorReversed.with(ColorComparatorRgbGreen.INSTANCE),
+                ColorComparatorRgbRed.INSTANCE
+            )
+        );
+
+        final long[] words = new long[1];
+        for (final Color color : COLORS) {
+            key.words(
+                color,
+                words,
+                0
+            );
+            this.checkEquals(
+                words[0],
+                key.argbWord(
+                    color.toRgb()
+                        .argb(),
+                    0
+                ),
+                color::toString
+            );
+        }
+    }
+
+    @Test
+    public void testWordsOffset() {
+        final ColorComparatorPackedKey key = ColorComparatorPackedKey.with(
+            ColorComparatorThenComparing.with(
+                ColorComparatorThenComparing.with(
+                    ColorComparatorHslOrHsvSharedHslHue.INSTANCE,
+                    ColorComparatorHslOrHsvSharedHslSaturation.INSTANCE
+                ),
+                ColorComparatorReversed.with(ColorComparatorHslOrHsvSharedHsvValue.INSTANCE)
+            )
+        );
+        this.checkEquals(
+            2,
+            key.words(),
+            "words"
+        );
+
+        final Color color = Color.parse("#123456");
+        final long[] keys = new long[]{-1, -1, -1, -1};
+        key.words(
+            color,
+            keys,
+            1
+        );
+
+        this.checkEquals(
+            -1L,
+            keys[0],
+            "before"
+        );
+        this.checkEquals(
+            (ColorComparatorPackedKey.floatKey(color.toHsl().hue().value()) << 32) |
+                ColorComparatorPackedKey.floatKey(color.toHsl().saturation().value()),
+            keys[1],
+            "hsl"
+        );
+        this.checkEquals(
+            (0xFFFFFFFFL - ColorComparatorPackedKey.floatKey(color.toHsv().value().value())) << 32,
+            keys[2],
+            "hsv"
+        );
+        this.checkEquals(
+            -1L,
+            keys[3],
+            "after"
+        );
+    }
+
+    @Test
+    public void testCompareRed() {
+        this.compareAndCheck(ColorComparatorRgbRed.INSTANCE);
+    }
+
+    @Test
+    public void testCompareRedReversed() {
+        this.compareAndCheck(
+            ColorComparatorReversed.with(ColorComparatorRgbRed.INSTANCE)
+        );
+    }
+
+    @Test
+    public void testCompareHslHueThenRedReversed() {
+        this.compareAndCheck(
+            ColorComparatorThenComparing.with(
+                ColorComparatorHslOrHsvSharedHslHue.INSTANCE,
+                ColorComparatorReversed.with(ColorComparatorRgbRed.INSTANCE)
+            )
+        );
+    }
+
+    @Test
+    public void testCompareHsvHueThenSaturationThenValueReversed() {
+        this.compareAndCheck(
+            ColorComparatorReversed.with(
+                ColorComparatorThenComparing.with(
+                    ColorComparatorThenComparing.with(
+                        ColorComparatorHslOrHsvSharedHsvHue.INSTANCE,
+                        ColorComparatorHslOrHsvSharedHsvSaturation.INSTANCE
+                    ),
+                    ColorComparatorHslOrHsvSharedHsvValue.INSTANCE
+                )
+            )
+        );
+    }
+
+    /**
+     * Verifies the packed key compares every pair of colors the same as the {@link Comparator}.
+     */
+    private void compareAndCheck(final ColorComparator comparator) {
+        final ColorComparatorPackedKey key = ColorComparatorPackedKey.with(comparator);
+
+        for (final Color left : COLORS) {
+            for (final Color right : COLORS) {
+                this.checkEquals(
+                    Integer.signum(comparator.compare(left, right)),
+                    Integer.signum(key.compare(left, right)),
+                    () -> comparator + " " + left + " " + right
+                );
+            }
+        }
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ColorComparatorPackedKey.with(
+                ColorComparatorThenComparing.with(
+                    ColorComparatorRgbRed.INSTANCE,
+                    ColorComparatorHslOrHsvSharedHslHue.INSTANCE
+                )
+            ),
+            "1 words 2 components"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorComparatorPackedKey> type() {
+        return ColorComparatorPackedKey.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
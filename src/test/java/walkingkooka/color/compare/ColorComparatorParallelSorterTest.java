@@ -0,0 +1,248 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.color.Color;
+import walkingkooka.color.ColorArgbFixtures;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorComparatorParallelSorterTest implements ClassTesting2<ColorComparatorParallelSorter> {
+
+    /**
+     * Large enough to fork several times.
+     */
+    private final static int COUNT = ColorComparatorParallelSorter.THRESHOLD * 5 + 1;
+
+    @Test
+    public void testSortNullListFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorComparatorParallelSorter.sort(
+                null,
+                ColorComparatorRgbRed.INSTANCE
+            )
+        );
+    }
+
+    @Test
+    public void testSortNullComparatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorComparatorParallelSorter.sort(
+                Lists.<Color>array(),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testSortEmpty() {
+        this.sortAndCheck(
+            ColorComparatorRgbRed.INSTANCE,
+            0
+        );
+    }
+
+    @Test
+    public void testSortRed() {
+        this.sortAndCheck(
+            ColorComparatorRgbRed.INSTANCE,
+            COUNT
+        );
+    }
+
+    @Test
+    public void testSortBlueReversedRedGreen() {
+        this.sortAndCheck(
+            ColorComparatorRgbBlue.INSTANCE.reversed()
+                .thenComparing(ColorComparatorRgbRed.INSTANCE)
+                .thenComparing(ColorComparatorRgbGreen.INSTANCE),
+            COUNT
+        );
+    }
+
+    @Test
+    public void testSortHsvValueRed() {
+        this.sortAndCheck(
+            ColorComparatorHslOrHsvSharedHsvValue.INSTANCE.thenComparing(ColorComparatorRgbRed.INSTANCE),
+            COUNT
+        );
+    }
+
+    @Test
+    public void testSortNotColorComparator() {
+        this.sortAndCheck(
+            (l, r) -> ColorComparatorRgbGreen.INSTANCE.compare(l, r),
+            100
+        );
+    }
+
+    /**
+     * Sorts colors in parallel and verifies the result matches {@link List#sort(Comparator)}.
+     */
+    private void sortAndCheck(final Comparator<Color> comparator,
+                              final int count) {
+        final int[] argb = ColorArgbFixtures.argb(
+            count,
+            0xFFF0F0F0
+        );
+
+        final List<Color> expected = Lists.array();
+        for (final int value : argb) {
+            expected.add(
+                Color.fromArgb(value)
+            );
+        }
+        final List<Color> list = Lists.array();
+        list.addAll(expected);
+        expected.sort(comparator);
+
+        ColorComparatorParallelSorter.sort(
+            list,
+            comparator
+        );
+
+        this.checkEquals(
+            expected,
+            list,
+            () -> "sort " + comparator
+        );
+
+        if (comparator instanceof ColorComparator) {
+            ColorComparatorParallelSorter.sortArgb(
+                argb,
+                (ColorComparator) comparator
+            );
+
+            for (int i = 0; i < count; i++) {
+                this.checkEquals(
+                    expected.get(i),
+                    Color.fromArgb(argb[i]),
+                    "sortArgb " + comparator
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testSortArgbComponents() {
+        final int[] argb = ColorArgbFixtures.argb(
+            COUNT,
+            0xFFF0F0F0
+        );
+        final int[] expected = argb.clone();
+
+        ColorComparatorRadixSorter.sort(
+            expected,
+            "greenReversed blue"
+        );
+        ColorComparatorParallelSorter.sortArgb(
+            argb,
+            "greenReversed blue"
+        );
+
+        assertArrayEquals(
+            expected,
+            argb
+        );
+    }
+
+    // distinct.........................................................................................................
+
+    @Test
+    public void testDistinctNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorComparatorParallelSorter.distinct(null)
+        );
+    }
+
+    @Test
+    public void testDistinct() {
+        final Color red = Color.parse("#F00");
+        final Color green = Color.parse("#0F0");
+
+        this.checkEquals(
+            Lists.of(
+                red,
+                green
+            ),
+            ColorComparatorParallelSorter.distinct(
+                Lists.of(
+                    red,
+                    green,
+                    red.toHsl(),
+                    green,
+                    red
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testDistinctArgbNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorComparatorParallelSorter.distinctArgb(null)
+        );
+    }
+
+    @Test
+    public void testDistinctArgb() {
+        final int[] argb = new int[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            argb[i] = 0xFF000000 | (i % 1000) * 0x0101;
+        }
+
+        final int[] distinct = ColorComparatorParallelSorter.distinctArgb(argb);
+        this.checkEquals(
+            1000,
+            distinct.length,
+            "length"
+        );
+
+        for (int i = 0; i < 1000; i++) {
+            this.checkEquals(
+                argb[i],
+                distinct[i],
+                () -> "distinct"
+            );
+        }
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorComparatorParallelSorter> type() {
+        return ColorComparatorParallelSorter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.color.Color;
+import walkingkooka.color.RgbColor;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorComparatorRadixSorterTest implements ClassTesting2<ColorComparatorRadixSorter> {
+
+    private final static int[] ARGB = new int[]{
+        0xFF123456,
+        0xFF000000,
+        0xFFFFFFFF,
+        0xFF120000,
+        0x80123456,
+        0xFFFF0000,
+        0xFF00FF00,
+        0xFF0000FF,
+        0xFF7F8081,
+        0xFF807F80,
+        0xFF120001
+    };
+
+    @Test
+    public void testSortNullArgbFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorComparatorRadixSorter.sort(
+                (int[]) null,
+                "red"
+            )
+        );
+    }
+
+    @Test
+    public void testSortNullListFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorComparatorRadixSorter.sort(
+                (List<RgbColor>) null,
+                "red"
+            )
+        );
+    }
+
+    @Test
+    public void testSortInvalidComponentsFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ColorComparatorRadixSorter.sort(
+                new int[0],
+                "alpha"
+            )
+        );
+    }
+
+    @Test
+    public void testSortEmpty() {
+        this.sortAndCheck(
+            "red"
+        );
+    }
+
+    @Test
+    public void testSortRed() {
+        this.sortAndCheck(
+            "red",
+            ARGB
+        );
+    }
+
+    @Test
+    public void testSortBlueReversed() {
+        this.sortAndCheck(
+            "blueReversed",
+            ARGB
+        );
+    }
+
+    @Test
+    public void testSortRedGreenBlue() {
+        this.sortAndCheck(
+            "red green blue",
+            ARGB
+        );
+    }
+
+    @Test
+    public void testSortGreenReversedRedBlueReversed() {
+        this.sortAndCheck(
+            "greenReversed red blueReversed",
+            ARGB
+        );
+    }
+
+    @Test
+    public void testSortSameDigit() {
+        this.sortAndCheck(
+            "red green",
+            0xFF120003,
+            0xFF120002,
+            0xFF120001
+        );
+    }
+
+    @Test
+    public void testSortHsvValue() {
+        this.sortAndCheck(
+            "red hsvValue",
+            ARGB
+        );
+    }
+
+    /**
+     * Sorts an array and {@link List} of the ARGB values and verifies the result matches
+     * {@link List#sort(java.util.Comparator)} with {@link ColorComparatorCollection}.
+     */
+    private void sortAndCheck(final String components,
+                              final int... argb) {
+        final List<RgbColor> expected = Lists.array();
+        for (final int value : argb) {
+            expected.add(
+                Color.fromArgb(value)
+            );
+        }
+        final List<RgbColor> list = Lists.array();
+        list.addAll(expected);
+
+        expected.sort(
+            ColorComparatorCollection.parse(components)
+        );
+
+        final int[] sorted = argb.clone();
+        ColorComparatorRadixSorter.sort(
+            sorted,
+            components
+        );
+
+        final List<RgbColor> sortedColors = Lists.array();
+        for (final int value : sorted) {
+            sortedColors.add(
+                Color.fromArgb(value)
+            );
+        }
+
+        this.checkEquals(
+            expected,
+            sortedColors,
+            () -> "sort argb " + components
+        );
+
+        ColorComparatorRadixSorter.sort(
+            list,
+            components
+        );
+
+        this.checkEquals(
+            expected,
+            list,
+            () -> "sort list " + components
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorComparatorRadixSorter> type() {
+        return ColorComparatorRadixSorter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
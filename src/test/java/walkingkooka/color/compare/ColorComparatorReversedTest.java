@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.color.Color;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorComparatorReversedTest extends ColorComparatorTestCase<ColorComparatorReversed>
+    implements HashCodeEqualsDefinedTesting2<ColorComparatorReversed>,
+    ToStringTesting<ColorComparatorReversed> {
+
+    @Test
+    public void testWithNullComparatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorComparatorReversed.with(null)
+        );
+    }
+
+    @Test
+    public void testCompare() {
+        this.compareAndCheckMore(
+            Color.parseRgb("#123456"),
+            Color.parseRgb("#234567")
+        );
+    }
+
+    @Test
+    public void testReversed() {
+        assertSame(
+            ColorComparatorRgbRed.INSTANCE,
+            this.createComparator()
+                .reversed()
+        );
+    }
+
+    @Test
+    public void testColorComparatorReversed() {
+        this.checkEquals(
+            this.createComparator(),
+            ColorComparatorRgbRed.INSTANCE.reversed()
+        );
+    }
+
+    @Override
+    public ColorComparatorReversed createComparator() {
+        return ColorComparatorReversed.with(ColorComparatorRgbRed.INSTANCE);
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentComparator() {
+        this.checkNotEquals(
+            ColorComparatorReversed.with(ColorComparatorRgbGreen.INSTANCE)
+        );
+    }
+
+    @Override
+    public ColorComparatorReversed createObject() {
+        return this.createComparator();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createComparator(),
+            "RedReversed"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorComparatorReversed> type() {
+        return ColorComparatorReversed.class;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.color.Color;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorComparatorSorterTest implements ClassTesting2<ColorComparatorSorter>,
+    ToStringTesting<ColorComparatorSorter> {
+
+    private final static Color RED = Color.parse("#F00");
+
+    private final static Color GREEN = Color.parse("#0F0");
+
+    private final static Color BLUE = Color.parse("#00F");
+
+    @Test
+    public void testSortNullListFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorComparatorSorter.sort(
+                (List<Color>) null,
+                ColorComparatorRgbRed.INSTANCE
+            )
+        );
+    }
+
+    @Test
+    public void testSortNullComparatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorComparatorSorter.sort(
+                Lists.<Color>array(),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testSortEmpty() {
+        this.sortAndCheck(
+            ColorComparatorRgbRed.INSTANCE
+        );
+    }
+
+    @Test
+    public void testSortRed() {
+        this.sortAndCheck(
+            ColorComparatorRgbRed.INSTANCE,
+            RED,
+            GREEN,
+            BLUE
+        );
+    }
+
+    @Test
+    public void testSortRedReversed() {
+        this.sortAndCheck(
+            ColorComparatorRgbRed.INSTANCE.reversed(),
+            GREEN,
+            BLUE,
+            RED
+        );
+    }
+
+    @Test
+    public void testSortRedThenGreen() {
+        this.sortAndCheck(
+            ColorComparatorRgbRed.INSTANCE.thenComparing(ColorComparatorRgbGreen.INSTANCE),
+            GREEN,
+            RED,
+            BLUE
+        );
+    }
+
+    @Test
+    public void testSortRedThenGreenReversed() {
+        this.sortAndCheck(
+            ColorComparatorRgbRed.INSTANCE.thenComparing(ColorComparatorRgbGreen.INSTANCE)
+                .reversed(),
+            BLUE,
+            GREEN,
+            RED
+        );
+    }
+
+    @Test
+    public void testSortHslHueThenLightness() {
+        this.sortAndCheck(
+            ColorComparatorHslOrHsvSharedHslHue.INSTANCE.thenComparing(ColorComparatorHslOrHsvSharedHslLightness.INSTANCE),
+            BLUE,
+            Color.parse("#FFF"),
+            RED.toHsl(),
+            Color.parse("#800"),
+            GREEN.toHsv()
+        );
+    }
+
+    @Test
+    public void testSortHsvHueThenSaturationThenValue() {
+        this.sortAndCheck(
+            ColorComparatorHslOrHsvSharedHsvHue.INSTANCE.thenComparing(ColorComparatorHslOrHsvSharedHsvSaturation.INSTANCE)
+                .thenComparing(ColorComparatorHslOrHsvSharedHsvValue.INSTANCE.reversed()),
+            BLUE,
+            Color.parse("#FFF"),
+            Color.parse("#888"),
+            RED.toHsl(),
+            Color.parse("#800"),
+            Color.parse("#F88"),
+            GREEN.toHsv()
+        );
+    }
+
+    @Test
+    public void testSortStable() {
+        final Color red1 = Color.parse("#F01");
+        final Color red2 = Color.parse("#F02");
+        final Color red3 = Color.parse("#F03");
+
+        this.sortAndCheck(
+            ColorComparatorRgbRed.INSTANCE,
+            red3,
+            BLUE,
+            red1,
+            red2
+        );
+    }
+
+    @Test
+    public void testSortMany() {
+        final List<Color> colors = Lists.array();
+        for (int i = 0; i < 500; i++) {
+            colors.add(
+                Color.fromArgb(i * 0x9E3779B9)
+            );
+        }
+
+        this.sortAndCheck(
+            ColorComparatorRgbBlue.INSTANCE.reversed()
+                .thenComparing(ColorComparatorRgbGreen.INSTANCE)
+                .thenComparing(ColorComparatorRgbRed.INSTANCE),
+            colors.toArray(new Color[0])
+        );
+    }
+
+    @Test
+    public void testSortNotColorComparator() {
+        final Comparator<Color> comparator = ColorComparatorRgbRed.INSTANCE;
+
+        this.sortAndCheck(
+            (l, r) -> comparator.compare(l, r),
+            RED,
+            GREEN,
+            BLUE
+        );
+    }
+
+    /**
+     * Sorts a {@link List} and array of the colors and verifies the result matches {@link List#sort(Comparator)}.
+     */
+    private void sortAndCheck(final Comparator<Color> comparator,
+                              final Color... colors) {
+        final List<Color> expected = Lists.array();
+        expected.addAll(Lists.of(colors));
+        expected.sort(comparator);
+
+        final List<Color> list = Lists.array();
+        list.addAll(Lists.of(colors));
+        ColorComparatorSorter.sort(
+            list,
+            comparator
+        );
+
+        this.checkEquals(
+            expected,
+            list,
+            () -> "sort list " + comparator
+        );
+
+        final Color[] array = colors.clone();
+        ColorComparatorSorter.sort(
+            array,
+            comparator
+        );
+
+        this.checkEquals(
+            expected,
+            Lists.of(array),
+            () -> "sort array " + comparator
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            new ColorComparatorSorter(
+                new long[2],
+                1
+            ),
+            "2 colors 1 words"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorComparatorSorter> type() {
+        return ColorComparatorSorter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    @Override
+    public void testAllConstructorsVisibility() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void testIfClassIsFinalIfAllConstructorsArePrivate() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.color.compare;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.color.Color;
+
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ColorComparatorThenComparingTest extends ColorComparatorTestCase<ColorComparatorThenComparing>
+    implements HashCodeEqualsDefinedTesting2<ColorComparatorThenComparing>,
+    ToStringTesting<ColorComparatorThenComparing> {
+
+    @Test
+    public void testWithNullFirstFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorComparatorThenComparing.with(
+                null,
+                ColorComparatorRgbGreen.INSTANCE
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullSecondFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ColorComparatorThenComparing.with(
+                ColorComparatorRgbRed.INSTANCE,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testCompareFirst() {
+        this.compareAndCheckLess(
+            Color.parseRgb("#123456"),
+            Color.parseRgb("#231111")
+        );
+    }
+
+    @Test
+    public void testCompareSecond() {
+        this.compareAndCheckLess(
+            Color.parseRgb("#123456"),
+            Color.parseRgb("#124411")
+        );
+    }
+
+    @Test
+    public void testCompareEqual() {
+        this.compareAndCheckEquals(
+            Color.parseRgb("#123456"),
+            Color.parseRgb("#123499")
+        );
+    }
+
+    @Test
+    public void testColorComparatorThenComparing() {
+        this.checkEquals(
+            this.createComparator(),
+            ColorComparatorRgbRed.INSTANCE.thenComparing(ColorComparatorRgbGreen.INSTANCE)
+        );
+    }
+
+    @Test
+    public void testColorComparatorThenComparingNotColorComparator() {
+        final Comparator<Color> comparator = ColorComparatorRgbRed.INSTANCE.thenComparing(
+            (l, r) -> 0
+        );
+        this.checkEquals(
+            false,
+            comparator instanceof ColorComparator,
+            comparator::toString
+        );
+    }
+
+    @Override
+    public ColorComparatorThenComparing createComparator() {
+        return ColorComparatorThenComparing.with(
+            ColorComparatorRgbRed.INSTANCE,
+            ColorComparatorRgbGreen.INSTANCE
+        );
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentFirst() {
+        this.checkNotEquals(
+            ColorComparatorThenComparing.with(
+                ColorComparatorRgbBlue.INSTANCE,
+                ColorComparatorRgbGreen.INSTANCE
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentSecond() {
+        this.checkNotEquals(
+            ColorComparatorThenComparing.with(
+                ColorComparatorRgbRed.INSTANCE,
+                ColorComparatorRgbBlue.INSTANCE
+            )
+        );
+    }
+
+    @Override
+    public ColorComparatorThenComparing createObject() {
+        return this.createComparator();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createComparator(),
+            "Red Green"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ColorComparatorThenComparing> type() {
+        return ColorComparatorThenComparing.class;
+    }
+}